@@ -1,11 +1,14 @@
 package com.elara.app.unit_of_measure_service;
 
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeRemoteEvent;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
 
 @SpringBootApplication
 @EnableSpringDataWebSupport(pageSerializationMode = EnableSpringDataWebSupport.PageSerializationMode.VIA_DTO)
+@RemoteApplicationEventScan(basePackageClasses = CatalogChangeRemoteEvent.class)
 public class UnitOfMeasureServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,169 @@
+package com.elara.app.unit_of_measure_service.alias;
+
+import java.util.List;
+
+/**
+ * Immutable open-addressing hash table from case-folded strings to unit ids.
+ * <p>
+ * Keys, their hashes and their ids live in three parallel arrays at least twice as long as the number of
+ * keys, probed linearly from the slot given by the key hash. A lookup folds the case of the raw chars as it
+ * hashes them and compares hashes before chars, so it costs one or two array reads and a single comparison
+ * in the common case, whatever the number of keys, and allocates nothing.
+ * </p>
+ *
+ * <p>Case is folded char by char with {@link Character#toLowerCase(char)}, and surrounding
+ * {@link Character#isWhitespace(char) whitespace} is ignored, both when building and when resolving.</p>
+ *
+ * <p>Tables are built once and never modified, so they can be read from any thread without locking;
+ * {@link UomAliasIndex} swaps in a new one after every change.</p>
+ */
+public final class AliasTable {
+
+    public static final long NOT_FOUND = -1;
+    private static final AliasTable EMPTY = build(List.of());
+
+    private final String[] keys;
+    private final int[] hashes;
+    private final long[] ids;
+    private final int mask;
+    private final int size;
+
+    private AliasTable(int capacity) {
+        this.keys = new String[capacity];
+        this.hashes = new int[capacity];
+        this.ids = new long[capacity];
+        this.mask = capacity - 1;
+        this.size = 0;
+    }
+
+    private AliasTable(AliasTable table, int size) {
+        this.keys = table.keys;
+        this.hashes = table.hashes;
+        this.ids = table.ids;
+        this.mask = table.mask;
+        this.size = size;
+    }
+
+    /**
+     * Builds a table of the given entries, folding the case of their keys. When several entries fold to the
+     * same key, the first one wins; blank keys are skipped.
+     */
+    public static AliasTable build(List<Entry> entries) {
+        AliasTable table = new AliasTable(Integer.highestOneBit(Math.max(1, entries.size()) * 2 - 1) << 1);
+        int size = 0;
+        for (Entry entry : entries) {
+            String key = normalize(entry.key());
+            if (key == null) {
+                continue;
+            }
+            int hash = key.hashCode();
+            int slot = table.slot(key, hash);
+            if (table.keys[slot] == null) {
+                table.keys[slot] = key;
+                table.hashes[slot] = hash;
+                table.ids[slot] = entry.id();
+                size++;
+            }
+        }
+        return new AliasTable(table, size);
+    }
+
+    public static AliasTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return the id stored for {@code raw} ignoring case and surrounding blanks, or {@link #NOT_FOUND}
+     */
+    public long resolve(CharSequence raw) {
+        return raw == null ? NOT_FOUND : resolve(raw, 0, raw.length());
+    }
+
+    /**
+     * Same as {@link #resolve(CharSequence)} for the chars of {@code text} between {@code from}, inclusive,
+     * and {@code to}, exclusive, without copying them.
+     */
+    public long resolve(CharSequence text, int from, int to) {
+        while (from < to && Character.isWhitespace(text.charAt(from))) {
+            from++;
+        }
+        while (to > from && Character.isWhitespace(text.charAt(to - 1))) {
+            to--;
+        }
+        if (from == to) {
+            return NOT_FOUND;
+        }
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + Character.toLowerCase(text.charAt(i));
+        }
+        for (int slot = spread(hash) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && matches(keys[slot], text, from, to)) {
+                return ids[slot];
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return bytes held by the slot arrays, excluding the key strings
+     */
+    public long footprintBytes() {
+        return (long) keys.length * (Integer.BYTES + Integer.BYTES + Long.BYTES);
+    }
+
+    /**
+     * @return {@code raw} without surrounding whitespace and folded to lower case, or {@code null} when blank;
+     * its {@link String#hashCode()} is the hash {@link #resolve(CharSequence, int, int)} computes
+     */
+    static String normalize(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return null;
+        }
+        String stripped = raw.strip();
+        char[] folded = new char[stripped.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(stripped.charAt(i));
+        }
+        return new String(folded);
+    }
+
+    private static boolean matches(String key, CharSequence text, int from, int to) {
+        if (key.length() != to - from) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) != Character.toLowerCase(text.charAt(from + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the slot holding {@code key}, or the empty slot where it would go
+     */
+    private int slot(String key, int hash) {
+        int slot = spread(hash) & mask;
+        while (keys[slot] != null && (hashes[slot] != hash || !keys[slot].equals(key))) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Mixes the high bits of {@link String#hashCode()} into the low ones the mask keeps.
+     */
+    private static int spread(int hash) {
+        int mixed = hash * 0x9E3779B9;
+        return mixed ^ (mixed >>> 16);
+    }
+
+    public record Entry(String key, long id) {
+    }
+
+}
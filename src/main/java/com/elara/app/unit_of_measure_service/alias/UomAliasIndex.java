@@ -0,0 +1,149 @@
+package com.elara.app.unit_of_measure_service.alias;
+
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeEvent;
+import com.elara.app.unit_of_measure_service.datasource.ReadReplicaRouter;
+import com.elara.app.unit_of_measure_service.dto.response.NameSuggestion;
+import com.elara.app.unit_of_measure_service.dto.response.UomAliasResponse;
+import com.elara.app.unit_of_measure_service.repository.UomAliasRepository;
+import com.elara.app.unit_of_measure_service.repository.UomRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * Resolves raw unit strings, such as the ones of inventory imports, to unit ids without a database round trip.
+ * <p>
+ * Holds an {@link AliasTable} of every unit name and alias, case-folded. Names win over aliases that fold to
+ * the same string. The table is built once the application is ready and rebuilt after every committed write
+ * on units or aliases, then swapped in atomically, so a resolution sees either the old or the new catalog,
+ * never a mix. Status writes do not touch it.
+ * </p>
+ *
+ * <p>Rebuilds read every name and alias, so they run on a single background thread instead of delaying the
+ * writer; writes committed while one is queued share it. A new or renamed key therefore resolves a build
+ * later, not in the writing request.</p>
+ *
+ * <p>Resolutions find nothing until the first build. The table size is published as
+ * {@value #FOOTPRINT_METRIC}.</p>
+ */
+@Slf4j
+@Component
+public class UomAliasIndex {
+
+    public static final String ENTITY_NAME = "UomAlias";
+    static final String FOOTPRINT_METRIC = "uom.alias.index.bytes";
+    private static final String NOMENCLATURE = "UomAliasIndex";
+
+    private final UomRepository uomRepository;
+    private final UomAliasRepository aliasRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicReference<AliasTable> table = new AtomicReference<>(AliasTable.empty());
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    private volatile ExecutorService executor;
+
+    public UomAliasIndex(
+        UomRepository uomRepository,
+        UomAliasRepository aliasRepository,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.uomRepository = uomRepository;
+        this.aliasRepository = aliasRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Gauge.builder(FOOTPRINT_METRIC, table, current -> current.get().footprintBytes())
+            .description("Memory held by the alias hash table, excluding the key strings")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * @return the id of the unit named or aliased {@code raw} ignoring case and surrounding blanks,
+     * or {@link AliasTable#NOT_FOUND}
+     */
+    public long resolve(String raw) {
+        return table.get().resolve(raw);
+    }
+
+    /**
+     * @return the current table, so a batch resolves every string against the same catalog
+     */
+    public AliasTable table() {
+        return table.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "uom-alias-index-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        ExecutorService rebuilder = executor;
+        if (!"UomStatus".equals(event.entityName()) && rebuilder != null && rebuildQueued.compareAndSet(false, true)) {
+            rebuilder.execute(() -> {
+                rebuildQueued.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ExecutorService rebuilder = executor;
+        if (rebuilder != null) {
+            rebuilder.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads every unit name and alias in a fresh read-only transaction and swaps in the new table.
+     */
+    public synchronized void rebuild() {
+        final String methodNomenclature = NOMENCLATURE + "-rebuild";
+        try {
+            long start = System.nanoTime();
+            AliasTable built = ReadReplicaRouter.readPrimary(() -> transactionTemplate.execute(status -> {
+                List<AliasTable.Entry> entries = new ArrayList<>();
+                try (Stream<NameSuggestion> names = uomRepository.streamAllSuggestions()) {
+                    names.forEach(name -> entries.add(new AliasTable.Entry(name.name(), name.id())));
+                }
+                int names = entries.size();
+                try (Stream<UomAliasResponse> aliases = aliasRepository.streamAll()) {
+                    aliases.forEach(alias -> entries.add(new AliasTable.Entry(alias.alias(), alias.uomId())));
+                }
+                log.debug("[{}] Read {} names and {} aliases.", methodNomenclature, names, entries.size() - names);
+                return AliasTable.build(entries);
+            }));
+            table.set(built);
+            log.info("[{}] Alias table built with {} keys ({} bytes) in {} ms.", methodNomenclature,
+                built.size(), built.footprintBytes(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            // Keep serving the previous table; the next write retries
+            log.error("[{}] Alias table rebuild failed: {}", methodNomenclature, e.getMessage(), e);
+        }
+    }
+
+}
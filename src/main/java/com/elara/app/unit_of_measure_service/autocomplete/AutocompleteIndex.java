@@ -0,0 +1,226 @@
+package com.elara.app.unit_of_measure_service.autocomplete;
+
+import com.elara.app.unit_of_measure_service.alias.UomAliasIndex;
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeEvent;
+import com.elara.app.unit_of_measure_service.dto.response.NameSuggestion;
+import com.elara.app.unit_of_measure_service.repository.UomRepository;
+import com.elara.app.unit_of_measure_service.repository.UomStatusRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Prefix tries of unit and status names, ranked by how often each entry is read.
+ * <p>
+ * Reads by id and conversions count one use per entry; the counts are folded into a new {@link PrefixTrie}
+ * built off the request path on a single background thread, which then replaces the old one atomically,
+ * so suggestions never wait for a rebuild and never see a half-built trie. Rebuilds run once the
+ * application is ready, after every committed write (coalesced while one is pending) and every
+ * {@code uom.autocomplete.refresh-interval}. The periodic refresh also halves every count, so the ranking
+ * follows recent usage rather than all-time totals.
+ * </p>
+ *
+ * <p>Suggestions are empty until the first build. Trie sizes are published as
+ * {@value #FOOTPRINT_METRIC}, tagged by {@code index}.</p>
+ */
+@Slf4j
+@Component
+public class AutocompleteIndex {
+
+    public static final String UOM_INDEX = "uom";
+    public static final String UOM_STATUS_INDEX = "uom-status";
+    static final String FOOTPRINT_METRIC = "uom.autocomplete.index.bytes";
+    private static final String NOMENCLATURE = "AutocompleteIndex";
+
+    private final TransactionTemplate transactionTemplate;
+    private final Duration refreshInterval;
+    private final RankedNames uoms;
+    private final RankedNames statuses;
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    private volatile ScheduledExecutorService executor;
+
+    public AutocompleteIndex(
+        UomRepository uomRepository,
+        UomStatusRepository uomStatusRepository,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${uom.autocomplete.refresh-interval:1m}") Duration refreshInterval
+    ) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.refreshInterval = refreshInterval;
+        this.uoms = new RankedNames(UOM_INDEX, uomRepository::streamAllSuggestions, meterRegistry);
+        this.statuses = new RankedNames(UOM_STATUS_INDEX, uomStatusRepository::streamAllSuggestions, meterRegistry);
+    }
+
+    /**
+     * @return up to {@code limit} units whose name starts with {@code prefix} ignoring case, most used first
+     */
+    public List<NameSuggestion> suggestUoms(String prefix, int limit) {
+        return uoms.suggest(prefix, limit);
+    }
+
+    /**
+     * @return up to {@code limit} statuses whose name starts with {@code prefix} ignoring case, most used first
+     */
+    public List<NameSuggestion> suggestStatuses(String prefix, int limit) {
+        return statuses.suggest(prefix, limit);
+    }
+
+    public void recordUomUse(Long id) {
+        uoms.recordUse(id);
+    }
+
+    public void recordStatusUse(Long id) {
+        statuses.recordUse(id);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "autocomplete-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor = scheduler;
+        scheduler.execute(this::rebuild);
+        long period = refreshInterval.toMillis();
+        if (period > 0) {
+            scheduler.scheduleWithFixedDelay(this::refresh, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        ScheduledExecutorService scheduler = executor;
+        if (UomAliasIndex.ENTITY_NAME.equals(event.entityName())) {
+            return;
+        }
+        if (scheduler != null && rebuildQueued.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                rebuildQueued.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ScheduledExecutorService scheduler = executor;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Rebuilds both tries from the database and the current use counts.
+     */
+    public void rebuild() {
+        rebuild(uoms);
+        rebuild(statuses);
+    }
+
+    private void refresh() {
+        rebuild();
+        uoms.decay();
+        statuses.decay();
+    }
+
+    private void rebuild(RankedNames names) {
+        final String methodNomenclature = NOMENCLATURE + "-rebuild";
+        try {
+            long start = System.nanoTime();
+            PrefixTrie trie = transactionTemplate.execute(status -> names.build());
+            log.debug("[{}] {} trie built with {} names and {} nodes ({} bytes) in {} ms.", methodNomenclature,
+                names.name, trie.size(), trie.nodeCount(), trie.footprintBytes(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            // Keep serving the previous trie; the next write or refresh retries
+            log.error("[{}] {} trie rebuild failed: {}", methodNomenclature, names.name, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The current trie of one entity and the use counts it is ranked by.
+     */
+    private static final class RankedNames {
+
+        private final String name;
+        private final Supplier<Stream<NameSuggestion>> source;
+        private final AtomicReference<PrefixTrie> trie = new AtomicReference<>(PrefixTrie.empty());
+        private final Map<Long, LongAdder> uses = new ConcurrentHashMap<>();
+
+        private RankedNames(String name, Supplier<Stream<NameSuggestion>> source, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.source = source;
+            Gauge.builder(FOOTPRINT_METRIC, trie, current -> current.get().footprintBytes())
+                .description("Memory held by the autocomplete trie, excluding the name strings")
+                .baseUnit("bytes")
+                .tag("index", name)
+                .register(meterRegistry);
+        }
+
+        private List<NameSuggestion> suggest(String prefix, int limit) {
+            return trie.get().top(prefix, limit).stream()
+                .map(match -> new NameSuggestion(match.id(), match.name(), match.weight()))
+                .toList();
+        }
+
+        private void recordUse(Long id) {
+            if (id != null) {
+                uses.computeIfAbsent(id, key -> new LongAdder()).increment();
+            }
+        }
+
+        /**
+         * Reads every id and name, drops the counts of deleted entries and swaps in the new trie.
+         */
+        private PrefixTrie build() {
+            List<PrefixTrie.Entry> entries = new ArrayList<>();
+            Set<Long> ids = new HashSet<>();
+            try (Stream<NameSuggestion> rows = source.get()) {
+                rows.forEach(row -> {
+                    LongAdder count = uses.get(row.id());
+                    entries.add(new PrefixTrie.Entry(row.id(), row.name(), count == null ? 0 : count.sum()));
+                    ids.add(row.id());
+                });
+            }
+            uses.keySet().retainAll(ids);
+            PrefixTrie built = PrefixTrie.build(entries);
+            trie.set(built);
+            return built;
+        }
+
+        private void decay() {
+            uses.values().forEach(count -> count.add(-(count.sum() / 2)));
+            uses.values().removeIf(count -> count.sum() == 0);
+        }
+
+    }
+
+}
@@ -0,0 +1,456 @@
+package com.elara.app.unit_of_measure_service.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+
+/**
+ * Immutable radix trie over lower-cased names, answering "the {@code k} most used names starting with a
+ * prefix" without visiting every match.
+ * <p>
+ * Names are sorted and packed into a single {@code char[]}, so every node covers a contiguous range of
+ * names and its edge label is read from the first of them instead of being stored. Nodes are laid out
+ * breadth-first in parallel {@code int} arrays with the children of a node next to each other, and each
+ * node records the position of the best name below it (most uses, then alphabetical). A query walks down
+ * to the node of the prefix and then expands nodes best-first from a priority queue, so it touches
+ * about {@code k} nodes per level instead of the whole subtree.
+ * </p>
+ *
+ * <p>A node costs 24 bytes; names cost 2 bytes per char plus 24 bytes for their offset, id, weight and
+ * (compressed) display name reference. {@link #footprintBytes()} reports the total, excluding the display names
+ * themselves, which are shared with the caller.</p>
+ */
+public final class PrefixTrie {
+
+    private static final PrefixTrie EMPTY = build(List.of());
+
+    // Names, in (normalized name, id) order
+    private final char[] chars;
+    private final int[] offsets;
+    private final long[] ids;
+    private final long[] weights;
+    private final String[] names;
+    private final int maxLength;
+
+    // Nodes, breadth-first; node 0 is the root
+    private final int[] depth;
+    private final int[] start;
+    private final int[] end;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] best;
+
+    private PrefixTrie(char[] chars, int[] offsets, long[] ids, long[] weights, String[] names, NodeBuilder nodes) {
+        this.chars = chars;
+        this.offsets = offsets;
+        this.ids = ids;
+        this.weights = weights;
+        this.names = names;
+        int longest = 0;
+        for (int position = 0; position < ids.length; position++) {
+            longest = Math.max(longest, length(position));
+        }
+        this.maxLength = longest;
+        this.depth = nodes.depth.toArray();
+        this.start = nodes.start.toArray();
+        this.end = nodes.end.toArray();
+        this.firstChild = nodes.firstChild.toArray();
+        this.childCount = nodes.childCount.toArray();
+        this.best = new int[depth.length];
+        for (int node = depth.length - 1; node >= 0; node--) {
+            int candidate = -1;
+            for (int position = start[node]; position < end[node] && length(position) == depth[node]; position++) {
+                candidate = better(candidate, position);
+            }
+            for (int child = firstChild[node]; child < firstChild[node] + childCount[node]; child++) {
+                candidate = better(candidate, best[child]);
+            }
+            best[node] = candidate;
+        }
+    }
+
+    public static PrefixTrie empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param entries names to index; names equal ignoring case are all kept
+     */
+    public static PrefixTrie build(List<Entry> entries) {
+        String[] keys = new String[entries.size()];
+        Integer[] order = new Integer[entries.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = normalize(entries.get(i).name());
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer, String>comparing(i -> keys[i]).thenComparingLong(i -> entries.get(i).id()));
+        int totalChars = 0;
+        for (String key : keys) {
+            totalChars += key.length();
+        }
+        char[] chars = new char[totalChars];
+        int[] offsets = new int[keys.length + 1];
+        long[] ids = new long[keys.length];
+        long[] weights = new long[keys.length];
+        String[] names = new String[keys.length];
+        for (int position = 0; position < keys.length; position++) {
+            Entry entry = entries.get(order[position]);
+            String key = keys[order[position]];
+            key.getChars(0, key.length(), chars, offsets[position]);
+            offsets[position + 1] = offsets[position] + key.length();
+            ids[position] = entry.id();
+            weights[position] = entry.weight();
+            names[position] = entry.name();
+        }
+        return new PrefixTrie(chars, offsets, ids, weights, names, NodeBuilder.build(chars, offsets));
+    }
+
+    /**
+     * @return up to {@code limit} names starting with {@code prefix} ignoring case, most used first and
+     * alphabetically among equally used names
+     */
+    public List<Match> top(String prefix, int limit) {
+        String key = normalize(prefix);
+        int node = find(key);
+        if (node < 0 || limit <= 0) {
+            return List.of();
+        }
+        List<Match> matches = new ArrayList<>(limit);
+        // Nodes are queued as their index, names as the complement of their position
+        PriorityQueue<Integer> queue = new PriorityQueue<>((a, b) -> compare(positionOf(a), positionOf(b)));
+        queue.add(node);
+        while (!queue.isEmpty() && matches.size() < limit) {
+            int item = queue.poll();
+            if (item < 0) {
+                int position = ~item;
+                matches.add(new Match(ids[position], names[position], weights[position]));
+                continue;
+            }
+            for (int position = start[item]; position < end[item] && length(position) == depth[item]; position++) {
+                queue.add(~position);
+            }
+            for (int child = firstChild[item]; child < firstChild[item] + childCount[item]; child++) {
+                queue.add(child);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Names within {@code maxDistance} edits of {@code term} ignoring case, where an edit inserts, deletes or
+     * substitutes a char or swaps two adjacent ones (optimal string alignment distance). With
+     * {@code prefixes}, a name also matches when one of its prefixes is close enough, as while typing, and
+     * its distance is the smallest of its prefixes'.
+     * <p>
+     * Walks the trie depth-first with one row of the edit distance table per char of the path, shared by
+     * every name below it, and abandons a branch once its whole row exceeds {@code maxDistance}: a
+     * Levenshtein automaton run over the trie, whose cost depends on how many prefixes are close to the
+     * term rather than on the number of names.
+     * </p>
+     *
+     * @return the matches, in no particular order
+     */
+    public List<Near> withinDistance(String term, int maxDistance, boolean prefixes) {
+        String key = normalize(term);
+        List<Near> matches = new ArrayList<>();
+        if (ids.length == 0 || maxDistance < 0) {
+            return matches;
+        }
+        int[][] rows = new int[maxLength + 1][key.length() + 1];
+        // Smallest distance between the term and a prefix of the path, up to each depth
+        int[] closestPrefix = new int[maxLength + 1];
+        for (int j = 0; j <= key.length(); j++) {
+            rows[0][j] = j;
+        }
+        closestPrefix[0] = key.length();
+        // Nodes to visit, with the depth their label starts at; rows up to that depth belong to their parent
+        IntList pending = new IntList();
+        IntList labelStarts = new IntList();
+        pending.add(0);
+        labelStarts.add(0);
+        while (!pending.isEmpty()) {
+            int node = pending.pop();
+            int labelStart = labelStarts.pop();
+            int first = offsets[start[node]];
+            int reached = labelStart;
+            boolean reachable = true;
+            while (reached < depth[node] && reachable) {
+                reached++;
+                reachable = fillRow(rows, reached, first, key, maxDistance);
+                closestPrefix[reached] = Math.min(closestPrefix[reached - 1], rows[reached][key.length()]);
+            }
+            if (!reachable) {
+                // No longer name of the range gets closer; with prefixes, the whole range matches
+                if (prefixes && closestPrefix[reached] <= maxDistance) {
+                    addAll(matches, start[node], end[node], closestPrefix[reached]);
+                }
+                continue;
+            }
+            int distance = prefixes ? closestPrefix[depth[node]] : rows[depth[node]][key.length()];
+            int position = start[node];
+            while (position < end[node] && length(position) == depth[node]) {
+                position++;
+            }
+            if (distance <= maxDistance) {
+                addAll(matches, start[node], position, distance);
+            }
+            for (int child = firstChild[node]; child < firstChild[node] + childCount[node]; child++) {
+                pending.add(child);
+                labelStarts.add(depth[node]);
+            }
+        }
+        return matches;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public int nodeCount() {
+        return depth.length;
+    }
+
+    /**
+     * @return bytes held by the arrays of the trie, excluding the display name strings
+     */
+    public long footprintBytes() {
+        long nameBytes = (long) chars.length * Character.BYTES + (long) offsets.length * Integer.BYTES
+            + (long) ids.length * (2 * Long.BYTES) + (long) names.length * Integer.BYTES;
+        return nameBytes + (long) depth.length * 6 * Integer.BYTES;
+    }
+
+    /**
+     * @return the node whose range holds exactly the names starting with {@code key}, or {@code -1}
+     */
+    private int find(String key) {
+        if (ids.length == 0) {
+            return -1;
+        }
+        int node = 0;
+        int matched = 0;
+        while (true) {
+            int nodeDepth = depth[node];
+            int first = offsets[start[node]];
+            for (int i = matched; i < Math.min(key.length(), nodeDepth); i++) {
+                if (chars[first + i] != key.charAt(i)) {
+                    return -1;
+                }
+            }
+            if (key.length() <= nodeDepth) {
+                return node;
+            }
+            matched = nodeDepth;
+            node = child(node, key.charAt(nodeDepth));
+            if (node < 0) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Binary search of the child whose names have {@code c} right after the parent's label.
+     */
+    private int child(int node, char c) {
+        int low = firstChild[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char label = chars[offsets[start[mid]] + depth[node]];
+            if (label < c) {
+                low = mid + 1;
+            } else if (label > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private void addAll(List<Near> matches, int from, int to, int distance) {
+        for (int position = from; position < to; position++) {
+            matches.add(new Near(ids[position], names[position], distance));
+        }
+    }
+
+    /**
+     * Fills row {@code i} of the edit distance table between the path's first {@code i} chars, read from the
+     * name starting at {@code first}, and every prefix of {@code key}.
+     *
+     * @return whether some value of the row is within {@code maxDistance}
+     */
+    private boolean fillRow(int[][] rows, int i, int first, String key, int maxDistance) {
+        int[] previous = rows[i - 1];
+        int[] row = rows[i];
+        char c = chars[first + i - 1];
+        row[0] = i;
+        int min = i;
+        for (int j = 1; j <= key.length(); j++) {
+            char k = key.charAt(j - 1);
+            int value = Math.min(Math.min(previous[j] + 1, row[j - 1] + 1), previous[j - 1] + (c == k ? 0 : 1));
+            if (i > 1 && j > 1 && c == key.charAt(j - 2) && chars[first + i - 2] == k) {
+                value = Math.min(value, rows[i - 2][j - 2] + 1);
+            }
+            row[j] = value;
+            min = Math.min(min, value);
+        }
+        return min <= maxDistance;
+    }
+
+    private int positionOf(int item) {
+        return item < 0 ? ~item : best[item];
+    }
+
+    private int better(int a, int b) {
+        if (a < 0) {
+            return b;
+        }
+        return compare(a, b) <= 0 ? a : b;
+    }
+
+    /**
+     * Orders name positions by uses descending, then alphabetically, which is position order.
+     */
+    private int compare(int a, int b) {
+        int byWeight = Long.compare(weights[b], weights[a]);
+        return byWeight != 0 ? byWeight : Integer.compare(a, b);
+    }
+
+    private int length(int position) {
+        return offsets[position + 1] - offsets[position];
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param weight number of uses, the ranking key
+     */
+    public record Entry(long id, String name, long weight) {
+    }
+
+    public record Match(long id, String name, long weight) {
+    }
+
+    /**
+     * @param distance edits between the name and the searched term
+     */
+    public record Near(long id, String name, int distance) {
+    }
+
+    /**
+     * Lays out the nodes breadth-first from the packed, sorted names.
+     */
+    private static final class NodeBuilder {
+
+        private final IntList depth = new IntList();
+        private final IntList start = new IntList();
+        private final IntList end = new IntList();
+        private final IntList firstChild = new IntList();
+        private final IntList childCount = new IntList();
+
+        private static NodeBuilder build(char[] chars, int[] offsets) {
+            NodeBuilder nodes = new NodeBuilder();
+            int count = offsets.length - 1;
+            if (count == 0) {
+                return nodes;
+            }
+            nodes.add(0, count, commonPrefix(chars, offsets, 0, count - 1));
+            for (int node = 0; node < nodes.depth.size; node++) {
+                int nodeDepth = nodes.depth.get(node);
+                int position = nodes.start.get(node);
+                int last = nodes.end.get(node);
+                while (position < last && offsets[position + 1] - offsets[position] == nodeDepth) {
+                    position++;
+                }
+                nodes.firstChild.set(node, nodes.depth.size);
+                while (position < last) {
+                    char label = chars[offsets[position] + nodeDepth];
+                    int runEnd = runEnd(chars, offsets, position, last, nodeDepth, label);
+                    nodes.add(position, runEnd, commonPrefix(chars, offsets, position, runEnd - 1));
+                    nodes.childCount.set(node, nodes.childCount.get(node) + 1);
+                    position = runEnd;
+                }
+            }
+            return nodes;
+        }
+
+        private void add(int from, int to, int nodeDepth) {
+            depth.add(nodeDepth);
+            start.add(from);
+            end.add(to);
+            firstChild.add(0);
+            childCount.add(0);
+        }
+
+        /**
+         * @return the end of the run of names in {@code [from, to)} with {@code label} at {@code index}; names
+         * are sorted and share their first {@code index} chars, so the run is found by binary search
+         */
+        private static int runEnd(char[] chars, int[] offsets, int from, int to, int index, char label) {
+            int low = from;
+            int high = to;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (chars[offsets[mid] + index] <= label) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Length of the prefix shared by every name of the sorted range, i.e. by its first and last names.
+         */
+        private static int commonPrefix(char[] chars, int[] offsets, int first, int last) {
+            int max = Math.min(offsets[first + 1] - offsets[first], offsets[last + 1] - offsets[last]);
+            int length = 0;
+            while (length < max && chars[offsets[first] + length] == chars[offsets[last] + length]) {
+                length++;
+            }
+            return length;
+        }
+
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[16];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int pop() {
+            return values[--size];
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private int get(int index) {
+            return values[index];
+        }
+
+        private void set(int index, int value) {
+            values[index] = value;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+    }
+
+}
@@ -0,0 +1,179 @@
+package com.elara.app.unit_of_measure_service.cache;
+
+import com.elara.app.unit_of_measure_service.alias.UomAliasIndex;
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeEvent;
+import com.elara.app.unit_of_measure_service.datasource.ReadReplicaRouter;
+import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.dto.response.UomStatusResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded caches of units and statuses by id, for catalogs too large for the in-memory snapshot.
+ * <p>
+ * The services invalidate an entry synchronously in the writing transaction, and this component
+ * invalidates it again once that transaction commits: a read that reloaded the old row in between
+ * cannot keep it cached, since {@link TinyLfuCache} discards values loaded across an invalidation.
+ * Bulk writes, published without an id, clear the whole cache. Changes carrying the version written
+ * leave an entry alone when it already holds that version or a later one.
+ * </p>
+ *
+ * <p>Entries are loaded from the primary through {@link ReadReplicaRouter#readPrimary}, since a lagging read
+ * replica could otherwise put back a row older than the invalidation. A load that still read a replica, because
+ * its transaction already held a replica connection, is returned but not cached.</p>
+ *
+ * <p>Ids that do not exist are remembered for a short time in separate negative caches, so clients
+ * polling an unknown id do not reach the database on every call. Every committed change also clears
+ * the negative entry of its id, since a new row may take an id that was looked up before.</p>
+ *
+ * <p>The totals of count-free searches, requested by clients that still want a number to show, are cached by
+ * query. Any committed change clears them all, since a single write can move a row in or out of many filters;
+ * on other replicas they are cleared once the change is broadcast, so a total may briefly be off there.</p>
+ */
+@Slf4j
+@Component
+public class CatalogCaches {
+
+    public static final String UOM_CACHE = "uom";
+    public static final String UOM_STATUS_CACHE = "uom-status";
+    public static final String MISSING_UOM_CACHE = "uom-missing";
+    public static final String MISSING_UOM_STATUS_CACHE = "uom-status-missing";
+    public static final String TOTAL_CACHE = "catalog-total";
+    private static final String NOMENCLATURE = "CatalogCaches";
+
+    private final TinyLfuCache<Long, UomResponse> uoms;
+    private final TinyLfuCache<Long, UomStatusResponse> statuses;
+    private final TinyLfuCache<Long, Boolean> missingUoms;
+    private final TinyLfuCache<Long, Boolean> missingStatuses;
+    private final TinyLfuCache<String, Long> totals;
+
+    public CatalogCaches(
+        MeterRegistry meterRegistry,
+        @Value("${uom.cache.uom.max-entries:10000}") int uomMaxEntries,
+        @Value("${uom.cache.uom.expire-after-write:10m}") Duration uomExpireAfterWrite,
+        @Value("${uom.cache.uom-status.max-entries:1000}") int statusMaxEntries,
+        @Value("${uom.cache.uom-status.expire-after-write:10m}") Duration statusExpireAfterWrite,
+        @Value("${uom.cache.missing.max-entries:10000}") int missingMaxEntries,
+        @Value("${uom.cache.missing.expire-after-write:5s}") Duration missingExpireAfterWrite,
+        @Value("${uom.cache.total.max-entries:1000}") int totalMaxEntries,
+        @Value("${uom.cache.total.expire-after-write:1m}") Duration totalExpireAfterWrite
+    ) {
+        this.uoms = new TinyLfuCache<>(UOM_CACHE, uomMaxEntries, uomExpireAfterWrite);
+        this.statuses = new TinyLfuCache<>(UOM_STATUS_CACHE, statusMaxEntries, statusExpireAfterWrite);
+        this.missingUoms = new TinyLfuCache<>(MISSING_UOM_CACHE, missingMaxEntries, missingExpireAfterWrite);
+        this.missingStatuses = new TinyLfuCache<>(MISSING_UOM_STATUS_CACHE, missingMaxEntries, missingExpireAfterWrite);
+        this.totals = new TinyLfuCache<>(TOTAL_CACHE, totalMaxEntries, totalExpireAfterWrite);
+        new TinyLfuCacheMetrics(uoms).bindTo(meterRegistry);
+        new TinyLfuCacheMetrics(statuses).bindTo(meterRegistry);
+        new TinyLfuCacheMetrics(missingUoms).bindTo(meterRegistry);
+        new TinyLfuCacheMetrics(missingStatuses).bindTo(meterRegistry);
+        new TinyLfuCacheMetrics(totals).bindTo(meterRegistry);
+    }
+
+    public TinyLfuCache<Long, UomResponse> uoms() {
+        return uoms;
+    }
+
+    public TinyLfuCache<Long, UomStatusResponse> statuses() {
+        return statuses;
+    }
+
+    /**
+     * Reads a unit through the cache, remembering for a short time that the id does not exist.
+     *
+     * @param loader returns the unit, or {@code null} when the id does not exist
+     */
+    public Optional<UomResponse> findUom(Long id, Function<Long, UomResponse> loader) {
+        return find(uoms, missingUoms, id, loader);
+    }
+
+    /**
+     * Reads a status through the cache, remembering for a short time that the id does not exist.
+     *
+     * @param loader returns the status, or {@code null} when the id does not exist
+     */
+    public Optional<UomStatusResponse> findStatus(Long id, Function<Long, UomStatusResponse> loader) {
+        return find(statuses, missingStatuses, id, loader);
+    }
+
+    /**
+     * Reads the total of a count-free search through the cache.
+     *
+     * @param query identifies the entity and the filter, such as {@code Uom:name:gram}
+     * @param counter runs the {@code COUNT(*)} on a miss
+     */
+    public long approximateTotal(String query, Function<String, Long> counter) {
+        return totals.get(query, counter);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        if (UomAliasIndex.ENTITY_NAME.equals(event.entityName())) {
+            // Aliases are neither cached here nor counted by the searches
+            return;
+        }
+        totals.invalidateAll();
+        boolean status = "UomStatus".equals(event.entityName());
+        TinyLfuCache<Long, ?> cache = status ? statuses : uoms;
+        TinyLfuCache<Long, Boolean> missing = status ? missingStatuses : missingUoms;
+        if (event.entityId() == null) {
+            cache.invalidateAll();
+            missing.invalidateAll();
+        } else if (isCurrent(status, event)) {
+            log.debug("[{}-onCatalogChange] {} cache already holds version {} of id: {}.", NOMENCLATURE, cache.name(), event.version(), event.entityId());
+            return;
+        } else {
+            cache.invalidate(event.entityId());
+            missing.invalidate(event.entityId());
+        }
+        log.debug("[{}-onCatalogChange] Invalidated {} cache for id: {}.", NOMENCLATURE, cache.name(), event.entityId());
+    }
+
+    /**
+     * Whether the cached entry was already loaded at the version written, or a later one: a replica that reloaded
+     * the row before the broadcast of the change reached it keeps that entry.
+     */
+    private boolean isCurrent(boolean status, CatalogChangeEvent event) {
+        if (event.version() == null) {
+            return false;
+        }
+        Long cachedVersion;
+        if (status) {
+            UomStatusResponse cached = statuses.peek(event.entityId());
+            cachedVersion = cached == null ? null : cached.version();
+        } else {
+            UomResponse cached = uoms.peek(event.entityId());
+            cachedVersion = cached == null ? null : cached.version();
+        }
+        return cachedVersion != null && cachedVersion >= event.version();
+    }
+
+    private static boolean readsPrimary() {
+        return !ReadReplicaRouter.readsReplica();
+    }
+
+    /**
+     * The negative cache is only asked when the entry is not cached, so lookups of existing ids stay out of its
+     * statistics. An id reported missing is only remembered if no change was committed for it while loading.
+     */
+    private static <V> Optional<V> find(TinyLfuCache<Long, V> cache, TinyLfuCache<Long, Boolean> missing, Long id,
+                                        Function<Long, V> loader) {
+        if (cache.peek(id) == null && missing.getIfPresent(id) != null) {
+            return Optional.empty();
+        }
+        long missingInvalidations = missing.invalidationCount();
+        V found = cache.get(id, key -> ReadReplicaRouter.readPrimary(() -> loader.apply(key)), CatalogCaches::readsPrimary);
+        if (found == null && readsPrimary()) {
+            missing.putIfNotInvalidatedSince(id, Boolean.TRUE, missingInvalidations);
+        }
+        return Optional.ofNullable(found);
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.elara.app.unit_of_measure_service.cache;
+
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeEvent;
+import com.elara.app.unit_of_measure_service.datasource.ReadReplicaRouter;
+import com.elara.app.unit_of_measure_service.repository.UomRepository;
+import com.elara.app.unit_of_measure_service.repository.UomStatusRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Locale;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Name filters of units and statuses, so that the name checks of the admin UI only reach the database for
+ * names that might be taken.
+ * <p>
+ * The filters are only kept when the catalog snapshot is disabled: the snapshot already holds the exact
+ * set of names and answers every check in memory. They are built once the application is ready and
+ * rebuilt after a committed write whenever {@link NameFilter#needsRebuild()} says so.
+ * Unit names are compared ignoring case, like {@link UomRepository#existsByNameIgnoreCase(String)};
+ * status names exactly, like {@link UomStatusRepository#existsByName(String)}.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CatalogNameIndex {
+
+    public static final String UOM_FILTER = "uom";
+    public static final String UOM_STATUS_FILTER = "uom-status";
+    private static final String NOMENCLATURE = "CatalogNameIndex";
+
+    private final UomRepository uomRepository;
+    private final UomStatusRepository uomStatusRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final NameFilter uomNames;
+    private final NameFilter statusNames;
+
+    public CatalogNameIndex(
+        UomRepository uomRepository,
+        UomStatusRepository uomStatusRepository,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${catalog.snapshot.enabled:true}") boolean snapshotEnabled,
+        @Value("${uom.name-filter.enabled:true}") boolean enabled,
+        @Value("${uom.name-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.uomRepository = uomRepository;
+        this.uomStatusRepository = uomStatusRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        boolean active = enabled && !snapshotEnabled;
+        this.uomNames = new NameFilter(UOM_FILTER, name -> name.toLowerCase(Locale.ROOT), falsePositiveRate, active, meterRegistry);
+        this.statusNames = new NameFilter(UOM_STATUS_FILTER, UnaryOperator.identity(), falsePositiveRate, active, meterRegistry);
+    }
+
+    public NameFilter uomNames() {
+        return uomNames;
+    }
+
+    public NameFilter statusNames() {
+        return statusNames;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildUomNames();
+        rebuildStatusNames();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        if ("UomStatus".equals(event.entityName())) {
+            if (statusNames.needsRebuild()) {
+                rebuildStatusNames();
+            }
+        } else if (uomNames.needsRebuild()) {
+            rebuildUomNames();
+        }
+    }
+
+    public void rebuildUomNames() {
+        rebuild(uomNames, uomRepository::streamAllNames, uomRepository::count);
+    }
+
+    public void rebuildStatusNames() {
+        rebuild(statusNames, uomStatusRepository::streamAllNames, uomStatusRepository::count);
+    }
+
+    private synchronized void rebuild(NameFilter filter, Supplier<Stream<String>> names, LongSupplier count) {
+        final String methodNomenclature = NOMENCLATURE + "-rebuild";
+        if (!filter.isEnabled()) {
+            log.info("[{}] {} name filter disabled, name checks are served by the snapshot or the database.",
+                methodNomenclature, filter.name());
+            return;
+        }
+        long start = System.nanoTime();
+        long rows = ReadReplicaRouter.readPrimary(() -> transactionTemplate.execute(status -> {
+            long total = count.getAsLong();
+            try (Stream<String> stream = names.get()) {
+                filter.rebuild(stream, total);
+            }
+            return total;
+        }));
+        log.info("[{}] {} name filter built with {} names in {} ms.",
+            methodNomenclature, filter.name(), rows, (System.nanoTime() - start) / 1_000_000);
+    }
+
+}
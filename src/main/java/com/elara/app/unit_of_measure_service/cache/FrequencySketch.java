@@ -0,0 +1,93 @@
+package com.elara.app.unit_of_measure_service.cache;
+
+/**
+ * Count-Min sketch with 4-bit counters estimating how often each key was accessed recently.
+ * <p>
+ * Every key maps to one counter in each of four rows; its frequency is the smallest of them, which
+ * bounds the error caused by hash collisions. Counters saturate at 15, and once the number of
+ * increments reaches ten times the cache size every counter is halved, so old popularity fades and
+ * the sketch follows shifts in the workload.
+ * </p>
+ *
+ * <p>Not thread-safe: {@link TinyLfuCache} only calls it under its eviction lock.</p>
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+    private static final int COUNTERS_PER_WORD = 16;
+
+    private final long[][] rows;
+    private final int counterMask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * @param maximumSize maximum number of entries of the cache the sketch serves
+     */
+    FrequencySketch(int maximumSize) {
+        int counters = Math.max(COUNTERS_PER_WORD, Integer.highestOneBit(Math.max(1, maximumSize) - 1) << 1);
+        this.rows = new long[SEEDS.length][counters / COUNTERS_PER_WORD];
+        this.counterMask = counters - 1;
+        this.sampleSize = Math.max(10, 10 * maximumSize);
+    }
+
+    /**
+     * @return the estimated number of recent accesses to {@code key}, from 0 to 15
+     */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < rows.length; row++) {
+            frequency = Math.min(frequency, counter(row, hash));
+        }
+        return frequency;
+    }
+
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int row = 0; row < rows.length; row++) {
+            int index = index(row, hash);
+            int shift = (index % COUNTERS_PER_WORD) << 2;
+            long word = rows[row][index / COUNTERS_PER_WORD];
+            if (((word >>> shift) & MAX_COUNT) < MAX_COUNT) {
+                rows[row][index / COUNTERS_PER_WORD] = word + (1L << shift);
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    private int counter(int row, int hash) {
+        int index = index(row, hash);
+        return (int) ((rows[row][index / COUNTERS_PER_WORD] >>> ((index % COUNTERS_PER_WORD) << 2)) & MAX_COUNT);
+    }
+
+    private int index(int row, int hash) {
+        long mixed = (hash + SEEDS[row]) * SEEDS[row];
+        mixed += mixed >>> 32;
+        return (int) mixed & counterMask;
+    }
+
+    /**
+     * Halves every counter, the aging step of TinyLFU.
+     */
+    private void reset() {
+        for (long[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = (row[i] >>> 1) & RESET_MASK;
+            }
+        }
+        additions >>>= 1;
+    }
+
+    private static int spread(int hash) {
+        int spread = hash * 0x9E3779B9;
+        return spread ^ (spread >>> 16);
+    }
+
+}
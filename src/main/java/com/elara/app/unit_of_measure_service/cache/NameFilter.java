@@ -0,0 +1,212 @@
+package com.elara.app.unit_of_measure_service.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Answers "is this name free?" without the database for names that were never used.
+ * <p>
+ * Names are normalized the way the uniqueness check compares them and kept in a {@link BloomFilter}.
+ * A name the filter has not seen is definitely free; any other name may be a false positive and must be
+ * confirmed by the database, whose answer is reported back through {@link #recordDatabaseCheck(boolean)}.
+ * Until the first {@link #rebuild(Stream, long)} every name is reported as possibly taken.
+ * </p>
+ *
+ * <p>Writers {@link #add(String) add} names before their transaction commits, so a concurrent check can
+ * only err towards the database. Names added since the last rebuild are also remembered and copied
+ * into the next filter, which covers writes that commit after the rebuild read the table. Deleted and
+ * renamed names stay in the filter until the next rebuild and only cost a database check.</p>
+ */
+public final class NameFilter {
+
+    static final String CHECKS_METRIC = "uom.name.filter.checks";
+    /**
+     * Smallest filter built, so an empty catalog still has room for the first writes.
+     */
+    private static final long MIN_EXPECTED_INSERTIONS = 1_024;
+    /**
+     * Checks needed since the last rebuild before the observed false positive rate is trusted.
+     */
+    private static final long MIN_CHECKS_FOR_REBUILD = 1_000;
+
+    private final String name;
+    private final UnaryOperator<String> normalizer;
+    private final double falsePositiveRate;
+    private final boolean enabled;
+    private final Object lock = new Object();
+    private volatile BloomFilter filter;
+    private Set<String> addedSinceRebuild = new HashSet<>();
+
+    private final LongAdder negatives = new LongAdder();
+    private final LongAdder truePositives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder negativesSinceRebuild = new LongAdder();
+    private final LongAdder falsePositivesSinceRebuild = new LongAdder();
+
+    /**
+     * @param normalizer        maps a name to the form the uniqueness check compares
+     * @param falsePositiveRate target false positive rate of the filter
+     * @param enabled           when {@code false} every name is checked against the database and nothing is kept
+     */
+    public NameFilter(String name, UnaryOperator<String> normalizer, double falsePositiveRate, boolean enabled,
+                      MeterRegistry meterRegistry) {
+        this.name = name;
+        this.normalizer = normalizer;
+        this.falsePositiveRate = falsePositiveRate;
+        this.enabled = enabled;
+        bindTo(meterRegistry);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return {@code false} if the name is definitely free, {@code true} if the database must be asked
+     */
+    public boolean mightContain(String value) {
+        BloomFilter current = filter;
+        if (current == null || value == null) {
+            return true;
+        }
+        if (current.mightContain(normalizer.apply(value))) {
+            return true;
+        }
+        negatives.increment();
+        negativesSinceRebuild.increment();
+        return false;
+    }
+
+    /**
+     * Reports the database answer for a name {@link #mightContain(String)} could not rule out.
+     */
+    public void recordDatabaseCheck(boolean taken) {
+        if (filter == null) {
+            return;
+        }
+        if (taken) {
+            truePositives.increment();
+        } else {
+            falsePositives.increment();
+            falsePositivesSinceRebuild.increment();
+        }
+    }
+
+    /**
+     * Adds a name being written; call it inside the writing transaction.
+     */
+    public void add(String value) {
+        if (!enabled || value == null) {
+            return;
+        }
+        String normalized = normalizer.apply(value);
+        synchronized (lock) {
+            BloomFilter current = filter;
+            if (current != null) {
+                current.put(normalized);
+            }
+            addedSinceRebuild.add(normalized);
+        }
+    }
+
+    /**
+     * Replaces the filter with one holding {@code names}, which must be read from committed data after this
+     * call started, plus every name added since the previous rebuild.
+     *
+     * @param count number of names, used to size the new filter with room for the same number of writes
+     */
+    public void rebuild(Stream<String> names, long count) {
+        if (!enabled) {
+            return;
+        }
+        BloomFilter next = new BloomFilter(Math.max(MIN_EXPECTED_INSERTIONS, 2 * count), falsePositiveRate);
+        names.map(normalizer).forEach(next::put);
+        synchronized (lock) {
+            addedSinceRebuild.forEach(next::put);
+            addedSinceRebuild = new HashSet<>();
+            filter = next;
+        }
+        negativesSinceRebuild.reset();
+        falsePositivesSinceRebuild.reset();
+        rebuilds.increment();
+    }
+
+    /**
+     * @return {@code true} once the filter holds more names than it was sized for, or its observed false
+     * positive rate has grown past four times the target, typically after many deletes or renames
+     */
+    public boolean needsRebuild() {
+        BloomFilter current = filter;
+        if (current == null) {
+            return false;
+        }
+        if (current.approximateElementCount() > current.expectedInsertions()) {
+            return true;
+        }
+        long falsePositiveCount = falsePositivesSinceRebuild.sum();
+        long absent = falsePositiveCount + negativesSinceRebuild.sum();
+        return absent >= MIN_CHECKS_FOR_REBUILD && (double) falsePositiveCount / absent > 4 * falsePositiveRate;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return filter != null;
+    }
+
+    /**
+     * @return share of free names the filter could not rule out, over every check since startup
+     */
+    public double observedFalsePositiveRate() {
+        long falsePositiveCount = falsePositives.sum();
+        long absent = falsePositiveCount + negatives.sum();
+        return absent == 0 ? 0 : (double) falsePositiveCount / absent;
+    }
+
+    public long negativeCount() {
+        return negatives.sum();
+    }
+
+    public long falsePositiveCount() {
+        return falsePositives.sum();
+    }
+
+    private void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(CHECKS_METRIC, negatives, LongAdder::sum)
+            .tag("filter", name).tag("result", "negative")
+            .description("Name checks answered as free without the database")
+            .register(registry);
+        FunctionCounter.builder(CHECKS_METRIC, truePositives, LongAdder::sum)
+            .tag("filter", name).tag("result", "true-positive")
+            .description("Name checks the filter passed to the database, which found the name taken")
+            .register(registry);
+        FunctionCounter.builder(CHECKS_METRIC, falsePositives, LongAdder::sum)
+            .tag("filter", name).tag("result", "false-positive")
+            .description("Name checks the filter passed to the database, which found the name free")
+            .register(registry);
+        Gauge.builder("uom.name.filter.false.positive.rate", this, NameFilter::observedFalsePositiveRate)
+            .tag("filter", name)
+            .description("Observed share of free names sent to the database")
+            .register(registry);
+        Gauge.builder("uom.name.filter.expected.false.positive.rate", this,
+                f -> f.filter == null ? 1.0 : f.filter.expectedFalsePositiveRate())
+            .tag("filter", name)
+            .description("False positive rate predicted from the bits set in the filter")
+            .register(registry);
+        FunctionCounter.builder("uom.name.filter.rebuilds", rebuilds, LongAdder::sum)
+            .tag("filter", name)
+            .description("Number of times the filter was rebuilt from the database")
+            .register(registry);
+    }
+
+}
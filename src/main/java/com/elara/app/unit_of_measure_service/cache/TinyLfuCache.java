@@ -0,0 +1,436 @@
+package com.elara.app.unit_of_measure_service.cache;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Size-bounded cache with the W-TinyLFU eviction policy used by Caffeine.
+ * <p>
+ * New entries go to a small LRU window (1% of the capacity). When the window overflows, its oldest entry
+ * becomes a candidate for the main space, a segmented LRU split into probation (20%) and protected (80%)
+ * segments. If the cache is full, the candidate only displaces the probation victim when a
+ * {@link FrequencySketch} estimates it was accessed more often, so one-off reads cannot flush popular
+ * entries. Entries read again while on probation are promoted to the protected segment.
+ * </p>
+ *
+ * <p>Reads are lock-free on a {@link ConcurrentHashMap}; the policy is updated under a lock that readers
+ * only try to take, so under contention an access is left out of the recency and frequency bookkeeping
+ * instead of blocking the reader. Entries also expire a fixed time after they were written.</p>
+ *
+ * <p>{@link #get(Object, Function)} only stores the loaded value if nothing was invalidated while it was
+ * loading, so a read racing with a write cannot put a stale value back after the invalidation. Values loaded
+ * elsewhere get the same guarantee from {@link #putIfNotInvalidatedSince(Object, Object, long)}.</p>
+ *
+ * @param <K> key type
+ * @param <V> value type, shared between threads and therefore expected to be immutable
+ */
+public final class TinyLfuCache<K, V> {
+
+    private static final double WINDOW_SHARE = 0.01;
+    private static final double PROTECTED_SHARE = 0.8;
+
+    private final String name;
+    private final int maximumSize;
+    private final int windowMaximum;
+    private final int protectedMaximum;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier ticker;
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> protectedSegment = new AccessOrderDeque<>();
+    private volatile long invalidations;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder totalLoadTimeNanos = new LongAdder();
+
+    /**
+     * @param maximumSize      maximum number of entries; {@code 0} disables caching, every read loads
+     * @param expireAfterWrite time after which an entry is reloaded, regardless of how often it is read
+     */
+    public TinyLfuCache(String name, int maximumSize, Duration expireAfterWrite) {
+        this(name, maximumSize, expireAfterWrite, System::nanoTime);
+    }
+
+    TinyLfuCache(String name, int maximumSize, Duration expireAfterWrite, LongSupplier ticker) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Cache maximum size must not be negative: " + maximumSize);
+        }
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, (int) (maximumSize * WINDOW_SHARE));
+        this.protectedMaximum = (int) ((maximumSize - windowMaximum) * PROTECTED_SHARE);
+        this.expireAfterWriteNanos = expireAfterWrite.toNanos();
+        this.ticker = ticker;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return the cached value, or {@code null} when absent or expired
+     */
+    public V getIfPresent(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null || isExpired(node)) {
+            misses.increment();
+            if (node != null) {
+                remove(node);
+            }
+            return null;
+        }
+        hits.increment();
+        if (evictionLock.tryLock()) {
+            try {
+                if (node.queue != null) {
+                    onAccess(node);
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    /**
+     * Like {@link #getIfPresent(Object)}, but neither counted as a hit or a miss nor recorded as an access.
+     *
+     * @return the cached value, or {@code null} when absent or expired
+     */
+    public V peek(K key) {
+        Node<K, V> node = data.get(key);
+        return node == null || isExpired(node) ? null : node.value;
+    }
+
+    /**
+     * Returns the cached value, loading and storing it on a miss.
+     *
+     * @param loader returns the value of a key, or {@code null} when there is none; misses are not cached
+     * @return the value, or {@code null} when the loader found none
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        return get(key, loader, () -> true);
+    }
+
+    /**
+     * Like {@link #get(Object, Function)}, but only stores the loaded value if {@code cacheable} holds once it
+     * is loaded, for loaders that may have read from a source too stale to be kept.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader, BooleanSupplier cacheable) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long invalidationsBeforeLoad = invalidations;
+        long start = ticker.getAsLong();
+        V loaded;
+        try {
+            loaded = loader.apply(key);
+        } catch (RuntimeException | Error e) {
+            loadFailures.increment();
+            totalLoadTimeNanos.add(ticker.getAsLong() - start);
+            throw e;
+        }
+        loadSuccesses.increment();
+        totalLoadTimeNanos.add(ticker.getAsLong() - start);
+        if (loaded != null && cacheable.getAsBoolean()) {
+            put(key, loaded, invalidationsBeforeLoad);
+        }
+        return loaded;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, -1);
+    }
+
+    /**
+     * Stores a value loaded outside {@link #get(Object, Function)}, unless anything was invalidated since
+     * {@link #invalidationCount()} returned {@code invalidationCount}, before the load started.
+     */
+    public void putIfNotInvalidatedSince(K key, V value, long invalidationCount) {
+        put(key, value, invalidationCount);
+    }
+
+    /**
+     * Removes the entry of {@code key} and discards the values still being loaded.
+     */
+    public void invalidate(K key) {
+        evictionLock.lock();
+        try {
+            invalidations++;
+            Node<K, V> node = data.remove(key);
+            if (node != null) {
+                unlink(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            invalidations++;
+            data.clear();
+            window.clear();
+            probation.clear();
+            protectedSegment.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * @return number of invalidations so far, to read before loading a value stored with
+     * {@link #putIfNotInvalidatedSince(Object, Object, long)}
+     */
+    public long invalidationCount() {
+        return invalidations;
+    }
+
+    public long estimatedSize() {
+        return data.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long putCount() {
+        return puts.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public long loadSuccessCount() {
+        return loadSuccesses.sum();
+    }
+
+    public long loadFailureCount() {
+        return loadFailures.sum();
+    }
+
+    public long totalLoadTimeNanos() {
+        return totalLoadTimeNanos.sum();
+    }
+
+    public double hitRatio() {
+        long hitCount = hitCount();
+        long requests = hitCount + missCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    // ========================================
+    // POLICY
+    // ========================================
+
+    /**
+     * @param expectedInvalidations invalidation count observed before loading the value, or {@code -1} to
+     *                              store unconditionally
+     */
+    private void put(K key, V value, long expectedInvalidations) {
+        if (maximumSize == 0) {
+            return;
+        }
+        evictionLock.lock();
+        try {
+            if (expectedInvalidations >= 0 && expectedInvalidations != invalidations) {
+                return;
+            }
+            puts.increment();
+            Node<K, V> node = data.get(key);
+            if (node != null) {
+                node.value = value;
+                node.writeTime = ticker.getAsLong();
+                onAccess(node);
+                return;
+            }
+            node = new Node<>(key, value, ticker.getAsLong());
+            data.put(key, node);
+            sketch.increment(key);
+            window.addLast(node, Queue.WINDOW);
+            if (window.size > windowMaximum) {
+                Node<K, V> candidate = window.pollFirst();
+                probation.addLast(candidate, Queue.PROBATION);
+                if (data.size() > maximumSize) {
+                    evictAgainst(candidate);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * TinyLFU admission: the window candidate and the probation victim compete, the less frequent one is evicted.
+     */
+    private void evictAgainst(Node<K, V> candidate) {
+        Node<K, V> victim = probation.peekFirst();
+        if (victim == null || victim == candidate) {
+            evict(candidate);
+            return;
+        }
+        evict(sketch.frequency(candidate.key) > sketch.frequency(victim.key) ? victim : candidate);
+    }
+
+    private void evict(Node<K, V> node) {
+        unlink(node);
+        data.remove(node.key, node);
+        evictions.increment();
+    }
+
+    private void onAccess(Node<K, V> node) {
+        sketch.increment(node.key);
+        switch (node.queue) {
+            case WINDOW -> window.moveToBack(node);
+            case PROTECTED -> protectedSegment.moveToBack(node);
+            case PROBATION -> {
+                probation.remove(node);
+                protectedSegment.addLast(node, Queue.PROTECTED);
+                if (protectedSegment.size > protectedMaximum) {
+                    probation.addLast(protectedSegment.pollFirst(), Queue.PROBATION);
+                }
+            }
+        }
+    }
+
+    private void remove(Node<K, V> node) {
+        evictionLock.lock();
+        try {
+            if (data.remove(node.key, node)) {
+                unlink(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (node.queue == null) {
+            return;
+        }
+        switch (node.queue) {
+            case WINDOW -> window.remove(node);
+            case PROBATION -> probation.remove(node);
+            case PROTECTED -> protectedSegment.remove(node);
+        }
+    }
+
+    private boolean isExpired(Node<K, V> node) {
+        return ticker.getAsLong() - node.writeTime >= expireAfterWriteNanos;
+    }
+
+    private enum Queue { WINDOW, PROBATION, PROTECTED }
+
+    private static final class Node<K, V> {
+
+        private final K key;
+        private volatile V value;
+        private volatile long writeTime;
+        private Queue queue;
+        private Node<K, V> previous;
+        private Node<K, V> next;
+
+        private Node(K key, V value, long writeTime) {
+            this.key = key;
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+
+    }
+
+    /**
+     * Doubly linked list threaded through the nodes, least recently used first.
+     */
+    private static final class AccessOrderDeque<K, V> {
+
+        private Node<K, V> first;
+        private Node<K, V> last;
+        private int size;
+
+        private void addLast(Node<K, V> node, Queue queue) {
+            node.queue = queue;
+            node.previous = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            size++;
+        }
+
+        private Node<K, V> peekFirst() {
+            return first;
+        }
+
+        private Node<K, V> pollFirst() {
+            Node<K, V> node = first;
+            if (node != null) {
+                remove(node);
+            }
+            return node;
+        }
+
+        private void moveToBack(Node<K, V> node) {
+            if (node != last) {
+                Queue queue = node.queue;
+                remove(node);
+                addLast(node, queue);
+            }
+        }
+
+        private void remove(Node<K, V> node) {
+            if (node.previous == null) {
+                first = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            node.queue = null;
+            size--;
+        }
+
+        private void clear() {
+            for (Node<K, V> node = first; node != null; ) {
+                Node<K, V> next = node.next;
+                node.previous = null;
+                node.next = null;
+                node.queue = null;
+                node = next;
+            }
+            first = null;
+            last = null;
+            size = 0;
+        }
+
+    }
+
+}
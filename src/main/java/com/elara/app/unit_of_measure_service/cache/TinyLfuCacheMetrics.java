@@ -0,0 +1,72 @@
+package com.elara.app.unit_of_measure_service.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the statistics of a {@link TinyLfuCache} with the standard Micrometer cache meters
+ * ({@code cache.gets}, {@code cache.puts}, {@code cache.evictions}, {@code cache.size}), plus
+ * {@code cache.load.duration} and {@code cache.load} tagged {@code result=success|failure}.
+ */
+public class TinyLfuCacheMetrics extends CacheMeterBinder<TinyLfuCache<?, ?>> {
+
+    public TinyLfuCacheMetrics(TinyLfuCache<?, ?> cache) {
+        super(cache, cache.name(), Tags.empty());
+    }
+
+    @Override
+    protected Long size() {
+        TinyLfuCache<?, ?> cache = getCache();
+        return cache == null ? null : cache.estimatedSize();
+    }
+
+    @Override
+    protected long hitCount() {
+        TinyLfuCache<?, ?> cache = getCache();
+        return cache == null ? 0 : cache.hitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        TinyLfuCache<?, ?> cache = getCache();
+        return cache == null ? null : cache.missCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        TinyLfuCache<?, ?> cache = getCache();
+        return cache == null ? null : cache.evictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        TinyLfuCache<?, ?> cache = getCache();
+        return cache == null ? 0 : cache.putCount();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        TinyLfuCache<?, ?> cache = getCache();
+        FunctionTimer.builder("cache.load.duration", cache,
+                c -> c.loadSuccessCount() + c.loadFailureCount(), TinyLfuCache::totalLoadTimeNanos, TimeUnit.NANOSECONDS)
+            .tags(getTagsWithCacheName())
+            .description("Time spent loading values on cache misses")
+            .register(registry);
+        FunctionCounter.builder("cache.load", cache, TinyLfuCache::loadSuccessCount)
+            .tags(getTagsWithCacheName())
+            .tag("result", "success")
+            .description("Number of successful loads on cache misses")
+            .register(registry);
+        FunctionCounter.builder("cache.load", cache, TinyLfuCache::loadFailureCount)
+            .tags(getTagsWithCacheName())
+            .tag("result", "failure")
+            .description("Number of failed loads on cache misses")
+            .register(registry);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.elara.app.unit_of_measure_service.catalog;
+
+/**
+ * Published by the services after every write on the {@code uom}, {@code uom_status} or {@code uom_alias} tables.
+ * <p>
+ * Listeners bound with {@code @TransactionalEventListener} receive it only once the surrounding
+ * transaction has committed, so they always observe the persisted state. {@link CatalogCoherence} also
+ * broadcasts it to the other replicas, which publish it again locally with {@code remote} set, so the same
+ * listeners keep their caches current there too.
+ * </p>
+ *
+ * @param entityName the name of the changed entity ({@code Uom}, {@code UomStatus} or {@code UomAlias})
+ * @param entityId   the id of the changed record, or {@code null} for a bulk write covering several records
+ * @param changeType the kind of write that happened
+ * @param version    the version of the record after the write, when known; {@code null} for bulk writes and deletes
+ * @param remote     whether the write happened on another replica
+ */
+public record CatalogChangeEvent(
+
+    String entityName,
+    Long entityId,
+    ChangeType changeType,
+    Long version,
+    boolean remote
+
+) {
+
+    public CatalogChangeEvent(String entityName, Long entityId, ChangeType changeType) {
+        this(entityName, entityId, changeType, null, false);
+    }
+
+    public CatalogChangeEvent(String entityName, Long entityId, ChangeType changeType, Long version) {
+        this(entityName, entityId, changeType, version, false);
+    }
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        DELETED
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.elara.app.unit_of_measure_service.catalog;
+
+import com.elara.app.unit_of_measure_service.model.CatalogChange;
+import com.elara.app.unit_of_measure_service.model.CatalogSequence;
+import com.elara.app.unit_of_measure_service.repository.CatalogChangeRepository;
+import com.elara.app.unit_of_measure_service.repository.CatalogSequenceRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Appends writes on units and statuses to the {@code catalog_change} table, in the transaction of the write.
+ * <p>
+ * Sequences come from the single {@link CatalogSequence} row, locked from the first change recorded until
+ * the transaction commits. Catalog writes are therefore serialized for that short span at their end, and in
+ * exchange sequences commit in increasing order: a consumer that read up to sequence {@code n} can never
+ * later find a change below {@code n}, which a database sequence alone would not guarantee. The pending
+ * writes are flushed before the lock is taken, so it is always the last lock a transaction acquires.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogChangeLog {
+
+    private static final String NOMENCLATURE = "CatalogChange-log";
+    private final CatalogChangeRepository changeRepository;
+    private final CatalogSequenceRepository sequenceRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * Records one change; must run inside the transaction of the write.
+     *
+     * @return the sequence of the change
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long record(String entityName, Long entityId, CatalogChangeEvent.ChangeType changeType) {
+        return record(entityName, List.of(entityId), changeType);
+    }
+
+    /**
+     * Records the same change on several records, with consecutive sequences in iteration order; must run
+     * inside the transaction of the write.
+     *
+     * @return the sequence of the last change, or the current high-water mark when {@code entityIds} is empty
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long record(String entityName, Collection<Long> entityIds, CatalogChangeEvent.ChangeType changeType) {
+        final String methodNomenclature = NOMENCLATURE + "-record";
+        // Through the repositories, so constraint violations of the pending writes still surface as DataAccessException
+        changeRepository.flush();
+        CatalogSequence sequence = sequenceRepository.findByIdForUpdate(CatalogSequence.SINGLETON_ID).orElse(null);
+        if (sequence == null) {
+            // Only on an empty database: db/catalog-change.sql seeds the row
+            sequence = new CatalogSequence(CatalogSequence.SINGLETON_ID, 0L);
+            entityManager.persist(sequence);
+        }
+        long next = sequence.getHighWaterMark();
+        for (Long entityId : entityIds) {
+            // persist rather than save: the id is assigned, and save would first SELECT it to choose merge
+            entityManager.persist(new CatalogChange(++next, entityName, entityId, changeType));
+        }
+        sequence.setHighWaterMark(next);
+        log.debug("[{}] Recorded {} {} change(s) of {} up to sequence {}.", methodNomenclature, entityIds.size(), changeType, entityName, next);
+        return next;
+    }
+
+}
@@ -0,0 +1,273 @@
+package com.elara.app.unit_of_measure_service.catalog;
+
+import com.elara.app.unit_of_measure_service.alias.UomAliasIndex;
+import com.elara.app.unit_of_measure_service.dto.response.CatalogChangeNotification;
+import com.elara.app.unit_of_measure_service.model.CatalogChange;
+import com.elara.app.unit_of_measure_service.model.CatalogRelayOffset;
+import com.elara.app.unit_of_measure_service.model.CatalogSequence;
+import com.elara.app.unit_of_measure_service.repository.CatalogChangeRepository;
+import com.elara.app.unit_of_measure_service.repository.CatalogRelayOffsetRepository;
+import com.elara.app.unit_of_measure_service.repository.CatalogSequenceRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes the changes recorded by {@link CatalogChangeLog} to an AMQP topic exchange: the change log is the
+ * transactional outbox, written in the transaction of every catalog write, and this relay drains it.
+ * <p>
+ * Each run locks the {@link CatalogRelayOffset} row, reads up to {@code uom.relay.batch-size} changes after it,
+ * publishes them on one channel in sequence order, waits for the broker to confirm the whole batch, and only
+ * then advances the offset in the same transaction. A nack, a timeout or a crash leaves the offset where it
+ * was, so the batch is published again: delivery is at least once, and consumers drop duplicates by message id,
+ * which is the sequence. The lock keeps a single instance publishing at a time and the batches in order, so
+ * every queue receives the changes of an entity in the order they were committed.
+ * </p>
+ *
+ * <p>The relay runs on a single background thread after every committed write (coalesced while one is pending)
+ * and every {@code uom.relay.poll-interval}, which also retries failed batches. Messages are routed with
+ * {@code <entityName>.<changeType>} keys, such as {@code Uom.UPDATED}. Published messages are counted as
+ * {@value #PUBLISHED_METRIC}, batches timed as {@value #BATCH_METRIC}, and the changes recorded but not yet
+ * published are exposed as {@value #LAG_METRIC}.</p>
+ */
+@Slf4j
+@Component
+public class CatalogChangeRelay {
+
+    public static final String RELAY_NAME = "amqp";
+    static final String PUBLISHED_METRIC = "uom.relay.published";
+    static final String FAILURES_METRIC = "uom.relay.failures";
+    static final String BATCH_METRIC = "uom.relay.batch";
+    static final String LAG_METRIC = "uom.relay.lag";
+    private static final String NOMENCLATURE = "CatalogChange-relay";
+
+    private final CatalogChangeRepository changeRepository;
+    private final CatalogRelayOffsetRepository offsetRepository;
+    private final CatalogSequenceRepository sequenceRepository;
+    private final EntityManager entityManager;
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final String exchange;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration confirmTimeout;
+    private final AtomicBoolean relayQueued = new AtomicBoolean();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final AtomicLong lag = new AtomicLong();
+    private final Timer batchTimer;
+    private volatile boolean exchangeDeclared;
+    private volatile ScheduledExecutorService executor;
+
+    public CatalogChangeRelay(
+        CatalogChangeRepository changeRepository,
+        CatalogRelayOffsetRepository offsetRepository,
+        CatalogSequenceRepository sequenceRepository,
+        EntityManager entityManager,
+        RabbitTemplate rabbitTemplate,
+        ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${uom.relay.enabled:true}") boolean enabled,
+        @Value("${uom.relay.exchange:uom.catalog.changes}") String exchange,
+        @Value("${uom.relay.batch-size:500}") int batchSize,
+        @Value("${uom.relay.poll-interval:1s}") Duration pollInterval,
+        @Value("${uom.relay.confirm-timeout:5s}") Duration confirmTimeout
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("uom.relay.batch-size must be positive");
+        }
+        this.changeRepository = changeRepository;
+        this.offsetRepository = offsetRepository;
+        this.sequenceRepository = sequenceRepository;
+        this.entityManager = entityManager;
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.exchange = exchange;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.confirmTimeout = confirmTimeout;
+        FunctionCounter.builder(PUBLISHED_METRIC, published, LongAdder::sum)
+            .description("Catalog changes published to the exchange and confirmed by the broker")
+            .register(meterRegistry);
+        FunctionCounter.builder(FAILURES_METRIC, failures, LongAdder::sum)
+            .description("Relay batches not confirmed by the broker, to be published again")
+            .register(meterRegistry);
+        Gauge.builder(LAG_METRIC, lag, AtomicLong::get)
+            .description("Catalog changes recorded but not yet published, as of the last relay run")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder(BATCH_METRIC)
+            .description("Time to publish a batch of catalog changes and get it confirmed")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            log.info("[{}] Relay disabled, catalog changes are not published to AMQP.", NOMENCLATURE);
+            return;
+        }
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor = scheduler;
+        scheduler.execute(this::relay);
+        long period = pollInterval.toMillis();
+        if (period > 0) {
+            scheduler.scheduleWithFixedDelay(this::relay, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        ScheduledExecutorService scheduler = executor;
+        // Remote changes are relayed by the replica that wrote them
+        if (event.remote() || UomAliasIndex.ENTITY_NAME.equals(event.entityName())) {
+            return;
+        }
+        if (scheduler != null && relayQueued.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                relayQueued.set(false);
+                relay();
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ScheduledExecutorService scheduler = executor;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Publishes batches until the log is drained or a batch fails; a failed batch is retried by the next run.
+     *
+     * @return the number of changes published and confirmed
+     */
+    public long relay() {
+        final String methodNomenclature = NOMENCLATURE + "-relay";
+        long relayed = 0;
+        try {
+            int count;
+            do {
+                count = transactionTemplate.execute(status -> publishBatch());
+                relayed += count;
+            } while (count == batchSize);
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.error("[{}] Failed to publish catalog changes, the batch will be published again: {}", methodNomenclature, e.getMessage(), e);
+        } finally {
+            updateLag();
+        }
+        if (relayed > 0) {
+            log.debug("[{}] Published {} catalog changes to exchange {}.", methodNomenclature, relayed, exchange);
+        }
+        return relayed;
+    }
+
+    private int publishBatch() {
+        CatalogRelayOffset offset = offsetRepository.findByIdForUpdate(RELAY_NAME).orElse(null);
+        if (offset == null) {
+            // Only on an empty database: db/catalog-relay-offset.sql starts the relay at the end of the log
+            offset = new CatalogRelayOffset(RELAY_NAME, 0L);
+            entityManager.persist(offset);
+        }
+        List<CatalogChange> batch = changeRepository
+            .findAllBySequenceGreaterThanOrderBySequenceAsc(offset.getPublishedSequence(), Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<Message> messages = batch.stream().map(this::toMessage).toList();
+        declareExchange();
+        batchTimer.record(() -> rabbitTemplate.invoke(operations -> {
+            for (int i = 0; i < messages.size(); i++) {
+                CatalogChange change = batch.get(i);
+                operations.send(exchange, change.getEntityName() + "." + change.getChangeType(), messages.get(i));
+            }
+            // Throws on a nack or a timeout, which rolls the offset back
+            operations.waitForConfirmsOrDie(confirmTimeout.toMillis());
+            return null;
+        }));
+        offset.setPublishedSequence(batch.getLast().getSequence());
+        published.add(batch.size());
+        return batch.size();
+    }
+
+    private Message toMessage(CatalogChange change) {
+        CatalogChangeNotification notification = new CatalogChangeNotification(
+            change.getSequence(), change.getEntityName(), change.getEntityId(), change.getChangeType());
+        try {
+            return MessageBuilder.withBody(objectMapper.writeValueAsBytes(notification))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setMessageId(String.valueOf(change.getSequence()))
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize catalog change " + change.getSequence(), e);
+        }
+    }
+
+    private void declareExchange() {
+        if (!exchangeDeclared) {
+            rabbitTemplate.execute(channel -> channel.exchangeDeclare(exchange, ExchangeTypes.TOPIC, true));
+            exchangeDeclared = true;
+        }
+    }
+
+    private void updateLag() {
+        try {
+            Long backlog = transactionTemplate.execute(status -> {
+                long highWaterMark = sequenceRepository.findById(CatalogSequence.SINGLETON_ID)
+                    .map(CatalogSequence::getHighWaterMark)
+                    .orElse(0L);
+                long publishedSequence = offsetRepository.findById(RELAY_NAME)
+                    .map(CatalogRelayOffset::getPublishedSequence)
+                    .orElse(0L);
+                return Math.max(0, highWaterMark - publishedSequence);
+            });
+            lag.set(backlog == null ? 0 : backlog);
+        } catch (RuntimeException e) {
+            log.warn("[{}] Could not measure the relay lag: {}", NOMENCLATURE + "-lag", e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.elara.app.unit_of_measure_service.catalog;
+
+import lombok.Getter;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+/**
+ * A committed {@link CatalogChangeEvent}, broadcast over Spring Cloud Bus to the other replicas of the service.
+ * <p>
+ * Serialized as JSON by the bus; the no-argument constructor and the getters are used by Jackson.
+ * </p>
+ */
+@Getter
+public class CatalogChangeRemoteEvent extends RemoteApplicationEvent {
+
+    private String entityName;
+    private Long entityId;
+    private CatalogChangeEvent.ChangeType changeType;
+    private Long version;
+    /**
+     * Wall-clock time the change was broadcast at, in epoch milliseconds, to measure how long it took to arrive.
+     */
+    private long sentAt;
+
+    @SuppressWarnings("unused")
+    private CatalogChangeRemoteEvent() {
+        // For deserialization
+    }
+
+    public CatalogChangeRemoteEvent(Object source, String originService, Destination destination, CatalogChangeEvent change) {
+        super(source, originService, destination);
+        this.entityName = change.entityName();
+        this.entityId = change.entityId();
+        this.changeType = change.changeType();
+        this.version = change.version();
+        this.sentAt = System.currentTimeMillis();
+    }
+
+    /**
+     * The change as a local event, flagged as remote.
+     */
+    public CatalogChangeEvent toLocalEvent() {
+        return new CatalogChangeEvent(entityName, entityId, changeType, version, true);
+    }
+
+}
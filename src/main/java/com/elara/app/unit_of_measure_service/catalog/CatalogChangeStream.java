@@ -0,0 +1,343 @@
+package com.elara.app.unit_of_measure_service.catalog;
+
+import com.elara.app.unit_of_measure_service.alias.UomAliasIndex;
+import com.elara.app.unit_of_measure_service.dto.response.CatalogChangeNotification;
+import com.elara.app.unit_of_measure_service.model.CatalogChange;
+import com.elara.app.unit_of_measure_service.model.CatalogSequence;
+import com.elara.app.unit_of_measure_service.repository.CatalogChangeRepository;
+import com.elara.app.unit_of_measure_service.repository.CatalogSequenceRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pushes the changes recorded by {@link CatalogChangeLog} to server-sent event subscribers as they commit.
+ * <p>
+ * A single dispatcher thread reads the new changes once per commit (coalesced while one is pending) and
+ * every {@code uom.watch.poll-interval}, which also picks up writes committed by other instances, then
+ * offers them to every subscriber. Each subscriber has its own virtual thread and a buffer of
+ * {@code uom.watch.buffer-size} changes, so an idle subscriber costs a parked virtual thread and a slow one
+ * only blocks itself. When a buffer is full the change is dropped for that subscriber, which later reads what
+ * it missed from the log at its own pace; memory per connection stays bounded and no change is lost.
+ * </p>
+ *
+ * <p>Every change is sent with its sequence as the event id, so a client reconnecting with
+ * {@code Last-Event-ID} resumes right after the last change it received. Subscribers are registered on the
+ * dispatcher thread, which makes the point a new subscriber starts from exactly the point the dispatcher has
+ * offered up to. The number of open streams is published as {@value #SUBSCRIBERS_METRIC} and the reads
+ * from the log by lagging or resuming subscribers as {@value #CATCH_UPS_METRIC}.</p>
+ */
+@Slf4j
+@Component
+public class CatalogChangeStream {
+
+    static final String SUBSCRIBERS_METRIC = "uom.watch.subscribers";
+    static final String CATCH_UPS_METRIC = "uom.watch.catch-ups";
+    static final String EVENT_NAME = "change";
+    private static final String NOMENCLATURE = "CatalogChange-stream";
+    private static final int PAGE_SIZE = 1_000;
+
+    private final CatalogChangeRepository changeRepository;
+    private final CatalogSequenceRepository sequenceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int bufferSize;
+    private final Duration heartbeatInterval;
+    private final Duration pollInterval;
+    private final Duration timeout;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong subscriberIds = new AtomicLong();
+    private final AtomicBoolean dispatchQueued = new AtomicBoolean();
+    private final LongAdder catchUps = new LongAdder();
+    private volatile ScheduledExecutorService executor;
+    // Written by the dispatcher thread only: every change up to this sequence was offered to every subscriber
+    private volatile long dispatched;
+
+    public CatalogChangeStream(
+        CatalogChangeRepository changeRepository,
+        CatalogSequenceRepository sequenceRepository,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${uom.watch.buffer-size:256}") int bufferSize,
+        @Value("${uom.watch.heartbeat-interval:15s}") Duration heartbeatInterval,
+        @Value("${uom.watch.poll-interval:1s}") Duration pollInterval,
+        @Value("${uom.watch.timeout:30m}") Duration timeout
+    ) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("uom.watch.buffer-size must be positive");
+        }
+        this.changeRepository = changeRepository;
+        this.sequenceRepository = sequenceRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.bufferSize = bufferSize;
+        this.heartbeatInterval = heartbeatInterval;
+        this.pollInterval = pollInterval;
+        this.timeout = timeout;
+        Gauge.builder(SUBSCRIBERS_METRIC, subscribers, Set::size)
+            .description("Open server-sent event streams of catalog changes")
+            .register(meterRegistry);
+        FunctionCounter.builder(CATCH_UPS_METRIC, catchUps, LongAdder::sum)
+            .description("Reads of the change log by subscribers resuming or behind the dispatcher")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream of the changes committed after {@code lastEventId}, or from now on when it is {@code null}.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        subscribe(emitter, lastEventId);
+        return emitter;
+    }
+
+    void subscribe(SseEmitter emitter, Long lastEventId) {
+        Subscriber subscriber = new Subscriber(subscriberIds.incrementAndGet(), emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscriber.close());
+        try {
+            onDispatcher(() -> subscriber.start(lastEventId));
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            emitter.complete();
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-watch-dispatch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor = scheduler;
+        scheduler.execute(this::dispatch);
+        long period = pollInterval.toMillis();
+        if (period > 0) {
+            scheduler.scheduleWithFixedDelay(this::poll, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        ScheduledExecutorService scheduler = executor;
+        if (UomAliasIndex.ENTITY_NAME.equals(event.entityName())) {
+            return;
+        }
+        if (scheduler != null && dispatchQueued.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                dispatchQueued.set(false);
+                dispatch();
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ScheduledExecutorService scheduler = executor;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+            subscriber.close();
+        }
+    }
+
+    /**
+     * Offers the changes committed since the last dispatch to every subscriber. Without subscribers only the
+     * high-water mark is read, so a later subscriber starts from there.
+     */
+    void dispatch() {
+        final String methodNomenclature = NOMENCLATURE + "-dispatch";
+        try {
+            if (subscribers.isEmpty()) {
+                dispatched = transactionTemplate.execute(status -> sequenceRepository.findById(CatalogSequence.SINGLETON_ID)
+                    .map(CatalogSequence::getHighWaterMark)
+                    .orElse(0L));
+                return;
+            }
+            List<CatalogChangeNotification> page;
+            do {
+                page = read(dispatched);
+                for (CatalogChangeNotification notification : page) {
+                    for (Subscriber subscriber : subscribers) {
+                        subscriber.offer(notification);
+                    }
+                    dispatched = notification.sequence();
+                }
+            } while (page.size() == PAGE_SIZE);
+        } catch (RuntimeException e) {
+            // Keep the dispatcher alive; the next commit or poll retries from the same sequence
+            log.error("[{}] Failed to dispatch catalog changes after sequence {}: {}", methodNomenclature, dispatched, e.getMessage(), e);
+        }
+    }
+
+    private void poll() {
+        if (!subscribers.isEmpty()) {
+            dispatch();
+        }
+    }
+
+    private void onDispatcher(Runnable task) {
+        ScheduledExecutorService scheduler = executor;
+        if (scheduler == null) {
+            task.run();
+        } else {
+            scheduler.execute(task);
+        }
+    }
+
+    private List<CatalogChangeNotification> read(long since) {
+        return transactionTemplate.execute(status -> changeRepository
+            .findAllBySequenceGreaterThanOrderBySequenceAsc(since, Limit.of(PAGE_SIZE))
+            .stream()
+            .map(CatalogChangeStream::toNotification)
+            .toList());
+    }
+
+    private static CatalogChangeNotification toNotification(CatalogChange change) {
+        return new CatalogChangeNotification(change.getSequence(), change.getEntityName(), change.getEntityId(), change.getChangeType());
+    }
+
+    private final class Subscriber implements Runnable {
+
+        private final long id;
+        private final SseEmitter emitter;
+        private final BlockingQueue<CatalogChangeNotification> buffer;
+        private volatile boolean lagging;
+        private volatile boolean closed;
+        private volatile Thread thread;
+        // Owned by the subscriber thread once started: the sequence of the last change sent
+        private long cursor;
+
+        private Subscriber(long id, SseEmitter emitter) {
+            this.id = id;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        /**
+         * Runs on the dispatcher thread, so the stream picks up exactly where the dispatcher stands.
+         */
+        private void start(Long lastEventId) {
+            if (closed) {
+                return;
+            }
+            cursor = lastEventId != null ? lastEventId : dispatched;
+            // Resuming from before the dispatcher: the missed changes are only in the log
+            lagging = cursor < dispatched;
+            subscribers.add(this);
+            thread = Thread.ofVirtual().name("catalog-watch-" + id).start(this);
+            log.debug("[{}] Subscriber {} watching after sequence {}.", NOMENCLATURE + "-subscribe", id, cursor);
+        }
+
+        private void offer(CatalogChangeNotification notification) {
+            if (!buffer.offer(notification)) {
+                lagging = true;
+            }
+        }
+
+        @Override
+        public void run() {
+            final String methodNomenclature = NOMENCLATURE + "-send";
+            try {
+                emitter.send(SseEmitter.event().comment("watching after " + cursor));
+                while (!closed) {
+                    if (lagging) {
+                        catchUp();
+                    }
+                    CatalogChangeNotification notification = buffer.poll(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    if (notification == null) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                        continue;
+                    }
+                    if (notification.sequence() > cursor + 1) {
+                        // Changes went missing between the cursor and this one, e.g. dropped while resuming
+                        catchUp();
+                    }
+                    if (notification.sequence() > cursor) {
+                        send(notification);
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("[{}] Subscriber {} disconnected: {}", methodNomenclature, id, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("[{}] Subscriber {} failed after sequence {}: {}", methodNomenclature, id, cursor, e.getMessage(), e);
+                emitter.completeWithError(e);
+            } finally {
+                close();
+            }
+        }
+
+        /**
+         * Sends everything committed after the cursor straight from the log, blocking on the client as long as
+         * it takes; changes offered meanwhile are either buffered or flag the subscriber as lagging again.
+         */
+        private void catchUp() throws IOException {
+            lagging = false;
+            catchUps.increment();
+            List<CatalogChangeNotification> page;
+            do {
+                page = read(cursor);
+                for (CatalogChangeNotification notification : page) {
+                    send(notification);
+                }
+            } while (page.size() == PAGE_SIZE && !closed);
+        }
+
+        private void send(CatalogChangeNotification notification) throws IOException {
+            emitter.send(SseEmitter.event()
+                .id(String.valueOf(notification.sequence()))
+                .name(EVENT_NAME)
+                .data(notification, MediaType.APPLICATION_JSON));
+            cursor = notification.sequence();
+        }
+
+        private void close() {
+            closed = true;
+            subscribers.remove(this);
+            Thread current = thread;
+            if (current != null && current != Thread.currentThread()) {
+                current.interrupt();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.elara.app.unit_of_measure_service.catalog;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.bus.ServiceMatcher;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the in-process caches of every replica coherent with the writes made on the others.
+ * <p>
+ * Once a write commits, its {@link CatalogChangeEvent} is broadcast to all replicas over Spring Cloud Bus as a
+ * {@link CatalogChangeRemoteEvent}, carrying the id and the version written. Each other replica publishes it
+ * again as a local {@link CatalogChangeEvent} flagged as {@code remote}, so the listeners that keep the
+ * snapshot, the read caches and the indexes current on the writing replica do the same there, with no
+ * replica-specific code. Remote events are never broadcast again.
+ * </p>
+ *
+ * <p>The time from broadcast to local publication is recorded as {@value #LATENCY_METRIC}; across hosts it
+ * includes their clock skew. Broadcasts that could not be sent are counted as {@value #FAILURES_METRIC}: the
+ * other replicas then catch up on the next change, or when their entries expire.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "spring.cloud.bus", name = "enabled", matchIfMissing = true)
+public class CatalogCoherence {
+
+    static final String LATENCY_METRIC = "uom.coherence.latency";
+    static final String FAILURES_METRIC = "uom.coherence.failures";
+    private static final String NOMENCLATURE = "CatalogCoherence";
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final ServiceMatcher serviceMatcher;
+    private final Destination.Factory destinationFactory;
+    private final Timer latency;
+    private final LongAdder failures = new LongAdder();
+
+    public CatalogCoherence(
+        ApplicationEventPublisher eventPublisher,
+        ServiceMatcher serviceMatcher,
+        Destination.Factory destinationFactory,
+        MeterRegistry meterRegistry
+    ) {
+        this.eventPublisher = eventPublisher;
+        this.serviceMatcher = serviceMatcher;
+        this.destinationFactory = destinationFactory;
+        this.latency = Timer.builder(LATENCY_METRIC)
+            .description("Time from the broadcast of a catalog change by one replica to its publication on another")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        FunctionCounter.builder(FAILURES_METRIC, failures, LongAdder::sum)
+            .description("Catalog changes that could not be broadcast to the other replicas")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Runs after the writing transaction commits, so other replicas never reload a row before the write is visible.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        final String methodNomenclature = NOMENCLATURE + "-broadcast";
+        if (event.remote()) {
+            return;
+        }
+        try {
+            eventPublisher.publishEvent(new CatalogChangeRemoteEvent(this, serviceMatcher.getBusId(), destinationFactory.getDestination(null), event));
+        } catch (RuntimeException e) {
+            // The write has already committed: report it, but never fail the request for it
+            failures.increment();
+            log.warn("[{}] Could not broadcast the {} change of {} with id: {}: {}", methodNomenclature, event.changeType(), event.entityName(), event.entityId(), e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onRemoteCatalogChange(CatalogChangeRemoteEvent event) {
+        if (serviceMatcher.isFromSelf(event)) {
+            return;
+        }
+        latency.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - event.getSentAt())));
+        log.debug("[{}-receive] {} record with id: {} {} on {}.", NOMENCLATURE, event.getEntityName(), event.getEntityId(), event.getChangeType(), event.getOriginService());
+        eventPublisher.publishEvent(event.toLocalEvent());
+    }
+
+}
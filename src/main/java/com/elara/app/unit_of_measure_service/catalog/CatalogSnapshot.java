@@ -0,0 +1,465 @@
+package com.elara.app.unit_of_measure_service.catalog;
+
+import com.elara.app.unit_of_measure_service.autocomplete.PrefixTrie;
+import com.elara.app.unit_of_measure_service.dto.response.CursorPageResponse;
+import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.dto.response.UomStatusResponse;
+import com.elara.app.unit_of_measure_service.utils.KeysetCursor;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Immutable, point-in-time copy of the {@code uom} and {@code uom_status} tables.
+ * <p>
+ * Instances are built by {@link CatalogSnapshotHolder} and never modified afterwards, so they can be
+ * read concurrently without any locking. Every write on the catalog produces a brand-new snapshot
+ * that replaces the previous one atomically.
+ * </p>
+ *
+ * <p>Records are kept ordered by id, which mirrors the natural order returned by the database for
+ * unsorted page requests, and additionally in the order the database sorts them by name, so name pages
+ * follow the database collation and keyset pages can seek to their cursor with a binary search instead
+ * of scanning the rows before it. Sorts the snapshot cannot reproduce (case-insensitive, description,
+ * a name cursor whose row has since been renamed or deleted) are left to the database.</p>
+ *
+ * <p>Name searches go through a {@link TrigramIndex} of the lower-cased names, so only the rows sharing
+ * every trigram of the term are checked; terms shorter than three chars still scan every row. Fuzzy unit
+ * searches also walk a {@link PrefixTrie} of the names to find the ones within a few typos of the term.</p>
+ */
+public final class CatalogSnapshot {
+
+    private static final Map<String, Function<UomResponse, Comparable<?>>> UOM_SORT_KEYS = Map.of(
+        "id", UomResponse::id,
+        "conversionFactorToBase", UomResponse::conversionFactorToBase,
+        "uomStatusId", UomResponse::uomStatusId
+    );
+
+    private static final Map<String, Function<UomStatusResponse, Comparable<?>>> STATUS_SORT_KEYS = Map.of(
+        "id", UomStatusResponse::id,
+        "isUsable", UomStatusResponse::isUsable
+    );
+
+    // Relevance tiers of fuzzy searches; typos rank after substrings, by number of edits
+    private static final int EXACT = 0;
+    private static final int PREFIX = 1;
+    private static final int SUBSTRING = 2;
+    private static final int MAX_EDITS = 2;
+
+    @Getter
+    private final long version;
+    @Getter
+    private final Instant builtAt;
+    private final List<UomResponse> uoms;
+    private final NameOrder<UomResponse> uomsByName;
+    private final Map<Long, UomResponse> uomsById;
+    private final Set<String> uomNames;
+    private final TrigramIndex uomNameIndex;
+    private final PrefixTrie uomNameTrie;
+    private final List<UomStatusResponse> statuses;
+    private final NameOrder<UomStatusResponse> statusesByName;
+    private final Map<Long, UomStatusResponse> statusesById;
+    private final Set<String> statusNames;
+    private final TrigramIndex statusNameIndex;
+    @Getter
+    private final ConversionTable conversionTable;
+
+    /**
+     * @param uoms     the units, in the order the database sorts them by name then id
+     * @param statuses the statuses, in the order the database sorts them by name then id
+     */
+    public CatalogSnapshot(long version, Instant builtAt, Collection<UomResponse> uoms, Collection<UomStatusResponse> statuses) {
+        this.version = version;
+        this.builtAt = builtAt;
+        this.uoms = uoms.stream().sorted(Comparator.comparing(UomResponse::id)).toList();
+        this.statuses = statuses.stream().sorted(Comparator.comparing(UomStatusResponse::id)).toList();
+        this.uomsByName = new NameOrder<>(uoms, UomResponse::id);
+        this.statusesByName = new NameOrder<>(statuses, UomStatusResponse::id);
+        Map<Long, UomResponse> uomIndex = HashMap.newHashMap(this.uoms.size());
+        Set<String> uomNameIndex = HashSet.newHashSet(this.uoms.size());
+        for (UomResponse uom : this.uoms) {
+            uomIndex.put(uom.id(), uom);
+            uomNameIndex.add(normalize(uom.name()));
+        }
+        Map<Long, UomStatusResponse> statusIndex = HashMap.newHashMap(this.statuses.size());
+        Set<String> statusNameIndex = HashSet.newHashSet(this.statuses.size());
+        for (UomStatusResponse status : this.statuses) {
+            statusIndex.put(status.id(), status);
+            statusNameIndex.add(status.name());
+        }
+        this.uomsById = Collections.unmodifiableMap(uomIndex);
+        this.uomNames = Collections.unmodifiableSet(uomNameIndex);
+        this.statusesById = Collections.unmodifiableMap(statusIndex);
+        this.statusNames = Collections.unmodifiableSet(statusNameIndex);
+        this.uomNameIndex = new TrigramIndex(this.uoms.stream().map(uom -> normalize(uom.name())).toList());
+        List<PrefixTrie.Entry> uomTrieEntries = new ArrayList<>(this.uoms.size());
+        for (int position = 0; position < this.uoms.size(); position++) {
+            uomTrieEntries.add(new PrefixTrie.Entry(position, this.uoms.get(position).name(), 0));
+        }
+        this.uomNameTrie = PrefixTrie.build(uomTrieEntries);
+        this.statusNameIndex = new TrigramIndex(this.statuses.stream().map(status -> normalize(status.name())).toList());
+        this.conversionTable = ConversionTable.of(this.uoms, this.statusesById);
+    }
+
+    public int uomCount() {
+        return uoms.size();
+    }
+
+    public int uomStatusCount() {
+        return statuses.size();
+    }
+
+    // ========================================
+    // UOM READS
+    // ========================================
+
+    public Optional<UomResponse> findUom(Long id) {
+        return Optional.ofNullable(uomsById.get(id));
+    }
+
+    /**
+     * Returns the requested page of units, or empty if the page cannot be served from memory
+     * (the sort references a property the snapshot does not hold, e.g. {@code uomStatus.name}, or orders
+     * by a text column in a way only the database collation can tell).
+     */
+    public Optional<Page<UomResponse>> findUoms(Predicate<UomResponse> filter, Pageable pageable) {
+        return page(uoms, filter, pageable, UOM_SORT_KEYS, uomsByName);
+    }
+
+    public Optional<Page<UomResponse>> findUomsByName(String name, Pageable pageable) {
+        String term = normalize(name);
+        return page(candidates(uoms, uomNameIndex, term), uom -> normalize(uom.name()).contains(term), pageable, UOM_SORT_KEYS,
+            uomsByName);
+    }
+
+    /**
+     * Typo-tolerant name search, in relevance order: exact names, then names starting with the term, names
+     * containing it, and last names within {@link #maxEdits(String) a few edits} of it, fewest edits first.
+     * Ties keep id order. The sort of {@code pageable} is ignored, since relevance is the order.
+     */
+    public Page<UomResponse> findUomsByNameFuzzy(String name, Pageable pageable) {
+        String term = normalize(name);
+        List<List<UomResponse>> tiers = new ArrayList<>();
+        for (int tier = 0; tier <= SUBSTRING + MAX_EDITS; tier++) {
+            tiers.add(new ArrayList<>());
+        }
+        for (UomResponse uom : candidates(uoms, uomNameIndex, term)) {
+            String candidate = normalize(uom.name());
+            if (candidate.contains(term)) {
+                tiers.get(candidate.equals(term) ? EXACT : candidate.startsWith(term) ? PREFIX : SUBSTRING).add(uom);
+            }
+        }
+        List<PrefixTrie.Near> near = new ArrayList<>(uomNameTrie.withinDistance(term, maxEdits(term), true));
+        near.sort(Comparator.comparingLong(PrefixTrie.Near::id));
+        for (PrefixTrie.Near match : near) {
+            if (!normalize(match.name()).contains(term)) {
+                tiers.get(SUBSTRING + match.distance()).add(uoms.get((int) match.id()));
+            }
+        }
+        List<UomResponse> ranked = tiers.stream().flatMap(List::stream).toList();
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(ranked, pageable, ranked.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        return new PageImpl<>(List.copyOf(ranked.subList(from, to)), pageable, ranked.size());
+    }
+
+    public Optional<Page<UomResponse>> findUomsByStatusId(Long uomStatusId, Pageable pageable) {
+        return findUoms(uom -> Objects.equals(uom.uomStatusId(), uomStatusId), pageable);
+    }
+
+    /**
+     * Returns the keyset page after {@code cursor}, or empty if the page cannot be served from memory (the
+     * row of a name cursor was renamed or deleted since, so only the database can seek past its name).
+     */
+    public Optional<CursorPageResponse<UomResponse>> scrollUoms(Predicate<UomResponse> filter, KeysetCursor cursor, int size) {
+        return scroll(KeysetCursor.ID.equals(cursor.property()) ? uoms : uomsByName.rows(), filter, cursor, size,
+            UomResponse::name, UomResponse::id, uomsByName);
+    }
+
+    public Optional<CursorPageResponse<UomResponse>> scrollUomsByName(String name, KeysetCursor cursor, int size) {
+        String term = normalize(name);
+        List<UomResponse> rows = candidates(uoms, uomNameIndex, term);
+        if (rows == uoms) {
+            return scrollUoms(uom -> normalize(uom.name()).contains(term), cursor, size);
+        }
+        return scroll(inCursorOrder(rows, cursor, uomsByName), uom -> normalize(uom.name()).contains(term),
+            cursor, size, UomResponse::name, UomResponse::id, uomsByName);
+    }
+
+    public Optional<CursorPageResponse<UomResponse>> scrollUomsByStatusId(Long uomStatusId, KeysetCursor cursor, int size) {
+        return scrollUoms(uom -> Objects.equals(uom.uomStatusId(), uomStatusId), cursor, size);
+    }
+
+    /**
+     * @return the units matching {@code filter} in id order, without copying the catalog
+     */
+    public Stream<UomResponse> streamUoms(Predicate<UomResponse> filter) {
+        return uoms.stream().filter(filter);
+    }
+
+    /**
+     * Case-insensitive, matching {@code UomRepository.existsByNameIgnoreCase}.
+     */
+    public boolean isUomNameTaken(String name) {
+        return name != null && uomNames.contains(normalize(name));
+    }
+
+    // ========================================
+    // UOM STATUS READS
+    // ========================================
+
+    public Optional<UomStatusResponse> findStatus(Long id) {
+        return Optional.ofNullable(statusesById.get(id));
+    }
+
+    public Optional<Page<UomStatusResponse>> findStatuses(Predicate<UomStatusResponse> filter, Pageable pageable) {
+        return page(statuses, filter, pageable, STATUS_SORT_KEYS, statusesByName);
+    }
+
+    public Optional<Page<UomStatusResponse>> findStatusesByName(String name, Pageable pageable) {
+        String term = normalize(name);
+        return page(candidates(statuses, statusNameIndex, term), status -> normalize(status.name()).contains(term), pageable,
+            STATUS_SORT_KEYS, statusesByName);
+    }
+
+    public Optional<Page<UomStatusResponse>> findStatusesByIsUsable(Boolean isUsable, Pageable pageable) {
+        return findStatuses(status -> Objects.equals(status.isUsable(), isUsable), pageable);
+    }
+
+    public Optional<CursorPageResponse<UomStatusResponse>> scrollStatuses(Predicate<UomStatusResponse> filter, KeysetCursor cursor,
+                                                                          int size) {
+        return scroll(KeysetCursor.ID.equals(cursor.property()) ? statuses : statusesByName.rows(), filter, cursor, size,
+            UomStatusResponse::name, UomStatusResponse::id, statusesByName);
+    }
+
+    public Optional<CursorPageResponse<UomStatusResponse>> scrollStatusesByName(String name, KeysetCursor cursor, int size) {
+        String term = normalize(name);
+        List<UomStatusResponse> rows = candidates(statuses, statusNameIndex, term);
+        if (rows == statuses) {
+            return scrollStatuses(status -> normalize(status.name()).contains(term), cursor, size);
+        }
+        return scroll(inCursorOrder(rows, cursor, statusesByName), status -> normalize(status.name()).contains(term), cursor, size,
+            UomStatusResponse::name, UomStatusResponse::id, statusesByName);
+    }
+
+    public Optional<CursorPageResponse<UomStatusResponse>> scrollStatusesByIsUsable(Boolean isUsable, KeysetCursor cursor, int size) {
+        return scrollStatuses(status -> Objects.equals(status.isUsable(), isUsable), cursor, size);
+    }
+
+    /**
+     * Case-sensitive, matching {@code UomStatusRepository.existsByName}.
+     */
+    public boolean isStatusNameTaken(String name) {
+        return statusNames.contains(name);
+    }
+
+    // ========================================
+    // HELPERS
+    // ========================================
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Typos tolerated by fuzzy searches: none below three chars, where one edit reaches most short names,
+     * one up to five chars and {@value #MAX_EDITS} beyond.
+     */
+    static int maxEdits(String term) {
+        if (term.length() < 3) {
+            return 0;
+        }
+        return term.length() < 6 ? 1 : MAX_EDITS;
+    }
+
+    /**
+     * @return the rows of {@code byId} whose names may contain {@code term}, in id order, or {@code byId}
+     * itself when the term is too short for the index
+     */
+    private static <T> List<T> candidates(List<T> byId, TrigramIndex index, String term) {
+        int[] positions = index.candidates(term);
+        if (positions == null) {
+            return byId;
+        }
+        List<T> rows = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            rows.add(byId.get(position));
+        }
+        return rows;
+    }
+
+    /**
+     * Orders rows already in id order the way {@code cursor} walks them: unchanged for id cursors,
+     * in the database's name order otherwise.
+     */
+    private static <T> List<T> inCursorOrder(List<T> byId, KeysetCursor cursor, NameOrder<T> byName) {
+        if (KeysetCursor.ID.equals(cursor.property())) {
+            return byId;
+        }
+        List<T> rows = new ArrayList<>(byId);
+        rows.sort(byName.comparator());
+        return rows;
+    }
+
+    private static <T> Optional<Page<T>> page(List<T> rows, Predicate<T> filter, Pageable pageable,
+                                              Map<String, Function<T, Comparable<?>>> sortKeys, NameOrder<T> byName) {
+        Optional<Comparator<T>> comparator = comparator(pageable.getSort(), sortKeys, byName);
+        if (comparator.isEmpty()) {
+            return Optional.empty();
+        }
+        List<T> matches = new ArrayList<>();
+        for (T row : rows) {
+            if (filter.test(row)) {
+                matches.add(row);
+            }
+        }
+        if (pageable.getSort().isSorted()) {
+            matches.sort(comparator.get());
+        }
+        if (pageable.isUnpaged()) {
+            return Optional.of(new PageImpl<>(matches, pageable, matches.size()));
+        }
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        return Optional.of(new PageImpl<>(List.copyOf(matches.subList(from, to)), pageable, matches.size()));
+    }
+
+    /**
+     * Seeks to the cursor in {@code ascending} (ordered by the cursor's sort property) and walks it in the
+     * cursor's direction until the page is full. Name cursors seek by the rank of their row in
+     * {@code byName}, so they need that row to still carry the cursor's name.
+     */
+    private static <T> Optional<CursorPageResponse<T>> scroll(List<T> ascending, Predicate<T> filter, KeysetCursor cursor,
+                                                              int size, Function<T, String> nameOf, ToLongFunction<T> idOf,
+                                                              NameOrder<T> byName) {
+        boolean forward = cursor.direction().isAscending();
+        // Rows following the cursor form a suffix of the list when ascending and a prefix when descending
+        int boundary;
+        if (KeysetCursor.ID.equals(cursor.property()) || cursor.id() == null) {
+            boundary = firstIndex(ascending, row -> cursor.precedes(row, nameOf, idOf) == forward);
+        } else {
+            int rank = byName.rank(cursor, nameOf);
+            if (rank < 0) {
+                return Optional.empty();
+            }
+            boundary = firstIndex(ascending, row -> forward ? byName.rank(row) > rank : byName.rank(row) >= rank);
+        }
+        int step = forward ? 1 : -1;
+        List<T> content = new ArrayList<>(Math.min(size, ascending.size()));
+        T last = null;
+        boolean hasNext = false;
+        for (int i = forward ? boundary : boundary - 1; i >= 0 && i < ascending.size(); i += step) {
+            T row = ascending.get(i);
+            if (!filter.test(row)) {
+                continue;
+            }
+            if (content.size() == size) {
+                hasNext = true;
+                break;
+            }
+            content.add(row);
+            last = row;
+        }
+        String nextCursor = hasNext ? cursor.after(nameOf.apply(last), idOf.applyAsLong(last)).encode() : null;
+        return Optional.of(new CursorPageResponse<>(List.copyOf(content), size, hasNext, nextCursor));
+    }
+
+    /**
+     * @return the first index whose row matches {@code test}, which must be false for a prefix of the
+     * list and true for the rest
+     */
+    private static <T> int firstIndex(List<T> rows, Predicate<T> test) {
+        int low = 0;
+        int high = rows.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (test.test(rows.get(mid))) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Optional<Comparator<T>> comparator(Sort sort, Map<String, Function<T, Comparable<?>>> sortKeys,
+                                                          NameOrder<T> byName) {
+        Comparator<T> result = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<T> next;
+            if (KeysetCursor.NAME.equals(order.getProperty())) {
+                // Only the database knows how its collation folds case
+                if (order.isIgnoreCase()) {
+                    return Optional.empty();
+                }
+                next = byName.comparator();
+            } else {
+                Function<T, Comparable<?>> key = sortKeys.get(order.getProperty());
+                if (key == null) {
+                    return Optional.empty();
+                }
+                Comparator<Comparable> values = order.isIgnoreCase()
+                    ? (a, b) -> String.CASE_INSENSITIVE_ORDER.compare(a.toString(), b.toString())
+                    : Comparator.naturalOrder();
+                next = Comparator.comparing(row -> (Comparable) key.apply(row), Comparator.nullsLast(values));
+            }
+            result = result.thenComparing(order.isAscending() ? next : next.reversed());
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Rows in the order the database sorted them by name then id, with the rank of every id in it. Names
+     * are compared through these ranks rather than in Java, so pages and cursors follow the database
+     * collation, whatever it is.
+     */
+    private static final class NameOrder<T> {
+
+        private final List<T> rows;
+        private final Map<Long, Integer> ranks;
+        private final ToLongFunction<T> idOf;
+
+        NameOrder(Collection<T> databaseOrder, ToLongFunction<T> idOf) {
+            this.rows = List.copyOf(databaseOrder);
+            this.idOf = idOf;
+            Map<Long, Integer> index = HashMap.newHashMap(rows.size());
+            for (int rank = 0; rank < rows.size(); rank++) {
+                index.put(idOf.applyAsLong(rows.get(rank)), rank);
+            }
+            this.ranks = Collections.unmodifiableMap(index);
+        }
+
+        List<T> rows() {
+            return rows;
+        }
+
+        int rank(T row) {
+            return ranks.get(idOf.applyAsLong(row));
+        }
+
+        /**
+         * @return the rank of the cursor's row if it still has the cursor's name, otherwise -1
+         */
+        int rank(KeysetCursor cursor, Function<T, String> nameOf) {
+            Integer rank = ranks.get(cursor.id());
+            return rank != null && nameOf.apply(rows.get(rank)).equals(cursor.value()) ? rank : -1;
+        }
+
+        Comparator<T> comparator() {
+            return Comparator.comparingInt(this::rank);
+        }
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.elara.app.unit_of_measure_service.catalog;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint ({@code /actuator/catalog}) exposing the state of the in-memory catalog snapshot.
+ * <p>
+ * {@code snapshotReads} versus {@code databaseReads} shows how many service reads were answered
+ * without touching the database.
+ * </p>
+ */
+@Component
+@Endpoint(id = "catalog")
+@RequiredArgsConstructor
+public class CatalogSnapshotEndpoint {
+
+    private final CatalogSnapshotHolder holder;
+
+    @ReadOperation
+    public CatalogSnapshotHolder.CatalogSnapshotStats stats() {
+        return holder.stats();
+    }
+
+}
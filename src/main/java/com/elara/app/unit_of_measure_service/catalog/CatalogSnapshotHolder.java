@@ -0,0 +1,213 @@
+package com.elara.app.unit_of_measure_service.catalog;
+
+import com.elara.app.unit_of_measure_service.alias.UomAliasIndex;
+import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.dto.response.UomStatusResponse;
+import com.elara.app.unit_of_measure_service.mapper.UomMapper;
+import com.elara.app.unit_of_measure_service.mapper.UomStatusMapper;
+import com.elara.app.unit_of_measure_service.repository.UomRepository;
+import com.elara.app.unit_of_measure_service.repository.UomStatusRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Owns the current {@link CatalogSnapshot} and swaps it atomically whenever the catalog changes.
+ * <p>
+ * Reads are lock-free: callers get the latest published snapshot through {@link #current()}.
+ * Rebuilds are serialized and always reload both tables in a fresh read-only transaction, so the
+ * last rebuild to finish reflects every committed write.
+ * </p>
+ *
+ * <p>The first snapshot is built once the application is ready. Changes then queue a rebuild on a single
+ * background thread instead of delaying the writer; changes committed while one is queued share it, so a burst
+ * of writes costs one or two reloads. Until a snapshot loaded after the latest committed change is published,
+ * {@link #current()} returns {@code null} and reads go to the database, so a client never reads an older
+ * catalog than the one its own write produced.</p>
+ *
+ * <p>The snapshot can be switched off with {@code catalog.snapshot.enabled=false} for tenants whose
+ * catalogs are too large to be held in memory; {@link #current()} then always returns {@code null}
+ * and the services read from the database.</p>
+ */
+@Slf4j
+@Component
+public class CatalogSnapshotHolder {
+
+    private static final String NOMENCLATURE = "CatalogSnapshot-holder";
+    // The snapshot takes its name order from the database, so name pages follow the database collation
+    private static final Sort BY_NAME = Sort.by("name", "id");
+    private final UomRepository uomRepository;
+    private final UomStatusRepository uomStatusRepository;
+    private final UomMapper uomMapper;
+    private final UomStatusMapper uomStatusMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final AtomicReference<Published> published = new AtomicReference<>();
+    // Committed catalog changes, compared with the count each snapshot was loaded after
+    private final AtomicLong changes = new AtomicLong();
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    private volatile ExecutorService executor;
+    private final LongAdder snapshotReads = new LongAdder();
+    private final LongAdder databaseReads = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private volatile long lastBuildMillis;
+
+    public CatalogSnapshotHolder(
+        UomRepository uomRepository,
+        UomStatusRepository uomStatusRepository,
+        UomMapper uomMapper,
+        UomStatusMapper uomStatusMapper,
+        PlatformTransactionManager transactionManager,
+        @Value("${catalog.snapshot.enabled:true}") boolean enabled
+    ) {
+        this.uomRepository = uomRepository;
+        this.uomStatusRepository = uomStatusRepository;
+        this.uomMapper = uomMapper;
+        this.uomStatusMapper = uomStatusMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return the latest snapshot, or {@code null} when the snapshot is disabled, not built yet, or misses a
+     * change committed since it was loaded
+     */
+    public CatalogSnapshot current() {
+        Published current = published.get();
+        return current == null || current.changes() < changes.get() ? null : current.snapshot();
+    }
+
+    public void recordSnapshotRead() {
+        snapshotReads.increment();
+    }
+
+    public void recordDatabaseRead() {
+        databaseReads.increment();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "catalog-snapshot-rebuild");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        rebuild();
+    }
+
+    /**
+     * Runs after the writing transaction commits (or immediately for writes executed outside a
+     * transaction), so the rebuilt snapshot never exposes uncommitted data.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        ExecutorService rebuilder = executor;
+        if (UomAliasIndex.ENTITY_NAME.equals(event.entityName())) {
+            // Aliases are not part of the snapshot
+            return;
+        }
+        log.info("[{}-onCatalogChange] {} record with id: {} {}.", NOMENCLATURE, event.entityName(), event.entityId(), event.changeType());
+        changes.incrementAndGet();
+        if (rebuilder != null && rebuildQueued.compareAndSet(false, true)) {
+            rebuilder.execute(() -> {
+                rebuildQueued.set(false);
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    // Keep serving the previous snapshot; the next write retries
+                    log.error("[{}-onCatalogChange] Catalog snapshot rebuild failed: {}", NOMENCLATURE, e.getMessage(), e);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ExecutorService rebuilder = executor;
+        if (rebuilder != null) {
+            rebuilder.shutdownNow();
+        }
+    }
+
+    public synchronized void rebuild() {
+        final String methodNomenclature = NOMENCLATURE + "-rebuild";
+        if (!enabled) {
+            log.info("[{}] Catalog snapshot disabled, reads are served by the database.", methodNomenclature);
+            return;
+        }
+        long start = System.nanoTime();
+        // Every change counted so far has committed, so the load below sees it
+        long loadedAfter = changes.get();
+        Published previous = published.get();
+        long version = previous == null ? 1 : previous.snapshot().getVersion() + 1;
+        CatalogSnapshot next = transactionTemplate.execute(status -> {
+            List<UomResponse> uoms = uomRepository.findAll(BY_NAME).stream().map(uomMapper::toResponse).toList();
+            List<UomStatusResponse> statuses = uomStatusRepository.findAll(BY_NAME).stream().map(uomStatusMapper::toResponse).toList();
+            return new CatalogSnapshot(version, Instant.now(), uoms, statuses);
+        });
+        published.set(new Published(next, loadedAfter));
+        rebuilds.increment();
+        lastBuildMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("[{}] Catalog snapshot version {} built with {} Uom and {} UomStatus records in {} ms.",
+            methodNomenclature, version, next.uomCount(), next.uomStatusCount(), lastBuildMillis);
+    }
+
+    public CatalogSnapshotStats stats() {
+        Published latest = published.get();
+        CatalogSnapshot current = latest == null ? null : latest.snapshot();
+        return new CatalogSnapshotStats(
+            enabled,
+            current == null ? 0 : current.getVersion(),
+            current == null ? null : current.getBuiltAt(),
+            current == null ? 0 : current.uomCount(),
+            current == null ? 0 : current.uomStatusCount(),
+            snapshotReads.sum(),
+            databaseReads.sum(),
+            rebuilds.sum(),
+            lastBuildMillis
+        );
+    }
+
+    /**
+     * @param changes committed changes counted before the snapshot was loaded
+     */
+    private record Published(CatalogSnapshot snapshot, long changes) {
+    }
+
+    public record CatalogSnapshotStats(
+
+        boolean enabled,
+        long version,
+        Instant builtAt,
+        int uomCount,
+        int uomStatusCount,
+        long snapshotReads,
+        long databaseReads,
+        long rebuilds,
+        long lastBuildMillis
+
+    ) {
+    }
+
+}
@@ -0,0 +1,297 @@
+package com.elara.app.unit_of_measure_service.catalog;
+
+import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.dto.response.UomStatusResponse;
+import com.elara.app.unit_of_measure_service.model.RationalFactor;
+import com.elara.app.unit_of_measure_service.model.Uom;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dense, ordinal-indexed view of the conversion factors held by a {@link CatalogSnapshot}.
+ * <p>
+ * Each unit gets an ordinal equal to its position in the id-ordered catalog. Ids are kept in a
+ * sorted primitive array, so resolving a unit is a binary search without boxing, and factors,
+ * usability and rounding are plain array reads.
+ * </p>
+ *
+ * <p>Factors are exact {@link RationalFactor rationals}. {@link #convert(BigDecimal, int, int)} works on
+ * overflow-checked longs and only falls back to {@link BigDecimal} arithmetic when an intermediate
+ * product does not fit.</p>
+ *
+ * <p>{@link #fromEntities(Collection)} builds the same structure for just the units of a request when
+ * the snapshot is disabled.</p>
+ */
+public final class ConversionTable {
+
+    public static final int NOT_FOUND = -1;
+    private static final int NO_ROUNDING = -1;
+    private static final MathContext UNROUNDED_CONTEXT = MathContext.DECIMAL64;
+    private static final RoundingMode DEFAULT_ROUNDING_MODE = RoundingMode.HALF_EVEN;
+
+    private final long[] ids;
+    private final long[] numerators;
+    private final long[] denominators;
+    private final boolean[] usable;
+    private final int[] roundingScales;
+    private final RoundingMode[] roundingModes;
+
+    private ConversionTable(int size) {
+        this.ids = new long[size];
+        this.numerators = new long[size];
+        this.denominators = new long[size];
+        this.usable = new boolean[size];
+        this.roundingScales = new int[size];
+        this.roundingModes = new RoundingMode[size];
+    }
+
+    static ConversionTable of(List<UomResponse> uomsOrderedById, Map<Long, UomStatusResponse> statusesById) {
+        ConversionTable table = new ConversionTable(uomsOrderedById.size());
+        for (int ordinal = 0; ordinal < uomsOrderedById.size(); ordinal++) {
+            UomResponse uom = uomsOrderedById.get(ordinal);
+            UomStatusResponse status = statusesById.get(uom.uomStatusId());
+            table.set(ordinal, uom.id(), RationalFactor.of(uom.conversionFactorToBase()),
+                status != null && Boolean.TRUE.equals(status.isUsable()), uom.roundingScale(), uom.roundingMode());
+        }
+        return table;
+    }
+
+    /**
+     * Builds a table from loaded entities; their {@code uomStatus} association must be initialized.
+     */
+    public static ConversionTable fromEntities(Collection<Uom> uoms) {
+        List<Uom> ordered = uoms.stream().sorted(Comparator.comparing(Uom::getId)).toList();
+        ConversionTable table = new ConversionTable(ordered.size());
+        for (int ordinal = 0; ordinal < ordered.size(); ordinal++) {
+            Uom uom = ordered.get(ordinal);
+            table.set(ordinal, uom.getId(), uom.getRationalFactor(),
+                uom.getUomStatus() != null && Boolean.TRUE.equals(uom.getUomStatus().getIsUsable()),
+                uom.getRoundingScale(), uom.getRoundingMode());
+        }
+        return table;
+    }
+
+    private void set(int ordinal, long id, RationalFactor factor, boolean isUsable, Integer roundingScale, RoundingMode roundingMode) {
+        ids[ordinal] = id;
+        numerators[ordinal] = factor.numerator();
+        denominators[ordinal] = factor.denominator();
+        usable[ordinal] = isUsable;
+        roundingScales[ordinal] = roundingScale == null ? NO_ROUNDING : roundingScale;
+        roundingModes[ordinal] = roundingMode == null ? DEFAULT_ROUNDING_MODE : roundingMode;
+    }
+
+    /**
+     * @return the ordinal of the unit, or {@link #NOT_FOUND} when the id is not in the catalog
+     */
+    public int ordinalOf(long id) {
+        int ordinal = Arrays.binarySearch(ids, id);
+        return ordinal < 0 ? NOT_FOUND : ordinal;
+    }
+
+    public boolean isUsable(int ordinal) {
+        return usable[ordinal];
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Converts {@code quantity} from one unit into another. The result is rounded to the target unit's
+     * rounding scale and mode; units without a rounding scale get the exact result, or a
+     * {@link MathContext#DECIMAL64} approximation when the result has no finite decimal expansion.
+     *
+     * @throws ArithmeticException if the target unit's rounding mode is {@link RoundingMode#UNNECESSARY}
+     *                             and the result needs rounding
+     */
+    public BigDecimal convert(BigDecimal quantity, int fromOrdinal, int toOrdinal) {
+        try {
+            BigDecimal result = convertExact(quantity, fromOrdinal, toOrdinal);
+            if (result != null) {
+                return result;
+            }
+        } catch (LongOverflowException e) {
+            // Falls through to the BigDecimal path
+        }
+        return convertDecimal(quantity, fromOrdinal, toOrdinal);
+    }
+
+    /**
+     * Converts {@code quantity} of a unit into its base unit, exactly, or as a {@link MathContext#DECIMAL64}
+     * approximation when the result has no finite decimal expansion. The unit's rounding does not apply.
+     */
+    public BigDecimal toBase(BigDecimal quantity, int ordinal) {
+        BigDecimal product = quantity.multiply(BigDecimal.valueOf(numerators[ordinal]));
+        if (denominators[ordinal] == 1) {
+            return product;
+        }
+        BigDecimal denominator = BigDecimal.valueOf(denominators[ordinal]);
+        try {
+            return product.divide(denominator);
+        } catch (ArithmeticException nonTerminating) {
+            return product.divide(denominator, UNROUNDED_CONTEXT);
+        }
+    }
+
+    /**
+     * @return the combined {@code from / to} factor as a double, for the primitive conversion path
+     */
+    public double factor(int fromOrdinal, int toOrdinal) {
+        BigDecimal numerator = BigDecimal.valueOf(numerators[fromOrdinal]).multiply(BigDecimal.valueOf(denominators[toOrdinal]));
+        BigDecimal denominator = BigDecimal.valueOf(denominators[fromOrdinal]).multiply(BigDecimal.valueOf(numerators[toOrdinal]));
+        return numerator.divide(denominator, MathContext.DECIMAL64).doubleValue();
+    }
+
+    /**
+     * @return the converted quantity, or {@code null} when an unrounded result has no finite decimal expansion
+     */
+    private BigDecimal convertExact(BigDecimal quantity, int from, int to) {
+        long numerator = multiply(numerators[from], denominators[to]);
+        long denominator = multiply(denominators[from], numerators[to]);
+        long gcd = gcd(numerator, denominator);
+        numerator /= gcd;
+        denominator /= gcd;
+        long unscaled = unscaledValue(quantity);
+        int quantityScale = quantity.scale();
+        long product = multiply(unscaled, numerator);
+        int scale = roundingScales[to];
+        if (scale == NO_ROUNDING) {
+            if (!hasFiniteDecimalExpansion(denominator)) {
+                return null;
+            }
+            int resultScale = quantityScale;
+            while (product % denominator != 0) {
+                product = multiply(product, 10);
+                resultScale++;
+            }
+            return BigDecimal.valueOf(product / denominator, resultScale);
+        }
+        if (scale >= quantityScale) {
+            product = multiply(product, powerOfTen(scale - quantityScale));
+        } else {
+            denominator = multiply(denominator, powerOfTen(quantityScale - scale));
+        }
+        return BigDecimal.valueOf(divide(product, denominator, roundingModes[to]), scale);
+    }
+
+    private BigDecimal convertDecimal(BigDecimal quantity, int from, int to) {
+        BigDecimal numerator = quantity.multiply(BigDecimal.valueOf(numerators[from])).multiply(BigDecimal.valueOf(denominators[to]));
+        BigDecimal denominator = BigDecimal.valueOf(denominators[from]).multiply(BigDecimal.valueOf(numerators[to]));
+        int scale = roundingScales[to];
+        if (scale != NO_ROUNDING) {
+            return numerator.divide(denominator, scale, roundingModes[to]);
+        }
+        try {
+            return numerator.divide(denominator);
+        } catch (ArithmeticException nonTerminating) {
+            return numerator.divide(denominator, UNROUNDED_CONTEXT);
+        }
+    }
+
+    // ========================================
+    // LONG ARITHMETIC
+    // ========================================
+
+    private static long unscaledValue(BigDecimal value) {
+        if (value.scale() == 0) {
+            return longValue(value);
+        }
+        return longValue(value.scaleByPowerOfTen(value.scale()));
+    }
+
+    private static long longValue(BigDecimal integral) {
+        if (integral.precision() > 18) {
+            throw LongOverflowException.INSTANCE;
+        }
+        return integral.longValue();
+    }
+
+    private static long multiply(long a, long b) {
+        long low = a * b;
+        if (Math.multiplyHigh(a, b) != (low >> 63)) {
+            throw LongOverflowException.INSTANCE;
+        }
+        return low;
+    }
+
+    private static long powerOfTen(int exponent) {
+        if (exponent > 18) {
+            throw LongOverflowException.INSTANCE;
+        }
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+
+    /**
+     * A reduced fraction has a finite decimal expansion iff its denominator has no prime factors other
+     * than 2 and 5.
+     */
+    private static boolean hasFiniteDecimalExpansion(long denominator) {
+        long remaining = denominator >> Long.numberOfTrailingZeros(denominator);
+        while (remaining % 5 == 0) {
+            remaining /= 5;
+        }
+        return remaining == 1;
+    }
+
+    private static long gcd(long a, long b) {
+        a = Math.abs(a);
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a == 0 ? 1 : a;
+    }
+
+    /**
+     * Divides {@code dividend} by a positive {@code divisor}, rounding the quotient with {@code mode}.
+     */
+    private static long divide(long dividend, long divisor, RoundingMode mode) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        int signum = dividend < 0 ? -1 : 1;
+        long absRemainder = Math.abs(remainder);
+        // Compares 2 * |remainder| with the divisor without overflowing
+        int half = Long.compare(absRemainder, divisor - absRemainder);
+        boolean increment = switch (mode) {
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+            case DOWN -> false;
+            case UP -> true;
+            case FLOOR -> signum < 0;
+            case CEILING -> signum > 0;
+            case HALF_UP -> half >= 0;
+            case HALF_DOWN -> half > 0;
+            case HALF_EVEN -> half > 0 || (half == 0 && (quotient & 1) != 0);
+        };
+        return increment ? quotient + signum : quotient;
+    }
+
+    /**
+     * Signals that an intermediate value does not fit in a long. Preallocated and stackless because it
+     * only redirects to the BigDecimal path.
+     */
+    private static final class LongOverflowException extends RuntimeException {
+
+        private static final LongOverflowException INSTANCE = new LongOverflowException();
+
+        private LongOverflowException() {
+            super(null, null, false, false);
+        }
+
+    }
+
+}
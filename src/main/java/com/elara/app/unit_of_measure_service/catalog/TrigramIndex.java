@@ -0,0 +1,138 @@
+package com.elara.app.unit_of_measure_service.catalog;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inverted index from the trigrams (three consecutive chars) of a list of names to the positions of the
+ * names containing them.
+ * <p>
+ * Every substring of at least three chars contains the trigrams of the term, so intersecting their posting
+ * lists yields a small superset of the names containing the term; callers still check each candidate,
+ * since the trigrams may appear in a different order. Posting lists are sorted {@code int} arrays,
+ * intersected from the shortest one with an exponential search, so a query costs about the size of the
+ * rarest trigram's list instead of a pass over every name.
+ * </p>
+ *
+ * <p>Immutable once built. Names must be normalized the same way as the terms searched.</p>
+ */
+final class TrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int[] NONE = new int[0];
+
+    private final Map<Long, int[]> postings;
+
+    /**
+     * @param names normalized names; a name's position in the list is what the index returns
+     */
+    TrigramIndex(List<String> names) {
+        Map<Long, PostingBuilder> builders = new HashMap<>();
+        for (int position = 0; position < names.size(); position++) {
+            for (long gram : distinctGrams(names.get(position))) {
+                builders.computeIfAbsent(gram, key -> new PostingBuilder()).add(position);
+            }
+        }
+        Map<Long, int[]> built = HashMap.newHashMap(builders.size());
+        builders.forEach((gram, builder) -> built.put(gram, builder.toArray()));
+        this.postings = built;
+    }
+
+    /**
+     * @param term normalized search term
+     * @return ascending positions of the names that may contain {@code term}, or {@code null} when the term is
+     * shorter than a trigram and every name must be checked
+     */
+    int[] candidates(String term) {
+        long[] grams = distinctGrams(term);
+        if (grams.length == 0) {
+            return null;
+        }
+        int[][] lists = new int[grams.length][];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postings.getOrDefault(grams[i], NONE);
+            if (lists[i].length == 0) {
+                return NONE;
+            }
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+        int[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    int gramCount() {
+        return postings.size();
+    }
+
+    /**
+     * Keeps the elements of {@code smaller} found in {@code larger}, galloping through {@code larger} so that
+     * a short list intersected with a long one costs {@code O(smaller * log(larger))}.
+     */
+    private static int[] intersect(int[] smaller, int[] larger) {
+        int[] result = new int[smaller.length];
+        int count = 0;
+        int from = 0;
+        for (int value : smaller) {
+            int bound = 1;
+            while (from + bound < larger.length && larger[from + bound] < value) {
+                bound <<= 1;
+            }
+            int index = Arrays.binarySearch(larger, from, Math.min(from + bound + 1, larger.length), value);
+            if (index >= 0) {
+                result[count++] = value;
+                from = index + 1;
+            } else {
+                from = -index - 1;
+            }
+            if (from >= larger.length) {
+                break;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    private static long[] distinctGrams(String value) {
+        if (value.length() < GRAM_LENGTH) {
+            return new long[0];
+        }
+        long[] grams = new long[value.length() - GRAM_LENGTH + 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) value.charAt(i) << 32) | ((long) value.charAt(i + 1) << 16) | value.charAt(i + 2);
+        }
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return distinct == grams.length ? grams : Arrays.copyOf(grams, distinct);
+    }
+
+    /**
+     * Growable {@code int} array; positions arrive in ascending order, so the list is sorted as built.
+     */
+    private static final class PostingBuilder {
+
+        private int[] positions = new int[4];
+        private int size;
+
+        private void add(int position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+
+    }
+
+}
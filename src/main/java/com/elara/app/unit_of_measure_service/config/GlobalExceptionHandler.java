@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
@@ -93,6 +94,21 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Another transaction updated the row between this request's read and its flush; the client should
+     * reload it and retry.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(HttpServletRequest request) {
+        ErrorResponse errorResponse = createErrorResponse(
+            ErrorCode.RESOURCE_CONFLICT.getCode(),
+            ErrorCode.RESOURCE_CONFLICT.getValue(),
+            messageService.getMessage("global.error.concurrent.update"),
+            request.getRequestURI()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception exception, HttpServletRequest request) {
         ErrorResponse errorResponse = createErrorResponse(
@@ -125,6 +141,7 @@ public class GlobalExceptionHandler {
             case 1002 -> HttpStatus.BAD_REQUEST;
             case 1003 -> HttpStatus.CONFLICT;
             case 1004 -> HttpStatus.NOT_FOUND;
+            case 1007 -> HttpStatus.PRECONDITION_FAILED;
             default -> HttpStatus.INTERNAL_SERVER_ERROR;
         };
     }
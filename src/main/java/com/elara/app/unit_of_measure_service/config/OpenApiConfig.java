@@ -20,6 +20,7 @@ import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
@@ -46,6 +47,7 @@ public class OpenApiConfig {
                         - **Filtering**: Filter statuses by usability status
                         - **Validation**: Name uniqueness check and comprehensive input validation
                         - **Status Management**: Dedicated endpoints for changing association/usable state with audit integrity
+                        - **Conversion**: Convert quantities between units using their conversion factors to the base unit
                         
                         ## Resource Paths
                         - `/**` for Unit of Measure operations
@@ -71,16 +73,42 @@ public class OpenApiConfig {
                 .addSchemas("UomStatusRequest", createUomStatusRequestSchema())
                 .addSchemas("UomStatusUpdate", createUomStatusUpdateSchema())
                 .addSchemas("UomStatusPageResponse", createUomStatusPageResponseSchema())
+                .addSchemas("UomStatusCursorPageResponse", createCursorPageResponseSchema("UomStatusResponse", "Unit of Measure Status"))
+                .addSchemas("UomStatusSliceResponse", createSliceResponseSchema("UomStatusResponse", "Unit of Measure Status"))
                 .addSchemas("UomResponse", createUomResponseSchema())
                 .addSchemas("UomRequest", createUomRequestSchema())
                 .addSchemas("UomUpdate", createUomUpdateSchema())
+                .addSchemas("UomBulkUpdate", createUomBulkUpdateSchema())
                 .addSchemas("UomPageResponse", createUomPageResponseSchema())
+                .addSchemas("UomCursorPageResponse", createCursorPageResponseSchema("UomResponse", "Unit of Measure"))
+                .addSchemas("UomSliceResponse", createSliceResponseSchema("UomResponse", "Unit of Measure"))
+                .addSchemas("UomLookupResponse", createUomLookupResponseSchema())
+                .addSchemas("NameSuggestion", createNameSuggestionSchema())
+                .addSchemas("UomAliasRequest", createUomAliasRequestSchema())
+                .addSchemas("UomAliasResponse", createUomAliasResponseSchema())
+                .addSchemas("UomResolveResponse", createUomResolveResponseSchema())
+                .addSchemas("ConversionResponse", createConversionResponseSchema())
+                .addSchemas("ConversionRequest", createConversionRequestSchema())
+                .addSchemas("ConversionItemResponse", createConversionItemResponseSchema())
+                .addSchemas("BatchConversionResponse", createBatchConversionResponseSchema())
+                .addSchemas("ParsedQuantityResponse", createParsedQuantityResponseSchema())
+                .addSchemas("QuantityParseResponse", createQuantityParseResponseSchema())
+                .addSchemas("CatalogChangeResponse", createCatalogChangeResponseSchema())
+                .addSchemas("CatalogChangesResponse", createCatalogChangesResponseSchema())
+                .addSchemas("CatalogChangeNotification", createCatalogChangeNotificationSchema())
                 .addExamples("UomCreated", examples.get("uom-created"))
                 .addExamples("UomUpdated", examples.get("uom-updated"))
                 .addExamples("UomPage", examples.get("uom-page"))
+                .addExamples("UomCursorPage", examples.get("uom-cursor-page"))
+                .addExamples("UomSlice", examples.get("uom-slice"))
+                .addExamples("UomConversion", examples.get("uom-conversion"))
+                .addExamples("UomConversionBatch", examples.get("uom-conversion-batch"))
                 .addExamples("UomStatusCreated", examples.get("uom-status-created"))
                 .addExamples("UomStatusUpdated", examples.get("uom-status-updated"))
                 .addExamples("UomStatusPage", examples.get("uom-status-page"))
+                .addExamples("UomStatusCursorPage", examples.get("uom-status-cursor-page"))
+                .addExamples("UomStatusSlice", examples.get("uom-status-slice"))
+                .addExamples("CatalogChanges", examples.get("catalog-changes"))
                 .addExamples("ErrorBadRequestUom", examples.get("error-bad-request-uom"))
                 .addExamples("ErrorUomNotFound", examples.get("error-uom-not-found"))
                 .addExamples("ErrorUomStatusNotFound", examples.get("error-uom-status-not-found"))
@@ -89,6 +117,7 @@ public class OpenApiConfig {
                 .addExamples("ErrorNotFound", examples.get("error-not-found"))
                 .addExamples("ErrorConflict", examples.get("error-conflict"))
                 .addExamples("ErrorDeleteConflict", examples.get("error-delete-conflict"))
+                .addExamples("ErrorPreconditionFailed", examples.get("error-precondition-failed"))
                 .addExamples("ErrorServer", examples.get("error-server")));
     }
 
@@ -100,9 +129,16 @@ public class OpenApiConfig {
             "uom-created.json",
             "uom-updated.json",
             "uom-page.json",
+            "uom-cursor-page.json",
+            "uom-slice.json",
+            "uom-conversion.json",
+            "uom-conversion-batch.json",
             "uom-status-created.json",
             "uom-status-updated.json",
             "uom-status-page.json",
+            "uom-status-cursor-page.json",
+            "uom-status-slice.json",
+            "catalog-changes.json",
             "error-bad-request-uom.json",
             "error-uom-not-found.json",
             "error-uom-status-not-found.json",
@@ -111,6 +147,7 @@ public class OpenApiConfig {
             "error-not-found.json",
             "error-conflict.json",
             "error-delete-conflict.json",
+            "error-precondition-failed.json",
             "error-server.json"
         };
         
@@ -164,6 +201,7 @@ public class OpenApiConfig {
         schema.addProperty("name", new Schema<>().type("string").description("Status name (unique)").example("Active"));
         schema.addProperty("description", new Schema<>().type("string").description("Status description (max 200 chars)").example("Unit of measure is currently active and can be used in transactions"));
         schema.addProperty("isUsable", new Schema<>().type("boolean").description("Whether this status is usable").example(true));
+        schema.addProperty("version", new Schema<>().type("integer").format("int64").description("Optimistic lock version, incremented on every update; the ETag is built from id and version").example(0));
         schema.addRequiredItem("id");
         schema.addRequiredItem("name");
         schema.addRequiredItem("isUsable");
@@ -218,6 +256,11 @@ public class OpenApiConfig {
         schema.addProperty("description", new Schema<>().type("string").description("Unit description (max 200 chars)").example("Base unit of mass in SI"));
         schema.addProperty("conversionFactorToBase", new Schema<>().type("number").description("Positive factor relative to the base unit").example(1.000));
         schema.addProperty("uomStatusId", new Schema<>().type("integer").format("int64").description("Associated UOM status identifier").example(1));
+        schema.addProperty("factorNumerator", new Schema<>().type("integer").format("int64").description("Numerator of the exact conversion factor").example(1));
+        schema.addProperty("factorDenominator", new Schema<>().type("integer").format("int64").description("Denominator of the exact conversion factor").example(1));
+        schema.addProperty("roundingScale", new Schema<>().type("integer").description("Decimals conversions into this unit are rounded to, null when unrounded").example(3));
+        schema.addProperty("roundingMode", new Schema<>().type("string").description("Rounding applied with roundingScale").example("HALF_EVEN"));
+        schema.addProperty("version", new Schema<>().type("integer").format("int64").description("Optimistic lock version, incremented on every update; the ETag is built from id and version").example(0));
         schema.addRequiredItem("id");
         schema.addRequiredItem("name");
         schema.addRequiredItem("conversionFactorToBase");
@@ -230,8 +273,10 @@ public class OpenApiConfig {
         schema.description("Unit of Measure creation request");
         schema.addProperty("name", new Schema<>().type("string").description("Unit name (1-50 chars, required)").example("Kilogram"));
         schema.addProperty("description", new Schema<>().type("string").description("Unit description (max 200 chars, optional)").example("Base unit of mass in SI"));
-        schema.addProperty("conversionFactorToBase", new Schema<>().type("number").description("Positive factor relative to the base unit (required)").example(1.000));
+        schema.addProperty("conversionFactorToBase", new Schema<>().type("number").description("Positive factor relative to the base unit, up to 9 integer and 9 fraction digits (required)").example(1.000));
         schema.addProperty("uomStatusId", new Schema<>().type("integer").format("int64").description("Related status id (required by business flow)").example(1));
+        schema.addProperty("roundingScale", new Schema<>().type("integer").description("Decimals conversions into this unit are rounded to (0-18, optional; unrounded when omitted)").example(3));
+        schema.addProperty("roundingMode", new Schema<>().type("string").description("java.math.RoundingMode applied with roundingScale, e.g. HALF_EVEN, HALF_UP, FLOOR (optional, defaults to HALF_EVEN)").example("HALF_EVEN"));
         schema.addRequiredItem("name");
         schema.addRequiredItem("conversionFactorToBase");
         schema.addRequiredItem("uomStatusId");
@@ -244,7 +289,21 @@ public class OpenApiConfig {
         schema.description("Unit of Measure update request. Note: uomStatusId cannot be changed here; use the change-state endpoint instead");
         schema.addProperty("name", new Schema<>().type("string").description("Unit name (1-50 chars, required)").example("Gram"));
         schema.addProperty("description", new Schema<>().type("string").description("Unit description (max 200 chars, optional)").example("Derived mass unit equal to one thousandth of a kilogram"));
-        schema.addProperty("conversionFactorToBase", new Schema<>().type("number").description("Positive factor relative to the base unit (required)").example(0.001));
+        schema.addProperty("conversionFactorToBase", new Schema<>().type("number").description("Positive factor relative to the base unit, up to 9 integer and 9 fraction digits (required)").example(0.001));
+        schema.addProperty("roundingScale", new Schema<>().type("integer").description("Decimals conversions into this unit are rounded to (0-18, optional; unrounded when omitted)").example(3));
+        schema.addProperty("roundingMode", new Schema<>().type("string").description("java.math.RoundingMode applied with roundingScale, e.g. HALF_EVEN, HALF_UP, FLOOR (optional, defaults to HALF_EVEN)").example("HALF_EVEN"));
+        schema.addRequiredItem("name");
+        schema.addRequiredItem("conversionFactorToBase");
+        return schema;
+    }
+
+    private Schema<?> createUomBulkUpdateSchema() {
+        Schema<?> schema = new Schema<>();
+        schema.type("object");
+        schema.description("One line of a bulk Unit of Measure update: the fields of UomUpdate plus the id of the unit to update");
+        schema.addProperty("id", new Schema<>().type("integer").format("int64").description("Id of the unit to update (required)").example(2));
+        createUomUpdateSchema().getProperties().forEach(schema::addProperty);
+        schema.addRequiredItem("id");
         schema.addRequiredItem("name");
         schema.addRequiredItem("conversionFactorToBase");
         return schema;
@@ -267,4 +326,237 @@ public class OpenApiConfig {
         schema.addProperty("empty", new Schema<>().type("boolean").example(false));
         return schema;
     }
+
+    private Schema<?> createCursorPageResponseSchema(String itemSchema, String resourceName) {
+        Schema<?> schema = new Schema<>();
+        schema.type("object");
+        schema.description("Keyset (cursor) page of " + resourceName + " resources, without total counts");
+        schema.addProperty("content", new ArraySchema()
+            .items(new Schema<>().$ref("#/components/schemas/" + itemSchema))
+            .description("Page content"));
+        schema.addProperty("size", new Schema<>().type("integer").description("Requested page size").example(2));
+        schema.addProperty("hasNext", new Schema<>().type("boolean").description("Whether another page follows").example(true));
+        schema.addProperty("nextCursor", new Schema<>().type("string").description("Cursor of the following page, null on the last page").example("aWQ6QVNDOjI"));
+        schema.addRequiredItem("content");
+        schema.addRequiredItem("size");
+        schema.addRequiredItem("hasNext");
+        return schema;
+    }
+
+    private Schema<?> createSliceResponseSchema(String itemSchema, String resourceName) {
+        Schema<?> schema = new Schema<>();
+        schema.type("object");
+        schema.description("Page of " + resourceName + " resources fetched without a count query");
+        schema.addProperty("content", new ArraySchema()
+            .items(new Schema<>().$ref("#/components/schemas/" + itemSchema))
+            .description("Page content"));
+        schema.addProperty("number", new Schema<>().type("integer").description("Page number, from 0").example(0));
+        schema.addProperty("size", new Schema<>().type("integer").description("Requested page size").example(2));
+        schema.addProperty("hasNext", new Schema<>().type("boolean").description("Whether another page follows").example(true));
+        schema.addProperty("approximateTotal", new Schema<>().type("integer").format("int64")
+            .description("Total matching records, possibly a little stale; null unless approximateTotal=true was requested").example(5));
+        schema.addRequiredItem("content");
+        schema.addRequiredItem("number");
+        schema.addRequiredItem("size");
+        schema.addRequiredItem("hasNext");
+        return schema;
+    }
+
+    private Schema<?> createUomLookupResponseSchema() {
+        Schema<?> schema = new Schema<>();
+        schema.type("object");
+        schema.description("Units of Measure found by a multi-get, keyed by id in request order; ids that do not exist are absent");
+        schema.additionalProperties(new Schema<>().$ref("#/components/schemas/UomResponse"));
+        return schema;
+    }
+
+    private Schema<?> createNameSuggestionSchema() {
+        Schema<?> schema = new Schema<>();
+        schema.type("object");
+        schema.description("Autocomplete suggestion: a name starting with the requested prefix");
+        schema.addProperty("id", new Schema<>().type("integer").format("int64").description("Identifier of the suggested resource").example(1));
+        schema.addProperty("name", new Schema<>().type("string").description("Suggested name").example("Kilogram"));
+        schema.addProperty("uses", new Schema<>().type("integer").format("int64").description("Recent reads of the resource, the ranking key").example(42));
+        schema.addRequiredItem("id");
+        schema.addRequiredItem("name");
+        schema.addRequiredItem("uses");
+        return schema;
+    }
+
+    private Schema<?> createUomAliasRequestSchema() {
+        Schema<?> schema = new Schema<>();
+        schema.type("object");
+        schema.description("Unit of Measure alias creation request");
+        schema.addProperty("alias", new Schema<>().type("string").description("Alias (1-50 chars, required), unique ignoring case across aliases and unit names").example("KGM"));
+        schema.addProperty("kind", new Schema<>().type("string").description("What the alias stands for (required)")._enum(List.of("SYMBOL", "UNECE_CODE", "SYNONYM")).example("UNECE_CODE"));
+        schema.addRequiredItem("alias");
+        schema.addRequiredItem("kind");
+        return schema;
+    }
+
+    private Schema<?> createUomAliasResponseSchema() {
+        Schema<?> schema = new Schema<>();
+        schema.type("object");
+        schema.description("Another string a Unit of Measure is known by");
+        schema.addProperty("id", new Schema<>().type("integer").format("int64").description("Unique identifier of the alias").example(1));
+        schema.addProperty("alias", new Schema<>().type("string").description("Alias").example("KGM"));
+        schema.addProperty("kind", new Schema<>().type("string").description("What the alias stands for")._enum(List.of("SYMBOL", "UNECE_CODE", "SYNONYM")).example("UNECE_CODE"));
+        schema.addProperty("uomId", new Schema<>().type("integer").format("int64").description("Id of the aliased unit").example(1));
+        schema.addRequiredItem("id");
+        schema.addRequiredItem("alias");
+        schema.addRequiredItem("kind");
+        schema.addRequiredItem("uomId");
+        return schema;
+    }
+
+    private Schema<?> createUomResolveResponseSchema() {
+        Schema<?> schema = new Schema<>();
+        schema.type("object");
+        schema.description("Unit of Measure ids keyed by the raw strings they resolve, in request order; strings that resolve to nothing are absent");
+        schema.additionalProperties(new Schema<>().type("integer").format("int64"));
+        return schema;
+    }
+
+    private Schema<?> createConversionResponseSchema() {
+        Schema<?> schema = new Schema<>();
+        schema.type("object");
+        schema.description("Result of converting a quantity between two Units of Measure");
+        schema.addProperty("fromUomId", new Schema<>().type("integer").format("int64").description("Source unit identifier").example(1));
+        schema.addProperty("toUomId", new Schema<>().type("integer").format("int64").description("Target unit identifier").example(2));
+        schema.addProperty("quantity", new Schema<>().type("number").description("Quantity expressed in the source unit").example(2.5));
+        schema.addProperty("result", new Schema<>().type("number").description("Quantity expressed in the target unit").example(2500));
+        schema.addRequiredItem("fromUomId");
+        schema.addRequiredItem("toUomId");
+        schema.addRequiredItem("quantity");
+        schema.addRequiredItem("result");
+        return schema;
+    }
+
+    private Schema<?> createConversionRequestSchema() {
+        Schema<?> schema = new Schema<>();
+        schema.type("object");
+        schema.description("One line of a batch conversion request");
+        schema.addProperty("fromUomId", new Schema<>().type("integer").format("int64").description("Source unit identifier (required)").example(1));
+        schema.addProperty("toUomId", new Schema<>().type("integer").format("int64").description("Target unit identifier (required)").example(2));
+        schema.addProperty("quantity", new Schema<>().type("number").description("Quantity expressed in the source unit (required)").example(2.5));
+        schema.addRequiredItem("fromUomId");
+        schema.addRequiredItem("toUomId");
+        schema.addRequiredItem("quantity");
+        return schema;
+    }
+
+    private Schema<?> createConversionItemResponseSchema() {
+        Schema<?> schema = new Schema<>();
+        schema.type("object");
+        schema.description("Result of one batch conversion line; either result or the error fields are set");
+        schema.addProperty("fromUomId", new Schema<>().type("integer").format("int64").description("Source unit identifier").example(1));
+        schema.addProperty("toUomId", new Schema<>().type("integer").format("int64").description("Target unit identifier").example(2));
+        schema.addProperty("quantity", new Schema<>().type("number").description("Quantity expressed in the source unit").example(2.5));
+        schema.addProperty("result", new Schema<>().type("number").description("Quantity expressed in the target unit, null if the line failed").example(2500));
+        schema.addProperty("errorCode", new Schema<>().type("integer").description("Error code if the line failed").example(1004));
+        schema.addProperty("errorValue", new Schema<>().type("string").description("Error code name if the line failed").example("RESOURCE_NOT_FOUND"));
+        schema.addProperty("errorMessage", new Schema<>().type("string").description("Descriptive error message if the line failed").example("Uom not found, when: \"id = 99\"."));
+        schema.addRequiredItem("fromUomId");
+        schema.addRequiredItem("toUomId");
+        schema.addRequiredItem("quantity");
+        return schema;
+    }
+
+    private Schema<?> createBatchConversionResponseSchema() {
+        Schema<?> schema = new Schema<>();
+        schema.type("object");
+        schema.description("Result of a batch conversion, one entry per request line in request order");
+        schema.addProperty("total", new Schema<>().type("integer").description("Number of lines in the request").example(2));
+        schema.addProperty("converted", new Schema<>().type("integer").description("Number of lines converted").example(1));
+        schema.addProperty("failed", new Schema<>().type("integer").description("Number of lines that could not be converted").example(1));
+        schema.addProperty("results", new ArraySchema()
+            .items(new Schema<>().$ref("#/components/schemas/ConversionItemResponse"))
+            .description("Per-line results"));
+        schema.addRequiredItem("total");
+        schema.addRequiredItem("converted");
+        schema.addRequiredItem("failed");
+        schema.addRequiredItem("results");
+        return schema;
+    }
+
+    private Schema<?> createParsedQuantityResponseSchema() {
+        Schema<?> schema = new Schema<>();
+        schema.type("object");
+        schema.description("One line of a quantity parse: either baseQuantity is set, or the error fields explain why the line failed");
+        schema.addProperty("line", new Schema<>().type("integer").description("1-based line number in the request body").example(1));
+        schema.addProperty("input", new Schema<>().type("string").description("The line, without surrounding blanks").example("1,250.5 g"));
+        schema.addProperty("quantity", new Schema<>().type("number").description("Parsed number, null when it could not be parsed").example(1250.5));
+        schema.addProperty("uomId", new Schema<>().type("integer").format("int64").description("Id of the resolved unit, null when unknown").example(2));
+        schema.addProperty("baseQuantity", new Schema<>().type("number").description("Quantity in the base unit, null when the line failed").example(1.2505));
+        schema.addProperty("errorCode", new Schema<>().type("integer").description("Error code if the line failed").example(1004));
+        schema.addProperty("errorValue", new Schema<>().type("string").description("Error code name if the line failed").example("RESOURCE_NOT_FOUND"));
+        schema.addProperty("errorMessage", new Schema<>().type("string").description("Descriptive error message if the line failed").example("Unit \"bushel\" is not the name or alias of any unit of measure."));
+        schema.addRequiredItem("line");
+        schema.addRequiredItem("input");
+        return schema;
+    }
+
+    private Schema<?> createQuantityParseResponseSchema() {
+        Schema<?> schema = new Schema<>();
+        schema.type("object");
+        schema.description("Result of parsing quantity strings, one entry per non-blank line in request order");
+        schema.addProperty("total", new Schema<>().type("integer").description("Number of non-blank lines").example(2));
+        schema.addProperty("parsed", new Schema<>().type("integer").description("Lines converted into the base unit").example(1));
+        schema.addProperty("failed", new Schema<>().type("integer").description("Lines reported with an error").example(1));
+        schema.addProperty("results", new ArraySchema()
+            .items(new Schema<>().$ref("#/components/schemas/ParsedQuantityResponse"))
+            .description("Per-line results"));
+        schema.addRequiredItem("total");
+        schema.addRequiredItem("parsed");
+        schema.addRequiredItem("failed");
+        schema.addRequiredItem("results");
+        return schema;
+    }
+
+    private Schema<?> createCatalogChangeResponseSchema() {
+        Schema<?> schema = new Schema<>();
+        schema.type("object");
+        schema.description("Latest change of one record since the requested sequence, with the record as it is now; DELETED entries are tombstones without a body");
+        schema.addProperty("sequence", new Schema<>().type("integer").format("int64").description("Sequence of the change").example(44));
+        schema.addProperty("entityName", new Schema<>().type("string").description("Kind of record")._enum(List.of("Uom", "UomStatus")).example("Uom"));
+        schema.addProperty("entityId", new Schema<>().type("integer").format("int64").description("Id of the record").example(1));
+        schema.addProperty("changeType", new Schema<>().type("string").description("Kind of write")._enum(List.of("CREATED", "UPDATED", "STATUS_CHANGED", "DELETED")).example("UPDATED"));
+        schema.addProperty("uom", new Schema<>().$ref("#/components/schemas/UomResponse").description("The unit, for Uom entries that are not tombstones"));
+        schema.addProperty("uomStatus", new Schema<>().$ref("#/components/schemas/UomStatusResponse").description("The status, for UomStatus entries that are not tombstones"));
+        schema.addRequiredItem("sequence");
+        schema.addRequiredItem("entityName");
+        schema.addRequiredItem("entityId");
+        schema.addRequiredItem("changeType");
+        return schema;
+    }
+
+    private Schema<?> createCatalogChangesResponseSchema() {
+        Schema<?> schema = new Schema<>();
+        schema.type("object");
+        schema.description("Records changed after the requested sequence, at most one entry per record, in sequence order");
+        schema.addProperty("changes", new ArraySchema()
+            .items(new Schema<>().$ref("#/components/schemas/CatalogChangeResponse"))
+            .description("Changed records"));
+        schema.addProperty("highWaterMark", new Schema<>().type("integer").format("int64").description("Sequence to send as since on the next poll").example(44));
+        schema.addProperty("hasMore", new Schema<>().type("boolean").description("Whether more changes are waiting beyond the limit").example(false));
+        schema.addRequiredItem("changes");
+        schema.addRequiredItem("highWaterMark");
+        schema.addRequiredItem("hasMore");
+        return schema;
+    }
+
+    private Schema<?> createCatalogChangeNotificationSchema() {
+        Schema<?> schema = new Schema<>();
+        schema.type("object");
+        schema.description("Data of a change event on the watch stream, sent with the sequence as event id and without the record");
+        schema.addProperty("sequence", new Schema<>().type("integer").format("int64").description("Sequence of the change").example(44));
+        schema.addProperty("entityName", new Schema<>().type("string").description("Kind of record")._enum(List.of("Uom", "UomStatus")).example("Uom"));
+        schema.addProperty("entityId", new Schema<>().type("integer").format("int64").description("Id of the record").example(1));
+        schema.addProperty("changeType", new Schema<>().type("string").description("Kind of write")._enum(List.of("CREATED", "UPDATED", "STATUS_CHANGED", "DELETED")).example("UPDATED"));
+        schema.addRequiredItem("sequence");
+        schema.addRequiredItem("entityName");
+        schema.addRequiredItem("entityId");
+        schema.addRequiredItem("changeType");
+        return schema;
+    }
 }
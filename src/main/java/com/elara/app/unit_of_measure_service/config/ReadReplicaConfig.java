@@ -0,0 +1,86 @@
+package com.elara.app.unit_of_measure_service.config;
+
+import com.elara.app.unit_of_measure_service.datasource.ReadReplicaRouter;
+import com.elara.app.unit_of_measure_service.datasource.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured pool with a {@link ReadReplicaRouter} as soon as replicas are listed in
+ * {@code uom.datasource.replica.urls}; without them the application keeps the single pool of
+ * {@code spring.datasource}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "uom.datasource.replica", name = "urls")
+public class ReadReplicaConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Bean(destroyMethod = "close")
+    public ReadReplicaRouter readReplicaRouter(
+        DataSourceProperties properties,
+        Environment environment,
+        MeterRegistry meterRegistry,
+        @Value("${uom.datasource.replica.urls}") List<String> urls,
+        @Value("${uom.datasource.replica.username:${spring.datasource.username:}}") String username,
+        @Value("${uom.datasource.replica.password:${spring.datasource.password:}}") String password,
+        @Value("${uom.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+        @Value("${uom.datasource.replica.connection-timeout:1s}") Duration connectionTimeout,
+        @Value("${uom.datasource.replica.ejection:30s}") Duration ejection,
+        @Value("${uom.datasource.replica.read-your-writes:5s}") Duration readYourWrites
+    ) {
+        Binder binder = Binder.get(environment);
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(primary));
+        primary.setPoolName("uom-primary");
+        primary.setMetricsTrackerFactory(metrics);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            HikariDataSource replica = new HikariDataSource();
+            binder.bind(HIKARI_PREFIX, Bindable.ofInstance(replica));
+            replica.setPoolName("uom-replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replica.setReadOnly(true);
+            // A replica that is down at startup is ejected instead of failing the boot
+            replica.setInitializationFailTimeout(-1);
+            replica.setMetricsTrackerFactory(metrics);
+            replicas.add(replica);
+        }
+        return new ReadReplicaRouter(primary, replicas, ejection, readYourWrites, meterRegistry);
+    }
+
+    @Bean
+    public DataSource dataSource(ReadReplicaRouter router) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(router.primaryDataSource());
+        dataSource.setReadOnlyDataSource(router.replicaDataSource());
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter() {
+        return new ReadYourWritesFilter();
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.elara.app.unit_of_measure_service.controller;
+
+import com.elara.app.unit_of_measure_service.dto.response.CatalogChangesResponse;
+import com.elara.app.unit_of_measure_service.service.interfaces.CatalogChangeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequiredArgsConstructor
+@Validated
+@Slf4j
+@Tag(
+    name = "Catalog Change Feed",
+    description = "Delta synchronization of Units of Measure and their statuses for consumers keeping a local replica."
+)
+public class CatalogChangeController {
+
+    private static final String ENTITY_NAME = "CatalogChange";
+    private static final String NOMENCLATURE = ENTITY_NAME + "-controller";
+    private static final int MAX_CHANGES = 1_000;
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+    private final CatalogChangeService service;
+
+    @GetMapping("changes")
+    @Operation(summary = "Get catalog changes since a sequence", description = """
+            Returns the units and statuses written after `since`, each with its current state, and the
+            `highWaterMark` to send as `since` on the next poll.
+            
+            **Replication:**
+            - Start with `since=0`, then keep polling with the returned `highWaterMark`
+            - Apply `CREATED`, `UPDATED` and `STATUS_CHANGED` entries as upserts of `uom` or `uomStatus`
+            - Remove the record on `DELETED` entries (tombstones, without a body)
+            - While `hasMore` is `true`, poll again at once
+            
+            Sequences are committed in increasing order, so no change is ever skipped. Each record appears at
+            most once per response, with its latest change. An idle poll returns an empty list and the same
+            high-water mark.""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Changes returned successfully",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/CatalogChangesResponse"),
+                examples = @ExampleObject(name = "Changes", ref = "#/components/examples/CatalogChanges"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Negative sequence or limit out of range",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Invalid Parameter", ref = "#/components/examples/ErrorBadRequest"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<CatalogChangesResponse> findChanges(
+        @Parameter(description = "High-water mark of the previous poll, 0 for a full sync", example = "0")
+        @RequestParam(defaultValue = "0") @PositiveOrZero long since,
+        @Parameter(description = "Maximum number of changes read per poll", example = "1000")
+        @RequestParam(defaultValue = "1000") @Min(1) @Max(MAX_CHANGES) int limit
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-findChanges";
+        log.info("[{}] Request to find {} records after sequence {}.", methodNomenclature, ENTITY_NAME, since);
+        CatalogChangesResponse response = service.findChanges(since, limit);
+        log.info("[{}] {} changes returned, high-water mark {}.", methodNomenclature, response.changes().size(), response.highWaterMark());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "watch", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Watch catalog changes", description = """
+            Opens a server-sent event stream pushing every write on units and statuses as soon as it commits.
+            
+            **Events:**
+            - `change` events carry `sequence`, `entityName`, `entityId` and `changeType`, without the record;
+              refetch it or evict it from a local cache
+            - The event `id` is the sequence, so a reconnecting `EventSource` resumes after the last change
+              received through `Last-Event-ID`; `since` does the same for the first connection
+            - Comments are sent as heartbeats while idle
+            
+            Changes are sent in sequence order, with none skipped. A client slower than the writes is sent the
+            changes it fell behind on from the change log at its own pace. Streams close after
+            `uom.watch.timeout`; reconnect with `Last-Event-ID`.""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Stream opened",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                schema = @Schema(ref = "#/components/schemas/CatalogChangeNotification"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Negative sequence",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Invalid Parameter", ref = "#/components/examples/ErrorBadRequest")))
+    })
+    public SseEmitter watch(
+        @Parameter(description = "Sequence of the last change received; set by EventSource on reconnect", example = "42")
+        @RequestHeader(value = LAST_EVENT_ID, required = false) @PositiveOrZero Long lastEventId,
+        @Parameter(description = "Sequence to start after on the first connection; omit to watch from now on", example = "42")
+        @RequestParam(required = false) @PositiveOrZero Long since
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-watch";
+        Long resumeAfter = lastEventId != null ? lastEventId : since;
+        log.info("[{}] Request to watch {} records after sequence {}.", methodNomenclature, ENTITY_NAME, resumeAfter);
+        return service.watch(resumeAfter);
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.elara.app.unit_of_measure_service.controller;
+
+import com.elara.app.unit_of_measure_service.dto.request.UomAliasRequest;
+import com.elara.app.unit_of_measure_service.dto.response.UomAliasResponse;
+import com.elara.app.unit_of_measure_service.service.interfaces.UomAliasService;
+import com.elara.app.unit_of_measure_service.utils.MessageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequiredArgsConstructor
+@Validated
+@Slf4j
+@Tag(
+    name = "Uom Alias Management",
+    description = "Symbols, UN/CEFACT codes and synonyms of Units of Measure, and bulk resolution of raw unit strings to UOM ids."
+)
+public class UomAliasController {
+
+    private static final String ENTITY_NAME = "UomAlias";
+    private static final String NOMENCLATURE = ENTITY_NAME + "-controller";
+    private static final int MAX_RESOLVE_SIZE = 10_000;
+    private final UomAliasService service;
+    private final MessageService messageService;
+
+    @PostMapping(value = "{uomId}/aliases", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Add an alias to a UOM", description = """
+            Registers another string the unit is known by, so `POST /resolve` maps it to the unit.
+            
+            **Validation Rules:**
+            - `alias`: Required, 1-50 characters, unique ignoring case across aliases and UOM names
+            - `kind`: Required, one of `SYMBOL`, `UNECE_CODE`, `SYNONYM`""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Created successfully - Returns the new alias",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/UomAliasResponse"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Validation failed",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Validation Error", ref = "#/components/examples/ErrorBadRequest"))),
+        @ApiResponse(responseCode = "404", description = "Not Found - UOM with given ID does not exist",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Not Found", ref = "#/components/examples/ErrorUomNotFound"))),
+        @ApiResponse(responseCode = "409", description = "Conflict - Alias already used by another alias or UOM name",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Alias Conflict", ref = "#/components/examples/ErrorConflict"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<UomAliasResponse> create(
+        @Parameter(description = "UOM ID", example = "1", required = true)
+        @PathVariable @NotNull @Positive Long uomId,
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            required = true,
+            description = "Payload for creating an alias",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/UomAliasRequest"),
+                examples = @ExampleObject(name = "Create Request", value = "{\"alias\":\"KGM\",\"kind\":\"UNECE_CODE\"}"))
+        )
+        @Valid @RequestBody UomAliasRequest request
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-create";
+        log.info("[{}] Request to create a new {} record.", methodNomenclature, ENTITY_NAME);
+        UomAliasResponse response = service.save(uomId, request);
+        String msg = messageService.getMessage("crud.save.success", ENTITY_NAME);
+        log.info("[{}] {}", methodNomenclature, msg);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping("{uomId}/aliases")
+    @Operation(summary = "Get the aliases of a UOM", description = "Retrieves every alias of a Unit of Measure, in creation order.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Retrieved successfully - Returns the aliases",
+            content = @Content(array = @ArraySchema(schema = @Schema(ref = "#/components/schemas/UomAliasResponse")))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Invalid ID",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Invalid ID", ref = "#/components/examples/ErrorBadRequest"))),
+        @ApiResponse(responseCode = "404", description = "Not Found - UOM with given ID does not exist",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Not Found", ref = "#/components/examples/ErrorUomNotFound"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<List<UomAliasResponse>> getAllByUomId(
+        @Parameter(description = "UOM ID", example = "1", required = true)
+        @PathVariable @NotNull @Positive Long uomId
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-getAllByUomId";
+        log.info("[{}] Request to retrieve the {} records of a unit.", methodNomenclature, ENTITY_NAME);
+        List<UomAliasResponse> response = service.findAllByUomId(uomId);
+        String msg = messageService.getMessage("crud.retrieve.success", ENTITY_NAME);
+        log.info("[{}] {}", methodNomenclature, msg);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "resolve", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Resolve raw unit strings", description = """
+            Maps each string to the id of the UOM it names or aliases, ignoring case and surrounding blanks, so an
+            import can resolve every line of a file in one call.
+            
+            The response keeps request order. Strings that match no name or alias are left out instead of failing
+            the request; repeated strings are returned once. Served from memory: a new alias resolves once the
+            write that created it has committed.
+            
+            **Validation Rules:**
+            - Body: 1 to 10000 strings""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Resolution completed - Returns the UOM id of every string resolved",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/UomResolveResponse"),
+                examples = @ExampleObject(name = "Success", value = "{\"kg\":1,\"KGM\":1,\"Kilogram\":1,\"g\":2}"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Empty or oversized list",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Validation Error", ref = "#/components/examples/ErrorBadRequest"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<Map<String, Long>> resolve(
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            required = true,
+            description = "Raw unit strings to resolve",
+            content = @Content(array = @ArraySchema(schema = @Schema(type = "string")),
+                examples = @ExampleObject(name = "Resolve Request", value = "[\"kg\",\"KGM\",\"Kilogram\",\"g\",\"bushel\"]"))
+        )
+        @RequestBody @NotEmpty @Size(max = MAX_RESOLVE_SIZE) List<@NotNull String> tokens
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-resolve";
+        log.info("[{}] Request to resolve {} strings.", methodNomenclature, tokens.size());
+        Map<String, Long> response = service.resolve(tokens);
+        log.info("[{}] {} strings resolved.", methodNomenclature, response.size());
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("aliases/{id}")
+    @Operation(summary = "Delete UOM alias", description = "Permanently deletes an alias; the string stops resolving once the write has committed.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "204", description = "Deleted successfully - No content returned"),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Invalid ID",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Invalid ID", ref = "#/components/examples/ErrorBadRequest"))),
+        @ApiResponse(responseCode = "404", description = "Not Found - Alias with given ID does not exist",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Not Found", ref = "#/components/examples/ErrorNotFound"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<Void> delete(
+        @Parameter(description = "Alias ID", example = "1", required = true)
+        @PathVariable @NotNull @Positive Long id
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-delete";
+        log.info("[{}] Request to delete a {} record.", methodNomenclature, ENTITY_NAME);
+        service.deleteById(id);
+        String msg = messageService.getMessage("crud.delete.success", ENTITY_NAME);
+        log.info("[{}] {}", methodNomenclature, msg);
+        return ResponseEntity.noContent().build();
+    }
+
+}
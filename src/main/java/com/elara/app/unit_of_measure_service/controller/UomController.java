@@ -1,12 +1,25 @@
 package com.elara.app.unit_of_measure_service.controller;
 
+import com.elara.app.unit_of_measure_service.dto.request.ConversionRequest;
 import com.elara.app.unit_of_measure_service.dto.request.UomRequest;
+import com.elara.app.unit_of_measure_service.dto.response.BatchConversionResponse;
+import com.elara.app.unit_of_measure_service.dto.response.ConversionResponse;
+import com.elara.app.unit_of_measure_service.dto.response.CursorPageResponse;
+import com.elara.app.unit_of_measure_service.dto.response.NameSuggestion;
+import com.elara.app.unit_of_measure_service.dto.response.QuantityParseResponse;
+import com.elara.app.unit_of_measure_service.dto.response.SliceResponse;
 import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.dto.update.UomBulkUpdate;
 import com.elara.app.unit_of_measure_service.dto.update.UomUpdate;
+import com.elara.app.unit_of_measure_service.export.ExportFormat;
+import com.elara.app.unit_of_measure_service.export.UomExportWriter;
 import com.elara.app.unit_of_measure_service.service.interfaces.UomService;
+import com.elara.app.unit_of_measure_service.utils.EntityTags;
 import com.elara.app.unit_of_measure_service.utils.MessageService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,19 +27,30 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -42,8 +66,17 @@ public class UomController {
 
     private static final String ENTITY_NAME = "Uom";
     private static final String NOMENCLATURE = ENTITY_NAME + "-controller";
+    private static final int MAX_BATCH_SIZE = 100_000;
+    /**
+     * Keeps the {@code IN} lists of a bulk write well under the 65535 bind parameters PostgreSQL accepts per statement.
+     */
+    private static final int MAX_BULK_SIZE = 10_000;
+    private static final int MAX_CURSOR_PAGE_SIZE = 1_000;
+    private static final int MAX_LOOKUP_SIZE = 1_000;
+    private static final int MAX_SUGGESTIONS = 50;
     private final UomService service;
     private final MessageService messageService;
+    private final ObjectMapper objectMapper;
 
     // ========================================
     // CREATE OPERATIONS
@@ -56,8 +89,10 @@ public class UomController {
             **Validation Rules:**
             - `name`: Required, 1-50 characters, must be unique
             - `description`: Optional, max 200 characters
-            - `conversionFactorToBase`: Required, positive number
-            - `uomStatusId`: Required, positive ID of an existing UOM status""")
+            - `conversionFactorToBase`: Required, positive number with up to 9 integer and 9 fraction digits
+            - `uomStatusId`: Required, positive ID of an existing UOM status
+            - `roundingScale`: Optional, 0-18 decimals conversions into this unit are rounded to
+            - `roundingMode`: Optional, rounding applied with `roundingScale` (defaults to `HALF_EVEN`)""")
     @ApiResponses({
         @ApiResponse(responseCode = "201", description = "Created successfully - Returns the newly created unit",
             content = @Content(schema = @Schema(ref = "#/components/schemas/UomResponse"),
@@ -81,7 +116,7 @@ public class UomController {
             description = "Payload for creating a UOM",
             content = @Content(schema = @Schema(ref = "#/components/schemas/UomRequest"),
                 examples = @ExampleObject(name = "Create Request",
-                    value = "{\"name\":\"Kilogram\",\"description\":\"Base unit of mass in SI\",\"conversionFactorToBase\":1.000,\"uomStatusId\":1}"))
+                    value = "{\"name\":\"Kilogram\",\"description\":\"Base unit of mass in SI\",\"conversionFactorToBase\":1.000,\"uomStatusId\":1,\"roundingScale\":3,\"roundingMode\":\"HALF_EVEN\"}"))
         )
         @Valid @RequestBody UomRequest request
     ) {
@@ -93,16 +128,67 @@ public class UomController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(value = "bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create UOMs in bulk", description = """
+            Creates every Unit of Measure of the request body in one transaction: either all of them are created or none.
+            
+            Name uniqueness and the referenced statuses are checked with one query each for the whole batch, and the
+            rows are inserted as JDBC batches, so large loads cost a few round trips instead of three per unit.
+            
+            **Validation Rules:**
+            - Body: 1 to 10000 units, each following the rules of `POST /`
+            - Names must be unique within the batch and in the catalog, ignoring case""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Created successfully - Returns the created units, in request order",
+            content = @Content(array = @ArraySchema(schema = @Schema(ref = "#/components/schemas/UomResponse")),
+                examples = @ExampleObject(name = "Success",
+                    value = "[{\"id\":1,\"name\":\"Kilogram\",\"description\":\"Base unit of mass in SI\",\"conversionFactorToBase\":1.000,\"uomStatusId\":1,\"factorNumerator\":1,\"factorDenominator\":1,\"roundingScale\":null,\"roundingMode\":null,\"version\":0},{\"id\":2,\"name\":\"Gram\",\"description\":\"One thousandth of a kilogram\",\"conversionFactorToBase\":0.001,\"uomStatusId\":1,\"factorNumerator\":1,\"factorDenominator\":1000,\"roundingScale\":null,\"roundingMode\":null,\"version\":0}]"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Empty, oversized or invalid batch",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Validation Error", ref = "#/components/examples/ErrorBadRequestUom"))),
+        @ApiResponse(responseCode = "404", description = "Not Found - A referenced UOM status does not exist",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Status Not Found", ref = "#/components/examples/ErrorUomStatusNotFound"))),
+        @ApiResponse(responseCode = "409", description = "Conflict - A name is repeated in the batch or already exists",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Name Conflict", ref = "#/components/examples/ErrorUomConflict"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<List<UomResponse>> createAll(
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            required = true,
+            description = "Units to create",
+            content = @Content(array = @ArraySchema(schema = @Schema(ref = "#/components/schemas/UomRequest")),
+                examples = @ExampleObject(name = "Bulk Create Request",
+                    value = "[{\"name\":\"Kilogram\",\"description\":\"Base unit of mass in SI\",\"conversionFactorToBase\":1.000,\"uomStatusId\":1},{\"name\":\"Gram\",\"description\":\"One thousandth of a kilogram\",\"conversionFactorToBase\":0.001,\"uomStatusId\":1}]"))
+        )
+        @RequestBody @NotEmpty @Size(max = MAX_BULK_SIZE) List<@Valid UomRequest> requests
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-createAll";
+        log.info("[{}] Request to create {} {} records.", methodNomenclature, requests.size(), ENTITY_NAME);
+        List<UomResponse> response = service.saveAll(requests);
+        String msg = messageService.getMessage("crud.save.success", ENTITY_NAME);
+        log.info("[{}] {}", methodNomenclature, msg);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     // ========================================
     // READ OPERATIONS
     // ========================================
 
     @GetMapping("{id}")
-    @Operation(summary = "Get UOM by ID", description = "Retrieves a specific Unit of Measure by its unique identifier.")
+    @Operation(summary = "Get UOM by ID", description = """
+            Retrieves a specific Unit of Measure by its unique identifier.
+            
+            The response carries a strong `ETag` built from the id and `version` of the unit. Sending it back in
+            `If-None-Match` returns `304 Not Modified` without a body while the unit is unchanged.""")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Found successfully",
             content = @Content(schema = @Schema(ref = "#/components/schemas/UomResponse"),
                 examples = @ExampleObject(name = "Success", ref = "#/components/examples/UomCreated"))),
+        @ApiResponse(responseCode = "304", description = "Not Modified - The unit still has the ETag sent in If-None-Match"),
         @ApiResponse(responseCode = "400", description = "Bad Request - Invalid ID",
             content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
                 examples = @ExampleObject(name = "Invalid ID", ref = "#/components/examples/ErrorBadRequestUom"))),
@@ -122,11 +208,82 @@ public class UomController {
         UomResponse response = service.findById(id);
         String msg = messageService.getMessage("crud.retrieve.success", ENTITY_NAME);
         log.info("[{}] {}", methodNomenclature, msg);
+        // Spring answers a matching If-None-Match with 304 and skips writing the body
+        return ResponseEntity.ok().eTag(EntityTags.of(response.id(), response.version())).body(response);
+    }
+
+    @GetMapping("batch")
+    @Operation(summary = "Get several UOMs by ID", description = """
+            Retrieves the Units of Measure with the given ids using a single database query.
+
+            The response maps each id found to its unit, in request order. Ids that do not exist are left out
+            instead of failing the request; repeated ids are returned once. Use `POST /lookup` for id lists too
+            long for a query string.
+
+            **Validation Rules:**
+            - `ids`: 1 to 1000 positive IDs""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Lookup completed - Returns the units found, keyed by id in request order",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/UomLookupResponse"),
+                examples = @ExampleObject(name = "Success",
+                    value = "{\"1\":{\"id\":1,\"name\":\"Kilogram\",\"description\":\"Base unit of mass in SI\",\"conversionFactorToBase\":1.000,\"uomStatusId\":1,\"factorNumerator\":1,\"factorDenominator\":1,\"roundingScale\":null,\"roundingMode\":null,\"version\":0},\"2\":{\"id\":2,\"name\":\"Gram\",\"description\":\"One thousandth of a kilogram\",\"conversionFactorToBase\":0.001,\"uomStatusId\":1,\"factorNumerator\":1,\"factorDenominator\":1000,\"roundingScale\":null,\"roundingMode\":null,\"version\":0}}"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Empty, oversized or invalid id list",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Validation Error", ref = "#/components/examples/ErrorBadRequestUom"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<Map<Long, UomResponse>> getAllByIds(
+        @Parameter(description = "UOM IDs, comma separated or repeated", example = "1,2", required = true)
+        @RequestParam @NotEmpty @Size(max = MAX_LOOKUP_SIZE) List<@NotNull @Positive Long> ids
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-getAllByIds";
+        log.info("[{}] Request to retrieve {} {} records by id.", methodNomenclature, ids.size(), ENTITY_NAME);
+        Map<Long, UomResponse> response = service.findAllByIds(ids);
+        String msg = messageService.getMessage("crud.retrieve.success", ENTITY_NAME);
+        log.info("[{}] {}", methodNomenclature, msg);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "lookup", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Look up several UOMs by ID", description = """
+            Same as `GET /batch`, with the ids sent as a JSON array in the request body.
+
+            **Validation Rules:**
+            - Body: 1 to 1000 positive IDs""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Lookup completed - Returns the units found, keyed by id in request order",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/UomLookupResponse"),
+                examples = @ExampleObject(name = "Success",
+                    value = "{\"1\":{\"id\":1,\"name\":\"Kilogram\",\"description\":\"Base unit of mass in SI\",\"conversionFactorToBase\":1.000,\"uomStatusId\":1,\"factorNumerator\":1,\"factorDenominator\":1,\"roundingScale\":null,\"roundingMode\":null,\"version\":0},\"2\":{\"id\":2,\"name\":\"Gram\",\"description\":\"One thousandth of a kilogram\",\"conversionFactorToBase\":0.001,\"uomStatusId\":1,\"factorNumerator\":1,\"factorDenominator\":1000,\"roundingScale\":null,\"roundingMode\":null,\"version\":0}}"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Empty, oversized or invalid id list",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Validation Error", ref = "#/components/examples/ErrorBadRequestUom"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<Map<Long, UomResponse>> lookup(
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            required = true,
+            description = "IDs of the units to retrieve",
+            content = @Content(array = @ArraySchema(schema = @Schema(type = "integer", format = "int64")),
+                examples = @ExampleObject(name = "Lookup Request", value = "[1,2,99]"))
+        )
+        @RequestBody @NotEmpty @Size(max = MAX_LOOKUP_SIZE) List<@NotNull @Positive Long> ids
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-lookup";
+        log.info("[{}] Request to look up {} {} records by id.", methodNomenclature, ids.size(), ENTITY_NAME);
+        Map<Long, UomResponse> response = service.findAllByIds(ids);
+        String msg = messageService.getMessage("crud.retrieve.success", ENTITY_NAME);
+        log.info("[{}] {}", methodNomenclature, msg);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping
-    @Operation(summary = "Get all UOMs", description = "Retrieves all Units of Measure with pagination and sorting support.")
+    @Operation(summary = "Get all UOMs", description = "Retrieves all Units of Measure with pagination and sorting support. " +
+        "Every page runs a count query and skips `page * size` rows; send `cursor` instead for keyset paging.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Retrieved successfully - Returns paginated list",
             content = @Content(schema = @Schema(ref = "#/components/schemas/UomPageResponse"),
@@ -146,8 +303,41 @@ public class UomController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Get all UOMs (keyset)", description = """
+            Retrieves all Units of Measure one keyset page at a time.
+            
+            Pass an empty `cursor` for the first page and the returned `nextCursor` for the following ones. `sort`
+            (`id` or `name`, optionally `,desc`) only applies to the first page; the cursor keeps it afterwards.
+            No total count is computed.""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Retrieved successfully - Returns one keyset page",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/UomCursorPageResponse"),
+                examples = @ExampleObject(name = "Success", ref = "#/components/examples/UomCursorPage"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Invalid cursor, sort or size",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Invalid Cursor", ref = "#/components/examples/ErrorBadRequestUom"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<CursorPageResponse<UomResponse>> getAllByCursor(
+        @Parameter(description = "Cursor returned with the previous page, empty for the first page", example = "")
+        @RequestParam String cursor,
+        @Parameter(description = "Sort of the first page: id or name, optionally followed by ,desc", example = "name")
+        @RequestParam(required = false) String sort,
+        @Parameter(description = "Page size", example = "20")
+        @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_CURSOR_PAGE_SIZE) int size
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-getAllByCursor";
+        log.info("[{}] Request to retrieve a keyset page of {} records.", methodNomenclature, ENTITY_NAME);
+        CursorPageResponse<UomResponse> response = service.scrollAll(cursor, sort, size);
+        log.info("[{}] {} records retrieved.", methodNomenclature, ENTITY_NAME);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("search")
-    @Operation(summary = "Search UOMs by name", description = "Case-insensitive partial name search with pagination support.")
+    @Operation(summary = "Search UOMs by name", description = "Case-insensitive partial name search with pagination support. Add `mode=fuzzy` to tolerate typos.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Search completed successfully",
             content = @Content(schema = @Schema(ref = "#/components/schemas/UomPageResponse"),
@@ -172,6 +362,90 @@ public class UomController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "search", params = {"count=false", "!cursor", "mode!=fuzzy"})
+    @Operation(summary = "Search UOMs by name (no count)", description = "Case-insensitive partial name search that skips the `COUNT(*)` of the page: `hasNext` comes from reading one row past the page. Add `approximateTotal=true` for a total cached until the next write.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Search completed successfully",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/UomSliceResponse"),
+                examples = @ExampleObject(name = "Success", ref = "#/components/examples/UomSlice"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Name parameter cannot be blank",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Missing Name", ref = "#/components/examples/ErrorBadRequestUom"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<SliceResponse<UomResponse>> getByNameContainingWithoutCount(
+        @Parameter(description = "Search term", example = "gram", required = true)
+        @RequestParam @NotBlank String name,
+        @Parameter(description = "Whether to add the total of matching records, possibly a little stale", example = "false")
+        @RequestParam(defaultValue = "false") boolean approximateTotal,
+        @Parameter(description = "Pagination parameters")
+        @PageableDefault(size = 20) Pageable pageable
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-getByNameContainingWithoutCount";
+        log.info("[{}] Request to retrieve a slice of {} records with content in their name.", methodNomenclature, ENTITY_NAME);
+        SliceResponse<UomResponse> response = service.findSliceByName(name, pageable, approximateTotal);
+        log.info("[{}] {} records retrieved.", methodNomenclature, ENTITY_NAME);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "search", params = {"mode=fuzzy", "!cursor"})
+    @Operation(summary = "Search UOMs by name, tolerating typos", description = "Ranks exact names first, then names starting with the term, names containing it, and names within one edit (terms of 3 to 5 chars) or two edits (longer terms) of it, fewest edits first; an edit inserts, deletes, replaces or swaps chars. Ties keep id order and the `sort` parameter is ignored. Served by the catalog snapshot's name indexes; without the snapshot it returns the plain substring search.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Search completed successfully",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/UomPageResponse"),
+                examples = @ExampleObject(name = "Success", ref = "#/components/examples/UomPage"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Name parameter cannot be blank",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Missing Name", ref = "#/components/examples/ErrorBadRequestUom"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<Page<UomResponse>> getByNameFuzzy(
+        @Parameter(description = "Search term, possibly misspelled", example = "kilogarm", required = true)
+        @RequestParam @NotBlank String name,
+        @Parameter(description = "Pagination parameters; sort is ignored")
+        @PageableDefault(size = 20) Pageable pageable
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-getByNameFuzzy";
+        log.info("[{}] Request to retrieve {} records with a name close to the term.", methodNomenclature, ENTITY_NAME);
+        Page<UomResponse> response = service.findAllByNameFuzzy(name, pageable);
+        log.info("[{}] {} records retrieved.", methodNomenclature, ENTITY_NAME);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "search", params = "cursor")
+    @Operation(summary = "Search UOMs by name (keyset)", description = "Case-insensitive partial name search, one keyset page at a time. See `GET /?cursor=`.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Search completed successfully",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/UomCursorPageResponse"),
+                examples = @ExampleObject(name = "Success", ref = "#/components/examples/UomCursorPage"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Blank name, or invalid cursor, sort or size",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Invalid Parameter", ref = "#/components/examples/ErrorBadRequestUom"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<CursorPageResponse<UomResponse>> getByNameContainingByCursor(
+        @Parameter(description = "Search term", example = "gram", required = true)
+        @RequestParam @NotBlank String name,
+        @Parameter(description = "Cursor returned with the previous page, empty for the first page", example = "")
+        @RequestParam String cursor,
+        @Parameter(description = "Sort of the first page: id or name, optionally followed by ,desc", example = "name")
+        @RequestParam(required = false) String sort,
+        @Parameter(description = "Page size", example = "20")
+        @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_CURSOR_PAGE_SIZE) int size
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-getByNameContainingByCursor";
+        log.info("[{}] Request to retrieve a keyset page of {} records with content in their name.", methodNomenclature, ENTITY_NAME);
+        CursorPageResponse<UomResponse> response = service.scrollAllByName(name, cursor, sort, size);
+        log.info("[{}] {} records retrieved.", methodNomenclature, ENTITY_NAME);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("filter/status/{uomStatusId}")
     @Operation(summary = "Filter UOMs by status ID", description = "Filters Units of Measure by `uomStatusId` with pagination and sorting support.")
     @ApiResponses({
@@ -198,6 +472,64 @@ public class UomController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "filter/status/{uomStatusId}", params = {"count=false", "!cursor"})
+    @Operation(summary = "Filter UOMs by status ID (no count)", description = "Filters Units of Measure by `uomStatusId` without the `COUNT(*)` of the page. See `GET /search?count=false`.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Filtering completed successfully",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/UomSliceResponse"),
+                examples = @ExampleObject(name = "Success", ref = "#/components/examples/UomSlice"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Invalid status ID",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Invalid Parameter", ref = "#/components/examples/ErrorBadRequestUom"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<SliceResponse<UomResponse>> filterByStateIdWithoutCount(
+        @Parameter(description = "Status ID to filter by", example = "1", required = true)
+        @PathVariable @NotNull @Positive Long uomStatusId,
+        @Parameter(description = "Whether to add the total of matching records, possibly a little stale", example = "false")
+        @RequestParam(defaultValue = "false") boolean approximateTotal,
+        @Parameter(description = "Pagination parameters")
+        @PageableDefault(size = 20) Pageable pageable
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-filterByStateIdWithoutCount";
+        log.info("[{}] Request to filter a slice of {} records by status id.", methodNomenclature, ENTITY_NAME);
+        SliceResponse<UomResponse> response = service.findSliceByUomStatusId(uomStatusId, pageable, approximateTotal);
+        log.info("[{}] {} records filtered.", methodNomenclature, ENTITY_NAME);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "filter/status/{uomStatusId}", params = "cursor")
+    @Operation(summary = "Filter UOMs by status ID (keyset)", description = "Filters Units of Measure by `uomStatusId`, one keyset page at a time. See `GET /?cursor=`.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Filtering completed successfully",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/UomCursorPageResponse"),
+                examples = @ExampleObject(name = "Success", ref = "#/components/examples/UomCursorPage"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Invalid status ID, cursor, sort or size",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Invalid Parameter", ref = "#/components/examples/ErrorBadRequestUom"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<CursorPageResponse<UomResponse>> filterByStateIdByCursor(
+        @Parameter(description = "Status ID to filter by", example = "1", required = true)
+        @PathVariable @NotNull @Positive Long uomStatusId,
+        @Parameter(description = "Cursor returned with the previous page, empty for the first page", example = "")
+        @RequestParam String cursor,
+        @Parameter(description = "Sort of the first page: id or name, optionally followed by ,desc", example = "name")
+        @RequestParam(required = false) String sort,
+        @Parameter(description = "Page size", example = "20")
+        @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_CURSOR_PAGE_SIZE) int size
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-filterByStateIdByCursor";
+        log.info("[{}] Request to filter a keyset page of {} records by status id.", methodNomenclature, ENTITY_NAME);
+        CursorPageResponse<UomResponse> response = service.scrollAllByUomStatusId(uomStatusId, cursor, sort, size);
+        log.info("[{}] {} records filtered.", methodNomenclature, ENTITY_NAME);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("check-name")
     @Operation(summary = "Check UOM name availability", description = "Returns whether a UOM name is already taken. `true` means taken, `false` means available.")
     @ApiResponses({
@@ -224,6 +556,243 @@ public class UomController {
         return ResponseEntity.ok(isTaken);
     }
 
+    @GetMapping("autocomplete")
+    @Operation(summary = "Suggest UOM names", description = "Returns the UOMs whose name starts with the prefix, ignoring case, most used first. Served from memory; new names appear once the index has been rebuilt after the write.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Suggestions returned successfully",
+            content = @Content(array = @ArraySchema(schema = @Schema(ref = "#/components/schemas/NameSuggestion")))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Blank prefix or limit out of range",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Invalid Parameter", ref = "#/components/examples/ErrorBadRequestUom"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<List<NameSuggestion>> autocomplete(
+        @Parameter(description = "Start of the name, ignoring case", example = "kilo", required = true)
+        @RequestParam @NotBlank String prefix,
+        @Parameter(description = "Maximum number of suggestions", example = "10")
+        @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_SUGGESTIONS) int limit
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-autocomplete";
+        log.info("[{}] Request to suggest {} names.", methodNomenclature, ENTITY_NAME);
+        List<NameSuggestion> response = service.autocomplete(prefix, limit);
+        log.info("[{}] {} names suggested.", methodNomenclature, response.size());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "export", produces = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @Operation(summary = "Export the UOM catalog", description = """
+            Streams every Unit of Measure, optionally only those with a given status, in id order.
+            
+            **Formats:**
+            - `NDJSON` (default): one `UomResponse` JSON object per line
+            - `CSV`: RFC 4180 with a header line
+            
+            Rows are written as they are read, so the whole catalog is exported in one request with flat memory
+            on both sides, instead of walking paginated listings.""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Export streamed successfully",
+            content = {
+                @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, examples = @ExampleObject(name = "NDJSON",
+                    value = "{\"id\":1,\"name\":\"Kilogram\",\"description\":\"Base unit of mass in SI\",\"conversionFactorToBase\":1.000,\"uomStatusId\":1,\"factorNumerator\":1,\"factorDenominator\":1,\"roundingScale\":null,\"roundingMode\":null,\"version\":0}\n")),
+                @Content(mediaType = "text/csv", examples = @ExampleObject(name = "CSV",
+                    value = "id,name,description,conversionFactorToBase,uomStatusId,factorNumerator,factorDenominator,roundingScale,roundingMode,version\n1,Kilogram,Base unit of mass in SI,1.000,1,1,1,,,0\n"))
+            }),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Unknown format or invalid status ID",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Invalid Parameter", ref = "#/components/examples/ErrorBadRequestUom"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<StreamingResponseBody> export(
+        @Parameter(description = "Output format: NDJSON or CSV", example = "NDJSON")
+        @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+        @Parameter(description = "Only export units with this status ID", example = "1")
+        @RequestParam(required = false) @Positive Long uomStatusId
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-export";
+        log.info("[{}] Request to export {} records as {}.", methodNomenclature, ENTITY_NAME, format);
+        StreamingResponseBody body = out -> {
+            UomExportWriter writer = new UomExportWriter(format, out, objectMapper);
+            long exported = service.export(uomStatusId, writer);
+            writer.flush();
+            log.info("[{}] {} {} records exported.", methodNomenclature, exported, ENTITY_NAME);
+        };
+        ContentDisposition disposition = ContentDisposition.attachment()
+            .filename("uom-catalog." + format.getFileExtension())
+            .build();
+        return ResponseEntity.ok()
+            .contentType(format.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+            .body(body);
+    }
+
+    // ========================================
+    // CONVERSION OPERATIONS
+    // ========================================
+
+    @GetMapping("convert")
+    @Operation(summary = "Convert a quantity between UOMs", description = """
+            Converts `quantity` expressed in the `from` unit into the `to` unit using each unit's `conversionFactorToBase`
+            (`quantity * from.factor / to.factor`).
+
+            Factors are resolved from the in-memory catalog, so a conversion does not query the database.
+            Both units must exist and have a usable status. The result is exact, rounded to the target unit's
+            `roundingScale` and `roundingMode` when it has one.""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Converted successfully",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ConversionResponse"),
+                examples = @ExampleObject(name = "Success", ref = "#/components/examples/UomConversion"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Invalid parameters or unit status not usable",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Invalid Parameter", ref = "#/components/examples/ErrorBadRequestUom"))),
+        @ApiResponse(responseCode = "404", description = "Not Found - One of the units does not exist",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Not Found", ref = "#/components/examples/ErrorUomNotFound"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<ConversionResponse> convert(
+        @Parameter(description = "Source UOM ID", example = "1", required = true)
+        @RequestParam("from") @NotNull @Positive Long fromUomId,
+        @Parameter(description = "Target UOM ID", example = "2", required = true)
+        @RequestParam("to") @NotNull @Positive Long toUomId,
+        @Parameter(description = "Quantity expressed in the source unit", example = "2.5", required = true)
+        @RequestParam @NotNull BigDecimal quantity
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-convert";
+        log.info("[{}] Request to convert a quantity between {} records.", methodNomenclature, ENTITY_NAME);
+        ConversionResponse response = service.convert(fromUomId, toUomId, quantity);
+        log.info("[{}] Conversion completed.", methodNomenclature);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "convert/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Convert a batch of quantities between UOMs", description = """
+            Converts every line of the request body, in order, with the same rule as `GET /convert`.
+
+            All lines are resolved against a single factor table and large batches are converted in parallel.
+            Lines referencing an unknown unit or a unit whose status is not usable are returned with `errorCode`,
+            `errorValue` and `errorMessage` instead of `result`; they do not fail the batch.
+
+            **Validation Rules:**
+            - Body: 1 to 100000 lines
+            - `fromUomId`, `toUomId`: Required, positive IDs
+            - `quantity`: Required""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Batch processed - Returns one result per line, in request order",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/BatchConversionResponse"),
+                examples = @ExampleObject(name = "Success", ref = "#/components/examples/UomConversionBatch"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Empty, oversized or malformed batch",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Validation Error", ref = "#/components/examples/ErrorBadRequestUom"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<BatchConversionResponse> convertBatch(
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "Lines to convert",
+            required = true,
+            content = @Content(array = @ArraySchema(schema = @Schema(ref = "#/components/schemas/ConversionRequest")))
+        )
+        @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@Valid ConversionRequest> requests
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-convertBatch";
+        log.info("[{}] Request to convert a batch of {} quantities between {} records.", methodNomenclature, requests.size(), ENTITY_NAME);
+        BatchConversionResponse response = service.convertBatch(requests);
+        log.info("[{}] Batch conversion completed with {} failed lines.", methodNomenclature, response.failed());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "convert/binary", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+        produces = {MediaType.APPLICATION_OCTET_STREAM_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Convert a binary array of quantities between UOMs", description = """
+            Columnar variant of `POST /convert/batch` for analytics workloads.
+
+            The body is a raw array of IEEE 754 doubles in little-endian byte order, all expressed in the `from` unit.
+            The response body is an array of the same length, in the same layout, with every value expressed in the
+            `to` unit. Values are converted with double precision; use the JSON endpoints when exact decimal results
+            are required.
+
+            Errors are returned as JSON, so clients should accept both `application/octet-stream` and
+            `application/json`.""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Converted successfully - Returns the converted doubles",
+            content = @Content(mediaType = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+                schema = @Schema(type = "string", format = "binary"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Invalid parameters, payload length not a multiple of 8 or unit status not usable",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Invalid Parameter", ref = "#/components/examples/ErrorBadRequestUom"))),
+        @ApiResponse(responseCode = "404", description = "Not Found - One of the units does not exist",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Not Found", ref = "#/components/examples/ErrorUomNotFound"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<byte[]> convertBinary(
+        @Parameter(description = "Source UOM ID", example = "1", required = true)
+        @RequestParam("from") @NotNull @Positive Long fromUomId,
+        @Parameter(description = "Target UOM ID", example = "2", required = true)
+        @RequestParam("to") @NotNull @Positive Long toUomId,
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "Little-endian doubles expressed in the source unit",
+            required = true,
+            content = @Content(mediaType = MediaType.APPLICATION_OCTET_STREAM_VALUE, schema = @Schema(type = "string", format = "binary"))
+        )
+        @RequestBody byte[] quantities
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-convertBinary";
+        log.info("[{}] Request to convert a binary array of quantities between {} records.", methodNomenclature, ENTITY_NAME);
+        byte[] response = service.convertBinary(fromUomId, toUomId, quantities);
+        log.info("[{}] Binary conversion completed.", methodNomenclature);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_OCTET_STREAM).body(response);
+    }
+
+    @PostMapping(value = "parse", consumes = MediaType.TEXT_PLAIN_VALUE)
+    @Operation(summary = "Parse quantity strings into base-unit quantities", description = """
+            Parses one quantity per line, such as `1,250.5 KG` or `12kg`, resolves the unit by name or alias
+            ignoring case (see `POST /resolve`) and converts the quantity into the base unit with its
+            `conversionFactorToBase`, so a CSV ingest can send its quantity column as is.
+            
+            Numbers use `.` as decimal separator and optional `,` thousands separators grouping digits by three.
+            Results keep line order, with 1-based line numbers; blank lines are skipped. Lines that cannot be
+            parsed, or whose unit is unknown or not usable, are reported on their own and do not fail the request.
+            
+            **Validation Rules:**
+            - Body: up to 100000 non-blank lines""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Parse completed - Returns one result per non-blank line",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/QuantityParseResponse"),
+                examples = @ExampleObject(name = "Success",
+                    value = "{\"total\":2,\"parsed\":1,\"failed\":1,\"results\":[{\"line\":1,\"input\":\"1,250.5 g\",\"quantity\":1250.5,\"uomId\":2,\"baseQuantity\":1.2505,\"errorCode\":null,\"errorValue\":null,\"errorMessage\":null},{\"line\":2,\"input\":\"3 bushel\",\"quantity\":3,\"uomId\":null,\"baseQuantity\":null,\"errorCode\":1004,\"errorValue\":\"RESOURCE_NOT_FOUND\",\"errorMessage\":\"Unit \\\"bushel\\\" is not the name or alias of any unit of measure.\"}]}"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - More than 100000 non-blank lines",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Validation Error", ref = "#/components/examples/ErrorBadRequestUom"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<QuantityParseResponse> parse(
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            required = true,
+            description = "Quantities, one per line",
+            content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(type = "string"),
+                examples = @ExampleObject(name = "Parse Request", value = "1,250.5 g\n3 bushel"))
+        )
+        @RequestBody String text
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-parse";
+        log.info("[{}] Request to parse {} chars of quantities.", methodNomenclature, text.length());
+        QuantityParseResponse response = service.parseQuantities(text);
+        log.info("[{}] Parse completed with {} failed lines.", methodNomenclature, response.failed());
+        return ResponseEntity.ok(response);
+    }
+
     // ========================================
     // UPDATE OPERATIONS
     // ========================================
@@ -232,6 +801,9 @@ public class UomController {
     @Operation(summary = "Update UOM", description = """
             Updates an existing Unit of Measure.
             
+            Send the `ETag` of the last read in `If-Match` to update only if nobody changed the unit since;
+            otherwise the update fails with `412 Precondition Failed`. The response carries the new `ETag`.
+            
             **Important:** `uomStatusId` is not updatable in this endpoint. Use `PATCH /{id}/change-state` to change status.""")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Updated successfully - Returns updated unit",
@@ -243,9 +815,12 @@ public class UomController {
         @ApiResponse(responseCode = "404", description = "Not Found - UOM with given ID does not exist",
             content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
                 examples = @ExampleObject(name = "Not Found", ref = "#/components/examples/ErrorUomNotFound"))),
-        @ApiResponse(responseCode = "409", description = "Conflict - New name already exists",
+        @ApiResponse(responseCode = "409", description = "Conflict - New name already exists, or the unit was updated concurrently",
             content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
                 examples = @ExampleObject(name = "Name Conflict", ref = "#/components/examples/ErrorUomConflict"))),
+        @ApiResponse(responseCode = "412", description = "Precondition Failed - The unit no longer has the ETag sent in If-Match",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Precondition Failed", ref = "#/components/examples/ErrorPreconditionFailed"))),
         @ApiResponse(responseCode = "500", description = "Internal Server Error",
             content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
                 examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
@@ -253,6 +828,8 @@ public class UomController {
     public ResponseEntity<UomResponse> update(
         @Parameter(description = "UOM ID", example = "1", required = true)
         @PathVariable Long id,
+        @Parameter(description = "ETag of the version the update is based on; omit to update unconditionally", example = "\"1-0\"")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @io.swagger.v3.oas.annotations.parameters.RequestBody(
             required = true,
             description = "Payload for updating UOM core data",
@@ -264,7 +841,54 @@ public class UomController {
     ) {
         final String methodNomenclature = NOMENCLATURE + "-update";
         log.info("[{}] Request to update {} record.", methodNomenclature, ENTITY_NAME);
-        UomResponse response = service.update(id, update);
+        UomResponse response = service.update(id, update, ifMatch);
+        String msg = messageService.getMessage("crud.update.success", ENTITY_NAME);
+        log.info("[{}] {}", methodNomenclature, msg);
+        return ResponseEntity.ok().eTag(EntityTags.of(response.id(), response.version())).body(response);
+    }
+
+    @PutMapping(value = "bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Update UOMs in bulk", description = """
+            Updates every Unit of Measure of the request body in one transaction: either all of them are updated or none.
+            
+            The units are loaded with one query and the new names checked with another; the changes are written as
+            JDBC batches. As in `PUT /{id}`, `uomStatusId` is not updatable here.
+            
+            **Validation Rules:**
+            - Body: 1 to 10000 lines, each with the `id` of an existing unit and the fields of `PUT /{id}`
+            - An `id` may appear only once per batch
+            - Names must be unique within the batch and must not belong to any other unit, ignoring case""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Updated successfully - Returns the updated units, in request order",
+            content = @Content(array = @ArraySchema(schema = @Schema(ref = "#/components/schemas/UomResponse")),
+                examples = @ExampleObject(name = "Success",
+                    value = "[{\"id\":2,\"name\":\"Gram\",\"description\":\"Derived mass unit equal to one thousandth of a kilogram\",\"conversionFactorToBase\":0.001,\"uomStatusId\":1,\"factorNumerator\":1,\"factorDenominator\":1000,\"roundingScale\":3,\"roundingMode\":\"HALF_EVEN\",\"version\":1}]"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Empty, oversized or invalid batch, or repeated id",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Validation Error", ref = "#/components/examples/ErrorBadRequestUom"))),
+        @ApiResponse(responseCode = "404", description = "Not Found - A UOM with a given ID does not exist",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Not Found", ref = "#/components/examples/ErrorUomNotFound"))),
+        @ApiResponse(responseCode = "409", description = "Conflict - A name is repeated in the batch or held by another unit",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Name Conflict", ref = "#/components/examples/ErrorUomConflict"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<List<UomResponse>> updateAll(
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            required = true,
+            description = "Units to update",
+            content = @Content(array = @ArraySchema(schema = @Schema(ref = "#/components/schemas/UomBulkUpdate")),
+                examples = @ExampleObject(name = "Bulk Update Request",
+                    value = "[{\"id\":2,\"name\":\"Gram\",\"description\":\"Derived mass unit equal to one thousandth of a kilogram\",\"conversionFactorToBase\":0.001,\"roundingScale\":3,\"roundingMode\":\"HALF_EVEN\"}]"))
+        )
+        @RequestBody @NotEmpty @Size(max = MAX_BULK_SIZE) List<@Valid UomBulkUpdate> updates
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-updateAll";
+        log.info("[{}] Request to update {} {} records.", methodNomenclature, updates.size(), ENTITY_NAME);
+        List<UomResponse> response = service.updateAll(updates);
         String msg = messageService.getMessage("crud.update.success", ENTITY_NAME);
         log.info("[{}] {}", methodNomenclature, msg);
         return ResponseEntity.ok(response);
@@ -330,4 +954,43 @@ public class UomController {
         return ResponseEntity.noContent().build();
     }
 
+    @DeleteMapping(value = "bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Delete UOMs in bulk", description = """
+            Permanently deletes every listed Unit of Measure with a single statement: either all of them are deleted
+            or none. Repeated IDs are ignored.
+            
+            **Validation Rules:**
+            - Body: array of 1 to 10000 positive IDs of existing units""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "204", description = "Deleted successfully - No content returned"),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Empty, oversized or invalid ID list",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Invalid ID", ref = "#/components/examples/ErrorBadRequestUom"))),
+        @ApiResponse(responseCode = "404", description = "Not Found - A UOM with a given ID does not exist",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Not Found", ref = "#/components/examples/ErrorUomNotFound"))),
+        @ApiResponse(responseCode = "409", description = "Conflict - Cannot delete due to integrity constraints",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Has Dependencies", ref = "#/components/examples/ErrorDeleteConflict"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<Void> deleteAll(
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            required = true,
+            description = "IDs of the units to delete",
+            content = @Content(array = @ArraySchema(schema = @Schema(type = "integer", format = "int64")),
+                examples = @ExampleObject(name = "Bulk Delete Request", value = "[1, 2, 3]"))
+        )
+        @RequestBody @NotEmpty @Size(max = MAX_BULK_SIZE) List<@NotNull @Positive Long> ids
+    ) {
+        final String methodNomenclature = NOMENCLATURE + "-deleteAll";
+        log.info("[{}] Request to delete {} {} records.", methodNomenclature, ids.size(), ENTITY_NAME);
+        service.deleteAllById(ids);
+        String msg = messageService.getMessage("crud.delete.success", ENTITY_NAME);
+        log.info("[{}] {}", methodNomenclature, msg);
+        return ResponseEntity.noContent().build();
+    }
+
 }
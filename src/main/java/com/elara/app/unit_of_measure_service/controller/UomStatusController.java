@@ -1,12 +1,17 @@
 package com.elara.app.unit_of_measure_service.controller;
 
 import com.elara.app.unit_of_measure_service.dto.request.UomStatusRequest;
+import com.elara.app.unit_of_measure_service.dto.response.CursorPageResponse;
+import com.elara.app.unit_of_measure_service.dto.response.NameSuggestion;
+import com.elara.app.unit_of_measure_service.dto.response.SliceResponse;
 import com.elara.app.unit_of_measure_service.dto.response.UomStatusResponse;
 import com.elara.app.unit_of_measure_service.dto.update.UomStatusUpdate;
 import com.elara.app.unit_of_measure_service.service.interfaces.UomStatusService;
+import com.elara.app.unit_of_measure_service.utils.EntityTags;
 import com.elara.app.unit_of_measure_service.utils.MessageService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,6 +19,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -22,12 +29,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping(value = "status/", produces = MediaType.APPLICATION_JSON_VALUE)
 @RequiredArgsConstructor
@@ -43,6 +53,8 @@ public class UomStatusController {
 
     private static final String ENTITY_NAME = "UomStatus";
     private static final String NOMENCLATURE = ENTITY_NAME + "-controller";
+    private static final int MAX_CURSOR_PAGE_SIZE = 1_000;
+    private static final int MAX_SUGGESTIONS = 50;
     private final UomStatusService service;
     private final MessageService messageService;
 
@@ -97,12 +109,16 @@ public class UomStatusController {
         description = """
                 Retrieves a specific Unit of Measure Status record by its unique identifier.
                 
+                The response carries a strong `ETag` built from the id and `version` of the status. Sending it back in
+                `If-None-Match` returns `304 Not Modified` without a body while the status is unchanged.
+                
                 **Parameters:**
                 - `id`: Status identifier (positive integer)""")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Found successfully - Returns the status details",
             content = @Content(schema = @Schema(ref = "#/components/schemas/UomStatusResponse"),
                 examples = @ExampleObject(name = "Success", ref = "#/components/examples/UomStatusCreated"))),
+        @ApiResponse(responseCode = "304", description = "Not Modified - The status still has the ETag sent in If-None-Match"),
         @ApiResponse(responseCode = "400", description = "Bad Request - Invalid ID format or invalid parameters",
             content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
                 examples = @ExampleObject(name = "Invalid ID", ref = "#/components/examples/ErrorBadRequest"))),
@@ -121,7 +137,8 @@ public class UomStatusController {
         UomStatusResponse response = service.findById(id);
         String msg = messageService.getMessage("crud.retrieve.success", ENTITY_NAME);
         log.info("[{}] {}", methodNomenclature, msg);
-        return ResponseEntity.ok(response);
+        // Spring answers a matching If-None-Match with 304 and skips writing the body
+        return ResponseEntity.ok().eTag(EntityTags.of(response.id(), response.version())).body(response);
     }
 
     @GetMapping
@@ -132,7 +149,9 @@ public class UomStatusController {
                 **Pagination Parameters:**
                 - `page`: Page number (0-indexed, default: 0)
                 - `size`: Page size (default: 20)
-                - `sort`: Sort criteria (e.g., 'name', 'id,desc')""")
+                - `sort`: Sort criteria (e.g., 'name', 'id,desc')
+                
+                Every page runs a count query and skips `page * size` rows; send `cursor` instead for keyset paging.""")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Retrieved successfully - Returns paginated list of statuses",
             content = @Content(schema = @Schema(ref = "#/components/schemas/UomStatusPageResponse"),
@@ -151,6 +170,42 @@ public class UomStatusController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Get all UOM Statuses (keyset)",
+        description = """
+                Retrieves all Unit of Measure Status records one keyset page at a time.
+                
+                **Keyset Parameters:**
+                - `cursor`: Empty for the first page, then the `nextCursor` of the previous page
+                - `size`: Page size (default: 20, max: 1000)
+                - `sort`: Sort of the first page, `id` or `name` optionally followed by `,desc`; the cursor keeps it afterwards
+                
+                No total count is computed, so deep pages cost the same as the first one.""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Retrieved successfully - Returns one keyset page of statuses",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/UomStatusCursorPageResponse"),
+                examples = @ExampleObject(name = "Success", ref = "#/components/examples/UomStatusCursorPage"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Invalid cursor, sort or size",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Invalid Parameter", ref = "#/components/examples/ErrorBadRequest"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<CursorPageResponse<UomStatusResponse>> getAllByCursor(
+            @Parameter(description = "Cursor returned with the previous page, empty for the first page", example = "")
+            @RequestParam String cursor,
+            @Parameter(description = "Sort of the first page: id or name, optionally followed by ,desc", example = "name")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "Page size", example = "20")
+            @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_CURSOR_PAGE_SIZE) int size) {
+        final String methodNomenclature = NOMENCLATURE + "-getAllByCursor";
+        log.info("[{}] Request to retrieve a keyset page of {} records.", methodNomenclature, ENTITY_NAME);
+        CursorPageResponse<UomStatusResponse> response = service.scrollAll(cursor, sort, size);
+        log.info("[{}] {} records retrieved.", methodNomenclature, ENTITY_NAME);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("search")
     @Operation(summary = "Search UOM Statuses by name", 
         description = """
@@ -185,6 +240,71 @@ public class UomStatusController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "search", params = {"count=false", "!cursor"})
+    @Operation(summary = "Search UOM Statuses by name (no count)",
+        description = """
+                Case-insensitive partial name search without the `COUNT(*)` of the page: `hasNext` comes from
+                reading one row past the page. Add `approximateTotal=true` for a total cached until the next write.
+                
+                **Example:** `/status/search?name=act&count=false&page=0&size=20`""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Search completed successfully - Returns one slice of matching statuses",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/UomStatusSliceResponse"),
+                examples = @ExampleObject(name = "Success", ref = "#/components/examples/UomStatusSlice"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Name parameter cannot be blank",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Missing Name", ref = "#/components/examples/ErrorBadRequest"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<SliceResponse<UomStatusResponse>> getByNameContainingWithoutCount(
+            @Parameter(description = "Search term (case-insensitive)", example = "active", required = true)
+            @RequestParam @NotBlank String name,
+            @Parameter(description = "Whether to add the total of matching records, possibly a little stale", example = "false")
+            @RequestParam(defaultValue = "false") boolean approximateTotal,
+            @Parameter(description = "Pagination parameters")
+            @PageableDefault(size = 20) Pageable pageable) {
+        final String methodNomenclature = NOMENCLATURE + "-getByNameContainingWithoutCount";
+        log.info("[{}] Request to retrieve a slice of {} records with content in their name.", methodNomenclature, ENTITY_NAME);
+        SliceResponse<UomStatusResponse> response = service.findSliceByName(name, pageable, approximateTotal);
+        log.info("[{}] {} records retrieved.", methodNomenclature, ENTITY_NAME);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "search", params = "cursor")
+    @Operation(summary = "Search UOM Statuses by name (keyset)",
+        description = """
+                Case-insensitive partial name search, one keyset page at a time.
+                
+                **Example:** `/status/search?name=act&cursor=&size=20`""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Retrieved successfully - Returns one keyset page of statuses",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/UomStatusCursorPageResponse"),
+                examples = @ExampleObject(name = "Success", ref = "#/components/examples/UomStatusCursorPage"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Blank name, or invalid cursor, sort or size",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Invalid Parameter", ref = "#/components/examples/ErrorBadRequest"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<CursorPageResponse<UomStatusResponse>> getByNameContainingByCursor(
+            @Parameter(description = "Search term (case-insensitive)", example = "active", required = true)
+            @RequestParam @NotBlank String name,
+            @Parameter(description = "Cursor returned with the previous page, empty for the first page", example = "")
+            @RequestParam String cursor,
+            @Parameter(description = "Sort of the first page: id or name, optionally followed by ,desc", example = "name")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "Page size", example = "20")
+            @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_CURSOR_PAGE_SIZE) int size) {
+        final String methodNomenclature = NOMENCLATURE + "-getByNameContainingByCursor";
+        log.info("[{}] Request to retrieve a keyset page of {} records with content in their name.", methodNomenclature, ENTITY_NAME);
+        CursorPageResponse<UomStatusResponse> response = service.scrollAllByName(name, cursor, sort, size);
+        log.info("[{}] {} records retrieved.", methodNomenclature, ENTITY_NAME);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("filter")
     @Operation(summary = "Filter UOM Statuses by usability", 
         description = """
@@ -219,6 +339,71 @@ public class UomStatusController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "filter", params = {"count=false", "!cursor"})
+    @Operation(summary = "Filter UOM Statuses by usability (no count)",
+        description = """
+                Filters Unit of Measure Status records by their usability status without the `COUNT(*)` of the page.
+                See `GET /status/search?count=false`.
+                
+                **Example:** `/status/filter?isUsable=true&count=false&page=0&size=20`""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Filtering completed successfully - Returns one slice of filtered statuses",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/UomStatusSliceResponse"),
+                examples = @ExampleObject(name = "Success", ref = "#/components/examples/UomStatusSlice"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - isUsable parameter is required",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Missing Parameter", ref = "#/components/examples/ErrorBadRequest"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<SliceResponse<UomStatusResponse>> filterByIsUsableWithoutCount(
+            @Parameter(description = "Filter by usability status", example = "true", required = true)
+            @RequestParam @NotNull Boolean isUsable,
+            @Parameter(description = "Whether to add the total of matching records, possibly a little stale", example = "false")
+            @RequestParam(defaultValue = "false") boolean approximateTotal,
+            @Parameter(description = "Pagination parameters")
+            @PageableDefault(size = 20) Pageable pageable) {
+        final String methodNomenclature = NOMENCLATURE + "-filterByIsUsableWithoutCount";
+        log.info("[{}] Request to filter a slice of {} records by usability.", methodNomenclature, ENTITY_NAME);
+        SliceResponse<UomStatusResponse> response = service.findSliceByIsUsable(isUsable, pageable, approximateTotal);
+        log.info("[{}] {} records filtered.", methodNomenclature, ENTITY_NAME);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "filter", params = "cursor")
+    @Operation(summary = "Filter UOM Statuses by usability (keyset)",
+        description = """
+                Filters Unit of Measure Status records by their usability status, one keyset page at a time.
+                
+                **Example:** `/status/filter?isUsable=true&cursor=&size=20`""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Retrieved successfully - Returns one keyset page of statuses",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/UomStatusCursorPageResponse"),
+                examples = @ExampleObject(name = "Success", ref = "#/components/examples/UomStatusCursorPage"))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - isUsable is required, or invalid cursor, sort or size",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Invalid Parameter", ref = "#/components/examples/ErrorBadRequest"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<CursorPageResponse<UomStatusResponse>> filterByIsUsableByCursor(
+            @Parameter(description = "Filter by usability status", example = "true", required = true)
+            @RequestParam @NotNull Boolean isUsable,
+            @Parameter(description = "Cursor returned with the previous page, empty for the first page", example = "")
+            @RequestParam String cursor,
+            @Parameter(description = "Sort of the first page: id or name, optionally followed by ,desc", example = "name")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "Page size", example = "20")
+            @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_CURSOR_PAGE_SIZE) int size) {
+        final String methodNomenclature = NOMENCLATURE + "-filterByIsUsableByCursor";
+        log.info("[{}] Request to filter a keyset page of {} records by usability.", methodNomenclature, ENTITY_NAME);
+        CursorPageResponse<UomStatusResponse> response = service.scrollAllByIsUsable(isUsable, cursor, sort, size);
+        log.info("[{}] {} records filtered.", methodNomenclature, ENTITY_NAME);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("check-name")
     @Operation(summary = "Check name availability", 
         description = """
@@ -253,6 +438,36 @@ public class UomStatusController {
         return ResponseEntity.ok(isTaken);
     }
 
+    @GetMapping("autocomplete")
+    @Operation(summary = "Suggest status names",
+        description = """
+                Returns the statuses whose name starts with the prefix, ignoring case, most used first.
+                
+                Suggestions are served from memory; a new name appears once the index has been rebuilt after the write.
+                
+                **Example:** `/status/autocomplete?prefix=act&limit=5`""")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Suggestions returned successfully",
+            content = @Content(array = @ArraySchema(schema = @Schema(ref = "#/components/schemas/NameSuggestion")))),
+        @ApiResponse(responseCode = "400", description = "Bad Request - Blank prefix or limit out of range",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Invalid Parameter", ref = "#/components/examples/ErrorBadRequest"))),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
+    })
+    public ResponseEntity<List<NameSuggestion>> autocomplete(
+            @Parameter(description = "Start of the name, ignoring case", example = "act", required = true)
+            @RequestParam @NotBlank String prefix,
+            @Parameter(description = "Maximum number of suggestions", example = "10")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_SUGGESTIONS) int limit) {
+        final String methodNomenclature = NOMENCLATURE + "-autocomplete";
+        log.info("[{}] Request to suggest {} names.", methodNomenclature, ENTITY_NAME);
+        List<NameSuggestion> response = service.autocomplete(prefix, limit);
+        log.info("[{}] {} names suggested.", methodNomenclature, response.size());
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("{id}")
     @Operation(summary = "Update UOM Status", 
         description = """
@@ -260,6 +475,9 @@ public class UomStatusController {
                 
                 **Important:** The `isUsable` field cannot be changed using this endpoint. Use the dedicated `/status/{id}/change-usability` endpoint to modify the usability status.
                 
+                **Concurrency:** Send the `ETag` of the last read in `If-Match` to update only if nobody changed the status since;
+                otherwise the update fails with `412 Precondition Failed`. The response carries the new `ETag`.
+                
                 **Updatable Fields:**
                 - `name`: New status name (1-50 chars, optional)
                 - `description`: New description (max 200 chars, optional)
@@ -275,9 +493,12 @@ public class UomStatusController {
         @ApiResponse(responseCode = "404", description = "Not Found - Status with given ID does not exist",
             content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
                 examples = @ExampleObject(name = "Not Found", ref = "#/components/examples/ErrorNotFound"))),
-        @ApiResponse(responseCode = "409", description = "Conflict - New name already exists",
+        @ApiResponse(responseCode = "409", description = "Conflict - New name already exists, or the status was updated concurrently",
             content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
                 examples = @ExampleObject(name = "Name Conflict", ref = "#/components/examples/ErrorConflict"))),
+        @ApiResponse(responseCode = "412", description = "Precondition Failed - The status no longer has the ETag sent in If-Match",
+            content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
+                examples = @ExampleObject(name = "Precondition Failed", ref = "#/components/examples/ErrorPreconditionFailed"))),
         @ApiResponse(responseCode = "500", description = "Internal Server Error",
             content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"),
                 examples = @ExampleObject(name = "Server Error", ref = "#/components/examples/ErrorServer")))
@@ -285,6 +506,8 @@ public class UomStatusController {
     public ResponseEntity<UomStatusResponse> update(
             @Parameter(description = "UOM Status ID", example = "1", required = true)
             @PathVariable @NotNull @Positive Long id,
+            @Parameter(description = "ETag of the version the update is based on; omit to update unconditionally", example = "\"1-0\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                 required = true,
                 description = "Payload for updating a UOM status (isUsable is not allowed here)",
@@ -299,10 +522,10 @@ public class UomStatusController {
             @Valid @RequestBody UomStatusUpdate request) {
         final String methodNomenclature = NOMENCLATURE + "-update";
         log.info("[{}] Request to update {} record.", methodNomenclature, ENTITY_NAME);
-        UomStatusResponse response = service.update(id, request);
+        UomStatusResponse response = service.update(id, request, ifMatch);
         String msg = messageService.getMessage("crud.update.success", ENTITY_NAME);
         log.info("[{}] {}", methodNomenclature, msg);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(EntityTags.of(response.id(), response.version())).body(response);
     }
 
     @PatchMapping("{id}/change-usability")
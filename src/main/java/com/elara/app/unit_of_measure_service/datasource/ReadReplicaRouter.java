@@ -0,0 +1,274 @@
+package com.elara.app.unit_of_measure_service.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Routes read-only transactions to a pool of read replicas and everything else to the primary.
+ * <p>
+ * It is meant to back a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the proxy
+ * only fetches a physical connection on the first statement, once the transaction has flagged it read-only,
+ * and takes it from {@link #replicaDataSource()} when it is, from {@link #primaryDataSource()} otherwise.
+ * Replicas are taken in round-robin order. One that fails to hand out a connection is ejected for
+ * {@code uom.datasource.replica.ejection} and tried again afterwards; with every replica ejected, reads fall
+ * back to the primary.
+ * </p>
+ *
+ * <p>Only reads of HTTP requests go to the replicas: background work, such as rebuilding the snapshot or the
+ * indexes after a change, derives state that must reflect the latest commit and reads the primary. So do the
+ * requests of a client that wrote less than {@code uom.datasource.replica.read-your-writes} ago, according to
+ * the session token bound by {@link ReadYourWritesFilter}, and the loads a request runs through
+ * {@link #readPrimary(Supplier)} because their result outlives it, such as cache entries: a lagging replica
+ * would otherwise have them serve an old row long after the write. Every pool reports the Hikari metrics under its own
+ * {@code pool} tag; connections handed out are counted as {@value #ROUTED_METRIC} by target and access,
+ * ejections as {@value #EJECTIONS_METRIC}, and the replicas in rotation are exposed as
+ * {@value #AVAILABLE_METRIC}.</p>
+ */
+@Slf4j
+public class ReadReplicaRouter implements AutoCloseable {
+
+    static final String ROUTED_METRIC = "uom.datasource.routed";
+    static final String EJECTIONS_METRIC = "uom.datasource.ejections";
+    static final String AVAILABLE_METRIC = "uom.datasource.replicas.available";
+    private static final String NOMENCLATURE = "ReadReplica-router";
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final Duration ejection;
+    private final Duration readYourWrites;
+    private final LongSupplier ticker;
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder primaryWrites = new LongAdder();
+    private final LongAdder primaryReads = new LongAdder();
+    private final LongAdder ejections = new LongAdder();
+    private final DataSource primaryDataSource;
+    private final DataSource replicaDataSource;
+
+    public ReadReplicaRouter(
+        HikariDataSource primary,
+        List<HikariDataSource> replicas,
+        Duration ejection,
+        Duration readYourWrites,
+        MeterRegistry meterRegistry
+    ) {
+        this(primary, replicas, ejection, readYourWrites, meterRegistry, System::nanoTime);
+    }
+
+    ReadReplicaRouter(
+        HikariDataSource primary,
+        List<HikariDataSource> replicas,
+        Duration ejection,
+        Duration readYourWrites,
+        MeterRegistry meterRegistry,
+        LongSupplier ticker
+    ) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one read replica is required");
+        }
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.ejection = ejection;
+        this.readYourWrites = readYourWrites;
+        this.ticker = ticker;
+        this.primaryDataSource = new DelegatingDataSource(primary) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                ReadYourWritesFilter.Session session = ReadYourWritesFilter.currentSession();
+                // The proxy also borrows a connection to learn the pool defaults, before any transaction begins
+                if (session != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                    session.recordWrite();
+                }
+                primaryWrites.increment();
+                return super.getConnection();
+            }
+
+            /**
+             * The primary pool is configured with its own credentials, so the ones given are ignored.
+             */
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return getConnection();
+            }
+        };
+        this.replicaDataSource = new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return readConnection();
+            }
+
+            /**
+             * Replica pools are configured with their own credentials, so the ones given are ignored.
+             */
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return readConnection();
+            }
+        };
+        registerRouted(meterRegistry, primary.getPoolName(), "read-write", primaryWrites);
+        registerRouted(meterRegistry, primary.getPoolName(), "read-only", primaryReads);
+        this.replicas.forEach(replica -> registerRouted(meterRegistry, replica.name(), "read-only", replica.routed));
+        FunctionCounter.builder(EJECTIONS_METRIC, ejections, LongAdder::sum)
+            .description("Read replicas taken out of rotation after failing to hand out a connection")
+            .register(meterRegistry);
+        Gauge.builder(AVAILABLE_METRIC, this, ReadReplicaRouter::availableReplicas)
+            .description("Read replicas currently in rotation")
+            .register(meterRegistry);
+    }
+
+    /**
+     * @return the primary, for read-write transactions; records the write in the current read-your-writes session
+     */
+    public DataSource primaryDataSource() {
+        return primaryDataSource;
+    }
+
+    /**
+     * @return the replicas, for read-only transactions
+     */
+    public DataSource replicaDataSource() {
+        return replicaDataSource;
+    }
+
+    /**
+     * Runs {@code read} so that the read-only transactions it starts take their connection from the primary.
+     * A transaction that already holds a replica connection keeps it; see {@link #readsReplica()}.
+     */
+    public static <T> T readPrimary(Supplier<T> read) {
+        ReadYourWritesFilter.Session session = ReadYourWritesFilter.currentSession();
+        if (session == null) {
+            return read.get();
+        }
+        session.enterPrimaryReads();
+        try {
+            return read.get();
+        } finally {
+            session.exitPrimaryReads();
+        }
+    }
+
+    /**
+     * @return {@code true} while a transaction of the current thread holds a replica connection, so what it
+     * reads may lag behind the latest commit and must not be kept beyond the request
+     */
+    public static boolean readsReplica() {
+        ReadYourWritesFilter.Session session = ReadYourWritesFilter.currentSession();
+        return session != null && session.readsReplica();
+    }
+
+    public int availableReplicas() {
+        long now = ticker.getAsLong();
+        return (int) replicas.stream().filter(replica -> !replica.isEjected(now)).count();
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+        primary.close();
+    }
+
+    private Connection readConnection() throws SQLException {
+        final String methodNomenclature = NOMENCLATURE + "-read";
+        ReadYourWritesFilter.Session session = ReadYourWritesFilter.currentSession();
+        if (session == null || session.readsPrimary() || session.wroteWithin(readYourWrites)) {
+            primaryReads.increment();
+            return primary.getConnection();
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isEjected(ticker.getAsLong())) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.reinstate();
+                replica.routed.increment();
+                trackReplicaTransaction(session);
+                return connection;
+            } catch (SQLException e) {
+                replica.eject();
+                log.warn("[{}] Replica {} failed to hand out a connection, ejected for {}: {}", methodNomenclature, replica.name(), ejection, e.getMessage());
+            }
+        }
+        log.warn("[{}] No read replica available, reading from the primary.", methodNomenclature);
+        primaryReads.increment();
+        return primary.getConnection();
+    }
+
+    /**
+     * Flags the session for as long as the current transaction holds the replica connection.
+     */
+    private static void trackReplicaTransaction(ReadYourWritesFilter.Session session) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        session.enterReplicaTransaction();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                session.exitReplicaTransaction();
+            }
+        });
+    }
+
+    private static void registerRouted(MeterRegistry meterRegistry, String target, String access, LongAdder counter) {
+        FunctionCounter.builder(ROUTED_METRIC, counter, LongAdder::sum)
+            .description("Connections handed out by the read replica router")
+            .tag("target", target)
+            .tag("access", access)
+            .register(meterRegistry);
+    }
+
+    private final class Replica {
+
+        private final HikariDataSource dataSource;
+        private final LongAdder routed = new LongAdder();
+        private volatile boolean ejected;
+        private volatile long ejectedUntil;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private String name() {
+            return dataSource.getPoolName();
+        }
+
+        private boolean isEjected(long now) {
+            return ejected && now - ejectedUntil < 0;
+        }
+
+        private void eject() {
+            ejectedUntil = ticker.getAsLong() + ejection.toNanos();
+            ejected = true;
+            ejections.increment();
+        }
+
+        private void reinstate() {
+            if (ejected) {
+                ejected = false;
+                log.info("[{}-reinstate] Replica {} is back in rotation.", NOMENCLATURE, name());
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.elara.app.unit_of_measure_service.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Binds a read-your-writes {@link Session} to every request, so {@link ReadReplicaRouter} can tell reads
+ * serving a client from background work, and a client that has just written from one that has not.
+ * <p>
+ * When a request writes, the time of the write is returned in the {@value #SESSION_TOKEN_HEADER} header.
+ * Clients that send it back on their next requests read from the primary until the staleness guard of the
+ * router has elapsed, so they always see their own writes even if the replicas lag behind.
+ * </p>
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String SESSION_TOKEN_HEADER = "X-Session-Token";
+    private static final ThreadLocal<Session> SESSION = new ThreadLocal<>();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        SESSION.set(new Session(parseToken(request.getHeader(SESSION_TOKEN_HEADER)), response));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SESSION.remove();
+        }
+    }
+
+    /**
+     * @return the session of the request served by the current thread, or {@code null} outside a request
+     */
+    static Session currentSession() {
+        return SESSION.get();
+    }
+
+    private static long parseToken(String token) {
+        if (token == null) {
+            return Session.NO_WRITE;
+        }
+        try {
+            return Long.parseLong(token.trim());
+        } catch (NumberFormatException e) {
+            // A token the client made up is simply ignored
+            return Session.NO_WRITE;
+        }
+    }
+
+    static final class Session {
+
+        static final long NO_WRITE = -1;
+
+        private final HttpServletResponse response;
+        private long lastWrite;
+        /**
+         * Depth of nested {@link ReadReplicaRouter#readPrimary} scopes.
+         */
+        private int primaryReads;
+        /**
+         * Open transactions of this thread holding a replica connection.
+         */
+        private int replicaTransactions;
+
+        private Session(long lastWrite, HttpServletResponse response) {
+            this.lastWrite = lastWrite;
+            this.response = response;
+        }
+
+        void recordWrite() {
+            lastWrite = System.currentTimeMillis();
+            if (!response.isCommitted()) {
+                response.setHeader(SESSION_TOKEN_HEADER, Long.toString(lastWrite));
+            }
+        }
+
+        boolean wroteWithin(Duration guard) {
+            return lastWrite >= 0 && Math.abs(System.currentTimeMillis() - lastWrite) < guard.toMillis();
+        }
+
+        void enterPrimaryReads() {
+            primaryReads++;
+        }
+
+        void exitPrimaryReads() {
+            primaryReads--;
+        }
+
+        boolean readsPrimary() {
+            return primaryReads > 0;
+        }
+
+        void enterReplicaTransaction() {
+            replicaTransactions++;
+        }
+
+        void exitReplicaTransaction() {
+            replicaTransactions--;
+        }
+
+        boolean readsReplica() {
+            return replicaTransactions > 0;
+        }
+
+    }
+
+}
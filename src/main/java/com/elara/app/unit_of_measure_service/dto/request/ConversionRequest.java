@@ -0,0 +1,22 @@
+package com.elara.app.unit_of_measure_service.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+
+public record ConversionRequest(
+
+    @NotNull
+    @Positive
+    Long fromUomId,
+
+    @NotNull
+    @Positive
+    Long toUomId,
+
+    @NotNull
+    BigDecimal quantity
+
+) {
+}
@@ -0,0 +1,18 @@
+package com.elara.app.unit_of_measure_service.dto.request;
+
+import com.elara.app.unit_of_measure_service.model.AliasKind;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record UomAliasRequest(
+
+    @NotBlank
+    @Size(max = 50)
+    String alias,
+
+    @NotNull
+    AliasKind kind
+
+) {
+}
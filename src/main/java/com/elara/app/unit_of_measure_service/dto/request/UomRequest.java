@@ -1,11 +1,15 @@
 package com.elara.app.unit_of_measure_service.dto.request;
 
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 public record UomRequest(
 
@@ -18,11 +22,18 @@ public record UomRequest(
 
     @NotNull
     @Positive
+    @Digits(integer = 9, fraction = 9)
     BigDecimal conversionFactorToBase,
 
     @NotNull
     @Positive
-    Long uomStatusId
+    Long uomStatusId,
+
+    @Min(0)
+    @Max(18)
+    Integer roundingScale,
+
+    RoundingMode roundingMode
 
 ) {
 }
@@ -0,0 +1,13 @@
+package com.elara.app.unit_of_measure_service.dto.response;
+
+import java.util.List;
+
+public record BatchConversionResponse(
+
+    int total,
+    int converted,
+    int failed,
+    List<ConversionItemResponse> results
+
+) {
+}
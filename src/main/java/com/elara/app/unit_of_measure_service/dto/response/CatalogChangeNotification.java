@@ -0,0 +1,18 @@
+package com.elara.app.unit_of_measure_service.dto.response;
+
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeEvent;
+
+/**
+ * One change pushed on {@code GET /watch}, without the record itself: watchers evict or refetch it.
+ *
+ * @param sequence the sequence of the change, also sent as the event id to resume from
+ */
+public record CatalogChangeNotification(
+
+    Long sequence,
+    String entityName,
+    Long entityId,
+    CatalogChangeEvent.ChangeType changeType
+
+) {
+}
@@ -0,0 +1,22 @@
+package com.elara.app.unit_of_measure_service.dto.response;
+
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeEvent;
+
+/**
+ * One record of the change feed, as it is now. {@code DELETED} entries are tombstones and carry no record.
+ *
+ * @param sequence  sequence of the latest change of the record in the returned range
+ * @param uom       the unit, when {@code entityName} is {@code Uom} and it still exists
+ * @param uomStatus the status, when {@code entityName} is {@code UomStatus} and it still exists
+ */
+public record CatalogChangeResponse(
+
+    Long sequence,
+    String entityName,
+    Long entityId,
+    CatalogChangeEvent.ChangeType changeType,
+    UomResponse uom,
+    UomStatusResponse uomStatus
+
+) {
+}
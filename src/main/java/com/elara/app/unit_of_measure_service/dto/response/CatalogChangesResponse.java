@@ -0,0 +1,18 @@
+package com.elara.app.unit_of_measure_service.dto.response;
+
+import java.util.List;
+
+/**
+ * The changes committed after a sequence, at most one per record.
+ *
+ * @param highWaterMark the sequence to ask for next; unchanged when nothing was committed since
+ * @param hasMore       {@code true} when the limit cut the range short and the next poll can follow at once
+ */
+public record CatalogChangesResponse(
+
+    List<CatalogChangeResponse> changes,
+    long highWaterMark,
+    boolean hasMore
+
+) {
+}
@@ -0,0 +1,20 @@
+package com.elara.app.unit_of_measure_service.dto.response;
+
+import java.math.BigDecimal;
+
+/**
+ * One line of a batch conversion. Either {@code result} is set, or the error fields describe why the
+ * line could not be converted.
+ */
+public record ConversionItemResponse(
+
+    Long fromUomId,
+    Long toUomId,
+    BigDecimal quantity,
+    BigDecimal result,
+    Integer errorCode,
+    String errorValue,
+    String errorMessage
+
+) {
+}
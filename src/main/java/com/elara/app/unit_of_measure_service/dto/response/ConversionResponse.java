@@ -0,0 +1,13 @@
+package com.elara.app.unit_of_measure_service.dto.response;
+
+import java.math.BigDecimal;
+
+public record ConversionResponse(
+
+    Long fromUomId,
+    Long toUomId,
+    BigDecimal quantity,
+    BigDecimal result
+
+) {
+}
@@ -0,0 +1,19 @@
+package com.elara.app.unit_of_measure_service.dto.response;
+
+import java.util.List;
+
+/**
+ * One page of a keyset (cursor) listing. Unlike {@code Page} it carries no total count, so fetching it
+ * never runs a {@code COUNT(*)}.
+ *
+ * @param nextCursor opaque cursor of the following page, {@code null} on the last page
+ */
+public record CursorPageResponse<T>(
+
+    List<T> content,
+    int size,
+    boolean hasNext,
+    String nextCursor
+
+) {
+}
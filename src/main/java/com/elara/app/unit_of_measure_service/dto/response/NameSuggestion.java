@@ -0,0 +1,21 @@
+package com.elara.app.unit_of_measure_service.dto.response;
+
+/**
+ * One autocomplete suggestion; {@code uses} is how often the entry was read lately, the ranking key.
+ */
+public record NameSuggestion(
+
+    Long id,
+    String name,
+    Long uses
+
+) {
+
+    /**
+     * Projection of the autocomplete rebuild queries, before uses are known.
+     */
+    public NameSuggestion(Long id, String name) {
+        this(id, name, 0L);
+    }
+
+}
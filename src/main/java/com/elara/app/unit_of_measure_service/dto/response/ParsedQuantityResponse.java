@@ -0,0 +1,21 @@
+package com.elara.app.unit_of_measure_service.dto.response;
+
+import java.math.BigDecimal;
+
+/**
+ * One line of a quantity parse. Either {@code baseQuantity} is set, or the error fields describe why the
+ * line could not be parsed.
+ */
+public record ParsedQuantityResponse(
+
+    int line,
+    String input,
+    BigDecimal quantity,
+    Long uomId,
+    BigDecimal baseQuantity,
+    Integer errorCode,
+    String errorValue,
+    String errorMessage
+
+) {
+}
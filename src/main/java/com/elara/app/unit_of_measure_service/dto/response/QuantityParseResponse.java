@@ -0,0 +1,13 @@
+package com.elara.app.unit_of_measure_service.dto.response;
+
+import java.util.List;
+
+public record QuantityParseResponse(
+
+    int total,
+    int parsed,
+    int failed,
+    List<ParsedQuantityResponse> results
+
+) {
+}
@@ -0,0 +1,20 @@
+package com.elara.app.unit_of_measure_service.dto.response;
+
+import java.util.List;
+
+/**
+ * One page of an offset listing fetched without {@code COUNT(*)}: a single extra row tells whether another
+ * page follows.
+ *
+ * @param approximateTotal total matching records when requested, possibly a little stale; {@code null} otherwise
+ */
+public record SliceResponse<T>(
+
+    List<T> content,
+    int number,
+    int size,
+    boolean hasNext,
+    Long approximateTotal
+
+) {
+}
@@ -0,0 +1,13 @@
+package com.elara.app.unit_of_measure_service.dto.response;
+
+import com.elara.app.unit_of_measure_service.model.AliasKind;
+
+public record UomAliasResponse(
+
+    Long id,
+    String alias,
+    AliasKind kind,
+    Long uomId
+
+) {
+}
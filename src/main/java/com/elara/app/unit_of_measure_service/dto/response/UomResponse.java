@@ -1,6 +1,7 @@
 package com.elara.app.unit_of_measure_service.dto.response;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 public record UomResponse(
 
@@ -8,7 +9,12 @@ public record UomResponse(
     String name,
     String description,
     BigDecimal conversionFactorToBase,
-    Long uomStatusId
+    Long uomStatusId,
+    Long factorNumerator,
+    Long factorDenominator,
+    Integer roundingScale,
+    RoundingMode roundingMode,
+    Long version
 
 ) {
 }
@@ -5,7 +5,8 @@ public record UomStatusResponse(
         Long id,
         String name,
         String description,
-        Boolean isUsable
+        Boolean isUsable,
+        Long version
 
 ) {
 }
@@ -0,0 +1,42 @@
+package com.elara.app.unit_of_measure_service.dto.update;
+
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * One line of a bulk update: {@link UomUpdate} plus the id of the unit it applies to.
+ */
+public record UomBulkUpdate(
+
+    @NotNull
+    @Positive
+    Long id,
+
+    @NotBlank
+    @Size(max = 50)
+    String name,
+
+    @Size(max = 200)
+    String description,
+
+    @NotNull
+    @Positive
+    @Digits(integer = 9, fraction = 9)
+    BigDecimal conversionFactorToBase,
+
+    @Min(0)
+    @Max(18)
+    Integer roundingScale,
+
+    RoundingMode roundingMode
+
+) {
+}
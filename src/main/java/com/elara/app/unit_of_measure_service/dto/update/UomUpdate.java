@@ -1,11 +1,15 @@
 package com.elara.app.unit_of_measure_service.dto.update;
 
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 public record UomUpdate(
 
@@ -18,7 +22,14 @@ public record UomUpdate(
 
     @NotNull
     @Positive
-    BigDecimal conversionFactorToBase
+    @Digits(integer = 9, fraction = 9)
+    BigDecimal conversionFactorToBase,
+
+    @Min(0)
+    @Max(18)
+    Integer roundingScale,
+
+    RoundingMode roundingMode
 
     // Deliberately exclude isUsable to force use of changeStatus()
 
@@ -0,0 +1,9 @@
+package com.elara.app.unit_of_measure_service.exceptions;
+
+import com.elara.app.unit_of_measure_service.utils.ErrorCode;
+
+public class PreconditionFailedException extends BaseException {
+    public PreconditionFailedException(String message) {
+        super(ErrorCode.PRECONDITION_FAILED, message);
+    }
+}
@@ -0,0 +1,122 @@
+package com.elara.app.unit_of_measure_service.export;
+
+import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Writes exported units to an output stream one row at a time, as NDJSON (one JSON object per line)
+ * or CSV (RFC 4180, with a header line).
+ * <p>
+ * Only a fixed-size write buffer is held, so memory does not grow with the number of rows. The
+ * underlying stream is flushed by {@link #flush()} and never closed.
+ * </p>
+ */
+public final class UomExportWriter implements Consumer<UomResponse>, Flushable {
+
+    static final String CSV_HEADER = "id,name,description,conversionFactorToBase,uomStatusId,"
+        + "factorNumerator,factorDenominator,roundingScale,roundingMode,version";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExportFormat format;
+    private final Writer out;
+    private final ObjectWriter jsonWriter;
+    private boolean headerWritten;
+
+    public UomExportWriter(ExportFormat format, OutputStream out, ObjectMapper objectMapper) {
+        this.format = format;
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.jsonWriter = objectMapper.writerFor(UomResponse.class);
+    }
+
+    /**
+     * @throws UncheckedIOException if the client went away or the stream cannot be written
+     */
+    @Override
+    public void accept(UomResponse uom) {
+        try {
+            if (format == ExportFormat.NDJSON) {
+                out.write(jsonWriter.writeValueAsString(uom));
+            } else {
+                writeCsvHeaderOnce();
+                writeCsvRow(uom);
+            }
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes anything still buffered; for CSV also writes the header when no row was exported.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (format == ExportFormat.CSV) {
+            writeCsvHeaderOnce();
+        }
+        out.flush();
+    }
+
+    private void writeCsvHeaderOnce() throws IOException {
+        if (!headerWritten) {
+            out.write(CSV_HEADER);
+            out.write('\n');
+            headerWritten = true;
+        }
+    }
+
+    private void writeCsvRow(UomResponse uom) throws IOException {
+        out.write(String.valueOf(uom.id()));
+        out.write(',');
+        writeCsvField(uom.name());
+        out.write(',');
+        writeCsvField(uom.description());
+        out.write(',');
+        writeCsvValue(uom.conversionFactorToBase() == null ? null : uom.conversionFactorToBase().toPlainString());
+        out.write(',');
+        writeCsvValue(uom.uomStatusId());
+        out.write(',');
+        writeCsvValue(uom.factorNumerator());
+        out.write(',');
+        writeCsvValue(uom.factorDenominator());
+        out.write(',');
+        writeCsvValue(uom.roundingScale());
+        out.write(',');
+        writeCsvValue(uom.roundingMode());
+        out.write(',');
+        writeCsvValue(uom.version());
+    }
+
+    private void writeCsvValue(Object value) throws IOException {
+        if (value != null) {
+            out.write(value.toString());
+        }
+    }
+
+    private void writeCsvField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quoted = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quoted) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+}
@@ -0,0 +1,174 @@
+package com.elara.app.unit_of_measure_service.lookup;
+
+import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.mapper.UomMapper;
+import com.elara.app.unit_of_measure_service.model.Uom;
+import com.elara.app.unit_of_measure_service.repository.UomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads units by id from the database, coalescing concurrent single-id reads into one {@code IN} query
+ * (DataLoader-style).
+ * <p>
+ * The first caller of a batch becomes its leader: it waits up to {@code uom.lookup.batch.window} for other
+ * ids to arrive, or until {@code uom.lookup.batch.max-size} ids are pending, then loads all of them with one
+ * query on its own thread and completes every waiting caller. A lone read therefore pays at most the window
+ * in latency; a window of {@code 0} disables coalescing.
+ * </p>
+ *
+ * <p>Only reached when the catalog snapshot is disabled, since the snapshot answers reads by id from memory.
+ * Batch sizes are published as {@value #BATCH_SIZE_METRIC} (tagged by {@code source}) and the queries avoided
+ * as {@value #ROUND_TRIPS_SAVED_METRIC}.</p>
+ */
+@Slf4j
+@Component
+public class UomLookupBatcher {
+
+    static final String BATCH_SIZE_METRIC = "uom.lookup.batch.size";
+    static final String ROUND_TRIPS_SAVED_METRIC = "uom.lookup.round.trips.saved";
+    private static final String NOMENCLATURE = "Uom-lookupBatcher";
+
+    private final UomRepository repository;
+    private final UomMapper mapper;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final DistributionSummary coalescedBatchSizes;
+    private final DistributionSummary multiGetBatchSizes;
+    private final Counter roundTripsSaved;
+    private final Object lock = new Object();
+    private Batch open;
+
+    public UomLookupBatcher(
+        UomRepository repository,
+        UomMapper mapper,
+        MeterRegistry meterRegistry,
+        @Value("${uom.lookup.batch.window:2ms}") Duration window,
+        @Value("${uom.lookup.batch.max-size:200}") int maxBatchSize
+    ) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.coalescedBatchSizes = batchSizeSummary(meterRegistry, "coalesced");
+        this.multiGetBatchSizes = batchSizeSummary(meterRegistry, "multi-get");
+        this.roundTripsSaved = Counter.builder(ROUND_TRIPS_SAVED_METRIC)
+            .description("Database queries avoided by loading several units with one IN query")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Reads one unit, sharing the query with concurrent callers.
+     *
+     * @return the unit, or empty when the id does not exist
+     */
+    public Optional<UomResponse> find(Long id) {
+        if (window.isZero()) {
+            return Optional.ofNullable(load(List.of(id), coalescedBatchSizes).get(id));
+        }
+        Batch batch;
+        boolean leader = false;
+        CompletableFuture<UomResponse> result;
+        synchronized (lock) {
+            if (open == null) {
+                open = new Batch();
+                leader = true;
+            }
+            batch = open;
+            result = batch.pending.computeIfAbsent(id, key -> new CompletableFuture<>());
+            if (batch.pending.size() >= maxBatchSize) {
+                open = null;
+                batch.full.countDown();
+            }
+        }
+        if (leader) {
+            dispatch(batch);
+        }
+        try {
+            return Optional.ofNullable(result.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Reads several units with one query.
+     *
+     * @return the units found, keyed by id; unknown ids are absent
+     */
+    public Map<Long, UomResponse> findAll(Collection<Long> ids) {
+        return load(ids, multiGetBatchSizes);
+    }
+
+    private void dispatch(Batch batch) {
+        try {
+            batch.full.await(window.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Map<Long, CompletableFuture<UomResponse>> pending;
+        synchronized (lock) {
+            if (open == batch) {
+                open = null;
+            }
+            // Closed: no caller adds to this batch any more
+            pending = batch.pending;
+        }
+        try {
+            Map<Long, UomResponse> rows = load(pending.keySet(), coalescedBatchSizes);
+            pending.forEach((id, future) -> future.complete(rows.get(id)));
+        } catch (RuntimeException | Error e) {
+            pending.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private Map<Long, UomResponse> load(Collection<Long> ids, DistributionSummary batchSizes) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, UomResponse> rows = HashMap.newHashMap(ids.size());
+        for (Uom uom : repository.findAllById(ids)) {
+            rows.put(uom.getId(), mapper.toResponse(uom));
+        }
+        batchSizes.record(ids.size());
+        roundTripsSaved.increment(ids.size() - 1.0);
+        log.debug("[{}-load] Loaded {} of {} ids with one query.", NOMENCLATURE, rows.size(), ids.size());
+        return rows;
+    }
+
+    private static DistributionSummary batchSizeSummary(MeterRegistry meterRegistry, String source) {
+        return DistributionSummary.builder(BATCH_SIZE_METRIC)
+            .description("Ids loaded per database query")
+            .baseUnit("ids")
+            .tag("source", source)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private static final class Batch {
+
+        private final Map<Long, CompletableFuture<UomResponse>> pending = new LinkedHashMap<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.elara.app.unit_of_measure_service.mapper;
+
+import com.elara.app.unit_of_measure_service.dto.request.UomAliasRequest;
+import com.elara.app.unit_of_measure_service.dto.response.UomAliasResponse;
+import com.elara.app.unit_of_measure_service.model.UomAlias;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface UomAliasMapper {
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "uom", ignore = true)
+    UomAlias toEntity(UomAliasRequest request);
+
+    @Mapping(target = "uomId", source = "uom.id")
+    UomAliasResponse toResponse(UomAlias entity);
+
+}
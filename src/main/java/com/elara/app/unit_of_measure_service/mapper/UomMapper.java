@@ -2,6 +2,7 @@ package com.elara.app.unit_of_measure_service.mapper;
 
 import com.elara.app.unit_of_measure_service.dto.request.UomRequest;
 import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.dto.update.UomBulkUpdate;
 import com.elara.app.unit_of_measure_service.dto.update.UomUpdate;
 import com.elara.app.unit_of_measure_service.model.Uom;
 import org.mapstruct.Mapper;
@@ -11,13 +12,21 @@ import org.mapstruct.MappingTarget;
 @Mapper(componentModel = "spring")
 public interface UomMapper {
 
+    @Mapping(target = "rationalFactor", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Uom toEntity(UomRequest request);
 
     @Mapping(target = "uomStatusId", source = "uomStatus.id")
+    @Mapping(target = "factorNumerator", source = "rationalFactor.numerator")
+    @Mapping(target = "factorDenominator", source = "rationalFactor.denominator")
     UomResponse toResponse(Uom entity);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "uomStatus", ignore = true)
     void updateEntityFromDto(@MappingTarget Uom existing, UomUpdate update);
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "uomStatus", ignore = true)
+    void updateEntityFromBulkDto(@MappingTarget Uom existing, UomBulkUpdate update);
+
 }
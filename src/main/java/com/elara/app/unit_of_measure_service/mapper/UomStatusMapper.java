@@ -11,6 +11,7 @@ import org.mapstruct.MappingTarget;
 @Mapper(componentModel = "spring")
 public interface UomStatusMapper {
 
+    @Mapping(target = "version", ignore = true)
     UomStatus toEntity(UomStatusRequest request);
 
     UomStatusResponse toResponse(UomStatus entity);
@@ -0,0 +1,23 @@
+package com.elara.app.unit_of_measure_service.model;
+
+/**
+ * What a {@link UomAlias} stands for; informative only, every kind resolves the same way.
+ */
+public enum AliasKind {
+
+    /**
+     * Printed symbol, e.g. {@code kg}.
+     */
+    SYMBOL,
+
+    /**
+     * UN/CEFACT Recommendation 20 common code, e.g. {@code KGM}.
+     */
+    UNECE_CODE,
+
+    /**
+     * Any other name the unit is known by, e.g. {@code kilo}.
+     */
+    SYNONYM
+
+}
@@ -0,0 +1,41 @@
+package com.elara.app.unit_of_measure_service.model;
+
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeEvent;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * One committed write on a unit or a status, in the order the writes committed.
+ * <p>
+ * This entity is mapped to the <b>catalog_change</b> table. Deletes are kept as tombstones, so a consumer
+ * replicating the catalog learns about them too. Sequences are assigned by {@code CatalogChangeLog} and
+ * are never reused.
+ * </p>
+ */
+@Entity(name = "catalog_change")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogChange {
+
+    @Id
+    @Column(name = "sequence_number", updatable = false)
+    private Long sequence;
+
+    @NotNull
+    @Column(name = "entity_name", nullable = false, updatable = false, length = 20)
+    private String entityName;
+
+    @NotNull
+    @Column(name = "entity_id", nullable = false, updatable = false)
+    private Long entityId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, updatable = false, length = 20)
+    private CatalogChangeEvent.ChangeType changeType;
+
+}
@@ -0,0 +1,31 @@
+package com.elara.app.unit_of_measure_service.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * How far a relay has published the {@link CatalogChange} log.
+ * <p>
+ * This entity is mapped to the <b>catalog_relay_offset</b> table, with one row per relay. The relay locks its
+ * row while it publishes a batch and advances it only once the broker confirmed the batch, so after a crash
+ * the unconfirmed changes are published again rather than lost, and two instances never publish at once.
+ * </p>
+ */
+@Entity(name = "catalog_relay_offset")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogRelayOffset {
+
+    @Id
+    @Column(name = "relay_name", updatable = false, length = 50)
+    private String relayName;
+
+    @NotNull
+    @Column(name = "published_sequence", nullable = false)
+    private Long publishedSequence;
+
+}
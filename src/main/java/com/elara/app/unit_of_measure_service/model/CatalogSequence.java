@@ -0,0 +1,33 @@
+package com.elara.app.unit_of_measure_service.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * The last sequence handed out to a {@link CatalogChange}.
+ * <p>
+ * This entity is mapped to the <b>catalog_sequence</b> table, which holds a single row. Writers lock that row
+ * until they commit, so sequences become visible in increasing order and a reader that has seen one
+ * sequence has already seen every lower one.
+ * </p>
+ */
+@Entity(name = "catalog_sequence")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogSequence {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @NotNull
+    @Column(name = "high_water_mark", nullable = false)
+    private Long highWaterMark;
+
+}
@@ -0,0 +1,59 @@
+package com.elara.app.unit_of_measure_service.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.math.BigDecimal;
+
+/**
+ * Exact conversion factor to the base unit, stored as a reduced {@code numerator / denominator}
+ * pair of longs.
+ * <p>
+ * Conversions multiply and divide these longs directly, so no {@link BigDecimal} is needed unless
+ * an intermediate product overflows.
+ * </p>
+ *
+ * @param numerator   positive numerator, coprime with the denominator
+ * @param denominator positive denominator
+ */
+@Embeddable
+public record RationalFactor(
+
+    @Column(name = "factor_numerator", nullable = false)
+    long numerator,
+
+    @Column(name = "factor_denominator", nullable = false)
+    long denominator
+
+) {
+
+    /**
+     * Converts an exact decimal into its reduced rational form, e.g. {@code 0.0025} into {@code 1/400}.
+     *
+     * @return the rational form, or {@code null} if {@code value} is {@code null}
+     * @throws ArithmeticException if the numerator or denominator does not fit in a long
+     */
+    public static RationalFactor of(BigDecimal value) {
+        if (value == null) {
+            return null;
+        }
+        BigDecimal stripped = value.stripTrailingZeros();
+        if (stripped.scale() <= 0) {
+            return new RationalFactor(stripped.toBigIntegerExact().longValueExact(), 1);
+        }
+        long numerator = stripped.unscaledValue().longValueExact();
+        long denominator = BigDecimal.ONE.scaleByPowerOfTen(stripped.scale()).longValueExact();
+        long gcd = gcd(Math.abs(numerator), denominator);
+        return new RationalFactor(numerator / gcd, denominator / gcd);
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+}
@@ -1,6 +1,9 @@
 package com.elara.app.unit_of_measure_service.model;
 
 import jakarta.persistence.*;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -8,6 +11,7 @@ import jakarta.validation.constraints.Size;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 @Entity(name = "uom")
 @Getter
@@ -17,8 +21,15 @@ import java.math.BigDecimal;
 @AllArgsConstructor
 public class Uom {
 
+    /**
+     * Ids reserved per sequence call. Matches {@code hibernate.jdbc.batch_size}, so a batch of inserts
+     * costs one {@code nextval} instead of one round trip per row as with {@code IDENTITY}.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "uom_seq")
+    @SequenceGenerator(name = "uom_seq", sequenceName = "uom_seq", allocationSize = ID_ALLOCATION_SIZE)
     @Setter(AccessLevel.NONE)
     @Column(name = "id", updatable = false)
     private Long id;
@@ -34,12 +45,59 @@ public class Uom {
 
     @NotNull
     @Positive
-    @Column(name = "conversion_factor_to_base", nullable = false, precision = 10, scale = 3)
+    @Digits(integer = 9, fraction = 9)
+    @Column(name = "conversion_factor_to_base", nullable = false, precision = 18, scale = 9)
     private BigDecimal conversionFactorToBase;
 
+    /**
+     * Exact form of {@link #conversionFactorToBase}, kept in sync by its setter and builder method.
+     */
+    @Embedded
+    @Setter(AccessLevel.NONE)
+    private RationalFactor rationalFactor;
+
+    /**
+     * Number of decimals conversions into this unit are rounded to; {@code null} keeps the full
+     * precision of the result.
+     */
+    @Min(0)
+    @Max(18)
+    @Column(name = "rounding_scale")
+    private Integer roundingScale;
+
+    /**
+     * Rounding applied with {@link #roundingScale}; {@code HALF_EVEN} when not set.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rounding_mode", length = 20)
+    private RoundingMode roundingMode;
+
     @NotNull
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "uom_status_id")
     private UomStatus uomStatus;
 
+    /**
+     * Optimistic lock, incremented by Hibernate on every update; clients see it as the unit's {@code ETag}.
+     */
+    @Version
+    @Setter(AccessLevel.NONE)
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    public void setConversionFactorToBase(BigDecimal conversionFactorToBase) {
+        this.conversionFactorToBase = conversionFactorToBase;
+        this.rationalFactor = RationalFactor.of(conversionFactorToBase);
+    }
+
+    public static class UomBuilder {
+
+        public UomBuilder conversionFactorToBase(BigDecimal conversionFactorToBase) {
+            this.conversionFactorToBase = conversionFactorToBase;
+            this.rationalFactor = RationalFactor.of(conversionFactorToBase);
+            return this;
+        }
+
+    }
+
 }
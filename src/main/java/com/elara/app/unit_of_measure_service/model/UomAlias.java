@@ -0,0 +1,48 @@
+package com.elara.app.unit_of_measure_service.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Another string a Unit of Measure is known by: a symbol, a UN/CEFACT code or a synonym.
+ * <p>
+ * This entity is mapped to the <b>uom_alias</b> table. Aliases are unique ignoring case, across aliases
+ * and unit names, so every string resolves to at most one unit. They are deleted with their unit.
+ * </p>
+ */
+@Entity(name = "uom_alias")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UomAlias {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @NotBlank
+    @Size(max = 50)
+    @Column(name = "alias", unique = true, nullable = false, length = 50)
+    private String alias;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false, length = 20)
+    private AliasKind kind;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "uom_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Uom uom;
+
+}
@@ -66,4 +66,13 @@ public class UomStatus {
     @Column(name = "is_usable", nullable = false)
     private Boolean isUsable = true;
 
+    /**
+     * Optimistic lock version.
+     * <p>Incremented by Hibernate on every update and exposed to clients as the status {@code ETag}.</p>
+     */
+    @Version
+    @Setter(AccessLevel.NONE)
+    @Column(name = "version", nullable = false)
+    private Long version;
+
 }
@@ -0,0 +1,50 @@
+package com.elara.app.unit_of_measure_service.quantity;
+
+import com.elara.app.unit_of_measure_service.alias.AliasTable;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Mutable result of {@link QuantityParser#parse}, meant to be reused across lines so parsing allocates
+ * nothing. The quantity is kept as an unscaled long and a scale, like {@link BigDecimal#valueOf(long, int)}.
+ */
+@Getter
+public final class ParsedQuantity {
+
+    public enum Status {
+        PARSED,
+        BLANK,
+        INVALID_NUMBER,
+        MISSING_UNIT,
+        UNKNOWN_UNIT
+    }
+
+    private Status status = Status.BLANK;
+    private long unscaled;
+    private int scale;
+    /**
+     * Id of the resolved unit, or {@link AliasTable#NOT_FOUND}.
+     */
+    private long uomId = AliasTable.NOT_FOUND;
+    /**
+     * Bounds of the unit token in the parsed text, to report unknown units.
+     */
+    private int unitFrom;
+    private int unitTo;
+
+    public BigDecimal quantity() {
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    Status set(Status status, long unscaled, int scale, long uomId, int unitFrom, int unitTo) {
+        this.status = status;
+        this.unscaled = unscaled;
+        this.scale = scale;
+        this.uomId = uomId;
+        this.unitFrom = unitFrom;
+        this.unitTo = unitTo;
+        return status;
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.elara.app.unit_of_measure_service.quantity;
+
+import com.elara.app.unit_of_measure_service.alias.AliasTable;
+
+/**
+ * Parses quantity strings such as {@code "1,250.5 KG"} or {@code "12kg"} into a number and a unit id.
+ * <p>
+ * The text is scanned once, in place: the number is accumulated into a long and a scale, and the unit token is
+ * resolved by {@link AliasTable#resolve(CharSequence, int, int)} on the same chars. There is no regex and no
+ * intermediate {@code String} or {@code BigDecimal}, so parsing a line allocates nothing.
+ * </p>
+ *
+ * <p>Numbers have an optional sign, {@code .} as decimal separator and optional {@code ,} thousands separators,
+ * which must group the integer digits by three: {@code 12,5} is rejected rather than read as 125. Numbers
+ * whose digits do not fit in a long are rejected. The unit is the rest of the text, surrounding blanks ignored,
+ * and may contain blanks itself ({@code fl oz}).</p>
+ */
+public final class QuantityParser {
+
+    private static final long MAX_UNSCALED = Long.MAX_VALUE / 10;
+
+    private QuantityParser() {
+    }
+
+    /**
+     * Parses the chars of {@code text} between {@code from}, inclusive, and {@code to}, exclusive, into
+     * {@code into}, resolving the unit against {@code units}.
+     *
+     * @return the status also stored in {@code into}
+     */
+    public static ParsedQuantity.Status parse(CharSequence text, int from, int to, AliasTable units, ParsedQuantity into) {
+        int i = skipWhitespace(text, from, to);
+        if (i == to) {
+            return into.set(ParsedQuantity.Status.BLANK, 0, 0, AliasTable.NOT_FOUND, to, to);
+        }
+        boolean negative = false;
+        char first = text.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+        }
+        long unscaled = 0;
+        int scale = 0;
+        int digits = 0;
+        int groupDigits = 0;
+        boolean grouped = false;
+        boolean fraction = false;
+        for (; i < to; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                int digit = c - '0';
+                if (unscaled >= MAX_UNSCALED && (unscaled > MAX_UNSCALED || digit > Long.MAX_VALUE % 10)) {
+                    return invalidNumber(into, to);
+                }
+                unscaled = unscaled * 10 + digit;
+                digits++;
+                if (fraction) {
+                    scale++;
+                } else {
+                    groupDigits++;
+                }
+            } else if (c == ',' && !fraction) {
+                if (groupDigits == 0 || (grouped ? groupDigits != 3 : groupDigits > 3)) {
+                    return invalidNumber(into, to);
+                }
+                grouped = true;
+                groupDigits = 0;
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+                if (grouped && groupDigits != 3) {
+                    return invalidNumber(into, to);
+                }
+            } else {
+                break;
+            }
+        }
+        if (digits == 0 || (grouped && !fraction && groupDigits != 3)) {
+            return invalidNumber(into, to);
+        }
+        int unitFrom = skipWhitespace(text, i, to);
+        int unitTo = to;
+        while (unitTo > unitFrom && Character.isWhitespace(text.charAt(unitTo - 1))) {
+            unitTo--;
+        }
+        if (unitFrom == unitTo) {
+            return into.set(ParsedQuantity.Status.MISSING_UNIT, negative ? -unscaled : unscaled, scale, AliasTable.NOT_FOUND, unitFrom, unitTo);
+        }
+        long uomId = units.resolve(text, unitFrom, unitTo);
+        ParsedQuantity.Status status = uomId == AliasTable.NOT_FOUND ? ParsedQuantity.Status.UNKNOWN_UNIT : ParsedQuantity.Status.PARSED;
+        return into.set(status, negative ? -unscaled : unscaled, scale, uomId, unitFrom, unitTo);
+    }
+
+    private static ParsedQuantity.Status invalidNumber(ParsedQuantity into, int to) {
+        return into.set(ParsedQuantity.Status.INVALID_NUMBER, 0, 0, AliasTable.NOT_FOUND, to, to);
+    }
+
+    private static int skipWhitespace(CharSequence text, int from, int to) {
+        while (from < to && Character.isWhitespace(text.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.elara.app.unit_of_measure_service.repository;
+
+import com.elara.app.unit_of_measure_service.model.CatalogChange;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CatalogChangeRepository extends JpaRepository<CatalogChange, Long> {
+
+    /**
+     * The changes committed after {@code since}, oldest first; a range scan of the primary key.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<CatalogChange> findAllBySequenceGreaterThanOrderBySequenceAsc(Long since, Limit limit);
+
+}
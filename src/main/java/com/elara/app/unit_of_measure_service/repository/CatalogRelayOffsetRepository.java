@@ -0,0 +1,23 @@
+package com.elara.app.unit_of_measure_service.repository;
+
+import com.elara.app.unit_of_measure_service.model.CatalogRelayOffset;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CatalogRelayOffsetRepository extends JpaRepository<CatalogRelayOffset, String> {
+
+    /**
+     * Reads the offset row with {@code SELECT ... FOR UPDATE}; the lock is held until the transaction ends.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from catalog_relay_offset o where o.relayName = :relayName")
+    Optional<CatalogRelayOffset> findByIdForUpdate(@Param("relayName") String relayName);
+
+}
@@ -0,0 +1,23 @@
+package com.elara.app.unit_of_measure_service.repository;
+
+import com.elara.app.unit_of_measure_service.model.CatalogSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CatalogSequenceRepository extends JpaRepository<CatalogSequence, Long> {
+
+    /**
+     * Reads the sequence row with {@code SELECT ... FOR UPDATE}; the lock is held until the transaction ends.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from catalog_sequence s where s.id = :id")
+    Optional<CatalogSequence> findByIdForUpdate(@Param("id") Long id);
+
+}
@@ -0,0 +1,29 @@
+package com.elara.app.unit_of_measure_service.repository;
+
+import com.elara.app.unit_of_measure_service.dto.response.UomAliasResponse;
+import com.elara.app.unit_of_measure_service.model.UomAlias;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface UomAliasRepository extends JpaRepository<UomAlias, Long> {
+
+    List<UomAlias> findAllByUomIdOrderByIdAsc(Long uomId);
+
+    boolean existsByAliasIgnoreCase(String alias);
+
+    /**
+     * Every alias with the id of its unit, to rebuild the alias index; must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = UomRepository.EXPORT_FETCH_SIZE))
+    @Query("select new com.elara.app.unit_of_measure_service.dto.response.UomAliasResponse(a.id, a.alias, a.kind, a.uom.id) from uom_alias a")
+    Stream<UomAliasResponse> streamAll();
+
+}
@@ -1,20 +1,129 @@
 package com.elara.app.unit_of_measure_service.repository;
 
+import com.elara.app.unit_of_measure_service.dto.response.NameSuggestion;
+import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
 import com.elara.app.unit_of_measure_service.model.Uom;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UomRepository extends JpaRepository<Uom, Long> {
 
+    /**
+     * Rows fetched per round trip by the export streams; the JDBC driver only holds this many at a time.
+     */
+    String EXPORT_FETCH_SIZE = "1000";
+
+    /**
+     * Builds each {@link UomResponse} straight from the row: no entity is managed, snapshotted or mapped.
+     */
+    String SELECT_RESPONSE = "select new com.elara.app.unit_of_measure_service.dto.response.UomResponse("
+        + "u.id, u.name, u.description, u.conversionFactorToBase, u.uomStatus.id, u.rationalFactor.numerator, "
+        + "u.rationalFactor.denominator, u.roundingScale, u.roundingMode, u.version) from uom u";
+
+    /**
+     * Same match as {@code NameContainingIgnoreCase}, with {@code %} and {@code _} in the term escaped.
+     */
+    String WHERE_NAME_CONTAINS = " where upper(u.name) like upper(concat('%', :#{escape(#name)}, '%')) escape :#{escapeCharacter()}";
+
     Optional<Uom> findByNameContainingIgnoreCase(String name);
 
     Page<Uom> findAllByNameContainingIgnoreCase(String name, Pageable pageable);
 
     Page<Uom> findAllByUomStatusId(Long uomStatusId, Pageable pageable);
 
+    // Read projections for the database read path, sorted by entity properties like the queries above
+
+    @Query(value = SELECT_RESPONSE, countQuery = "select count(u) from uom u")
+    Page<UomResponse> findAllResponses(Pageable pageable);
+
+    @Query(value = SELECT_RESPONSE + WHERE_NAME_CONTAINS, countQuery = "select count(u) from uom u" + WHERE_NAME_CONTAINS)
+    Page<UomResponse> findAllResponsesByNameContainingIgnoreCase(@Param("name") String name, Pageable pageable);
+
+    @Query(value = SELECT_RESPONSE + " where u.uomStatus.id = :uomStatusId",
+        countQuery = "select count(u) from uom u where u.uomStatus.id = :uomStatusId")
+    Page<UomResponse> findAllResponsesByUomStatusId(@Param("uomStatusId") Long uomStatusId, Pageable pageable);
+
+    // Count-free slices: one extra row is fetched to tell whether another page follows, no COUNT(*) is run
+
+    @Query(SELECT_RESPONSE + WHERE_NAME_CONTAINS)
+    Slice<UomResponse> findResponseSliceByNameContainingIgnoreCase(@Param("name") String name, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + " where u.uomStatus.id = :uomStatusId")
+    Slice<UomResponse> findResponseSliceByUomStatusId(@Param("uomStatusId") Long uomStatusId, Pageable pageable);
+
+    long countByNameContainingIgnoreCase(String name);
+
+    long countByUomStatusId(Long uomStatusId);
+
+    // Keyset (seek) queries: WHERE (sortKey, id) > (?, ?) ... LIMIT ?, without a count query
+
+    Window<Uom> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Window<Uom> findAllByNameContainingIgnoreCase(String name, ScrollPosition position, Sort sort, Limit limit);
+
+    Window<Uom> findAllByUomStatusId(Long uomStatusId, ScrollPosition position, Sort sort, Limit limit);
+
     boolean existsByNameIgnoreCase(String name);
 
+    @EntityGraph(attributePaths = "uomStatus")
+    List<Uom> findAllByIdIn(Collection<Long> ids);
+
+    // Set-based checks for bulk writes: one query per batch instead of one per row
+
+    /**
+     * @param lowerCaseNames names already lower-cased, matching {@link #existsByNameIgnoreCase(String)}
+     */
+    @Query("select u from uom u where lower(u.name) in :names")
+    List<Uom> findAllByLowerCaseNameIn(@Param("names") Collection<String> lowerCaseNames);
+
+    @Query("select u.id from uom u where u.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Export streams: must be consumed inside a transaction and closed; callers detach each row
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<Uom> streamAllByOrderByIdAsc();
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<Uom> streamAllByUomStatusIdOrderByIdAsc(Long uomStatusId);
+
+    /**
+     * Every unit name, to rebuild the name filter; must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("select u.name from uom u")
+    Stream<String> streamAllNames();
+
+    /**
+     * Every unit id and name, to rebuild the autocomplete trie; must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("select new com.elara.app.unit_of_measure_service.dto.response.NameSuggestion(u.id, u.name) from uom u")
+    Stream<NameSuggestion> streamAllSuggestions();
+
 }
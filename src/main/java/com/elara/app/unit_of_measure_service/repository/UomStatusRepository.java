@@ -1,22 +1,87 @@
 package com.elara.app.unit_of_measure_service.repository;
 
+import com.elara.app.unit_of_measure_service.dto.response.NameSuggestion;
+import com.elara.app.unit_of_measure_service.dto.response.UomStatusResponse;
 import com.elara.app.unit_of_measure_service.model.UomStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UomStatusRepository extends JpaRepository<UomStatus, Long> {
 
+    /**
+     * Builds each {@link UomStatusResponse} straight from the row: no entity is managed, snapshotted or mapped.
+     */
+    String SELECT_RESPONSE = "select new com.elara.app.unit_of_measure_service.dto.response.UomStatusResponse("
+        + "s.id, s.name, s.description, s.isUsable, s.version) from uom_status s";
+
+    /**
+     * Same match as {@code NameContainingIgnoreCase}, with {@code %} and {@code _} in the term escaped.
+     */
+    String WHERE_NAME_CONTAINS = " where upper(s.name) like upper(concat('%', :#{escape(#name)}, '%')) escape :#{escapeCharacter()}";
+
     Optional<UomStatus> findByNameContainingIgnoreCase(String name);
 
     Page<UomStatus> findAllByNameContainingIgnoreCase(String name, Pageable pageable);
 
     Page<UomStatus> findAllByIsUsable(Boolean isUsable, Pageable pageable);
 
+    // Read projections for the database read path, sorted by entity properties like the queries above
+
+    @Query(value = SELECT_RESPONSE, countQuery = "select count(s) from uom_status s")
+    Page<UomStatusResponse> findAllResponses(Pageable pageable);
+
+    @Query(value = SELECT_RESPONSE + WHERE_NAME_CONTAINS, countQuery = "select count(s) from uom_status s" + WHERE_NAME_CONTAINS)
+    Page<UomStatusResponse> findAllResponsesByNameContainingIgnoreCase(@Param("name") String name, Pageable pageable);
+
+    @Query(value = SELECT_RESPONSE + " where s.isUsable = :isUsable",
+        countQuery = "select count(s) from uom_status s where s.isUsable = :isUsable")
+    Page<UomStatusResponse> findAllResponsesByIsUsable(@Param("isUsable") Boolean isUsable, Pageable pageable);
+
+    // Count-free slices: one extra row is fetched to tell whether another page follows, no COUNT(*) is run
+
+    @Query(SELECT_RESPONSE + WHERE_NAME_CONTAINS)
+    Slice<UomStatusResponse> findResponseSliceByNameContainingIgnoreCase(@Param("name") String name, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + " where s.isUsable = :isUsable")
+    Slice<UomStatusResponse> findResponseSliceByIsUsable(@Param("isUsable") Boolean isUsable, Pageable pageable);
+
+    long countByNameContainingIgnoreCase(String name);
+
+    long countByIsUsable(Boolean isUsable);
+
+    // Keyset (seek) queries: WHERE (sortKey, id) > (?, ?) ... LIMIT ?, without a count query
+
+    Window<UomStatus> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Window<UomStatus> findAllByNameContainingIgnoreCase(String name, ScrollPosition position, Sort sort, Limit limit);
+
+    Window<UomStatus> findAllByIsUsable(Boolean isUsable, ScrollPosition position, Sort sort, Limit limit);
+
     boolean existsByName(String name);
 
+    /**
+     * Every status name, to rebuild the name filter; must be consumed inside a transaction and closed.
+     */
+    @Query("select s.name from uom_status s")
+    Stream<String> streamAllNames();
+
+    /**
+     * Every status id and name, to rebuild the autocomplete trie; must be consumed inside a transaction and closed.
+     */
+    @Query("select new com.elara.app.unit_of_measure_service.dto.response.NameSuggestion(s.id, s.name) from uom_status s")
+    Stream<NameSuggestion> streamAllSuggestions();
+
 }
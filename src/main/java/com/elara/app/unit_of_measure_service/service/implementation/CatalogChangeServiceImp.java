@@ -0,0 +1,128 @@
+package com.elara.app.unit_of_measure_service.service.implementation;
+
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeEvent;
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeStream;
+import com.elara.app.unit_of_measure_service.dto.response.CatalogChangeResponse;
+import com.elara.app.unit_of_measure_service.dto.response.CatalogChangesResponse;
+import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.dto.response.UomStatusResponse;
+import com.elara.app.unit_of_measure_service.mapper.UomMapper;
+import com.elara.app.unit_of_measure_service.mapper.UomStatusMapper;
+import com.elara.app.unit_of_measure_service.model.CatalogChange;
+import com.elara.app.unit_of_measure_service.model.Uom;
+import com.elara.app.unit_of_measure_service.model.UomStatus;
+import com.elara.app.unit_of_measure_service.repository.CatalogChangeRepository;
+import com.elara.app.unit_of_measure_service.repository.UomRepository;
+import com.elara.app.unit_of_measure_service.repository.UomStatusRepository;
+import com.elara.app.unit_of_measure_service.service.interfaces.CatalogChangeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serves the change feed consumers use to keep a replica of the catalog: the records changed after a
+ * sequence, with their current state, read from the {@code catalog_change} table.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogChangeServiceImp implements CatalogChangeService {
+
+    private static final String ENTITY_NAME = "CatalogChange";
+    private static final String NOMENCLATURE = ENTITY_NAME + "-service";
+    private static final String UOM_ENTITY_NAME = "Uom";
+    private static final String UOM_STATUS_ENTITY_NAME = "UomStatus";
+    private final CatalogChangeRepository repository;
+    private final UomRepository uomRepository;
+    private final UomStatusRepository uomStatusRepository;
+    private final UomMapper uomMapper;
+    private final UomStatusMapper uomStatusMapper;
+    private final CatalogChangeStream stream;
+
+    /**
+     * Reads up to {@code limit} changes after {@code since} with one primary key range scan, keeps the latest
+     * change of each record, and loads the records still present with one {@code IN} query per entity.
+     * <p>
+     * Records are read from the database rather than the snapshot or the caches, which are refreshed only
+     * after commit: a change must never be returned with a state older than itself, or the consumer would
+     * move past it and keep the stale state. A record deleted after its change is returned as a tombstone.
+     * </p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CatalogChangesResponse findChanges(long since, int limit) {
+        final String methodNomenclature = NOMENCLATURE + "-findChanges";
+        log.info("[{}] Request to find up to {} {} records after sequence {}.", methodNomenclature, limit, ENTITY_NAME, since);
+        List<CatalogChange> rows = repository.findAllBySequenceGreaterThanOrderBySequenceAsc(since, Limit.of(limit + 1));
+        boolean hasMore = rows.size() > limit;
+        if (hasMore) {
+            rows = rows.subList(0, limit);
+        }
+        long highWaterMark = rows.isEmpty() ? since : rows.getLast().getSequence();
+
+        Map<RecordKey, CatalogChange> latest = new LinkedHashMap<>();
+        Set<Long> uomIds = new HashSet<>();
+        Set<Long> statusIds = new HashSet<>();
+        for (CatalogChange change : rows) {
+            RecordKey key = new RecordKey(change.getEntityName(), change.getEntityId());
+            // Re-inserted so the map stays ordered by the latest sequence of each record
+            latest.remove(key);
+            latest.put(key, change);
+        }
+        for (CatalogChange change : latest.values()) {
+            if (change.getChangeType() != CatalogChangeEvent.ChangeType.DELETED) {
+                (UOM_ENTITY_NAME.equals(change.getEntityName()) ? uomIds : statusIds).add(change.getEntityId());
+            }
+        }
+        Map<Long, UomResponse> uoms = HashMap.newHashMap(uomIds.size());
+        if (!uomIds.isEmpty()) {
+            for (Uom uom : uomRepository.findAllByIdIn(uomIds)) {
+                uoms.put(uom.getId(), uomMapper.toResponse(uom));
+            }
+        }
+        Map<Long, UomStatusResponse> statuses = HashMap.newHashMap(statusIds.size());
+        if (!statusIds.isEmpty()) {
+            for (UomStatus status : uomStatusRepository.findAllById(statusIds)) {
+                statuses.put(status.getId(), uomStatusMapper.toResponse(status));
+            }
+        }
+
+        List<CatalogChangeResponse> changes = new ArrayList<>(latest.size());
+        for (CatalogChange change : latest.values()) {
+            UomResponse uom = UOM_ENTITY_NAME.equals(change.getEntityName()) ? uoms.get(change.getEntityId()) : null;
+            UomStatusResponse status = UOM_STATUS_ENTITY_NAME.equals(change.getEntityName()) ? statuses.get(change.getEntityId()) : null;
+            CatalogChangeEvent.ChangeType changeType = uom == null && status == null
+                ? CatalogChangeEvent.ChangeType.DELETED
+                : change.getChangeType();
+            changes.add(new CatalogChangeResponse(change.getSequence(), change.getEntityName(), change.getEntityId(), changeType, uom, status));
+        }
+        log.info("[{}] {} changed records found up to sequence {}.", methodNomenclature, changes.size(), highWaterMark);
+        return new CatalogChangesResponse(changes, highWaterMark, hasMore);
+    }
+
+    /**
+     * Opens a server-sent event stream of the changes committed after {@code lastEventId}; see
+     * {@link CatalogChangeStream}. Unlike the feed, it sends no record state.
+     */
+    @Override
+    public SseEmitter watch(Long lastEventId) {
+        final String methodNomenclature = NOMENCLATURE + "-watch";
+        log.info("[{}] Request to watch {} records after sequence {}.", methodNomenclature, ENTITY_NAME, lastEventId);
+        return stream.subscribe(lastEventId);
+    }
+
+    private record RecordKey(String entityName, Long entityId) {
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.elara.app.unit_of_measure_service.service.implementation;
+
+import com.elara.app.unit_of_measure_service.alias.AliasTable;
+import com.elara.app.unit_of_measure_service.alias.UomAliasIndex;
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeEvent;
+import com.elara.app.unit_of_measure_service.dto.request.UomAliasRequest;
+import com.elara.app.unit_of_measure_service.dto.response.UomAliasResponse;
+import com.elara.app.unit_of_measure_service.exceptions.ResourceConflictException;
+import com.elara.app.unit_of_measure_service.exceptions.ResourceNotFoundException;
+import com.elara.app.unit_of_measure_service.mapper.UomAliasMapper;
+import com.elara.app.unit_of_measure_service.model.Uom;
+import com.elara.app.unit_of_measure_service.model.UomAlias;
+import com.elara.app.unit_of_measure_service.repository.UomAliasRepository;
+import com.elara.app.unit_of_measure_service.repository.UomRepository;
+import com.elara.app.unit_of_measure_service.service.interfaces.UomAliasService;
+import com.elara.app.unit_of_measure_service.utils.MessageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Manages the aliases of units and resolves raw strings to units through the in-memory {@link UomAliasIndex}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UomAliasServiceImp implements UomAliasService {
+
+    private static final String ENTITY_NAME = UomAliasIndex.ENTITY_NAME;
+    private static final String UOM_ENTITY_NAME = "Uom";
+    private static final String NOMENCLATURE = ENTITY_NAME + "-service";
+    private final UomAliasRepository repository;
+    private final UomRepository uomRepository;
+    private final UomAliasMapper mapper;
+    private final MessageService messageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UomAliasIndex index;
+
+    /**
+     * Adds an alias to a unit. The alias must not match another alias or any unit name, ignoring case.
+     *
+     * @throws ResourceNotFoundException if the unit does not exist
+     * @throws ResourceConflictException if the alias is already taken
+     */
+    @Override
+    @Transactional
+    public UomAliasResponse save(Long uomId, UomAliasRequest request) {
+        final String methodNomenclature = NOMENCLATURE + "-save";
+        log.info("[{}] {} record to save for {} with id {}: {}", methodNomenclature, ENTITY_NAME, UOM_ENTITY_NAME, uomId, request);
+        try {
+            Uom uom = uomRepository.findById(uomId).orElseThrow(() -> {
+                String notFoundMsg = messageService.getMessage("crud.not.found", UOM_ENTITY_NAME, "id", uomId);
+                log.warn("[{}] {}", methodNomenclature, notFoundMsg);
+                return new ResourceNotFoundException(notFoundMsg);
+            });
+            String alias = Objects.requireNonNull(request).alias().strip();
+            if (repository.existsByAliasIgnoreCase(alias) || uomRepository.existsByNameIgnoreCase(alias)) {
+                String alreadyExistsMsg = messageService.getMessage("crud.already.exists", ENTITY_NAME, "alias", alias);
+                log.warn("[{}] {}", methodNomenclature, alreadyExistsMsg);
+                throw new ResourceConflictException(alreadyExistsMsg);
+            }
+            UomAlias entity = mapper.toEntity(request);
+            entity.setAlias(alias);
+            entity.setUom(uom);
+            UomAlias saved = repository.save(entity);
+            log.info("[{}] {} record created with id: {}.", methodNomenclature, ENTITY_NAME, saved.getId());
+            eventPublisher.publishEvent(new CatalogChangeEvent(ENTITY_NAME, saved.getId(), CatalogChangeEvent.ChangeType.CREATED));
+            return mapper.toResponse(saved);
+        } catch (ResourceConflictException | ResourceNotFoundException e) {
+            String saveErrorMsg = messageService.getMessage("crud.save.error", ENTITY_NAME);
+            log.warn("[{}] {}", methodNomenclature, saveErrorMsg);
+            throw e;
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(Long id) {
+        final String methodNomenclature = NOMENCLATURE + "-deleteById";
+        log.info("[{}] Delete {} record with id: {}", methodNomenclature, ENTITY_NAME, id);
+        if (!repository.existsById(id)) {
+            String notFoundMsg = messageService.getMessage("crud.not.found", ENTITY_NAME, "id", id);
+            String deleteErrorMsg = messageService.getMessage("crud.delete.error", ENTITY_NAME);
+            log.warn("[{}] {}", methodNomenclature, notFoundMsg);
+            log.warn("[{}] {}", methodNomenclature, deleteErrorMsg);
+            throw new ResourceNotFoundException(notFoundMsg);
+        }
+        repository.deleteById(id);
+        log.info("[{}] {} record with id: {}, deleted.", methodNomenclature, ENTITY_NAME, id);
+        eventPublisher.publishEvent(new CatalogChangeEvent(ENTITY_NAME, id, CatalogChangeEvent.ChangeType.DELETED));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UomAliasResponse> findAllByUomId(Long uomId) {
+        final String methodNomenclature = NOMENCLATURE + "-findAllByUomId";
+        log.info("[{}] Fetch {} records of {} with id: {}", methodNomenclature, ENTITY_NAME, UOM_ENTITY_NAME, uomId);
+        if (!uomRepository.existsById(uomId)) {
+            String notFoundMsg = messageService.getMessage("crud.not.found", UOM_ENTITY_NAME, "id", uomId);
+            log.warn("[{}] {}", methodNomenclature, notFoundMsg);
+            throw new ResourceNotFoundException(notFoundMsg);
+        }
+        return repository.findAllByUomIdOrderByIdAsc(uomId).stream().map(mapper::toResponse).toList();
+    }
+
+    /**
+     * Maps each raw string to the id of the unit it names or aliases, in request order. Strings that resolve
+     * to nothing are left out; repeated strings are resolved once. Never reaches the database.
+     */
+    @Override
+    public Map<String, Long> resolve(List<String> tokens) {
+        final String methodNomenclature = NOMENCLATURE + "-resolve";
+        // One table for the whole batch, so a swap halfway through cannot mix two catalogs
+        AliasTable units = index.table();
+        Map<String, Long> resolved = LinkedHashMap.newLinkedHashMap(tokens.size());
+        for (String token : tokens) {
+            if (!resolved.containsKey(token)) {
+                long id = units.resolve(token);
+                if (id != AliasTable.NOT_FOUND) {
+                    resolved.put(token, id);
+                }
+            }
+        }
+        log.info("[{}] Resolved {} of {} strings to {} records.", methodNomenclature, resolved.size(), tokens.size(), UOM_ENTITY_NAME);
+        return resolved;
+    }
+
+}
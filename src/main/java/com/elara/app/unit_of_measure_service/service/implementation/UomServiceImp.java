@@ -1,26 +1,79 @@
 package com.elara.app.unit_of_measure_service.service.implementation;
 
+import com.elara.app.unit_of_measure_service.alias.AliasTable;
+import com.elara.app.unit_of_measure_service.alias.UomAliasIndex;
+import com.elara.app.unit_of_measure_service.autocomplete.AutocompleteIndex;
+import com.elara.app.unit_of_measure_service.cache.CatalogCaches;
+import com.elara.app.unit_of_measure_service.cache.CatalogNameIndex;
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeEvent;
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeLog;
+import com.elara.app.unit_of_measure_service.catalog.CatalogSnapshot;
+import com.elara.app.unit_of_measure_service.catalog.CatalogSnapshotHolder;
+import com.elara.app.unit_of_measure_service.catalog.ConversionKernel;
+import com.elara.app.unit_of_measure_service.catalog.ConversionTable;
+import com.elara.app.unit_of_measure_service.dto.request.ConversionRequest;
 import com.elara.app.unit_of_measure_service.dto.request.UomRequest;
+import com.elara.app.unit_of_measure_service.dto.response.BatchConversionResponse;
+import com.elara.app.unit_of_measure_service.dto.response.ConversionItemResponse;
+import com.elara.app.unit_of_measure_service.dto.response.ConversionResponse;
+import com.elara.app.unit_of_measure_service.dto.response.CursorPageResponse;
+import com.elara.app.unit_of_measure_service.dto.response.NameSuggestion;
+import com.elara.app.unit_of_measure_service.dto.response.ParsedQuantityResponse;
+import com.elara.app.unit_of_measure_service.dto.response.QuantityParseResponse;
+import com.elara.app.unit_of_measure_service.dto.response.SliceResponse;
 import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.dto.update.UomBulkUpdate;
 import com.elara.app.unit_of_measure_service.dto.update.UomUpdate;
+import com.elara.app.unit_of_measure_service.exceptions.InvalidDataException;
+import com.elara.app.unit_of_measure_service.exceptions.PreconditionFailedException;
 import com.elara.app.unit_of_measure_service.exceptions.ResourceConflictException;
 import com.elara.app.unit_of_measure_service.exceptions.ResourceNotFoundException;
+import com.elara.app.unit_of_measure_service.lookup.UomLookupBatcher;
 import com.elara.app.unit_of_measure_service.mapper.UomMapper;
 import com.elara.app.unit_of_measure_service.model.Uom;
 import com.elara.app.unit_of_measure_service.model.UomStatus;
+import com.elara.app.unit_of_measure_service.quantity.ParsedQuantity;
+import com.elara.app.unit_of_measure_service.quantity.QuantityParser;
 import com.elara.app.unit_of_measure_service.repository.UomRepository;
+import com.elara.app.unit_of_measure_service.utils.EntityTags;
+import com.elara.app.unit_of_measure_service.utils.ErrorCode;
+import com.elara.app.unit_of_measure_service.utils.KeysetCursor;
 import com.elara.app.unit_of_measure_service.service.interfaces.UomService;
 import com.elara.app.unit_of_measure_service.service.interfaces.UomStatusService;
 import com.elara.app.unit_of_measure_service.utils.MessageService;
+import com.elara.app.unit_of_measure_service.utils.SingleFlight;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -29,10 +82,25 @@ public class UomServiceImp implements UomService {
 
     private static final String ENTITY_NAME = "Uom";
     private static final String NOMENCLATURE = ENTITY_NAME + "-service";
+    /**
+     * Below this size a batch is converted on the calling thread; fork/join overhead outweighs the gain.
+     */
+    private static final int PARALLEL_BATCH_THRESHOLD = 4096;
+    private static final int MAX_PARSE_LINES = 100_000;
     private final UomRepository repository;
     private final UomMapper mapper;
     private final MessageService messageService;
     private final UomStatusService statusService;
+    private final CatalogSnapshotHolder catalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final UomLookupBatcher lookupBatcher;
+    private final SingleFlight singleFlight;
+    private final CatalogCaches caches;
+    private final CatalogNameIndex nameIndex;
+    private final AutocompleteIndex autocomplete;
+    private final UomAliasIndex aliases;
+    private final CatalogChangeLog changeLog;
 
     @Override
     @Transactional
@@ -48,8 +116,11 @@ public class UomServiceImp implements UomService {
             Uom entity = mapper.toEntity(request);
             UomStatus status = statusService.findEntityById(request.uomStatusId());
             entity.setUomStatus(status); // This can be avoided using @Context in the mapper and receive the request and UomStatus as parameters
+            nameIndex.uomNames().add(request.name());
             Uom saved = repository.save(entity);
             log.info("[{}] {} record created with id: {}.", methodNomenclature, ENTITY_NAME, saved.getId());
+            changeLog.record(ENTITY_NAME, saved.getId(), CatalogChangeEvent.ChangeType.CREATED);
+            eventPublisher.publishEvent(new CatalogChangeEvent(ENTITY_NAME, saved.getId(), CatalogChangeEvent.ChangeType.CREATED, saved.getVersion()));
             return mapper.toResponse(saved);
         } catch (ResourceConflictException | ResourceNotFoundException e) {
             String saveErrorMsg = messageService.getMessage("crud.save.error", ENTITY_NAME);
@@ -58,9 +129,55 @@ public class UomServiceImp implements UomService {
         }
     }
 
+    /**
+     * Creates every unit of the batch, or none of them.
+     * <p>
+     * Name uniqueness and the referenced statuses are checked with one query each for the whole batch,
+     * and ids come from a pooled sequence, so Hibernate sends the inserts as JDBC batches. A single
+     * catalog change event is published for the batch.
+     * </p>
+     */
     @Override
     @Transactional
-    public UomResponse update(Long id, UomUpdate request) {
+    public List<UomResponse> saveAll(List<UomRequest> requests) {
+        final String methodNomenclature = NOMENCLATURE + "-saveAll";
+        log.info("[{}] Bulk save of {} {} records.", methodNomenclature, requests.size(), ENTITY_NAME);
+        try {
+            Map<String, Long> ownerByName = HashMap.newHashMap(requests.size());
+            Set<Long> statusIds = new HashSet<>();
+            for (UomRequest request : requests) {
+                claimName(ownerByName, request.name(), null, methodNomenclature);
+                statusIds.add(request.uomStatusId());
+            }
+            ensureNamesAvailable(ownerByName, methodNomenclature);
+            Map<Long, UomStatus> statuses = statusService.findEntitiesByIds(statusIds);
+            List<Uom> entities = new ArrayList<>(requests.size());
+            for (UomRequest request : requests) {
+                Uom entity = mapper.toEntity(request);
+                entity.setUomStatus(statuses.get(request.uomStatusId()));
+                nameIndex.uomNames().add(request.name());
+                entities.add(entity);
+            }
+            List<Uom> saved = repository.saveAll(entities);
+            log.info("[{}] {} {} records created.", methodNomenclature, saved.size(), ENTITY_NAME);
+            changeLog.record(ENTITY_NAME, saved.stream().map(Uom::getId).toList(), CatalogChangeEvent.ChangeType.CREATED);
+            eventPublisher.publishEvent(new CatalogChangeEvent(ENTITY_NAME, null, CatalogChangeEvent.ChangeType.CREATED));
+            return saved.stream().map(mapper::toResponse).toList();
+        } catch (ResourceConflictException | ResourceNotFoundException e) {
+            String saveErrorMsg = messageService.getMessage("crud.save.error", ENTITY_NAME);
+            log.warn("[{}] {}", methodNomenclature, saveErrorMsg);
+            throw e;
+        }
+    }
+
+    /**
+     * Updates a unit if it is still at the version the client read, as told by {@code ifMatch}. The version
+     * is checked again by Hibernate when the change is flushed, so a concurrent update committed in between
+     * fails with an optimistic locking error instead of being overwritten.
+     */
+    @Override
+    @Transactional
+    public UomResponse update(Long id, UomUpdate request, String ifMatch) {
         final String methodNomenclature = NOMENCLATURE + "-update";
         log.info("[{}] Update {} record with id: {} and request: {}", methodNomenclature, ENTITY_NAME, id, request);
         try {
@@ -70,6 +187,11 @@ public class UomServiceImp implements UomService {
                     log.warn("[{}] {}", methodNomenclature, msg);
                     return new ResourceNotFoundException(msg);
                 });
+            if (!EntityTags.matches(ifMatch, id, existing.getVersion())) {
+                String msg = messageService.getMessage("crud.version.mismatch", ENTITY_NAME, id, EntityTags.of(id, existing.getVersion()), ifMatch);
+                log.warn("[{}] {}", methodNomenclature, msg);
+                throw new PreconditionFailedException(msg);
+            }
             if (!existing.getName().equals(request.name()) && isNameTaken(request.name())) {
                 String alreadyExistsMsg = messageService.getMessage("crud.already.exists", ENTITY_NAME, "name", request.name());
                 log.warn("[{}] {}", methodNomenclature, alreadyExistsMsg);
@@ -78,9 +200,70 @@ public class UomServiceImp implements UomService {
             UomStatus status = existing.getUomStatus();
             mapper.updateEntityFromDto(existing, request);
             existing.setUomStatus(status);
+            nameIndex.uomNames().add(request.name());
+            // Flushed here so the returned version, and the ETag built from it, is the one just written
+            repository.flush();
             log.info("[{}] {} record updated with data: {}", methodNomenclature, ENTITY_NAME, existing);
+            caches.uoms().invalidate(id);
+            changeLog.record(ENTITY_NAME, id, CatalogChangeEvent.ChangeType.UPDATED);
+            eventPublisher.publishEvent(new CatalogChangeEvent(ENTITY_NAME, id, CatalogChangeEvent.ChangeType.UPDATED, existing.getVersion()));
             return mapper.toResponse(existing);
-        } catch (ResourceNotFoundException | ResourceConflictException e) {
+        } catch (ResourceNotFoundException | ResourceConflictException | PreconditionFailedException e) {
+            String updateErrorMsg = messageService.getMessage("crud.update.error", ENTITY_NAME);
+            log.warn("[{}] {}", methodNomenclature, updateErrorMsg);
+            throw e;
+        }
+    }
+
+    /**
+     * Updates every unit of the batch, or none of them. The units are loaded with one {@code IN} query and
+     * the new names checked with another; the changes are flushed as JDBC batch updates on commit.
+     * As in {@link #update(Long, UomUpdate, String)}, the status of the units is left unchanged.
+     */
+    @Override
+    @Transactional
+    public List<UomResponse> updateAll(List<UomBulkUpdate> updates) {
+        final String methodNomenclature = NOMENCLATURE + "-updateAll";
+        log.info("[{}] Bulk update of {} {} records.", methodNomenclature, updates.size(), ENTITY_NAME);
+        try {
+            Set<Long> ids = HashSet.newHashSet(updates.size());
+            Map<String, Long> ownerByName = HashMap.newHashMap(updates.size());
+            for (UomBulkUpdate update : updates) {
+                if (!ids.add(update.id())) {
+                    String msg = messageService.getMessage("uom.bulk.duplicate.id", ENTITY_NAME, update.id());
+                    log.warn("[{}] {}", methodNomenclature, msg);
+                    throw new InvalidDataException(msg);
+                }
+                claimName(ownerByName, update.name(), update.id(), methodNomenclature);
+            }
+            Map<Long, Uom> existing = HashMap.newHashMap(ids.size());
+            for (Uom uom : repository.findAllById(ids)) {
+                existing.put(uom.getId(), uom);
+            }
+            for (Long id : ids) {
+                if (!existing.containsKey(id)) {
+                    throw notFound(id, methodNomenclature);
+                }
+            }
+            ensureNamesAvailable(ownerByName, methodNomenclature);
+            for (UomBulkUpdate update : updates) {
+                Uom entity = existing.get(update.id());
+                UomStatus status = entity.getUomStatus();
+                mapper.updateEntityFromBulkDto(entity, update);
+                entity.setUomStatus(status);
+                nameIndex.uomNames().add(update.name());
+            }
+            repository.flush();
+            List<UomResponse> responses = new ArrayList<>(updates.size());
+            for (UomBulkUpdate update : updates) {
+                responses.add(mapper.toResponse(existing.get(update.id())));
+            }
+            log.info("[{}] {} {} records updated.", methodNomenclature, responses.size(), ENTITY_NAME);
+            ids.forEach(caches.uoms()::invalidate);
+            changeLog.record(ENTITY_NAME, ids, CatalogChangeEvent.ChangeType.UPDATED);
+            eventPublisher.publishEvent(new CatalogChangeEvent(ENTITY_NAME, null, CatalogChangeEvent.ChangeType.UPDATED));
+            return responses;
+        } catch (ResourceNotFoundException | ResourceConflictException | InvalidDataException e) {
             String updateErrorMsg = messageService.getMessage("crud.update.error", ENTITY_NAME);
             log.warn("[{}] {}", methodNomenclature, updateErrorMsg);
             throw e;
@@ -88,6 +271,7 @@ public class UomServiceImp implements UomService {
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id) {
         final String methodNomenclature = NOMENCLATURE + "-deleteById";
         log.info("[{}] Delete {} record with id: {}", methodNomenclature, ENTITY_NAME, id);
@@ -99,6 +283,38 @@ public class UomServiceImp implements UomService {
             }
             repository.deleteById(id);
             log.info("[{}] {} record with id: {}, deleted.", methodNomenclature, ENTITY_NAME, id);
+            caches.uoms().invalidate(id);
+            changeLog.record(ENTITY_NAME, id, CatalogChangeEvent.ChangeType.DELETED);
+            eventPublisher.publishEvent(new CatalogChangeEvent(ENTITY_NAME, id, CatalogChangeEvent.ChangeType.DELETED));
+        } catch (ResourceNotFoundException e) {
+            String deleteErrorMsg = messageService.getMessage("crud.delete.error", ENTITY_NAME);
+            log.warn("[{}] {}", methodNomenclature, deleteErrorMsg);
+            throw e;
+        }
+    }
+
+    /**
+     * Deletes every listed unit with a single {@code DELETE ... WHERE id IN (...)}, or none of them when
+     * any id does not exist. Repeated ids are ignored.
+     */
+    @Override
+    @Transactional
+    public void deleteAllById(List<Long> ids) {
+        final String methodNomenclature = NOMENCLATURE + "-deleteAllById";
+        log.info("[{}] Bulk delete of {} {} records.", methodNomenclature, ids.size(), ENTITY_NAME);
+        try {
+            Set<Long> distinctIds = new LinkedHashSet<>(ids);
+            Set<Long> existing = new HashSet<>(repository.findExistingIds(distinctIds));
+            for (Long id : distinctIds) {
+                if (!existing.contains(id)) {
+                    throw notFound(id, methodNomenclature);
+                }
+            }
+            repository.deleteAllByIdInBatch(distinctIds);
+            log.info("[{}] {} {} records deleted.", methodNomenclature, distinctIds.size(), ENTITY_NAME);
+            distinctIds.forEach(caches.uoms()::invalidate);
+            changeLog.record(ENTITY_NAME, distinctIds, CatalogChangeEvent.ChangeType.DELETED);
+            eventPublisher.publishEvent(new CatalogChangeEvent(ENTITY_NAME, null, CatalogChangeEvent.ChangeType.DELETED));
         } catch (ResourceNotFoundException e) {
             String deleteErrorMsg = messageService.getMessage("crud.delete.error", ENTITY_NAME);
             log.warn("[{}] {}", methodNomenclature, deleteErrorMsg);
@@ -112,14 +328,15 @@ public class UomServiceImp implements UomService {
         final String methodNomenclature = NOMENCLATURE + "-findById";
         log.info("[{}] Fetch {} record with id: {}", methodNomenclature, ENTITY_NAME, id);
         try {
-            Optional<Uom> entity = repository.findById(id);
-            if (entity.isEmpty()) {
+            Optional<UomResponse> response = findResponseById(id);
+            if (response.isEmpty()) {
                 String msg = messageService.getMessage("crud.not.found", ENTITY_NAME, "id", id);
                 log.warn("[{}] {}", methodNomenclature, msg);
                 throw new ResourceNotFoundException(msg);
             }
-            log.info("[{}] Fetched {} record with id: {}: {}", methodNomenclature, ENTITY_NAME, id, entity.get());
-            return mapper.toResponse(entity.get());
+            autocomplete.recordUomUse(id);
+            log.info("[{}] Fetched {} record with id: {}: {}", methodNomenclature, ENTITY_NAME, id, response.get());
+            return response.get();
         } catch (ResourceNotFoundException e) {
             String retrieveErrorMsg = messageService.getMessage("crud.retrieve.error", ENTITY_NAME);
             log.warn("[{}] {}", methodNomenclature, retrieveErrorMsg);
@@ -127,12 +344,45 @@ public class UomServiceImp implements UomService {
         }
     }
 
+    /**
+     * Reads several units at once: from the snapshot when available, otherwise with one {@code IN} query.
+     *
+     * @return the units found, keyed by id in request order; unknown ids are absent
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, UomResponse> findAllByIds(Collection<Long> ids) {
+        final String methodNomenclature = NOMENCLATURE + "-findAllByIds";
+        log.info("[{}] Fetch {} {} records by id.", methodNomenclature, ids.size(), ENTITY_NAME);
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        CatalogSnapshot snapshot = catalog.current();
+        Map<Long, UomResponse> rows;
+        if (snapshot != null) {
+            catalog.recordSnapshotRead();
+            rows = null;
+        } else {
+            catalog.recordDatabaseRead();
+            rows = singleFlight.execute(methodNomenclature, () -> lookupBatcher.findAll(distinctIds), distinctIds);
+        }
+        Map<Long, UomResponse> found = LinkedHashMap.newLinkedHashMap(distinctIds.size());
+        for (Long id : distinctIds) {
+            UomResponse uom = rows == null ? snapshot.findUom(id).orElse(null) : rows.get(id);
+            if (uom != null) {
+                found.put(id, uom);
+            }
+        }
+        log.info("[{}] Fetched {} of {} {} records.", methodNomenclature, found.size(), distinctIds.size(), ENTITY_NAME);
+        return found;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<UomResponse> findAll(Pageable pageable) {
         final String methodNomenclature = NOMENCLATURE + "-findAll";
         log.info("[{}] Fetch all {} records.", methodNomenclature, ENTITY_NAME);
-        Page<UomResponse> page = repository.findAll(pageable).map(mapper::toResponse);
+        Page<UomResponse> page = fromSnapshot(snapshot -> snapshot.findUoms(uom -> true, pageable))
+            .orElseGet(() -> singleFlight.execute(methodNomenclature,
+                () -> repository.findAllResponses(pageable), pageable));
         log.info("[{}] Fetched {} {} records.", methodNomenclature, page.getNumberOfElements(), ENTITY_NAME);
         return page;
     }
@@ -142,30 +392,182 @@ public class UomServiceImp implements UomService {
     public Page<UomResponse> findAllByName(String name, Pageable pageable) {
         final String methodNomenclature = NOMENCLATURE + "-findAllByName";
         log.info("[{}] Fetch all {} records that contain in their name: '{}'", methodNomenclature, ENTITY_NAME, name);
-        Page<UomResponse> page = repository.findAllByNameContainingIgnoreCase(name, pageable).map(mapper::toResponse);
+        Page<UomResponse> page = fromSnapshot(snapshot -> snapshot.findUomsByName(name, pageable))
+            .orElseGet(() -> singleFlight.execute(methodNomenclature,
+                () -> repository.findAllResponsesByNameContainingIgnoreCase(name, pageable), name, pageable));
         log.info("[{}] Fetched {} {} entities with name like '{}'.", methodNomenclature, page.getNumberOfElements(), ENTITY_NAME, name);
         return page;
     }
 
+    /**
+     * Typo-tolerant variant of {@link #findAllByName(String, Pageable)}, ranked by relevance. Needs the catalog
+     * snapshot's name indexes; without the snapshot it degrades to the plain substring search.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<UomResponse> findAllByNameFuzzy(String name, Pageable pageable) {
+        final String methodNomenclature = NOMENCLATURE + "-findAllByNameFuzzy";
+        log.info("[{}] Fetch all {} records with a name close to: '{}'", methodNomenclature, ENTITY_NAME, name);
+        CatalogSnapshot snapshot = catalog.current();
+        if (snapshot == null) {
+            log.info("[{}] Catalog snapshot unavailable, falling back to substring search.", methodNomenclature);
+            return findAllByName(name, pageable);
+        }
+        catalog.recordSnapshotRead();
+        Page<UomResponse> page = snapshot.findUomsByNameFuzzy(name, pageable);
+        log.info("[{}] Fetched {} of {} {} entities with a name close to '{}'.", methodNomenclature, page.getNumberOfElements(),
+            page.getTotalElements(), ENTITY_NAME, name);
+        return page;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<UomResponse> findAllByUomStatusId(Long uomStatusId, Pageable pageable) {
         final String methodNomenclature = NOMENCLATURE + "-findAllByUomStatusId";
         log.info("[{}] Fetch all {} records with status id: '{}'", methodNomenclature, ENTITY_NAME, uomStatusId);
-        Page<UomResponse> page = repository.findAllByUomStatusId(uomStatusId, pageable).map(mapper::toResponse);
+        Page<UomResponse> page = fromSnapshot(snapshot -> snapshot.findUomsByStatusId(uomStatusId, pageable))
+            .orElseGet(() -> singleFlight.execute(methodNomenclature,
+                () -> repository.findAllResponsesByUomStatusId(uomStatusId, pageable), uomStatusId, pageable));
         log.info("[{}] Fetched {} {} records with status id: '{}'", methodNomenclature, page.getNumberOfElements(), ENTITY_NAME, uomStatusId);
         return page;
     }
 
+    /**
+     * Count-free variant of {@link #findAllByName(String, Pageable)}: the database only reads one row past the
+     * page, and the total, when requested, comes from {@link CatalogCaches#approximateTotal}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<UomResponse> findSliceByName(String name, Pageable pageable, boolean approximateTotal) {
+        final String methodNomenclature = NOMENCLATURE + "-findSliceByName";
+        log.info("[{}] Fetch a slice of {} records that contain in their name: '{}'", methodNomenclature, ENTITY_NAME, name);
+        SliceResponse<UomResponse> slice = slice(
+            snapshot -> snapshot.findUomsByName(name, pageable),
+            () -> repository.findResponseSliceByNameContainingIgnoreCase(name, pageable),
+            () -> repository.countByNameContainingIgnoreCase(name),
+            approximateTotal, methodNomenclature, name.toUpperCase(Locale.ROOT), pageable);
+        log.info("[{}] Fetched {} {} entities with name like '{}'.", methodNomenclature, slice.content().size(), ENTITY_NAME, name);
+        return slice;
+    }
+
+    /**
+     * Count-free variant of {@link #findAllByUomStatusId(Long, Pageable)}, see {@link #findSliceByName}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<UomResponse> findSliceByUomStatusId(Long uomStatusId, Pageable pageable, boolean approximateTotal) {
+        final String methodNomenclature = NOMENCLATURE + "-findSliceByUomStatusId";
+        log.info("[{}] Fetch a slice of {} records with status id: '{}'", methodNomenclature, ENTITY_NAME, uomStatusId);
+        SliceResponse<UomResponse> slice = slice(
+            snapshot -> snapshot.findUomsByStatusId(uomStatusId, pageable),
+            () -> repository.findResponseSliceByUomStatusId(uomStatusId, pageable),
+            () -> repository.countByUomStatusId(uomStatusId),
+            approximateTotal, methodNomenclature, uomStatusId, pageable);
+        log.info("[{}] Fetched {} {} records with status id: '{}'", methodNomenclature, slice.content().size(), ENTITY_NAME, uomStatusId);
+        return slice;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UomResponse> scrollAll(String cursor, String sort, int size) {
+        final String methodNomenclature = NOMENCLATURE + "-scrollAll";
+        log.info("[{}] Fetch {} {} records after cursor: '{}'.", methodNomenclature, size, ENTITY_NAME, cursor);
+        KeysetCursor position = keysetCursor(cursor, sort, methodNomenclature);
+        CursorPageResponse<UomResponse> page = scroll(
+            snapshot -> snapshot.scrollUoms(uom -> true, position, size),
+            () -> repository.findAllBy(position.scrollPosition(), position.sort(), Limit.of(size)),
+            position, size, methodNomenclature);
+        log.info("[{}] Fetched {} {} records.", methodNomenclature, page.content().size(), ENTITY_NAME);
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UomResponse> scrollAllByName(String name, String cursor, String sort, int size) {
+        final String methodNomenclature = NOMENCLATURE + "-scrollAllByName";
+        log.info("[{}] Fetch {} {} records that contain in their name: '{}' after cursor: '{}'.", methodNomenclature, size, ENTITY_NAME, name, cursor);
+        KeysetCursor position = keysetCursor(cursor, sort, methodNomenclature);
+        CursorPageResponse<UomResponse> page = scroll(
+            snapshot -> snapshot.scrollUomsByName(name, position, size),
+            () -> repository.findAllByNameContainingIgnoreCase(name, position.scrollPosition(), position.sort(), Limit.of(size)),
+            position, size, methodNomenclature, name);
+        log.info("[{}] Fetched {} {} entities with name like '{}'.", methodNomenclature, page.content().size(), ENTITY_NAME, name);
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UomResponse> scrollAllByUomStatusId(Long uomStatusId, String cursor, String sort, int size) {
+        final String methodNomenclature = NOMENCLATURE + "-scrollAllByUomStatusId";
+        log.info("[{}] Fetch {} {} records with status id: '{}' after cursor: '{}'.", methodNomenclature, size, ENTITY_NAME, uomStatusId, cursor);
+        KeysetCursor position = keysetCursor(cursor, sort, methodNomenclature);
+        CursorPageResponse<UomResponse> page = scroll(
+            snapshot -> snapshot.scrollUomsByStatusId(uomStatusId, position, size),
+            () -> repository.findAllByUomStatusId(uomStatusId, position.scrollPosition(), position.sort(), Limit.of(size)),
+            position, size, methodNomenclature, uomStatusId);
+        log.info("[{}] Fetched {} {} records with status id: '{}'", methodNomenclature, page.content().size(), ENTITY_NAME, uomStatusId);
+        return page;
+    }
+
+    /**
+     * Feeds every unit, optionally only those with {@code uomStatusId}, to {@code sink} in id order.
+     * <p>
+     * With the snapshot disabled, rows come from a database cursor fetched in batches and each entity is
+     * detached once written, so neither the result set nor the persistence context grows with the catalog.
+     * Must be called on the thread that writes the response, since the stream lives as long as this transaction.
+     * </p>
+     *
+     * @return the number of units written
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long export(Long uomStatusId, Consumer<UomResponse> sink) {
+        final String methodNomenclature = NOMENCLATURE + "-export";
+        log.info("[{}] Export {} records with status id: '{}'.", methodNomenclature, ENTITY_NAME, uomStatusId);
+        long exported = 0;
+        try (Stream<UomResponse> rows = exportRows(uomStatusId)) {
+            Iterator<UomResponse> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(iterator.next());
+                exported++;
+            }
+        }
+        log.info("[{}] Exported {} {} records.", methodNomenclature, exported, ENTITY_NAME);
+        return exported;
+    }
+
     @Override
     public boolean isNameTaken(String name) {
         final String methodNomenclature = NOMENCLATURE + "-isNameTaken";
         log.info("[{}] Check if name '{}' is taken.", methodNomenclature, name);
-        boolean exists = repository.existsByNameIgnoreCase(name);
+        CatalogSnapshot snapshot = catalog.current();
+        boolean exists;
+        if (snapshot != null) {
+            catalog.recordSnapshotRead();
+            exists = snapshot.isUomNameTaken(name);
+        } else if (!nameIndex.uomNames().mightContain(name)) {
+            exists = false;
+        } else {
+            catalog.recordDatabaseRead();
+            exists = singleFlight.execute(methodNomenclature, () -> repository.existsByNameIgnoreCase(name), name);
+            nameIndex.uomNames().recordDatabaseCheck(exists);
+        }
         log.info("[{}] Name '{}' {} taken.", methodNomenclature, name, exists ? "is" : "is not");
         return exists;
     }
 
+    /**
+     * Suggests unit names from the in-memory prefix trie, most used first; never reaches the database.
+     */
+    @Override
+    public List<NameSuggestion> autocomplete(String prefix, int limit) {
+        final String methodNomenclature = NOMENCLATURE + "-autocomplete";
+        log.info("[{}] Suggest up to {} {} names starting with '{}'.", methodNomenclature, limit, ENTITY_NAME, prefix);
+        List<NameSuggestion> suggestions = autocomplete.suggestUoms(prefix, limit);
+        log.info("[{}] Suggested {} {} names.", methodNomenclature, suggestions.size(), ENTITY_NAME);
+        return suggestions;
+    }
+
     @Override
     @Transactional
     public UomResponse changeStatus(Long id, Long uomStatusId) {
@@ -180,7 +582,11 @@ public class UomServiceImp implements UomService {
                 });
             UomStatus newStatus = statusService.findEntityById(uomStatusId);
             existing.setUomStatus(newStatus);
+            repository.flush();
             log.info("[{}] Changed status id of {} record with id: {} to: {}", methodNomenclature, ENTITY_NAME, id, newStatus.getId());
+            caches.uoms().invalidate(id);
+            changeLog.record(ENTITY_NAME, id, CatalogChangeEvent.ChangeType.STATUS_CHANGED);
+            eventPublisher.publishEvent(new CatalogChangeEvent(ENTITY_NAME, id, CatalogChangeEvent.ChangeType.STATUS_CHANGED, existing.getVersion()));
             return mapper.toResponse(existing);
         } catch (ResourceNotFoundException e) {
             String updateErrorMsg = messageService.getMessage("crud.update.error", ENTITY_NAME);
@@ -189,4 +595,408 @@ public class UomServiceImp implements UomService {
         }
     }
 
+    /**
+     * Converts a quantity between two units as {@code quantity * from.factor / to.factor}.
+     * <p>
+     * When the catalog snapshot is available both factors are resolved from its {@link ConversionTable},
+     * so the conversion costs no database round trip. Units whose status is not usable are rejected.
+     * The result is rounded as configured on the target unit.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ConversionResponse convert(Long fromUomId, Long toUomId, BigDecimal quantity) {
+        final String methodNomenclature = NOMENCLATURE + "-convert";
+        log.info("[{}] Convert {} from {} record with id: {} to id: {}", methodNomenclature, quantity, ENTITY_NAME, fromUomId, toUomId);
+        try {
+            ConversionTable table = conversionTable(List.of(fromUomId, toUomId));
+            int from = resolveOrdinal(table, fromUomId, methodNomenclature);
+            int to = resolveOrdinal(table, toUomId, methodNomenclature);
+            BigDecimal result;
+            try {
+                result = table.convert(quantity, from, to);
+            } catch (ArithmeticException e) {
+                throw roundingNecessary(toUomId, methodNomenclature);
+            }
+            autocomplete.recordUomUse(fromUomId);
+            autocomplete.recordUomUse(toUomId);
+            log.info("[{}] Converted {} from id: {} to {} in id: {}", methodNomenclature, quantity, fromUomId, result, toUomId);
+            return new ConversionResponse(fromUomId, toUomId, quantity, result);
+        } catch (ResourceNotFoundException | InvalidDataException e) {
+            String retrieveErrorMsg = messageService.getMessage("crud.retrieve.error", ENTITY_NAME);
+            log.warn("[{}] {}", methodNomenclature, retrieveErrorMsg);
+            throw e;
+        }
+    }
+
+    /**
+     * Converts a little-endian {@code double[]} payload in place. The two factors are folded into a
+     * single {@code double} once, so the per-value work is one primitive multiplication.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public byte[] convertBinary(Long fromUomId, Long toUomId, byte[] quantities) {
+        final String methodNomenclature = NOMENCLATURE + "-convertBinary";
+        log.info("[{}] Convert {} bytes of quantities from {} record with id: {} to id: {}", methodNomenclature, quantities.length, ENTITY_NAME, fromUomId, toUomId);
+        try {
+            if (quantities.length % ConversionKernel.BYTES_PER_VALUE != 0) {
+                String msg = messageService.getMessage("uom.conversion.binary.invalid.length", quantities.length, ConversionKernel.BYTES_PER_VALUE);
+                log.warn("[{}] {}", methodNomenclature, msg);
+                throw new InvalidDataException(msg);
+            }
+            ConversionTable table = conversionTable(List.of(fromUomId, toUomId));
+            double factor = table.factor(resolveOrdinal(table, fromUomId, methodNomenclature), resolveOrdinal(table, toUomId, methodNomenclature));
+            byte[] result = ConversionKernel.scaleLittleEndian(quantities, factor);
+            log.info("[{}] Converted {} quantities from id: {} to id: {}", methodNomenclature, result.length / ConversionKernel.BYTES_PER_VALUE, fromUomId, toUomId);
+            return result;
+        } catch (ResourceNotFoundException | InvalidDataException e) {
+            String retrieveErrorMsg = messageService.getMessage("crud.retrieve.error", ENTITY_NAME);
+            log.warn("[{}] {}", methodNomenclature, retrieveErrorMsg);
+            throw e;
+        }
+    }
+
+    /**
+     * Parses one quantity per line, such as {@code 1,250.5 KG}, and converts each into the base unit of its
+     * unit. Lines are scanned in place by {@link QuantityParser} and units resolved by name or alias through
+     * the in-memory {@link UomAliasIndex}; factors come from a single {@link ConversionTable}. Blank lines are
+     * skipped. Lines that cannot be parsed or converted are reported on their own and do not fail the batch.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public QuantityParseResponse parseQuantities(String text) {
+        final String methodNomenclature = NOMENCLATURE + "-parseQuantities";
+        log.info("[{}] Parse {} chars of quantities", methodNomenclature, text.length());
+        AliasTable units = aliases.table();
+        ParsedQuantity parsed = new ParsedQuantity();
+        List<ParsedLine> lines = new ArrayList<>();
+        Set<Long> ids = new HashSet<>();
+        int lineNumber = 0;
+        for (int from = 0; from < text.length(); lineNumber++) {
+            int newline = text.indexOf('\n', from);
+            int to = newline < 0 ? text.length() : newline;
+            if (QuantityParser.parse(text, from, to, units, parsed) != ParsedQuantity.Status.BLANK) {
+                if (lines.size() == MAX_PARSE_LINES) {
+                    String msg = messageService.getMessage("uom.parse.too.many.lines", MAX_PARSE_LINES);
+                    log.warn("[{}] {}", methodNomenclature, msg);
+                    throw new InvalidDataException(msg);
+                }
+                lines.add(new ParsedLine(lineNumber + 1, from, to, parsed));
+                if (parsed.getStatus() == ParsedQuantity.Status.PARSED) {
+                    ids.add(parsed.getUomId());
+                }
+            }
+            from = to + 1;
+        }
+        ConversionTable table = conversionTable(ids);
+        List<ParsedQuantityResponse> results = new ArrayList<>(lines.size());
+        int failed = 0;
+        for (ParsedLine line : lines) {
+            ParsedQuantityResponse result = parsedItem(text, line, table);
+            if (result.errorCode() != null) {
+                failed++;
+            }
+            results.add(result);
+        }
+        log.info("[{}] Parsed {} of {} quantities, {} failed", methodNomenclature, lines.size() - failed, lines.size(), failed);
+        return new QuantityParseResponse(lines.size(), lines.size() - failed, failed, results);
+    }
+
+    /**
+     * Resolves every unit of the batch against a single {@link ConversionTable} (the snapshot's, or one
+     * loaded with a single query when the snapshot is disabled) and converts the lines in request order.
+     * Unknown or unusable units are reported on their line and do not fail the batch.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BatchConversionResponse convertBatch(List<ConversionRequest> requests) {
+        final String methodNomenclature = NOMENCLATURE + "-convertBatch";
+        log.info("[{}] Convert a batch of {} quantities between {} records", methodNomenclature, requests.size(), ENTITY_NAME);
+        Set<Long> ids = new HashSet<>();
+        for (ConversionRequest request : requests) {
+            ids.add(request.fromUomId());
+            ids.add(request.toUomId());
+        }
+        ConversionTable table = conversionTable(ids);
+        // Only the arithmetic runs on the fork/join pool; error messages are resolved afterwards on the
+        // request thread, where the caller's locale is bound.
+        BigDecimal[] converted = new BigDecimal[requests.size()];
+        if (converted.length >= PARALLEL_BATCH_THRESHOLD) {
+            Arrays.parallelSetAll(converted, i -> convertOrNull(table, requests.get(i)));
+        } else {
+            Arrays.setAll(converted, i -> convertOrNull(table, requests.get(i)));
+        }
+        List<ConversionItemResponse> results = new ArrayList<>(converted.length);
+        int failed = 0;
+        for (int i = 0; i < converted.length; i++) {
+            ConversionRequest request = requests.get(i);
+            if (converted[i] != null) {
+                results.add(new ConversionItemResponse(request.fromUomId(), request.toUomId(), request.quantity(), converted[i], null, null, null));
+            } else {
+                results.add(failedItem(table, request));
+                failed++;
+            }
+        }
+        log.info("[{}] Converted {} of {} quantities, {} failed", methodNomenclature, converted.length - failed, converted.length, failed);
+        return new BatchConversionResponse(converted.length, converted.length - failed, failed, results);
+    }
+
+    /**
+     * @return the converted quantity, or {@code null} when either unit is unknown or not usable, or the
+     * target unit does not allow the rounding the result needs
+     */
+    private static BigDecimal convertOrNull(ConversionTable table, ConversionRequest request) {
+        int from = table.ordinalOf(request.fromUomId());
+        int to = table.ordinalOf(request.toUomId());
+        if (from == ConversionTable.NOT_FOUND || to == ConversionTable.NOT_FOUND || !table.isUsable(from) || !table.isUsable(to)) {
+            return null;
+        }
+        try {
+            return table.convert(request.quantity(), from, to);
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private ConversionItemResponse failedItem(ConversionTable table, ConversionRequest request) {
+        int from = table.ordinalOf(request.fromUomId());
+        int to = table.ordinalOf(request.toUomId());
+        ErrorCode errorCode;
+        String message;
+        if (from == ConversionTable.NOT_FOUND || to == ConversionTable.NOT_FOUND) {
+            Long missingId = from == ConversionTable.NOT_FOUND ? request.fromUomId() : request.toUomId();
+            errorCode = ErrorCode.RESOURCE_NOT_FOUND;
+            message = messageService.getMessage("crud.not.found", ENTITY_NAME, "id", missingId);
+        } else if (!table.isUsable(from) || !table.isUsable(to)) {
+            Long unusableId = !table.isUsable(from) ? request.fromUomId() : request.toUomId();
+            errorCode = ErrorCode.INVALID_DATA;
+            message = messageService.getMessage("uom.conversion.not.usable", unusableId);
+        } else {
+            errorCode = ErrorCode.INVALID_DATA;
+            message = messageService.getMessage("uom.conversion.rounding.necessary", request.toUomId());
+        }
+        return new ConversionItemResponse(request.fromUomId(), request.toUomId(), request.quantity(), null,
+            errorCode.getCode(), errorCode.getValue(), message);
+    }
+
+    private ParsedQuantityResponse parsedItem(String text, ParsedLine line, ConversionTable table) {
+        String input = text.substring(line.from(), line.to()).strip();
+        BigDecimal quantity = line.status() == ParsedQuantity.Status.INVALID_NUMBER ? null : BigDecimal.valueOf(line.unscaled(), line.scale());
+        Long uomId = line.status() == ParsedQuantity.Status.PARSED ? line.uomId() : null;
+        int ordinal = uomId == null ? ConversionTable.NOT_FOUND : table.ordinalOf(uomId);
+        ErrorCode errorCode;
+        String message;
+        switch (line.status()) {
+            case INVALID_NUMBER -> {
+                errorCode = ErrorCode.INVALID_DATA;
+                message = messageService.getMessage("uom.parse.invalid.number", input);
+            }
+            case MISSING_UNIT -> {
+                errorCode = ErrorCode.INVALID_DATA;
+                message = messageService.getMessage("uom.parse.missing.unit", input);
+            }
+            case UNKNOWN_UNIT -> {
+                errorCode = ErrorCode.RESOURCE_NOT_FOUND;
+                message = messageService.getMessage("uom.parse.unknown.unit", text.substring(line.unitFrom(), line.unitTo()));
+            }
+            default -> {
+                if (ordinal == ConversionTable.NOT_FOUND) {
+                    // Deleted between the alias index rebuild and this read
+                    errorCode = ErrorCode.RESOURCE_NOT_FOUND;
+                    message = messageService.getMessage("crud.not.found", ENTITY_NAME, "id", uomId);
+                } else if (!table.isUsable(ordinal)) {
+                    errorCode = ErrorCode.INVALID_DATA;
+                    message = messageService.getMessage("uom.conversion.not.usable", uomId);
+                } else {
+                    return new ParsedQuantityResponse(line.line(), input, quantity, uomId, table.toBase(quantity, ordinal), null, null, null);
+                }
+            }
+        }
+        return new ParsedQuantityResponse(line.line(), input, quantity, uomId, null, errorCode.getCode(), errorCode.getValue(), message);
+    }
+
+    /**
+     * @return the snapshot's conversion table, or one holding just {@code ids} loaded with a single query
+     * when the snapshot is disabled
+     */
+    private ConversionTable conversionTable(Collection<Long> ids) {
+        CatalogSnapshot snapshot = catalog.current();
+        if (snapshot != null) {
+            catalog.recordSnapshotRead();
+            return snapshot.getConversionTable();
+        }
+        catalog.recordDatabaseRead();
+        return ConversionTable.fromEntities(repository.findAllByIdIn(ids));
+    }
+
+    private int resolveOrdinal(ConversionTable table, Long id, String methodNomenclature) {
+        int ordinal = table.ordinalOf(id);
+        if (ordinal == ConversionTable.NOT_FOUND) {
+            throw notFound(id, methodNomenclature);
+        }
+        if (!table.isUsable(ordinal)) {
+            throw notUsable(id, methodNomenclature);
+        }
+        return ordinal;
+    }
+
+    /**
+     * Records that a bulk line assigns {@code name} to the unit {@code id} ({@code null} for a new unit),
+     * rejecting names that appear twice in the batch ignoring case.
+     */
+    private void claimName(Map<String, Long> ownerByName, String name, Long id, String methodNomenclature) {
+        String key = name.toLowerCase(Locale.ROOT);
+        if (ownerByName.containsKey(key)) {
+            throw nameConflict(name, methodNomenclature);
+        }
+        ownerByName.put(key, id);
+    }
+
+    /**
+     * Rejects claimed names already held by another unit, with one query for the whole batch.
+     */
+    private void ensureNamesAvailable(Map<String, Long> ownerByName, String methodNomenclature) {
+        for (Uom holder : repository.findAllByLowerCaseNameIn(ownerByName.keySet())) {
+            if (!holder.getId().equals(ownerByName.get(holder.getName().toLowerCase(Locale.ROOT)))) {
+                throw nameConflict(holder.getName(), methodNomenclature);
+            }
+        }
+    }
+
+    private ResourceConflictException nameConflict(String name, String methodNomenclature) {
+        String msg = messageService.getMessage("crud.already.exists", ENTITY_NAME, "name", name);
+        log.warn("[{}] {}", methodNomenclature, msg);
+        return new ResourceConflictException(msg);
+    }
+
+    private ResourceNotFoundException notFound(Long id, String methodNomenclature) {
+        String msg = messageService.getMessage("crud.not.found", ENTITY_NAME, "id", id);
+        log.warn("[{}] {}", methodNomenclature, msg);
+        return new ResourceNotFoundException(msg);
+    }
+
+    private InvalidDataException roundingNecessary(Long id, String methodNomenclature) {
+        String msg = messageService.getMessage("uom.conversion.rounding.necessary", id);
+        log.warn("[{}] {}", methodNomenclature, msg);
+        return new InvalidDataException(msg);
+    }
+
+    private InvalidDataException notUsable(Long id, String methodNomenclature) {
+        String msg = messageService.getMessage("uom.conversion.not.usable", id);
+        log.warn("[{}] {}", methodNomenclature, msg);
+        return new InvalidDataException(msg);
+    }
+
+    private Optional<UomResponse> findResponseById(Long id) {
+        CatalogSnapshot snapshot = catalog.current();
+        if (snapshot != null) {
+            catalog.recordSnapshotRead();
+            return snapshot.findUom(id);
+        }
+        catalog.recordDatabaseRead();
+        return caches.findUom(id,
+            key -> singleFlight.execute(NOMENCLATURE + "-findById", () -> lookupBatcher.find(key), key).orElse(null));
+    }
+
+    /**
+     * Serves a page from the catalog snapshot when it is available and can honour the requested sort,
+     * otherwise returns empty so the caller falls back to the repository.
+     */
+    private Optional<Page<UomResponse>> fromSnapshot(Function<CatalogSnapshot, Optional<Page<UomResponse>>> query) {
+        CatalogSnapshot snapshot = catalog.current();
+        Optional<Page<UomResponse>> page = snapshot == null ? Optional.empty() : query.apply(snapshot);
+        if (page.isPresent()) {
+            catalog.recordSnapshotRead();
+        } else {
+            catalog.recordDatabaseRead();
+        }
+        return page;
+    }
+
+    /**
+     * Serves a slice from the catalog snapshot, whose exact total costs nothing, when it is available and can
+     * honour the requested sort. Otherwise reads the slice, shared with identical concurrent calls of
+     * {@code operation}, and the cached total of {@code operation} and {@code filter} if requested.
+     */
+    private SliceResponse<UomResponse> slice(Function<CatalogSnapshot, Optional<Page<UomResponse>>> fromSnapshot,
+                                             Supplier<Slice<UomResponse>> fromDatabase, LongSupplier counter,
+                                             boolean approximateTotal, String operation, Object filter, Pageable pageable) {
+        Optional<Page<UomResponse>> page = fromSnapshot(fromSnapshot);
+        if (page.isPresent()) {
+            Page<UomResponse> found = page.get();
+            return new SliceResponse<>(found.getContent(), found.getNumber(), found.getSize(), found.hasNext(),
+                approximateTotal ? found.getTotalElements() : null);
+        }
+        Slice<UomResponse> found = singleFlight.execute(operation, fromDatabase, filter, pageable);
+        Long total = approximateTotal ? caches.approximateTotal(operation + ":" + filter, query -> counter.getAsLong()) : null;
+        return new SliceResponse<>(found.getContent(), found.getNumber(), found.getSize(), found.hasNext(), total);
+    }
+
+    private Stream<UomResponse> exportRows(Long uomStatusId) {
+        CatalogSnapshot snapshot = catalog.current();
+        if (snapshot != null) {
+            catalog.recordSnapshotRead();
+            return snapshot.streamUoms(uom -> uomStatusId == null || uomStatusId.equals(uom.uomStatusId()));
+        }
+        catalog.recordDatabaseRead();
+        Stream<Uom> rows = uomStatusId == null
+            ? repository.streamAllByOrderByIdAsc()
+            : repository.streamAllByUomStatusIdOrderByIdAsc(uomStatusId);
+        return rows.map(uom -> {
+            UomResponse response = mapper.toResponse(uom);
+            entityManager.detach(uom);
+            return response;
+        });
+    }
+
+    private KeysetCursor keysetCursor(String cursor, String sort, String methodNomenclature) {
+        try {
+            return KeysetCursor.of(cursor, sort);
+        } catch (IllegalArgumentException e) {
+            String msg = messageService.getMessage("pagination.cursor.invalid", e.getMessage());
+            log.warn("[{}] {}", methodNomenclature, msg);
+            throw new InvalidDataException(msg);
+        }
+    }
+
+    /**
+     * Serves a keyset page from the catalog snapshot when it is available and can seek to the cursor,
+     * otherwise runs the seek query, shared with identical concurrent calls of {@code operation}.
+     */
+    private CursorPageResponse<UomResponse> scroll(Function<CatalogSnapshot, Optional<CursorPageResponse<UomResponse>>> fromSnapshot,
+                                                   Supplier<Window<Uom>> fromDatabase, KeysetCursor position, int size,
+                                                   String operation, Object... filters) {
+        CatalogSnapshot snapshot = catalog.current();
+        Optional<CursorPageResponse<UomResponse>> page = snapshot == null ? Optional.empty() : fromSnapshot.apply(snapshot);
+        if (page.isPresent()) {
+            catalog.recordSnapshotRead();
+            return page.get();
+        }
+        catalog.recordDatabaseRead();
+        return singleFlight.execute(operation, () -> toCursorPage(fromDatabase.get(), position, size),
+            Arrays.asList(filters), position, size);
+    }
+
+    private CursorPageResponse<UomResponse> toCursorPage(Window<Uom> window, KeysetCursor position, int size) {
+        List<UomResponse> content = window.getContent().stream().map(mapper::toResponse).toList();
+        String nextCursor = null;
+        if (window.hasNext()) {
+            UomResponse last = content.getLast();
+            nextCursor = position.after(last.name(), last.id()).encode();
+        }
+        return new CursorPageResponse<>(content, size, window.hasNext(), nextCursor);
+    }
+
+    /**
+     * Copy of a {@link ParsedQuantity} taken before the holder is reused for the next line.
+     */
+    private record ParsedLine(int line, int from, int to, ParsedQuantity.Status status, long unscaled, int scale,
+                              long uomId, int unitFrom, int unitTo) {
+
+        private ParsedLine(int line, int from, int to, ParsedQuantity parsed) {
+            this(line, from, to, parsed.getStatus(), parsed.getUnscaled(), parsed.getScale(), parsed.getUomId(),
+                parsed.getUnitFrom(), parsed.getUnitTo());
+        }
+
+    }
+
 }
@@ -1,24 +1,52 @@
 package com.elara.app.unit_of_measure_service.service.implementation;
 
+import com.elara.app.unit_of_measure_service.autocomplete.AutocompleteIndex;
+import com.elara.app.unit_of_measure_service.cache.CatalogCaches;
+import com.elara.app.unit_of_measure_service.cache.CatalogNameIndex;
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeEvent;
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeLog;
+import com.elara.app.unit_of_measure_service.catalog.CatalogSnapshot;
+import com.elara.app.unit_of_measure_service.catalog.CatalogSnapshotHolder;
 import com.elara.app.unit_of_measure_service.dto.request.UomStatusRequest;
+import com.elara.app.unit_of_measure_service.dto.response.CursorPageResponse;
+import com.elara.app.unit_of_measure_service.dto.response.NameSuggestion;
+import com.elara.app.unit_of_measure_service.dto.response.SliceResponse;
 import com.elara.app.unit_of_measure_service.dto.response.UomStatusResponse;
 import com.elara.app.unit_of_measure_service.dto.update.UomStatusUpdate;
+import com.elara.app.unit_of_measure_service.exceptions.InvalidDataException;
+import com.elara.app.unit_of_measure_service.exceptions.PreconditionFailedException;
 import com.elara.app.unit_of_measure_service.exceptions.ResourceConflictException;
 import com.elara.app.unit_of_measure_service.exceptions.ResourceNotFoundException;
 import com.elara.app.unit_of_measure_service.mapper.UomStatusMapper;
 import com.elara.app.unit_of_measure_service.model.UomStatus;
 import com.elara.app.unit_of_measure_service.repository.UomStatusRepository;
 import com.elara.app.unit_of_measure_service.service.interfaces.UomStatusService;
+import com.elara.app.unit_of_measure_service.utils.EntityTags;
+import com.elara.app.unit_of_measure_service.utils.KeysetCursor;
 import com.elara.app.unit_of_measure_service.utils.MessageService;
+import com.elara.app.unit_of_measure_service.utils.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 /**
  * Service implementation for managing UomStatus entities.
@@ -36,6 +64,13 @@ public class UomStatusServiceImp implements UomStatusService {
     private final UomStatusRepository repository;
     private final UomStatusMapper mapper;
     private final MessageService messageService;
+    private final CatalogSnapshotHolder catalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SingleFlight singleFlight;
+    private final CatalogCaches caches;
+    private final CatalogNameIndex nameIndex;
+    private final AutocompleteIndex autocomplete;
+    private final CatalogChangeLog changeLog;
 
     /**
      * Saves a new UomStatus entity.
@@ -58,8 +93,11 @@ public class UomStatusServiceImp implements UomStatusService {
             throw new ResourceConflictException(alreadyExistsMsg);
         }
         UomStatus entity = mapper.toEntity(request);
+        nameIndex.statusNames().add(request.name());
         UomStatus saved = repository.save(entity);
         log.info("[{}] {} record created with id: {}.", methodNomenclature, ENTITY_NAME, saved.getId());
+        changeLog.record(ENTITY_NAME, saved.getId(), CatalogChangeEvent.ChangeType.CREATED);
+        eventPublisher.publishEvent(new CatalogChangeEvent(ENTITY_NAME, saved.getId(), CatalogChangeEvent.ChangeType.CREATED, saved.getVersion()));
         return mapper.toResponse(saved);
     }
 
@@ -68,16 +106,19 @@ public class UomStatusServiceImp implements UomStatusService {
      * <p>
      * <b>Transactional:</b> This method is transactional. All changes are committed atomically.
      * <b>Edge Cases:</b> If the entity does not exist, a ResourceNotFoundException is thrown. If the new name is already taken, a ResourceConflictException is thrown.
-     * <b>Hibernate Behavior:</b> The entity is managed by the persistence context. Changes are flushed automatically at transaction commit. Explicit save is not required unless using a detached entity.
+     * <b>Hibernate Behavior:</b> The entity is managed by the persistence context. Changes are flushed before returning, so the response carries the new version. Explicit save is not required unless using a detached entity.
+     * <b>Concurrency:</b> The update only applies if {@code ifMatch} lists the current ETag; Hibernate checks the version again when flushing.
      *
      * @param id      the id of the UomStatus to update (must not be null)
      * @param request the UomStatusUpdate DTO (must not be null)
+     * @param ifMatch the If-Match header of the request, or null to update unconditionally
      * @return the updated UomStatusResponse
      * @throws ResourceNotFoundException if no UomStatus found with the given id
+     * @throws PreconditionFailedException if the UomStatus is no longer at a version listed in {@code ifMatch}
      */
     @Override
     @Transactional
-    public UomStatusResponse update(Long id, UomStatusUpdate request) {
+    public UomStatusResponse update(Long id, UomStatusUpdate request, String ifMatch) {
         final String methodNomenclature = NOMENCLATURE + "-update";
         log.info("[{}] Update {} record with id: {} and request: {}", methodNomenclature, ENTITY_NAME, id, request);
         try {
@@ -89,15 +130,25 @@ public class UomStatusServiceImp implements UomStatusService {
                     log.warn("[{}] {}", methodNomenclature, updateErrorMsg);
                     return new ResourceNotFoundException(notFoundMsg);
                 });
+            if (!EntityTags.matches(ifMatch, id, existing.getVersion())) {
+                String msg = messageService.getMessage("crud.version.mismatch", ENTITY_NAME, id, EntityTags.of(id, existing.getVersion()), ifMatch);
+                log.warn("[{}] {}", methodNomenclature, msg);
+                throw new PreconditionFailedException(msg);
+            }
             if (!existing.getName().equals(request.name()) && isNameTaken(request.name())) {
                 String alreadyExistsMsg = messageService.getMessage("crud.already.exists", ENTITY_NAME, "name", request.name());
                 log.warn("[{}] {}", methodNomenclature, alreadyExistsMsg);
                 throw new ResourceConflictException(alreadyExistsMsg);
             }
             mapper.updateEntityFromDto(existing, request);
+            nameIndex.statusNames().add(request.name());
+            repository.flush();
             log.info("[{}] {} record updated with data: {}", methodNomenclature, ENTITY_NAME, existing);
+            caches.statuses().invalidate(id);
+            changeLog.record(ENTITY_NAME, id, CatalogChangeEvent.ChangeType.UPDATED);
+            eventPublisher.publishEvent(new CatalogChangeEvent(ENTITY_NAME, id, CatalogChangeEvent.ChangeType.UPDATED, existing.getVersion()));
             return mapper.toResponse(existing);
-        } catch (ResourceNotFoundException | ResourceConflictException e) {
+        } catch (ResourceNotFoundException | ResourceConflictException | PreconditionFailedException e) {
             String updateErrorMsg = messageService.getMessage("crud.update.error", ENTITY_NAME);
             log.warn("[{}] {}", methodNomenclature, updateErrorMsg);
             throw e;
@@ -125,6 +176,9 @@ public class UomStatusServiceImp implements UomStatusService {
         }
         repository.deleteById(id);
         log.info("[{}] {} record with id: {}, deleted.", methodNomenclature, ENTITY_NAME, id);
+        caches.statuses().invalidate(id);
+        changeLog.record(ENTITY_NAME, id, CatalogChangeEvent.ChangeType.DELETED);
+        eventPublisher.publishEvent(new CatalogChangeEvent(ENTITY_NAME, id, CatalogChangeEvent.ChangeType.DELETED));
     }
 
     /**
@@ -139,14 +193,15 @@ public class UomStatusServiceImp implements UomStatusService {
     public UomStatusResponse findById(Long id) {
         final String methodNomenclature = NOMENCLATURE + "-findById";
         log.info("[{}] Fetch {} record with id: {}", methodNomenclature, ENTITY_NAME, id);
-        Optional<UomStatus> entity = repository.findById(id);
-        if (entity.isEmpty()) {
+        Optional<UomStatusResponse> response = findResponseById(id);
+        if (response.isEmpty()) {
             String msg = messageService.getMessage("crud.not.found", ENTITY_NAME, "id", id.toString());
             log.warn("[{}] {}", methodNomenclature, msg);
             throw new ResourceNotFoundException(msg);
         }
-        log.info("[{}] Fetched {} record with id: {}: {}", methodNomenclature, ENTITY_NAME, id, entity.get());
-        return mapper.toResponse(entity.get());
+        autocomplete.recordStatusUse(id);
+        log.info("[{}] Fetched {} record with id: {}: {}", methodNomenclature, ENTITY_NAME, id, response.get());
+        return response.get();
     }
 
     @Override
@@ -154,14 +209,42 @@ public class UomStatusServiceImp implements UomStatusService {
     public UomStatus findEntityById(Long id) {
         final String methodNomenclature = NOMENCLATURE + "-findEntityById";
         log.info("[{}] Fetch {} record with id: {}", methodNomenclature, ENTITY_NAME, id);
-        UomStatus entity = repository.findById(id)
-            .orElseThrow(() -> {
+        if (caches.findStatus(id, this::loadResponse).isEmpty()) {
+            String msg = messageService.getMessage("crud.not.found", ENTITY_NAME, "id", id);
+            log.warn("[{}] {}", methodNomenclature, msg);
+            throw new ResourceNotFoundException(msg);
+        }
+        // Existence comes from the cache; the association only needs a reference carrying the id
+        UomStatus entity = repository.getReferenceById(id);
+        log.info("[{}] Fetched {} record with id: {}.", methodNomenclature, ENTITY_NAME, id);
+        return entity;
+    }
+
+    /**
+     * Loads several UomStatus entities with a single {@code IN} query, for bulk writes on units.
+     *
+     * @param ids the IDs to load
+     * @return the entities keyed by ID
+     * @throws ResourceNotFoundException if any of the IDs does not exist
+     */
+    @Override
+    @Transactional
+    public Map<Long, UomStatus> findEntitiesByIds(Collection<Long> ids) {
+        final String methodNomenclature = NOMENCLATURE + "-findEntitiesByIds";
+        log.info("[{}] Fetch {} {} records by id.", methodNomenclature, ids.size(), ENTITY_NAME);
+        Map<Long, UomStatus> entities = HashMap.newHashMap(ids.size());
+        for (UomStatus entity : repository.findAllById(ids)) {
+            entities.put(entity.getId(), entity);
+        }
+        for (Long id : ids) {
+            if (!entities.containsKey(id)) {
                 String msg = messageService.getMessage("crud.not.found", ENTITY_NAME, "id", id);
                 log.warn("[{}] {}", methodNomenclature, msg);
-                return new ResourceNotFoundException(msg);
-            });
-        log.info("[{}] Fetched {} record with id: {}: {}", methodNomenclature, ENTITY_NAME, id, entity);
-        return entity;
+                throw new ResourceNotFoundException(msg);
+            }
+        }
+        log.info("[{}] Fetched {} {} records.", methodNomenclature, entities.size(), ENTITY_NAME);
+        return entities;
     }
 
     /**
@@ -175,7 +258,9 @@ public class UomStatusServiceImp implements UomStatusService {
     public Page<UomStatusResponse> findAll(Pageable pageable) {
         final String methodNomenclature = NOMENCLATURE + "-findAll";
         log.info("[{}] Fetch all {} records.", methodNomenclature, ENTITY_NAME);
-        Page<UomStatusResponse> page = repository.findAll(pageable).map(mapper::toResponse);
+        Page<UomStatusResponse> page = fromSnapshot(snapshot -> snapshot.findStatuses(status -> true, pageable))
+            .orElseGet(() -> singleFlight.execute(methodNomenclature,
+                () -> repository.findAllResponses(pageable), pageable));
         log.info("[{}] Fetched {} {} records.", methodNomenclature, page.getNumberOfElements(), ENTITY_NAME);
         return page;
     }
@@ -192,7 +277,9 @@ public class UomStatusServiceImp implements UomStatusService {
     public Page<UomStatusResponse> findAllByName(String name, Pageable pageable) {
         final String methodNomenclature = NOMENCLATURE + "-findAllByName";
         log.info("[{}] Fetch all {} records that contain in their name: '{}'", methodNomenclature, ENTITY_NAME, name);
-        Page<UomStatusResponse> page = repository.findAllByNameContainingIgnoreCase(name, pageable).map(mapper::toResponse);
+        Page<UomStatusResponse> page = fromSnapshot(snapshot -> snapshot.findStatusesByName(name, pageable))
+            .orElseGet(() -> singleFlight.execute(methodNomenclature,
+                () -> repository.findAllResponsesByNameContainingIgnoreCase(name, pageable), name, pageable));
         log.info("[{}] Fetched {} {} entities with name like '{}'.", methodNomenclature, page.getNumberOfElements(), ENTITY_NAME, name);
         return page;
     }
@@ -209,11 +296,126 @@ public class UomStatusServiceImp implements UomStatusService {
     public Page<UomStatusResponse> findAllByIsUsable(Boolean isUsable, Pageable pageable) {
         final String methodNomenclature = NOMENCLATURE + "-findAllByIsUsable";
         log.info("[{}] Fetch all {} records with isUsable: {}.", methodNomenclature, ENTITY_NAME, isUsable);
-        Page<UomStatusResponse> page = repository.findAllByIsUsable(isUsable, pageable).map(mapper::toResponse);
+        Page<UomStatusResponse> page = fromSnapshot(snapshot -> snapshot.findStatusesByIsUsable(isUsable, pageable))
+            .orElseGet(() -> singleFlight.execute(methodNomenclature,
+                () -> repository.findAllResponsesByIsUsable(isUsable, pageable), isUsable, pageable));
         log.info("[{}] Fetched {} {} records with isUsable: {}.", methodNomenclature, page.getNumberOfElements(), ENTITY_NAME, isUsable);
         return page;
     }
 
+    /**
+     * Finds UomStatus entities by name one page at a time, without running a count query.
+     *
+     * @param name             the name to search for
+     * @param pageable         the pagination information
+     * @param approximateTotal whether to add the total of matching records, cached until the next write
+     * @return a slice of UomStatusResponse, telling whether another page follows
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<UomStatusResponse> findSliceByName(String name, Pageable pageable, boolean approximateTotal) {
+        final String methodNomenclature = NOMENCLATURE + "-findSliceByName";
+        log.info("[{}] Fetch a slice of {} records that contain in their name: '{}'", methodNomenclature, ENTITY_NAME, name);
+        SliceResponse<UomStatusResponse> slice = slice(
+            snapshot -> snapshot.findStatusesByName(name, pageable),
+            () -> repository.findResponseSliceByNameContainingIgnoreCase(name, pageable),
+            () -> repository.countByNameContainingIgnoreCase(name),
+            approximateTotal, methodNomenclature, name.toUpperCase(Locale.ROOT), pageable);
+        log.info("[{}] Fetched {} {} entities with name like '{}'.", methodNomenclature, slice.content().size(), ENTITY_NAME, name);
+        return slice;
+    }
+
+    /**
+     * Finds UomStatus entities by usability status one page at a time, without running a count query.
+     *
+     * @param isUsable         the usability status to filter by
+     * @param pageable         the pagination information
+     * @param approximateTotal whether to add the total of matching records, cached until the next write
+     * @return a slice of UomStatusResponse, telling whether another page follows
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<UomStatusResponse> findSliceByIsUsable(Boolean isUsable, Pageable pageable, boolean approximateTotal) {
+        final String methodNomenclature = NOMENCLATURE + "-findSliceByIsUsable";
+        log.info("[{}] Fetch a slice of {} records with isUsable: {}.", methodNomenclature, ENTITY_NAME, isUsable);
+        SliceResponse<UomStatusResponse> slice = slice(
+            snapshot -> snapshot.findStatusesByIsUsable(isUsable, pageable),
+            () -> repository.findResponseSliceByIsUsable(isUsable, pageable),
+            () -> repository.countByIsUsable(isUsable),
+            approximateTotal, methodNomenclature, isUsable, pageable);
+        log.info("[{}] Fetched {} {} records with isUsable: {}.", methodNomenclature, slice.content().size(), ENTITY_NAME, isUsable);
+        return slice;
+    }
+
+    /**
+     * Finds UomStatus entities one keyset page at a time, without counting the total.
+     *
+     * @param cursor cursor returned with the previous page, blank for the first page
+     * @param sort   sort of the first page ({@code id} or {@code name}, optionally {@code ,desc}); the cursor keeps it afterwards
+     * @param size   maximum number of records of the page
+     * @return the page and the cursor of the following one
+     * @throws InvalidDataException if the cursor or the sort cannot be parsed
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UomStatusResponse> scrollAll(String cursor, String sort, int size) {
+        final String methodNomenclature = NOMENCLATURE + "-scrollAll";
+        log.info("[{}] Fetch {} {} records after cursor: '{}'.", methodNomenclature, size, ENTITY_NAME, cursor);
+        KeysetCursor position = keysetCursor(cursor, sort, methodNomenclature);
+        CursorPageResponse<UomStatusResponse> page = scroll(
+            snapshot -> snapshot.scrollStatuses(status -> true, position, size),
+            () -> repository.findAllBy(position.scrollPosition(), position.sort(), Limit.of(size)),
+            position, size, methodNomenclature);
+        log.info("[{}] Fetched {} {} records.", methodNomenclature, page.content().size(), ENTITY_NAME);
+        return page;
+    }
+
+    /**
+     * Finds UomStatus entities by name one keyset page at a time.
+     *
+     * @param name   the name to search for
+     * @param cursor cursor returned with the previous page, blank for the first page
+     * @param sort   sort of the first page
+     * @param size   maximum number of records of the page
+     * @return the page and the cursor of the following one
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UomStatusResponse> scrollAllByName(String name, String cursor, String sort, int size) {
+        final String methodNomenclature = NOMENCLATURE + "-scrollAllByName";
+        log.info("[{}] Fetch {} {} records that contain in their name: '{}' after cursor: '{}'.", methodNomenclature, size, ENTITY_NAME, name, cursor);
+        KeysetCursor position = keysetCursor(cursor, sort, methodNomenclature);
+        CursorPageResponse<UomStatusResponse> page = scroll(
+            snapshot -> snapshot.scrollStatusesByName(name, position, size),
+            () -> repository.findAllByNameContainingIgnoreCase(name, position.scrollPosition(), position.sort(), Limit.of(size)),
+            position, size, methodNomenclature, name);
+        log.info("[{}] Fetched {} {} entities with name like '{}'.", methodNomenclature, page.content().size(), ENTITY_NAME, name);
+        return page;
+    }
+
+    /**
+     * Finds UomStatus entities by usability status one keyset page at a time.
+     *
+     * @param isUsable the usability status to filter by
+     * @param cursor   cursor returned with the previous page, blank for the first page
+     * @param sort     sort of the first page
+     * @param size     maximum number of records of the page
+     * @return the page and the cursor of the following one
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UomStatusResponse> scrollAllByIsUsable(Boolean isUsable, String cursor, String sort, int size) {
+        final String methodNomenclature = NOMENCLATURE + "-scrollAllByIsUsable";
+        log.info("[{}] Fetch {} {} records with isUsable: {} after cursor: '{}'.", methodNomenclature, size, ENTITY_NAME, isUsable, cursor);
+        KeysetCursor position = keysetCursor(cursor, sort, methodNomenclature);
+        CursorPageResponse<UomStatusResponse> page = scroll(
+            snapshot -> snapshot.scrollStatusesByIsUsable(isUsable, position, size),
+            () -> repository.findAllByIsUsable(isUsable, position.scrollPosition(), position.sort(), Limit.of(size)),
+            position, size, methodNomenclature, isUsable);
+        log.info("[{}] Fetched {} {} records with isUsable: {}.", methodNomenclature, page.content().size(), ENTITY_NAME, isUsable);
+        return page;
+    }
+
     /**
      * Checks if a UomStatus entity exists by its name.
      *
@@ -224,11 +426,39 @@ public class UomStatusServiceImp implements UomStatusService {
     public boolean isNameTaken(String name) {
         final String methodNomenclature = NOMENCLATURE + "-isNameTaken";
         log.info("[{}] Check if name '{}' is taken.", methodNomenclature, name);
-        boolean exists = repository.existsByName(name);
+        CatalogSnapshot snapshot = catalog.current();
+        boolean exists;
+        if (snapshot != null) {
+            catalog.recordSnapshotRead();
+            exists = snapshot.isStatusNameTaken(name);
+        } else if (!nameIndex.statusNames().mightContain(name)) {
+            exists = false;
+        } else {
+            catalog.recordDatabaseRead();
+            exists = singleFlight.execute(methodNomenclature, () -> repository.existsByName(name), name);
+            nameIndex.statusNames().recordDatabaseCheck(exists);
+        }
         log.info("[{}] Name '{}' {} taken.", methodNomenclature, name, exists ? "is" : "is not");
         return exists;
     }
 
+    /**
+     * Suggests UomStatus names starting with a prefix, from the in-memory prefix trie.
+     * Logs the attempt and result.
+     *
+     * @param prefix the start of the name, ignoring case
+     * @param limit  the maximum number of suggestions
+     * @return the matching names, most used first
+     */
+    @Override
+    public List<NameSuggestion> autocomplete(String prefix, int limit) {
+        final String methodNomenclature = NOMENCLATURE + "-autocomplete";
+        log.info("[{}] Suggest up to {} {} names starting with '{}'.", methodNomenclature, limit, ENTITY_NAME, prefix);
+        List<NameSuggestion> suggestions = autocomplete.suggestStatuses(prefix, limit);
+        log.info("[{}] Suggested {} {} names.", methodNomenclature, suggestions.size(), ENTITY_NAME);
+        return suggestions;
+    }
+
     /**
      * Changes the usability status of a UomStatus entity.
      * Logs the attempt and result.
@@ -250,5 +480,95 @@ public class UomStatusServiceImp implements UomStatusService {
             });
         existing.setIsUsable(isUsable);
         log.info("[{}] Changed status of {} record with id: {} to: {}", methodNomenclature, ENTITY_NAME, id, isUsable);
+        caches.statuses().invalidate(id);
+        changeLog.record(ENTITY_NAME, id, CatalogChangeEvent.ChangeType.STATUS_CHANGED);
+        eventPublisher.publishEvent(new CatalogChangeEvent(ENTITY_NAME, id, CatalogChangeEvent.ChangeType.STATUS_CHANGED, existing.getVersion()));
+    }
+
+    private Optional<UomStatusResponse> findResponseById(Long id) {
+        CatalogSnapshot snapshot = catalog.current();
+        if (snapshot != null) {
+            catalog.recordSnapshotRead();
+            return snapshot.findStatus(id);
+        }
+        catalog.recordDatabaseRead();
+        return caches.findStatus(id, this::loadResponse);
+    }
+
+    private UomStatusResponse loadResponse(Long id) {
+        return singleFlight.execute(NOMENCLATURE + "-findById", () -> repository.findById(id).map(mapper::toResponse), id)
+            .orElse(null);
+    }
+
+    /**
+     * Serves a page from the catalog snapshot when it is available and can honour the requested sort,
+     * otherwise returns empty so the caller falls back to the repository.
+     */
+    private Optional<Page<UomStatusResponse>> fromSnapshot(Function<CatalogSnapshot, Optional<Page<UomStatusResponse>>> query) {
+        CatalogSnapshot snapshot = catalog.current();
+        Optional<Page<UomStatusResponse>> page = snapshot == null ? Optional.empty() : query.apply(snapshot);
+        if (page.isPresent()) {
+            catalog.recordSnapshotRead();
+        } else {
+            catalog.recordDatabaseRead();
+        }
+        return page;
+    }
+
+    /**
+     * Serves a slice from the catalog snapshot, whose exact total costs nothing, when it is available and can
+     * honour the requested sort. Otherwise reads the slice, shared with identical concurrent calls of
+     * {@code operation}, and the cached total of {@code operation} and {@code filter} if requested.
+     */
+    private SliceResponse<UomStatusResponse> slice(Function<CatalogSnapshot, Optional<Page<UomStatusResponse>>> fromSnapshot,
+                                                   Supplier<Slice<UomStatusResponse>> fromDatabase, LongSupplier counter,
+                                                   boolean approximateTotal, String operation, Object filter, Pageable pageable) {
+        Optional<Page<UomStatusResponse>> page = fromSnapshot(fromSnapshot);
+        if (page.isPresent()) {
+            Page<UomStatusResponse> found = page.get();
+            return new SliceResponse<>(found.getContent(), found.getNumber(), found.getSize(), found.hasNext(),
+                approximateTotal ? found.getTotalElements() : null);
+        }
+        Slice<UomStatusResponse> found = singleFlight.execute(operation, fromDatabase, filter, pageable);
+        Long total = approximateTotal ? caches.approximateTotal(operation + ":" + filter, query -> counter.getAsLong()) : null;
+        return new SliceResponse<>(found.getContent(), found.getNumber(), found.getSize(), found.hasNext(), total);
+    }
+
+    private KeysetCursor keysetCursor(String cursor, String sort, String methodNomenclature) {
+        try {
+            return KeysetCursor.of(cursor, sort);
+        } catch (IllegalArgumentException e) {
+            String msg = messageService.getMessage("pagination.cursor.invalid", e.getMessage());
+            log.warn("[{}] {}", methodNomenclature, msg);
+            throw new InvalidDataException(msg);
+        }
+    }
+
+    /**
+     * Serves a keyset page from the catalog snapshot when it is available and can seek to the cursor,
+     * otherwise runs the seek query, shared with identical concurrent calls of {@code operation}.
+     */
+    private CursorPageResponse<UomStatusResponse> scroll(Function<CatalogSnapshot, Optional<CursorPageResponse<UomStatusResponse>>> fromSnapshot,
+                                                         Supplier<Window<UomStatus>> fromDatabase, KeysetCursor position, int size,
+                                                         String operation, Object... filters) {
+        CatalogSnapshot snapshot = catalog.current();
+        Optional<CursorPageResponse<UomStatusResponse>> page = snapshot == null ? Optional.empty() : fromSnapshot.apply(snapshot);
+        if (page.isPresent()) {
+            catalog.recordSnapshotRead();
+            return page.get();
+        }
+        catalog.recordDatabaseRead();
+        return singleFlight.execute(operation, () -> toCursorPage(fromDatabase.get(), position, size),
+            Arrays.asList(filters), position, size);
+    }
+
+    private CursorPageResponse<UomStatusResponse> toCursorPage(Window<UomStatus> window, KeysetCursor position, int size) {
+        List<UomStatusResponse> content = window.getContent().stream().map(mapper::toResponse).toList();
+        String nextCursor = null;
+        if (window.hasNext()) {
+            UomStatusResponse last = content.getLast();
+            nextCursor = position.after(last.name(), last.id()).encode();
+        }
+        return new CursorPageResponse<>(content, size, window.hasNext(), nextCursor);
     }
 }
@@ -0,0 +1,19 @@
+package com.elara.app.unit_of_measure_service.service.interfaces;
+
+import com.elara.app.unit_of_measure_service.dto.response.CatalogChangesResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface CatalogChangeService {
+
+    /**
+     * @param since the high-water mark of the previous poll, {@code 0} for a first full sync
+     * @param limit the maximum number of changes read, before keeping only the latest one per record
+     */
+    CatalogChangesResponse findChanges(long since, int limit);
+
+    /**
+     * @param lastEventId the sequence of the last change received, {@code null} to watch from now on
+     */
+    SseEmitter watch(Long lastEventId);
+
+}
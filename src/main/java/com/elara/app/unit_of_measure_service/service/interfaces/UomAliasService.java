@@ -0,0 +1,19 @@
+package com.elara.app.unit_of_measure_service.service.interfaces;
+
+import com.elara.app.unit_of_measure_service.dto.request.UomAliasRequest;
+import com.elara.app.unit_of_measure_service.dto.response.UomAliasResponse;
+
+import java.util.List;
+import java.util.Map;
+
+public interface UomAliasService {
+
+    UomAliasResponse save(Long uomId, UomAliasRequest request);
+
+    void deleteById(Long id);
+
+    List<UomAliasResponse> findAllByUomId(Long uomId);
+
+    Map<String, Long> resolve(List<String> tokens);
+
+}
@@ -1,29 +1,78 @@
 package com.elara.app.unit_of_measure_service.service.interfaces;
 
+import com.elara.app.unit_of_measure_service.dto.request.ConversionRequest;
 import com.elara.app.unit_of_measure_service.dto.request.UomRequest;
+import com.elara.app.unit_of_measure_service.dto.response.BatchConversionResponse;
+import com.elara.app.unit_of_measure_service.dto.response.ConversionResponse;
+import com.elara.app.unit_of_measure_service.dto.response.CursorPageResponse;
+import com.elara.app.unit_of_measure_service.dto.response.NameSuggestion;
+import com.elara.app.unit_of_measure_service.dto.response.QuantityParseResponse;
+import com.elara.app.unit_of_measure_service.dto.response.SliceResponse;
 import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.dto.update.UomBulkUpdate;
 import com.elara.app.unit_of_measure_service.dto.update.UomUpdate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
 public interface UomService {
 
     UomResponse save(UomRequest request);
 
-    UomResponse update(Long id, UomUpdate request);
+    List<UomResponse> saveAll(List<UomRequest> requests);
+
+    /**
+     * @param ifMatch {@code If-Match} header of the request, {@code null} to update unconditionally
+     */
+    UomResponse update(Long id, UomUpdate request, String ifMatch);
+
+    List<UomResponse> updateAll(List<UomBulkUpdate> updates);
 
     void deleteById(Long id);
 
+    void deleteAllById(List<Long> ids);
+
     UomResponse findById(Long id);
 
+    Map<Long, UomResponse> findAllByIds(Collection<Long> ids);
+
     Page<UomResponse> findAll(Pageable pageable);
 
     Page<UomResponse> findAllByName(String name, Pageable pageable);
 
+    Page<UomResponse> findAllByNameFuzzy(String name, Pageable pageable);
+
     Page<UomResponse> findAllByUomStatusId(Long uomStatusId, Pageable pageable);
 
+    SliceResponse<UomResponse> findSliceByName(String name, Pageable pageable, boolean approximateTotal);
+
+    SliceResponse<UomResponse> findSliceByUomStatusId(Long uomStatusId, Pageable pageable, boolean approximateTotal);
+
+    CursorPageResponse<UomResponse> scrollAll(String cursor, String sort, int size);
+
+    CursorPageResponse<UomResponse> scrollAllByName(String name, String cursor, String sort, int size);
+
+    CursorPageResponse<UomResponse> scrollAllByUomStatusId(Long uomStatusId, String cursor, String sort, int size);
+
     boolean isNameTaken(String name);
 
+    List<NameSuggestion> autocomplete(String prefix, int limit);
+
+    long export(Long uomStatusId, Consumer<UomResponse> sink);
+
     UomResponse changeStatus(Long id, Long uomStatusId);
 
+    ConversionResponse convert(Long fromUomId, Long toUomId, BigDecimal quantity);
+
+    BatchConversionResponse convertBatch(List<ConversionRequest> requests);
+
+    byte[] convertBinary(Long fromUomId, Long toUomId, byte[] quantities);
+
+    QuantityParseResponse parseQuantities(String text);
+
 }
@@ -1,17 +1,27 @@
 package com.elara.app.unit_of_measure_service.service.interfaces;
 
 import com.elara.app.unit_of_measure_service.dto.request.UomStatusRequest;
+import com.elara.app.unit_of_measure_service.dto.response.CursorPageResponse;
+import com.elara.app.unit_of_measure_service.dto.response.NameSuggestion;
+import com.elara.app.unit_of_measure_service.dto.response.SliceResponse;
 import com.elara.app.unit_of_measure_service.dto.response.UomStatusResponse;
 import com.elara.app.unit_of_measure_service.dto.update.UomStatusUpdate;
 import com.elara.app.unit_of_measure_service.model.UomStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 public interface UomStatusService {
 
     UomStatusResponse save(UomStatusRequest request);
 
-    UomStatusResponse update(Long id, UomStatusUpdate request);
+    /**
+     * @param ifMatch {@code If-Match} header of the request, {@code null} to update unconditionally
+     */
+    UomStatusResponse update(Long id, UomStatusUpdate request, String ifMatch);
 
     void deleteById(Long id);
 
@@ -19,14 +29,28 @@ public interface UomStatusService {
 
     UomStatus findEntityById(Long id);
 
+    Map<Long, UomStatus> findEntitiesByIds(Collection<Long> ids);
+
     Page<UomStatusResponse> findAll(Pageable pageable);
 
     Page<UomStatusResponse> findAllByName(String name, Pageable pageable);
 
     Page<UomStatusResponse> findAllByIsUsable(Boolean isUsable, Pageable pageable);
 
+    SliceResponse<UomStatusResponse> findSliceByName(String name, Pageable pageable, boolean approximateTotal);
+
+    SliceResponse<UomStatusResponse> findSliceByIsUsable(Boolean isUsable, Pageable pageable, boolean approximateTotal);
+
+    CursorPageResponse<UomStatusResponse> scrollAll(String cursor, String sort, int size);
+
+    CursorPageResponse<UomStatusResponse> scrollAllByName(String name, String cursor, String sort, int size);
+
+    CursorPageResponse<UomStatusResponse> scrollAllByIsUsable(Boolean isUsable, String cursor, String sort, int size);
+
     boolean isNameTaken(String name);
 
+    List<NameSuggestion> autocomplete(String prefix, int limit);
+
     void changeStatus(Long id, Boolean isUsable);
 
 }
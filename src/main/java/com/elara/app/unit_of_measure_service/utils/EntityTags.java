@@ -0,0 +1,48 @@
+package com.elara.app.unit_of_measure_service.utils;
+
+import org.springframework.http.ETag;
+
+/**
+ * Strong entity tags of units and statuses, built from the id and the optimistic lock version.
+ * <p>
+ * The tag changes exactly when the row does, so it can be computed from any copy of the row that carries
+ * its version (the catalog snapshot, the caches) without serializing the body or reading the database.
+ * </p>
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    /**
+     * @return the quoted tag, e.g. {@code "12-3"} for version 3 of id 12
+     */
+    public static String of(Long id, Long version) {
+        return current(id, version).formattedTag();
+    }
+
+    /**
+     * Evaluates an {@code If-Match} header against the current version of a row, with the strong
+     * comparison RFC 9110 requires for it: weak tags never match.
+     *
+     * @param ifMatch the header value, {@code null} when the request is unconditional
+     * @return {@code true} when the header is absent, is {@code *}, or lists the current tag
+     */
+    public static boolean matches(String ifMatch, Long id, Long version) {
+        if (ifMatch == null) {
+            return true;
+        }
+        ETag current = current(id, version);
+        for (ETag tag : ETag.parse(ifMatch)) {
+            if (tag.isWildcard() || tag.compare(current, true)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ETag current(Long id, Long version) {
+        return new ETag(id + "-" + version, false);
+    }
+
+}
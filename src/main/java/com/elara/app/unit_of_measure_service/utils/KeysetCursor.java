@@ -0,0 +1,136 @@
+package com.elara.app.unit_of_measure_service.utils;
+
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Position of a keyset (seek) page: the sort it was taken with and the sort key of the last row
+ * returned, so the next page is {@code WHERE (sortKey, id) > (value, id)} instead of an offset.
+ * <p>
+ * Clients see it as an opaque URL-safe token ({@link #encode()}); the sort travels inside it, so the
+ * following pages keep the order the first page was requested with.
+ * </p>
+ *
+ * @param property  sort property, {@code id} or {@code name}
+ * @param direction sort direction, applied to the property and to the {@code id} tie-breaker
+ * @param value     {@code name} of the last row, {@code null} when sorting by id
+ * @param id        id of the last row, {@code null} for the first page
+ */
+public record KeysetCursor(String property, Sort.Direction direction, String value, Long id) {
+
+    public static final String ID = "id";
+    public static final String NAME = "name";
+    private static final Set<String> PROPERTIES = Set.of(ID, NAME);
+    private static final char SEPARATOR = ':';
+    private static final Comparator<String> NAME_ORDER = Comparator.nullsLast(Comparator.naturalOrder());
+
+    /**
+     * @param sort {@code property} or {@code property,direction}; {@code null} or blank sorts by id ascending
+     * @throws IllegalArgumentException if the property is not {@code id} or {@code name}, or the direction is unknown
+     */
+    public static KeysetCursor first(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return new KeysetCursor(ID, Sort.Direction.ASC, null, null);
+        }
+        String[] parts = sort.split(",", 2);
+        String property = parts[0].trim();
+        if (!PROPERTIES.contains(property)) {
+            throw new IllegalArgumentException("Unsupported keyset sort property: " + property);
+        }
+        Sort.Direction direction = parts.length == 1 ? Sort.Direction.ASC : Sort.Direction.fromString(parts[1].trim());
+        return new KeysetCursor(property, direction, null, null);
+    }
+
+    /**
+     * Resolves the position of a request: the decoded {@code cursor} when present, otherwise the first
+     * page for {@code sort}.
+     *
+     * @throws IllegalArgumentException if the cursor or the sort cannot be parsed
+     */
+    public static KeysetCursor of(String cursor, String sort) {
+        return cursor == null || cursor.isBlank() ? first(sort) : decode(cursor);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    public static KeysetCursor decode(String token) {
+        String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        // property:direction:id[:value] - the value goes last so it may contain the separator
+        String[] parts = decoded.split(String.valueOf(SEPARATOR), 4);
+        if (parts.length < 3 || !PROPERTIES.contains(parts[0])) {
+            throw new IllegalArgumentException("Malformed keyset cursor");
+        }
+        String value = parts.length == 4 ? parts[3] : null;
+        if (NAME.equals(parts[0]) == (value == null)) {
+            throw new IllegalArgumentException("Malformed keyset cursor");
+        }
+        try {
+            return new KeysetCursor(parts[0], Sort.Direction.valueOf(parts[1]), value, Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed keyset cursor", e);
+        }
+    }
+
+    public String encode() {
+        StringBuilder token = new StringBuilder()
+            .append(property).append(SEPARATOR)
+            .append(direction.name()).append(SEPARATOR)
+            .append(id);
+        if (value != null) {
+            token.append(SEPARATOR).append(value);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the cursor pointing right after the row with the given keys
+     */
+    public KeysetCursor after(String name, long rowId) {
+        return new KeysetCursor(property, direction, NAME.equals(property) ? name : null, rowId);
+    }
+
+    /**
+     * The sort of the page; {@code id} is always the last key so the order is total.
+     */
+    public Sort sort() {
+        Sort byId = Sort.by(direction, ID);
+        return ID.equals(property) ? byId : Sort.by(direction, property).and(byId);
+    }
+
+    public ScrollPosition scrollPosition() {
+        if (id == null) {
+            return ScrollPosition.keyset();
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        if (NAME.equals(property)) {
+            keys.put(NAME, value);
+        }
+        keys.put(ID, id);
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * @return whether the row comes after this cursor in its sort order, i.e. belongs to the next page
+     */
+    public <T> boolean precedes(T row, Function<T, String> nameOf, ToLongFunction<T> idOf) {
+        if (id == null) {
+            return true;
+        }
+        int compared = ID.equals(property) ? 0 : NAME_ORDER.compare(nameOf.apply(row), value);
+        if (compared == 0) {
+            compared = Long.compare(idOf.applyAsLong(row), id);
+        }
+        return direction.isAscending() ? compared > 0 : compared < 0;
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.elara.app.unit_of_measure_service.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses identical concurrent reads into one execution.
+ * <p>
+ * The first caller of a key runs the loader on its own thread; callers arriving with the same key while it
+ * is running wait for it and receive the same result, or the same exception. Nothing is cached: the key is
+ * released before the result is published, so a call starting after that runs the loader again and never
+ * sees data older than its own start.
+ * </p>
+ *
+ * <p>Results are shared between threads as-is and must therefore be immutable DTOs, never managed entities.
+ * Calls are counted as {@value #CALLS_METRIC}, tagged by {@code operation} and by {@code outcome}
+ * ({@code executed} or {@code coalesced}).</p>
+ */
+@Component
+public class SingleFlight {
+
+    static final String CALLS_METRIC = "uom.singleflight.calls";
+    static final String EXECUTED = "executed";
+    static final String COALESCED = "coalesced";
+
+    private final ConcurrentHashMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs {@code loader}, or waits for the identical call already running.
+     *
+     * @param operation name of the read, part of the key and of the metric tags
+     * @param arguments arguments of the read, compared with {@code equals}; may contain {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Supplier<T> loader, Object... arguments) {
+        Key key = new Key(operation, Arrays.asList(arguments));
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            calls(operation, COALESCED).increment();
+            return (T) join(running);
+        }
+        calls(operation, EXECUTED).increment();
+        T result;
+        try {
+            result = loader.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(key, flight);
+        flight.complete(result);
+        return result;
+    }
+
+    private Counter calls(String operation, String outcome) {
+        return meterRegistry.counter(CALLS_METRIC, "operation", operation, "outcome", outcome);
+    }
+
+    private static Object join(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Key(String operation, List<Object> arguments) {
+    }
+
+}
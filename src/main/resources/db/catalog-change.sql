@@ -0,0 +1,29 @@
+-- Creates the change feed tables behind GET /changes (PostgreSQL). Run once before deploying the version
+-- that maps CatalogChange and CatalogSequence.
+
+CREATE TABLE IF NOT EXISTS catalog_change (
+    sequence_number BIGINT      PRIMARY KEY,
+    entity_name     VARCHAR(20) NOT NULL,
+    entity_id       BIGINT      NOT NULL,
+    change_type     VARCHAR(20) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS catalog_sequence (
+    id              BIGINT PRIMARY KEY,
+    high_water_mark BIGINT NOT NULL
+);
+
+-- Seeds the feed with one CREATED change per existing record, statuses first, so consumers starting
+-- from since=0 receive the whole catalog.
+INSERT INTO catalog_change (sequence_number, entity_name, entity_id, change_type)
+SELECT row_number() OVER (ORDER BY entity_order, entity_id), entity_name, entity_id, 'CREATED'
+FROM (
+    SELECT 0 AS entity_order, 'UomStatus' AS entity_name, id AS entity_id FROM uom_status
+    UNION ALL
+    SELECT 1, 'Uom', id FROM uom
+) existing
+WHERE NOT EXISTS (SELECT 1 FROM catalog_change);
+
+INSERT INTO catalog_sequence (id, high_water_mark)
+SELECT 1, COALESCE(MAX(sequence_number), 0) FROM catalog_change
+ON CONFLICT (id) DO NOTHING;
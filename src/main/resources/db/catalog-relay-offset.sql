@@ -0,0 +1,13 @@
+-- Creates the offset table of the AMQP relay of the change log (PostgreSQL). Run once, after
+-- catalog-change.sql, before deploying the version that maps CatalogRelayOffset.
+
+CREATE TABLE IF NOT EXISTS catalog_relay_offset (
+    relay_name         VARCHAR(50) PRIMARY KEY,
+    published_sequence BIGINT      NOT NULL
+);
+
+-- Starts the relay at the current end of the log: the changes seeded or recorded before the exchange
+-- existed are not published. Consumers needing them sync once through GET /changes.
+INSERT INTO catalog_relay_offset (relay_name, published_sequence)
+SELECT 'amqp', high_water_mark FROM catalog_sequence WHERE id = 1
+ON CONFLICT (relay_name) DO NOTHING;
@@ -0,0 +1,13 @@
+-- Creates the uom_alias table (PostgreSQL). Run once before deploying the version that maps UomAlias.
+
+CREATE TABLE IF NOT EXISTS uom_alias (
+    id     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    alias  VARCHAR(50) NOT NULL UNIQUE,
+    kind   VARCHAR(20) NOT NULL,
+    uom_id BIGINT      NOT NULL REFERENCES uom (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS uom_alias_uom_id_idx ON uom_alias (uom_id);
+
+-- Aliases are unique ignoring case; the service checks it before inserting, this closes the race.
+CREATE UNIQUE INDEX IF NOT EXISTS uom_alias_lower_alias_idx ON uom_alias (lower(alias));
@@ -0,0 +1,9 @@
+-- Moves uom ids from an IDENTITY column to the pooled uom_seq sequence (PostgreSQL), so inserts can be
+-- sent as JDBC batches. Run once before deploying the version that maps Uom.id with @SequenceGenerator.
+
+ALTER TABLE uom ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- INCREMENT BY must match Uom.ID_ALLOCATION_SIZE. Hibernate's pooled optimizer hands out the 50 ids up to
+-- each value it reads, so the first nextval must return at least MAX(id) + 50 to stay clear of existing rows.
+CREATE SEQUENCE IF NOT EXISTS uom_seq INCREMENT BY 50;
+SELECT setval('uom_seq', COALESCE(MAX(id), 0) + 50, false) FROM uom;
@@ -0,0 +1,18 @@
+-- Upgrades an existing uom table to exact rational conversion factors (PostgreSQL).
+-- Run once before deploying the version that maps factor_numerator / factor_denominator.
+
+ALTER TABLE uom ALTER COLUMN conversion_factor_to_base TYPE NUMERIC(18, 9);
+
+ALTER TABLE uom ADD COLUMN IF NOT EXISTS factor_numerator BIGINT;
+ALTER TABLE uom ADD COLUMN IF NOT EXISTS factor_denominator BIGINT;
+ALTER TABLE uom ADD COLUMN IF NOT EXISTS rounding_scale INTEGER;
+ALTER TABLE uom ADD COLUMN IF NOT EXISTS rounding_mode VARCHAR(20);
+
+-- Existing factors have at most 3 decimals, so factor * 1000 / 1000 is exact; reduce it by the gcd.
+UPDATE uom
+SET factor_numerator   = (conversion_factor_to_base * 1000)::BIGINT / gcd((conversion_factor_to_base * 1000)::BIGINT, 1000),
+    factor_denominator = 1000 / gcd((conversion_factor_to_base * 1000)::BIGINT, 1000)
+WHERE factor_numerator IS NULL;
+
+ALTER TABLE uom ALTER COLUMN factor_numerator SET NOT NULL;
+ALTER TABLE uom ALTER COLUMN factor_denominator SET NOT NULL;
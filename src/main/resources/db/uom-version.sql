@@ -0,0 +1,5 @@
+-- Adds the optimistic lock version columns behind ETag / If-Match (PostgreSQL).
+-- Run once before deploying the version that maps Uom.version and UomStatus.version.
+
+ALTER TABLE uom ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE uom_status ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,109 @@
+package com.elara.app.unit_of_measure_service.alias;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AliasTable")
+class AliasTableTest {
+
+    private final AliasTable table = AliasTable.build(List.of(
+        new AliasTable.Entry("Kilogram", 1),
+        new AliasTable.Entry("Gram", 2),
+        new AliasTable.Entry("kg", 1),
+        new AliasTable.Entry("KGM", 1),
+        new AliasTable.Entry("kilo", 1)
+    ));
+
+    @Test
+    @DisplayName("resolve() should ignore case and surrounding blanks")
+    void resolve_ignoresCaseAndBlanks() {
+        // When & Then
+        assertThat(table.resolve("KG")).isEqualTo(1);
+        assertThat(table.resolve("kgm")).isEqualTo(1);
+        assertThat(table.resolve("  Kilo\t")).isEqualTo(1);
+        assertThat(table.resolve("GRAM")).isEqualTo(2);
+        assertThat(table.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("resolve() should return NOT_FOUND for unknown, blank and null strings")
+    void resolve_unknown_returnsNotFound() {
+        // When & Then
+        assertThat(table.resolve("bushel")).isEqualTo(AliasTable.NOT_FOUND);
+        assertThat(table.resolve("k g")).isEqualTo(AliasTable.NOT_FOUND);
+        assertThat(table.resolve(" ")).isEqualTo(AliasTable.NOT_FOUND);
+        assertThat(table.resolve(null)).isEqualTo(AliasTable.NOT_FOUND);
+        assertThat(AliasTable.empty().resolve("kg")).isEqualTo(AliasTable.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("resolve() on a range should only read the chars between its bounds")
+    void resolve_range_readsOnlyTheRange() {
+        // Given
+        StringBuilder line = new StringBuilder("12.5 KG;3 kilo ");
+
+        // When & Then
+        assertThat(table.resolve(line, 4, 7)).isEqualTo(1);
+        assertThat(table.resolve(line, 9, 15)).isEqualTo(1);
+        assertThat(table.resolve(line, 5, 6)).isEqualTo(AliasTable.NOT_FOUND);
+        assertThat(table.resolve(line, 7, 7)).isEqualTo(AliasTable.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("build() should keep the first entry of keys that fold to the same string and skip blank keys")
+    void build_firstEntryWins() {
+        // Given
+        AliasTable duplicates = AliasTable.build(List.of(
+            new AliasTable.Entry("Liter", 3),
+            new AliasTable.Entry("LITER", 4),
+            new AliasTable.Entry("", 5),
+            new AliasTable.Entry(null, 6)
+        ));
+
+        // When & Then
+        assertThat(duplicates.resolve("liter")).isEqualTo(3);
+        assertThat(duplicates.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("resolve() should agree with a HashMap of the case-folded keys")
+    void resolve_matchesHashMap() {
+        // Given
+        Random random = new Random(11);
+        List<AliasTable.Entry> entries = new ArrayList<>();
+        Map<String, Long> expected = new HashMap<>();
+        for (long id = 0; id < 20_000; id++) {
+            String key = randomKey(random);
+            entries.add(new AliasTable.Entry(random.nextBoolean() ? key : key.toUpperCase(Locale.ROOT), id));
+            expected.putIfAbsent(key, id);
+        }
+        AliasTable random20k = AliasTable.build(entries);
+
+        // When & Then
+        assertThat(random20k.size()).isEqualTo(expected.size());
+        for (int probe = 0; probe < 20_000; probe++) {
+            String key = randomKey(random);
+            assertThat(random20k.resolve(key)).as("key '%s'", key).isEqualTo(expected.getOrDefault(key, AliasTable.NOT_FOUND));
+        }
+        assertThat(random20k.footprintBytes()).isPositive();
+    }
+
+    private static String randomKey(Random random) {
+        StringBuilder key = new StringBuilder();
+        int length = 1 + random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            key.append((char) ('a' + random.nextInt(10)));
+        }
+        return key.toString();
+    }
+
+}
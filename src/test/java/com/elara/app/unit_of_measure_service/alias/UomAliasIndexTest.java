@@ -0,0 +1,126 @@
+package com.elara.app.unit_of_measure_service.alias;
+
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeEvent;
+import com.elara.app.unit_of_measure_service.dto.response.NameSuggestion;
+import com.elara.app.unit_of_measure_service.dto.response.UomAliasResponse;
+import com.elara.app.unit_of_measure_service.model.AliasKind;
+import com.elara.app.unit_of_measure_service.repository.UomAliasRepository;
+import com.elara.app.unit_of_measure_service.repository.UomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("UomAliasIndex")
+class UomAliasIndexTest {
+
+    private final UomRepository uomRepository = mock(UomRepository.class);
+    private final UomAliasRepository aliasRepository = mock(UomAliasRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UomAliasIndex index = new UomAliasIndex(uomRepository, aliasRepository, mock(PlatformTransactionManager.class), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    @DisplayName("rebuild() should resolve unit names and aliases, names first")
+    void rebuild_resolvesNamesAndAliases() {
+        // Given
+        when(uomRepository.streamAllSuggestions()).thenAnswer(invocation -> Stream.of(
+            new NameSuggestion(1L, "Kilogram"), new NameSuggestion(2L, "Kilo")));
+        when(aliasRepository.streamAll()).thenAnswer(invocation -> Stream.of(
+            new UomAliasResponse(10L, "kg", AliasKind.SYMBOL, 1L), new UomAliasResponse(11L, "KILO", AliasKind.SYNONYM, 1L)));
+        assertThat(index.resolve("kg")).isEqualTo(AliasTable.NOT_FOUND);
+
+        // When
+        index.onApplicationReady();
+
+        // Then
+        assertThat(index.resolve("KG")).isEqualTo(1);
+        assertThat(index.resolve("kilogram")).isEqualTo(1);
+        assertThat(index.resolve("kilo")).isEqualTo(2);
+        assertThat(meterRegistry.get(UomAliasIndex.FOOTPRINT_METRIC).gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("onCatalogChange() should rebuild in the background after unit and alias writes, not status writes")
+    void onCatalogChange_ignoresStatusWrites() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        when(uomRepository.streamAllSuggestions()).thenAnswer(invocation -> Stream.<NameSuggestion>empty());
+        when(aliasRepository.streamAll()).thenAnswer(invocation -> loads.incrementAndGet() == 1
+            ? Stream.<UomAliasResponse>empty()
+            : Stream.of(new UomAliasResponse(10L, "kg", AliasKind.SYMBOL, 1L)));
+        index.onApplicationReady();
+
+        // When
+        index.onCatalogChange(new CatalogChangeEvent("UomStatus", 1L, CatalogChangeEvent.ChangeType.UPDATED));
+        index.onCatalogChange(new CatalogChangeEvent(UomAliasIndex.ENTITY_NAME, 10L, CatalogChangeEvent.ChangeType.CREATED));
+        verify(aliasRepository, timeout(10_000).times(2)).streamAll();
+        index.onCatalogChange(new CatalogChangeEvent("Uom", 1L, CatalogChangeEvent.ChangeType.UPDATED));
+
+        // Then
+        verify(aliasRepository, timeout(10_000).times(3)).streamAll();
+        index.shutdown();
+        assertThat(index.resolve("kg")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("onCatalogChange() should not read the catalog on the writer's thread and share one queued rebuild")
+    void onCatalogChange_duringRebuild_coalesces() throws Exception {
+        // Given
+        CountDownLatch rebuilding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        when(uomRepository.streamAllSuggestions()).thenAnswer(invocation -> {
+            if (loads.incrementAndGet() == 2) {
+                rebuilding.countDown();
+                assertThat(release.await(10, TimeUnit.SECONDS)).isTrue();
+            }
+            return Stream.<NameSuggestion>empty();
+        });
+        when(aliasRepository.streamAll()).thenAnswer(invocation -> Stream.<UomAliasResponse>empty());
+        index.onApplicationReady();
+
+        // When
+        index.onCatalogChange(new CatalogChangeEvent("Uom", 1L, CatalogChangeEvent.ChangeType.UPDATED));
+        assertThat(rebuilding.await(10, TimeUnit.SECONDS)).isTrue();
+        for (long id = 2; id <= 10; id++) {
+            index.onCatalogChange(new CatalogChangeEvent(UomAliasIndex.ENTITY_NAME, id, CatalogChangeEvent.ChangeType.CREATED));
+        }
+        release.countDown();
+
+        // Then
+        verify(aliasRepository, timeout(10_000).times(3)).streamAll();
+        index.shutdown();
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("rebuild() should keep the previous table when reading the catalog fails")
+    void rebuild_failure_keepsPreviousTable() {
+        // Given
+        when(uomRepository.streamAllSuggestions()).thenAnswer(invocation -> Stream.of(new NameSuggestion(1L, "Kilogram")));
+        when(aliasRepository.streamAll()).thenAnswer(invocation -> Stream.<UomAliasResponse>empty());
+        index.rebuild();
+        when(aliasRepository.streamAll()).thenThrow(new IllegalStateException("connection refused"));
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(index.resolve("kilogram")).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,211 @@
+package com.elara.app.unit_of_measure_service.autocomplete;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PrefixTrie")
+class PrefixTrieTest {
+
+    private final PrefixTrie trie = PrefixTrie.build(List.of(
+        new PrefixTrie.Entry(1, "Kilogram", 5),
+        new PrefixTrie.Entry(2, "Kilometer", 9),
+        new PrefixTrie.Entry(3, "Kilo", 0),
+        new PrefixTrie.Entry(4, "Gram", 9),
+        new PrefixTrie.Entry(5, "Kilowatt", 5),
+        new PrefixTrie.Entry(6, "Liter", 1)
+    ));
+
+    private static List<String> names(List<PrefixTrie.Match> matches) {
+        return matches.stream().map(PrefixTrie.Match::name).toList();
+    }
+
+    @Test
+    @DisplayName("top() should rank matches by uses, then alphabetically")
+    void top_ranksByUsesThenName() {
+        // When
+        List<PrefixTrie.Match> result = trie.top("kil", 10);
+
+        // Then
+        assertThat(names(result)).containsExactly("Kilometer", "Kilogram", "Kilowatt", "Kilo");
+        assertThat(result.get(0).id()).isEqualTo(2);
+        assertThat(result.get(0).weight()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("top() should ignore case and match prefixes ending inside an edge label")
+    void top_caseInsensitiveInsideEdge() {
+        // When & Then
+        assertThat(names(trie.top("KILOG", 10))).containsExactly("Kilogram");
+        assertThat(names(trie.top("kilo", 10))).containsExactly("Kilometer", "Kilogram", "Kilowatt", "Kilo");
+        assertThat(names(trie.top("kilogram", 10))).containsExactly("Kilogram");
+    }
+
+    @Test
+    @DisplayName("top() should stop at the limit and return nothing for unknown prefixes")
+    void top_limitAndUnknownPrefix() {
+        // When & Then
+        assertThat(names(trie.top("", 2))).containsExactly("Gram", "Kilometer");
+        assertThat(trie.top("kilograms", 10)).isEmpty();
+        assertThat(trie.top("x", 10)).isEmpty();
+        assertThat(trie.top("k", 0)).isEmpty();
+        assertThat(PrefixTrie.empty().top("k", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("build() should keep names that differ only by case")
+    void build_keepsCaseVariants() {
+        // Given
+        PrefixTrie variants = PrefixTrie.build(List.of(
+            new PrefixTrie.Entry(1, "Meter", 0),
+            new PrefixTrie.Entry(2, "METER", 0),
+            new PrefixTrie.Entry(3, "Me", 0)
+        ));
+
+        // When
+        List<PrefixTrie.Match> result = variants.top("me", 10);
+
+        // Then
+        assertThat(result).extracting(PrefixTrie.Match::id).containsExactly(3L, 1L, 2L);
+        assertThat(variants.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("top() should return the same matches as sorting every name starting with the prefix")
+    void top_matchesBruteForce() {
+        // Given
+        Random random = new Random(42);
+        List<PrefixTrie.Entry> entries = new ArrayList<>();
+        for (int id = 0; id < 5_000; id++) {
+            StringBuilder name = new StringBuilder();
+            int length = 1 + random.nextInt(8);
+            for (int i = 0; i < length; i++) {
+                name.append((char) ('a' + random.nextInt(4)));
+            }
+            entries.add(new PrefixTrie.Entry(id, random.nextBoolean() ? name.toString() : name.toString().toUpperCase(Locale.ROOT), random.nextInt(20)));
+        }
+        PrefixTrie random5k = PrefixTrie.build(entries);
+        Comparator<PrefixTrie.Entry> ranking = Comparator.comparingLong(PrefixTrie.Entry::weight).reversed()
+            .thenComparing(entry -> entry.name().toLowerCase(Locale.ROOT))
+            .thenComparingLong(PrefixTrie.Entry::id);
+
+        for (String prefix : List.of("", "a", "ab", "bad", "cccc", "dabca", "abcdabcd")) {
+            // When
+            List<Long> result = random5k.top(prefix, 25).stream().map(PrefixTrie.Match::id).toList();
+
+            // Then
+            List<Long> expected = entries.stream()
+                .filter(entry -> entry.name().toLowerCase(Locale.ROOT).startsWith(prefix))
+                .sorted(ranking)
+                .limit(25)
+                .map(PrefixTrie.Entry::id)
+                .toList();
+            assertThat(result).as("prefix '%s'", prefix).isEqualTo(expected);
+        }
+        assertThat(random5k.nodeCount()).isLessThan(2 * random5k.size());
+        assertThat(random5k.footprintBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("withinDistance() should count insertions, deletions, substitutions and swaps of adjacent chars")
+    void withinDistance_countsEachKindOfTypo() {
+        // When & Then
+        assertThat(trie.withinDistance("kilogarm", 1, false)).extracting(PrefixTrie.Near::name).containsExactly("Kilogram");
+        assertThat(trie.withinDistance("KILOGRM", 1, false)).extracting(PrefixTrie.Near::distance).containsExactly(1);
+        assertThat(trie.withinDistance("kilogramm", 1, false)).extracting(PrefixTrie.Near::name).containsExactly("Kilogram");
+        assertThat(trie.withinDistance("lifer", 1, false)).extracting(PrefixTrie.Near::name).containsExactly("Liter");
+        assertThat(trie.withinDistance("kilo", 0, false)).extracting(PrefixTrie.Near::name).containsExactly("Kilo");
+        assertThat(trie.withinDistance("xyz", 2, false)).isEmpty();
+        assertThat(PrefixTrie.empty().withinDistance("kilo", 2, false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("withinDistance() with prefixes should also match names starting with a near miss of the term")
+    void withinDistance_prefixes_matchesNamesStartingNearTheTerm() {
+        // When
+        List<PrefixTrie.Near> result = trie.withinDistance("kilp", 1, true);
+
+        // Then
+        assertThat(result).extracting(PrefixTrie.Near::name)
+            .containsExactlyInAnyOrder("Kilo", "Kilogram", "Kilometer", "Kilowatt");
+        assertThat(result).extracting(PrefixTrie.Near::distance).containsOnly(1);
+        assertThat(trie.withinDistance("kilogarm", 1, true)).extracting(PrefixTrie.Near::name).containsExactly("Kilogram");
+        assertThat(trie.withinDistance("kilo", 0, true)).extracting(PrefixTrie.Near::distance).containsOnly(0).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("withinDistance() should return the same names as computing the distance to every name and its prefixes")
+    void withinDistance_matchesBruteForce() {
+        // Given
+        Random random = new Random(7);
+        List<PrefixTrie.Entry> entries = new ArrayList<>();
+        for (int id = 0; id < 3_000; id++) {
+            entries.add(new PrefixTrie.Entry(id, randomWord(random, 1 + random.nextInt(9)), 0));
+        }
+        PrefixTrie random3k = PrefixTrie.build(entries);
+
+        for (int query = 0; query < 50; query++) {
+            String term = randomWord(random, 1 + random.nextInt(9));
+            for (int maxDistance = 0; maxDistance <= 2; maxDistance++) {
+                for (boolean prefixes : new boolean[]{false, true}) {
+                    // When
+                    List<String> result = random3k.withinDistance(term, maxDistance, prefixes).stream()
+                        .map(near -> near.id() + ":" + near.distance())
+                        .sorted()
+                        .toList();
+
+                    // Then
+                    int bound = maxDistance;
+                    List<String> expected = entries.stream()
+                        .filter(entry -> distance(entry.name(), term, prefixes) <= bound)
+                        .map(entry -> entry.id() + ":" + distance(entry.name(), term, prefixes))
+                        .sorted()
+                        .toList();
+                    assertThat(result).as("term '%s' within %d, prefixes %s", term, maxDistance, prefixes).isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+
+    /**
+     * Optimal string alignment distance, the textbook dynamic program; with {@code prefixes}, the smallest
+     * distance between {@code b} and a prefix of {@code a}.
+     */
+    private static int distance(String a, String b, boolean prefixes) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            for (int j = 0; j <= b.length(); j++) {
+                if (i == 0 || j == 0) {
+                    d[i][j] = i + j;
+                    continue;
+                }
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d[i][j] = Math.min(d[i][j], d[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        int closest = d[a.length()][b.length()];
+        for (int i = 0; prefixes && i < a.length(); i++) {
+            closest = Math.min(closest, d[i][b.length()]);
+        }
+        return closest;
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.elara.app.unit_of_measure_service.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BloomFilter")
+class BloomFilterTest {
+
+    private static final int NAMES = 100_000;
+
+    @Test
+    @DisplayName("mightContain() should report every value that was put")
+    void mightContain_putValues_neverMissed() {
+        // Given
+        BloomFilter filter = new BloomFilter(NAMES, 0.01);
+
+        // When
+        IntStream.range(0, NAMES).forEach(i -> filter.put("unit-" + i));
+
+        // Then
+        assertThat(IntStream.range(0, NAMES).allMatch(i -> filter.mightContain("unit-" + i))).isTrue();
+    }
+
+    @Test
+    @DisplayName("the false positive rate should stay close to the target at the expected size")
+    void mightContain_absentValues_falsePositiveRateNearTarget() {
+        // Given
+        BloomFilter filter = new BloomFilter(NAMES, 0.01);
+        IntStream.range(0, NAMES).forEach(i -> filter.put("unit-" + i));
+
+        // When
+        long falsePositives = IntStream.range(0, NAMES).filter(i -> filter.mightContain("absent-" + i)).count();
+
+        // Then
+        double rate = (double) falsePositives / NAMES;
+        assertThat(rate).isLessThan(0.015);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+        assertThat(filter.approximateElementCount()).isBetween(NAMES * 95L / 100, NAMES * 105L / 100);
+    }
+
+    @Test
+    @DisplayName("concurrent puts should not lose bits")
+    void put_concurrently_keepsEveryValue() throws InterruptedException {
+        // Given
+        BloomFilter filter = new BloomFilter(NAMES, 0.01);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        for (int thread = 0; thread < 4; thread++) {
+            int offset = thread;
+            executor.execute(() -> {
+                for (int i = offset; i < NAMES; i += 4) {
+                    filter.put("unit-" + i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(IntStream.range(0, NAMES).allMatch(i -> filter.mightContain("unit-" + i))).isTrue();
+    }
+
+    @Test
+    @DisplayName("the constructor should reject sizes and rates a filter cannot be built for")
+    void constructor_invalidArguments_throws() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(10, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
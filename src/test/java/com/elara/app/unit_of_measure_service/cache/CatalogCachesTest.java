@@ -0,0 +1,122 @@
+package com.elara.app.unit_of_measure_service.cache;
+
+import com.elara.app.unit_of_measure_service.alias.UomAliasIndex;
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeEvent;
+import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CatalogCaches")
+class CatalogCachesTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CatalogCaches caches = new CatalogCaches(registry, 100, Duration.ofMinutes(10), 100,
+        Duration.ofMinutes(10), 100, Duration.ofSeconds(5), 100, Duration.ofMinutes(1));
+
+    private static UomResponse kilogram() {
+        return new UomResponse(1L, "Kilogram", null, BigDecimal.ONE, 1L, 1L, 1L, null, null, 0L);
+    }
+
+    private double gets(String cache, String result) {
+        return registry.get("cache.gets").tag("cache", cache).tag("result", result).functionCounter().count();
+    }
+
+    private double loads(String cache) {
+        return registry.get("cache.load").tag("cache", cache).tag("result", "success").functionCounter().count();
+    }
+
+    @Nested
+    @DisplayName("Lookups")
+    class Lookups {
+
+        @Test
+        @DisplayName("findUom() should only count lookups that miss the unit cache against the negative cache")
+        void findUom_existingAndMissingIds_recordedOnTheirOwnCache() {
+            // Given
+            AtomicInteger queries = new AtomicInteger();
+
+            // When
+            Optional<UomResponse> first = caches.findUom(1L, id -> { queries.incrementAndGet(); return kilogram(); });
+            Optional<UomResponse> second = caches.findUom(1L, id -> { queries.incrementAndGet(); return kilogram(); });
+            Optional<UomResponse> unknown = caches.findUom(2L, id -> { queries.incrementAndGet(); return null; });
+            Optional<UomResponse> unknownAgain = caches.findUom(2L, id -> { queries.incrementAndGet(); return null; });
+
+            // Then
+            assertThat(first).contains(kilogram());
+            assertThat(second).contains(kilogram());
+            assertThat(unknown).isEmpty();
+            assertThat(unknownAgain).isEmpty();
+            assertThat(queries).hasValue(2);
+            assertThat(gets(CatalogCaches.UOM_CACHE, "hit")).isEqualTo(1);
+            assertThat(gets(CatalogCaches.UOM_CACHE, "miss")).isEqualTo(2);
+            assertThat(loads(CatalogCaches.UOM_CACHE)).isEqualTo(2);
+            assertThat(gets(CatalogCaches.MISSING_UOM_CACHE, "hit")).isEqualTo(1);
+            assertThat(gets(CatalogCaches.MISSING_UOM_CACHE, "miss")).isEqualTo(2);
+            assertThat(loads(CatalogCaches.MISSING_UOM_CACHE)).isZero();
+            assertThat(registry.get("cache.puts").tag("cache", CatalogCaches.MISSING_UOM_CACHE).functionCounter().count())
+                .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("findUom() should not remember a missing id when a change for it commits while loading")
+        void findUom_changeDuringLoad_notRememberedAsMissing() {
+            // When
+            Optional<UomResponse> unknown = caches.findUom(3L, id -> {
+                caches.onCatalogChange(new CatalogChangeEvent("Uom", id, CatalogChangeEvent.ChangeType.CREATED));
+                return null;
+            });
+            Optional<UomResponse> created = caches.findUom(3L, id -> kilogram());
+
+            // Then
+            assertThat(unknown).isEmpty();
+            assertThat(created).contains(kilogram());
+        }
+    }
+
+    @Nested
+    @DisplayName("Changes")
+    class Changes {
+
+        @Test
+        @DisplayName("an alias change should leave the unit with the same id and the search totals cached")
+        void onCatalogChange_aliasEvent_keepsUnitsAndTotals() {
+            // Given
+            caches.uoms().put(1L, kilogram());
+            caches.approximateTotal("Uom:name:KILO", query -> 1L);
+            AtomicInteger counts = new AtomicInteger();
+
+            // When
+            caches.onCatalogChange(new CatalogChangeEvent(UomAliasIndex.ENTITY_NAME, 1L, CatalogChangeEvent.ChangeType.CREATED));
+
+            // Then
+            assertThat(caches.uoms().peek(1L)).isEqualTo(kilogram());
+            assertThat(caches.approximateTotal("Uom:name:KILO", query -> (long) counts.incrementAndGet())).isEqualTo(1L);
+            assertThat(counts).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("a unit change should evict the unit and clear the search totals")
+        void onCatalogChange_uomEvent_evictsUnitAndTotals() {
+            // Given
+            caches.uoms().put(1L, kilogram());
+            caches.approximateTotal("Uom:name:KILO", query -> 1L);
+
+            // When
+            caches.onCatalogChange(new CatalogChangeEvent("Uom", 1L, CatalogChangeEvent.ChangeType.UPDATED));
+
+            // Then
+            assertThat(caches.uoms().peek(1L)).isNull();
+            assertThat(caches.approximateTotal("Uom:name:KILO", query -> 2L)).isEqualTo(2L);
+        }
+    }
+
+}
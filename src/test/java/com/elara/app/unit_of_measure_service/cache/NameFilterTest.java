@@ -0,0 +1,213 @@
+package com.elara.app.unit_of_measure_service.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NameFilter")
+class NameFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private NameFilter filter(boolean enabled) {
+        return new NameFilter("test", name -> name.toLowerCase(Locale.ROOT), 0.01, enabled, registry);
+    }
+
+    @Nested
+    @DisplayName("Checks")
+    class Checks {
+
+        @Test
+        @DisplayName("mightContain() should send every name to the database until the first rebuild")
+        void mightContain_beforeRebuild_returnsTrue() {
+            // Given
+            NameFilter filter = filter(true);
+
+            // When
+            boolean result = filter.mightContain("Kilogram");
+
+            // Then
+            assertThat(result).isTrue();
+            assertThat(filter.isReady()).isFalse();
+        }
+
+        @Test
+        @DisplayName("mightContain() should rule out unknown names and normalize known ones")
+        void mightContain_afterRebuild_rulesOutUnknownNames() {
+            // Given
+            NameFilter filter = filter(true);
+            filter.rebuild(Stream.of("Kilogram", "Liter"), 2);
+
+            // When & Then
+            assertThat(filter.mightContain("KILOGRAM")).isTrue();
+            assertThat(filter.mightContain("Meter")).isFalse();
+            assertThat(filter.negativeCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("a disabled filter should never rule out a name nor keep added names")
+        void disabled_alwaysReturnsTrue() {
+            // Given
+            NameFilter filter = filter(false);
+
+            // When
+            filter.rebuild(Stream.of("Kilogram"), 1);
+            filter.add("Liter");
+
+            // Then
+            assertThat(filter.mightContain("Meter")).isTrue();
+            assertThat(filter.isReady()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Writes")
+    class Writes {
+
+        @Test
+        @DisplayName("add() should make a new name visible immediately")
+        void add_afterRebuild_isVisible() {
+            // Given
+            NameFilter filter = filter(true);
+            filter.rebuild(Stream.empty(), 0);
+
+            // When
+            filter.add("Kilogram");
+
+            // Then
+            assertThat(filter.mightContain("kilogram")).isTrue();
+        }
+
+        @Test
+        @DisplayName("rebuild() should keep names added while the table was being read")
+        void rebuild_keepsNamesAddedSinceLastRebuild() {
+            // Given
+            NameFilter filter = filter(true);
+            filter.rebuild(Stream.empty(), 0);
+            filter.add("Kilogram");
+
+            // When: the rebuild reads the table before the transaction adding "Kilogram" commits
+            filter.rebuild(Stream.of("Liter"), 1);
+
+            // Then
+            assertThat(filter.mightContain("Kilogram")).isTrue();
+            assertThat(filter.mightContain("Liter")).isTrue();
+        }
+
+        @Test
+        @DisplayName("needsRebuild() should be true once the filter holds more names than it was sized for")
+        void needsRebuild_whenSaturated_returnsTrue() {
+            // Given
+            NameFilter filter = filter(true);
+            filter.rebuild(Stream.empty(), 0);
+
+            // When
+            IntStream.range(0, 1_000).forEach(i -> filter.add("unit-" + i));
+            boolean beforeSaturation = filter.needsRebuild();
+            IntStream.range(1_000, 1_200).forEach(i -> filter.add("unit-" + i));
+
+            // Then
+            assertThat(beforeSaturation).isFalse();
+            assertThat(filter.needsRebuild()).isTrue();
+        }
+
+        @Test
+        @DisplayName("needsRebuild() should be true when deleted names make false positives frequent")
+        void needsRebuild_whenFalsePositivesGrow_returnsTrue() {
+            // Given
+            NameFilter filter = filter(true);
+            filter.rebuild(Stream.of("Kilogram"), 1);
+
+            // When: "Kilogram" was deleted, every check now reaches the database for nothing
+            for (int i = 0; i < 1_000; i++) {
+                filter.mightContain("Kilogram");
+                filter.recordDatabaseCheck(false);
+            }
+
+            // Then
+            assertThat(filter.needsRebuild()).isTrue();
+            assertThat(filter.observedFalsePositiveRate()).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics")
+    class Metrics {
+
+        @Test
+        @DisplayName("the filter should publish checks by result and the observed false positive rate")
+        void metrics_areBoundToRegistry() {
+            // Given
+            NameFilter filter = filter(true);
+            filter.rebuild(Stream.of("Kilogram"), 1);
+
+            // When
+            filter.mightContain("Meter");
+            filter.mightContain("Liter");
+            filter.mightContain("Kilogram");
+            filter.recordDatabaseCheck(true);
+
+            // Then
+            assertThat(registry.get(NameFilter.CHECKS_METRIC).tag("filter", "test").tag("result", "negative").functionCounter().count()).isEqualTo(2);
+            assertThat(registry.get(NameFilter.CHECKS_METRIC).tag("filter", "test").tag("result", "true-positive").functionCounter().count()).isEqualTo(1);
+            assertThat(registry.get(NameFilter.CHECKS_METRIC).tag("filter", "test").tag("result", "false-positive").functionCounter().count()).isZero();
+            assertThat(registry.get("uom.name.filter.false.positive.rate").tag("filter", "test").gauge().value()).isZero();
+            assertThat(registry.get("uom.name.filter.expected.false.positive.rate").tag("filter", "test").gauge().value()).isLessThan(0.01);
+        }
+    }
+
+    @Nested
+    @DisplayName("Accuracy")
+    class Accuracy {
+
+        private static final int NAMES = 100_000;
+        private static final int CHECKS = 100_000;
+
+        @Test
+        @DisplayName("a full catalog should pass every known name and stay within the target false positive rate on free ones")
+        void mightContain_fullCatalog_withinTargetRate() {
+            // Given
+            NameFilter filter = filter(true);
+            filter.rebuild(IntStream.range(0, NAMES).mapToObj(i -> "Unit " + i), NAMES);
+
+            // When
+            long knownPassed = IntStream.range(0, NAMES).filter(i -> filter.mightContain("UNIT " + i)).count();
+            long freePassed = IntStream.range(0, CHECKS).filter(i -> filter.mightContain("Kilo unit " + i)).count();
+
+            // Then
+            assertThat(knownPassed).isEqualTo(NAMES);
+            assertThat((double) freePassed / CHECKS).isLessThan(0.01);
+            assertThat(filter.needsRebuild()).isFalse();
+        }
+
+        @Test
+        @DisplayName("a saturated filter should let more free names through and ask for a rebuild that restores its accuracy")
+        void mightContain_saturated_rebuildRestoresRate() {
+            // Given: sized for twice the initial catalog, then filled to five times that size
+            NameFilter filter = filter(true);
+            filter.rebuild(IntStream.range(0, NAMES / 10).mapToObj(i -> "Unit " + i), NAMES / 10);
+            IntStream.range(NAMES / 10, NAMES).forEach(i -> filter.add("Unit " + i));
+
+            // When
+            long saturatedPassed = IntStream.range(0, CHECKS).filter(i -> filter.mightContain("Kilo unit " + i)).count();
+            boolean saturatedNeedsRebuild = filter.needsRebuild();
+            filter.rebuild(IntStream.range(0, NAMES).mapToObj(i -> "Unit " + i), NAMES);
+            long rebuiltPassed = IntStream.range(0, CHECKS).filter(i -> filter.mightContain("Kilo unit " + i)).count();
+
+            // Then
+            assertThat(saturatedNeedsRebuild).isTrue();
+            assertThat((double) saturatedPassed / CHECKS).isGreaterThan(0.04);
+            assertThat((double) rebuiltPassed / CHECKS).isLessThan(0.01);
+            assertThat(IntStream.range(0, NAMES).allMatch(i -> filter.mightContain("Unit " + i))).isTrue();
+            assertThat(filter.needsRebuild()).isFalse();
+        }
+    }
+
+}
@@ -0,0 +1,294 @@
+package com.elara.app.unit_of_measure_service.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TinyLfuCache")
+class TinyLfuCacheTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private TinyLfuCache<Long, String> cache(int maximumSize) {
+        return new TinyLfuCache<>("test", maximumSize, Duration.ofMinutes(10), ticker::get);
+    }
+
+    @Nested
+    @DisplayName("Loading")
+    class Loading {
+
+        @Test
+        @DisplayName("get() should load on a miss and serve later reads from the cache")
+        void get_missThenHit_loadsOnce() {
+            // Given
+            TinyLfuCache<Long, String> cache = cache(10);
+            AtomicInteger loads = new AtomicInteger();
+
+            // When
+            String first = cache.get(1L, key -> "value " + loads.incrementAndGet());
+            String second = cache.get(1L, key -> "value " + loads.incrementAndGet());
+
+            // Then
+            assertThat(first).isEqualTo("value 1");
+            assertThat(second).isEqualTo("value 1");
+            assertThat(cache.hitCount()).isEqualTo(1);
+            assertThat(cache.missCount()).isEqualTo(1);
+            assertThat(cache.loadSuccessCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("get() should not cache absent values or failed loads")
+        void get_nullOrFailure_isNotCached() {
+            // Given
+            TinyLfuCache<Long, String> cache = cache(10);
+
+            // When
+            String absent = cache.get(1L, key -> null);
+
+            // Then
+            assertThat(absent).isNull();
+            assertThatThrownBy(() -> cache.get(2L, key -> {
+                throw new IllegalStateException("Connection refused");
+            })).isInstanceOf(IllegalStateException.class);
+            assertThat(cache.estimatedSize()).isZero();
+            assertThat(cache.loadFailureCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("get() should discard a value loaded while the key was invalidated")
+        void get_invalidatedDuringLoad_discardsStaleValue() {
+            // Given
+            TinyLfuCache<Long, String> cache = cache(10);
+
+            // When
+            String loaded = cache.get(1L, key -> {
+                cache.invalidate(key);
+                return "stale";
+            });
+
+            // Then
+            assertThat(loaded).isEqualTo("stale");
+            assertThat(cache.getIfPresent(1L)).isNull();
+        }
+
+        @Test
+        @DisplayName("putIfNotInvalidatedSince() should only store a value when nothing was invalidated since the count was read")
+        void putIfNotInvalidatedSince_afterInvalidation_discardsValue() {
+            // Given
+            TinyLfuCache<Long, String> cache = cache(10);
+            long beforeFirstLoad = cache.invalidationCount();
+            cache.invalidate(2L);
+            long beforeSecondLoad = cache.invalidationCount();
+
+            // When
+            cache.putIfNotInvalidatedSince(1L, "stale", beforeFirstLoad);
+            cache.putIfNotInvalidatedSince(2L, "fresh", beforeSecondLoad);
+
+            // Then
+            assertThat(cache.peek(1L)).isNull();
+            assertThat(cache.peek(2L)).isEqualTo("fresh");
+            assertThat(cache.putCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("getIfPresent() should treat entries older than expire-after-write as absent")
+        void getIfPresent_afterExpiry_returnsNull() {
+            // Given
+            TinyLfuCache<Long, String> cache = cache(10);
+            cache.put(1L, "kilogram");
+
+            // When
+            ticker.addAndGet(Duration.ofMinutes(10).toNanos());
+
+            // Then
+            assertThat(cache.getIfPresent(1L)).isNull();
+            assertThat(cache.estimatedSize()).isZero();
+        }
+
+        @Test
+        @DisplayName("a maximum size of 0 should disable caching")
+        void zeroMaximumSize_alwaysLoads() {
+            // Given
+            TinyLfuCache<Long, String> cache = cache(0);
+            AtomicInteger loads = new AtomicInteger();
+
+            // When
+            cache.get(1L, key -> "value " + loads.incrementAndGet());
+            cache.get(1L, key -> "value " + loads.incrementAndGet());
+
+            // Then
+            assertThat(loads).hasValue(2);
+            assertThat(cache.estimatedSize()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Eviction")
+    class Eviction {
+
+        @Test
+        @DisplayName("the cache should never hold more than its maximum size")
+        void put_beyondMaximum_evicts() {
+            // Given
+            TinyLfuCache<Long, String> cache = cache(100);
+
+            // When
+            for (long key = 0; key < 1_000; key++) {
+                cache.put(key, "value");
+            }
+
+            // Then
+            assertThat(cache.estimatedSize()).isEqualTo(100);
+            assertThat(cache.evictionCount()).isEqualTo(900);
+        }
+
+        @Test
+        @DisplayName("a scan of one-off keys should not flush entries that keep being read")
+        void scan_doesNotEvictFrequentEntries() {
+            // Given
+            TinyLfuCache<Long, String> cache = cache(100);
+            for (int round = 0; round < 5; round++) {
+                for (long key = 0; key < 50; key++) {
+                    cache.get(key, String::valueOf);
+                }
+            }
+
+            // When
+            for (long key = 1_000; key < 11_000; key++) {
+                cache.get(key, String::valueOf);
+                if (key % 10 == 0) {
+                    cache.get(key / 10 % 50, String::valueOf);
+                }
+            }
+
+            // Then
+            for (long key = 0; key < 50; key++) {
+                assertThat(cache.getIfPresent(key)).as("hot key %d", key).isNotNull();
+            }
+        }
+
+        @Test
+        @DisplayName("invalidateAll() should empty the cache")
+        void invalidateAll_emptiesCache() {
+            // Given
+            TinyLfuCache<Long, String> cache = cache(10);
+            cache.put(1L, "kilogram");
+            cache.put(2L, "gram");
+
+            // When
+            cache.invalidateAll();
+
+            // Then
+            assertThat(cache.estimatedSize()).isZero();
+            assertThat(cache.getIfPresent(1L)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics")
+    class Metrics {
+
+        @Test
+        @DisplayName("the cache should publish gets, evictions, size and load time")
+        void metrics_areBoundToRegistry() {
+            // Given
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            TinyLfuCache<Long, String> cache = cache(1);
+            new TinyLfuCacheMetrics(cache).bindTo(registry);
+
+            // When
+            cache.get(1L, key -> {
+                ticker.addAndGet(TimeUnit.MILLISECONDS.toNanos(3));
+                return "kilogram";
+            });
+            cache.get(1L, String::valueOf);
+            cache.get(2L, String::valueOf);
+
+            // Then
+            assertThat(registry.get("cache.gets").tag("cache", "test").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+            assertThat(registry.get("cache.gets").tag("cache", "test").tag("result", "miss").functionCounter().count()).isEqualTo(2);
+            assertThat(registry.get("cache.evictions").tag("cache", "test").functionCounter().count()).isEqualTo(1);
+            assertThat(registry.get("cache.size").tag("cache", "test").gauge().value()).isEqualTo(1);
+            assertThat(registry.get("cache.load.duration").tag("cache", "test").functionTimer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Zipf load")
+    class ZipfLoad {
+
+        private static final int KEYS = 100_000;
+        private static final int CAPACITY = 1_000;
+        private static final int REQUESTS = 200_000;
+
+        /**
+         * Cumulative distribution of a Zipf law with exponent 1 over {@link #KEYS} keys, the shape of catalog
+         * reads where a few units (kilogram, piece, liter...) take most of the traffic.
+         */
+        private static double[] zipf() {
+            double[] cumulative = new double[KEYS];
+            double sum = 0;
+            for (int rank = 0; rank < KEYS; rank++) {
+                sum += 1.0 / (rank + 1);
+                cumulative[rank] = sum;
+            }
+            for (int rank = 0; rank < KEYS; rank++) {
+                cumulative[rank] /= sum;
+            }
+            return cumulative;
+        }
+
+        private static long nextKey(double[] cumulative, Random random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return index < 0 ? -index - 1 : index;
+        }
+
+        @Test
+        @DisplayName("W-TinyLFU should beat LRU's hit ratio on a Zipf load and stay within its capacity")
+        void zipfLoad_hitRatioAboveLru() {
+            // Given
+            double[] cumulative = zipf();
+            TinyLfuCache<Long, Long> cache = new TinyLfuCache<>("zipf", CAPACITY, Duration.ofHours(1));
+            Map<Long, Long> lru = new LinkedHashMap<>(CAPACITY, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                    return size() > CAPACITY;
+                }
+            };
+            Random random = new Random(42);
+            long lruHits = 0;
+
+            // When
+            for (int i = 0; i < REQUESTS; i++) {
+                long key = nextKey(cumulative, random);
+                cache.get(key, Long::valueOf);
+                if (lru.get(key) == null) {
+                    lru.put(key, key);
+                } else {
+                    lruHits++;
+                }
+            }
+
+            // Then
+            // The optimal hit ratio (the 1,000 most popular keys always cached) is H(1000) / H(100000) = 0.62
+            double lruHitRatio = (double) lruHits / REQUESTS;
+            assertThat(cache.hitRatio()).isGreaterThan(0.55).isGreaterThan(lruHitRatio + 0.05);
+            assertThat(cache.estimatedSize()).isLessThanOrEqualTo(CAPACITY);
+            assertThat(cache.evictionCount()).isEqualTo(cache.putCount() - cache.estimatedSize());
+        }
+    }
+
+}
@@ -0,0 +1,200 @@
+package com.elara.app.unit_of_measure_service.catalog;
+
+import com.elara.app.unit_of_measure_service.model.CatalogChange;
+import com.elara.app.unit_of_measure_service.model.CatalogRelayOffset;
+import com.elara.app.unit_of_measure_service.model.CatalogSequence;
+import com.elara.app.unit_of_measure_service.repository.CatalogChangeRepository;
+import com.elara.app.unit_of_measure_service.repository.CatalogRelayOffsetRepository;
+import com.elara.app.unit_of_measure_service.repository.CatalogSequenceRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogChangeRelay")
+class CatalogChangeRelayTest {
+
+    private static final String EXCHANGE = "uom.catalog.changes";
+
+    @Mock
+    private CatalogChangeRepository changeRepository;
+
+    @Mock
+    private CatalogRelayOffsetRepository offsetRepository;
+
+    @Mock
+    private CatalogSequenceRepository sequenceRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitOperations operations;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<CatalogChange> changeLog = new ArrayList<>();
+    private final CatalogRelayOffset offset = new CatalogRelayOffset(CatalogChangeRelay.RELAY_NAME, 0L);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when(changeRepository.findAllBySequenceGreaterThanOrderBySequenceAsc(anyLong(), any(Limit.class)))
+            .thenAnswer(invocation -> {
+                long since = invocation.getArgument(0);
+                Limit limit = invocation.getArgument(1);
+                return changeLog.stream().filter(change -> change.getSequence() > since).limit(limit.max()).toList();
+            });
+        lenient().when(offsetRepository.findByIdForUpdate(CatalogChangeRelay.RELAY_NAME)).thenReturn(Optional.of(offset));
+        lenient().when(offsetRepository.findById(CatalogChangeRelay.RELAY_NAME)).thenReturn(Optional.of(offset));
+        lenient().when(sequenceRepository.findById(CatalogSequence.SINGLETON_ID))
+            .thenAnswer(invocation -> Optional.of(new CatalogSequence(CatalogSequence.SINGLETON_ID, (long) changeLog.size())));
+        lenient().when(rabbitTemplate.invoke(any(RabbitOperations.OperationsCallback.class)))
+            .thenAnswer(invocation -> invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(operations));
+    }
+
+    private CatalogChangeRelay relay(int batchSize) {
+        return new CatalogChangeRelay(changeRepository, offsetRepository, sequenceRepository, entityManager, rabbitTemplate,
+            new ObjectMapper(), transactionManager, meterRegistry, true, EXCHANGE, batchSize, Duration.ZERO, Duration.ofSeconds(5));
+    }
+
+    private void commit(String entityName, long entityId, CatalogChangeEvent.ChangeType changeType) {
+        changeLog.add(new CatalogChange((long) changeLog.size() + 1, entityName, entityId, changeType));
+    }
+
+    private double metric(String name) {
+        return meterRegistry.get(name).meter().measure().iterator().next().getValue();
+    }
+
+    @Test
+    @DisplayName("relay() should publish the changes in sequence order, confirmed, before advancing the offset")
+    void relay_publishesInOrderThenAdvancesOffset() {
+        // Given
+        CatalogChangeRelay relay = relay(500);
+        commit("UomStatus", 1L, CatalogChangeEvent.ChangeType.CREATED);
+        commit("Uom", 7L, CatalogChangeEvent.ChangeType.UPDATED);
+        commit("Uom", 7L, CatalogChangeEvent.ChangeType.DELETED);
+
+        // When
+        long relayed = relay.relay();
+
+        // Then
+        assertThat(relayed).isEqualTo(3);
+        ArgumentCaptor<String> routingKeys = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Message> messages = ArgumentCaptor.forClass(Message.class);
+        var inOrder = inOrder(operations);
+        inOrder.verify(operations, times(3)).send(eq(EXCHANGE), routingKeys.capture(), messages.capture());
+        inOrder.verify(operations).waitForConfirmsOrDie(5_000L);
+        assertThat(routingKeys.getAllValues()).containsExactly("UomStatus.CREATED", "Uom.UPDATED", "Uom.DELETED");
+        assertThat(messages.getAllValues()).extracting(message -> message.getMessageProperties().getMessageId())
+            .containsExactly("1", "2", "3");
+        Message deleted = messages.getAllValues().getLast();
+        assertThat(deleted.getMessageProperties().getDeliveryMode()).isEqualTo(MessageDeliveryMode.PERSISTENT);
+        assertThat(new String(deleted.getBody(), StandardCharsets.UTF_8))
+            .isEqualTo("{\"sequence\":3,\"entityName\":\"Uom\",\"entityId\":7,\"changeType\":\"DELETED\"}");
+        assertThat(offset.getPublishedSequence()).isEqualTo(3L);
+        assertThat(metric(CatalogChangeRelay.PUBLISHED_METRIC)).isEqualTo(3);
+        assertThat(metric(CatalogChangeRelay.LAG_METRIC)).isZero();
+    }
+
+    @Test
+    @DisplayName("relay() should keep the offset when the broker does not confirm, and publish the batch again on the next run")
+    void relay_unconfirmedBatch_isPublishedAgain() {
+        // Given
+        CatalogChangeRelay relay = relay(500);
+        commit("Uom", 1L, CatalogChangeEvent.ChangeType.CREATED);
+        commit("Uom", 2L, CatalogChangeEvent.ChangeType.CREATED);
+        doThrow(new AmqpException("nack")).doNothing().when(operations).waitForConfirmsOrDie(anyLong());
+
+        // When
+        long firstRun = relay.relay();
+
+        // Then
+        assertThat(firstRun).isZero();
+        assertThat(offset.getPublishedSequence()).isZero();
+        assertThat(metric(CatalogChangeRelay.FAILURES_METRIC)).isEqualTo(1);
+        assertThat(metric(CatalogChangeRelay.LAG_METRIC)).isEqualTo(2);
+        verify(transactionManager).rollback(any());
+
+        // When
+        long secondRun = relay.relay();
+
+        // Then: at least once, the same messages again
+        assertThat(secondRun).isEqualTo(2);
+        verify(operations, times(2)).send(eq(EXCHANGE), eq("Uom.CREATED"), argThat(message -> "1".equals(message.getMessageProperties().getMessageId())));
+        assertThat(offset.getPublishedSequence()).isEqualTo(2L);
+        assertThat(metric(CatalogChangeRelay.LAG_METRIC)).isZero();
+    }
+
+    @Test
+    @DisplayName("relay() should drain a backlog in batches, one confirmed transaction each")
+    void relay_drainsBacklogInBatches() {
+        // Given
+        CatalogChangeRelay relay = relay(500);
+        for (long id = 1; id <= 1_250; id++) {
+            commit("Uom", id, CatalogChangeEvent.ChangeType.CREATED);
+        }
+
+        // When
+        long relayed = relay.relay();
+
+        // Then
+        assertThat(relayed).isEqualTo(1_250);
+        verify(operations, times(3)).waitForConfirmsOrDie(anyLong());
+        verify(transactionManager, times(3 + 1)).commit(any());
+        verify(rabbitTemplate, times(1)).execute(any());
+        assertThat(offset.getPublishedSequence()).isEqualTo(1_250L);
+        assertThat(meterRegistry.get(CatalogChangeRelay.BATCH_METRIC).timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("relay() should create its offset at the start of an empty log and publish nothing")
+    void relay_missingOffset_startsAtZero() {
+        // Given
+        CatalogChangeRelay relay = relay(500);
+        when(offsetRepository.findByIdForUpdate(CatalogChangeRelay.RELAY_NAME)).thenReturn(Optional.empty());
+
+        // When
+        long relayed = relay.relay();
+
+        // Then
+        assertThat(relayed).isZero();
+        verify(entityManager).persist(argThat(created -> created instanceof CatalogRelayOffset relayOffset
+            && relayOffset.getPublishedSequence() == 0L));
+        verify(operations, never()).send(anyString(), anyString(), any(Message.class));
+    }
+
+}
@@ -0,0 +1,275 @@
+package com.elara.app.unit_of_measure_service.catalog;
+
+import com.elara.app.unit_of_measure_service.dto.response.CatalogChangeNotification;
+import com.elara.app.unit_of_measure_service.model.CatalogChange;
+import com.elara.app.unit_of_measure_service.model.CatalogSequence;
+import com.elara.app.unit_of_measure_service.repository.CatalogChangeRepository;
+import com.elara.app.unit_of_measure_service.repository.CatalogSequenceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogChangeStream")
+class CatalogChangeStreamTest {
+
+    @Mock
+    private CatalogChangeRepository changeRepository;
+
+    @Mock
+    private CatalogSequenceRepository sequenceRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<CatalogChange> changeLog = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CatalogChangeStream stream;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when(changeRepository.findAllBySequenceGreaterThanOrderBySequenceAsc(anyLong(), any(Limit.class)))
+            .thenAnswer(invocation -> {
+                long since = invocation.getArgument(0);
+                Limit limit = invocation.getArgument(1);
+                return changeLog.stream().filter(change -> change.getSequence() > since).limit(limit.max()).toList();
+            });
+        lenient().when(sequenceRepository.findById(CatalogSequence.SINGLETON_ID))
+            .thenAnswer(invocation -> Optional.of(new CatalogSequence(CatalogSequence.SINGLETON_ID, (long) changeLog.size())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (stream != null) {
+            stream.shutdown();
+        }
+    }
+
+    private CatalogChangeStream stream(int bufferSize, Duration heartbeatInterval) {
+        stream = new CatalogChangeStream(changeRepository, sequenceRepository, transactionManager, meterRegistry,
+            bufferSize, heartbeatInterval, Duration.ZERO, Duration.ofMinutes(1));
+        return stream;
+    }
+
+    private void commit(int count) {
+        for (int i = 0; i < count; i++) {
+            changeLog.add(new CatalogChange((long) changeLog.size() + 1, "Uom", 1L, CatalogChangeEvent.ChangeType.UPDATED));
+        }
+    }
+
+    private static List<Long> sequences(long fromInclusive, long toInclusive) {
+        return LongStream.rangeClosed(fromInclusive, toInclusive).boxed().toList();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    @DisplayName("dispatch() should push committed changes in order, with the sequence as event id")
+    void dispatch_pushesChangesInOrder() throws Exception {
+        // Given
+        CatalogChangeStream stream = stream(16, Duration.ofMinutes(1));
+        RecordingEmitter emitter = new RecordingEmitter();
+        stream.subscribe(emitter, null);
+
+        // When
+        commit(3);
+        stream.dispatch();
+
+        // Then
+        await(() -> emitter.sequences.size() == 3);
+        assertThat(emitter.sequences).containsExactly(1L, 2L, 3L);
+        assertThat(emitter.ids).containsExactly("1", "2", "3");
+    }
+
+    @Test
+    @DisplayName("subscribe() with Last-Event-ID should replay the missed changes from the log, then go live without duplicates")
+    void subscribe_withLastEventId_replaysThenGoesLive() throws Exception {
+        // Given: five changes already dispatched before anyone watched
+        CatalogChangeStream stream = stream(16, Duration.ofMinutes(1));
+        commit(5);
+        stream.dispatch();
+        RecordingEmitter resumed = new RecordingEmitter();
+        RecordingEmitter fresh = new RecordingEmitter();
+
+        // When
+        stream.subscribe(resumed, 2L);
+        stream.subscribe(fresh, null);
+        commit(1);
+        stream.dispatch();
+
+        // Then
+        await(() -> resumed.sequences.size() == 4 && fresh.sequences.size() == 1);
+        assertThat(resumed.sequences).containsExactly(3L, 4L, 5L, 6L);
+        assertThat(fresh.sequences).containsExactly(6L);
+    }
+
+    @Test
+    @DisplayName("a slow subscriber should keep a bounded buffer and catch up from the log without losing changes")
+    void slowSubscriber_catchesUpFromLog() throws Exception {
+        // Given: a client blocked on its first write, with room for two buffered changes
+        CatalogChangeStream stream = stream(2, Duration.ofMinutes(1));
+        CountDownLatch unblock = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(unblock);
+        RecordingEmitter fast = new RecordingEmitter();
+        stream.subscribe(slow, null);
+        stream.subscribe(fast, null);
+        await(() -> slow.writes.get() == 1);
+
+        // When: fifty changes arrive one commit at a time while the client is stuck
+        for (int i = 0; i < 50; i++) {
+            commit(1);
+            stream.dispatch();
+        }
+        unblock.countDown();
+
+        // Then
+        await(() -> slow.sequences.size() == 50 && fast.sequences.size() == 50);
+        assertThat(slow.sequences).containsExactlyElementsOf(sequences(1, 50));
+        assertThat(fast.sequences).containsExactlyElementsOf(sequences(1, 50));
+        assertThat(meterRegistry.get(CatalogChangeStream.CATCH_UPS_METRIC).functionCounter().count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("an idle subscriber should be sent heartbeats")
+    void idleSubscriber_receivesHeartbeats() throws Exception {
+        // Given
+        CatalogChangeStream stream = stream(16, Duration.ofMillis(20));
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        stream.subscribe(emitter, null);
+
+        // Then
+        await(() -> emitter.comments.stream().filter("heartbeat"::equals).count() >= 2);
+        assertThat(emitter.sequences).isEmpty();
+    }
+
+    @Test
+    @DisplayName("a failed write should close the stream and drop the subscriber")
+    void failedWrite_dropsSubscriber() throws Exception {
+        // Given
+        CatalogChangeStream stream = stream(16, Duration.ofMinutes(1));
+        RecordingEmitter broken = new RecordingEmitter();
+        broken.failAfter = 1;
+        stream.subscribe(broken, null);
+        await(() -> stream.subscriberCount() == 1);
+
+        // When
+        commit(1);
+        stream.dispatch();
+
+        // Then
+        await(() -> stream.subscriberCount() == 0);
+        assertThat(meterRegistry.get(CatalogChangeStream.SUBSCRIBERS_METRIC).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("5,000 idle subscribers should each take a virtual thread, not a platform thread, and all get the next change")
+    void thousandsOfIdleSubscribers_onVirtualThreads() throws Exception {
+        // Given
+        CatalogChangeStream stream = stream(16, Duration.ofMinutes(1));
+        int platformThreadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+        List<RecordingEmitter> emitters = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            RecordingEmitter emitter = new RecordingEmitter();
+            emitters.add(emitter);
+            stream.subscribe(emitter, null);
+        }
+        await(() -> emitters.stream().allMatch(emitter -> emitter.writes.get() == 1));
+        assertThat(meterRegistry.get(CatalogChangeStream.SUBSCRIBERS_METRIC).gauge().value()).isEqualTo(5_000);
+        assertThat(ManagementFactory.getThreadMXBean().getThreadCount() - platformThreadsBefore).isLessThan(100);
+
+        // When
+        commit(1);
+        stream.dispatch();
+
+        // Then
+        await(() -> emitters.stream().allMatch(emitter -> emitter.sequences.size() == 1));
+        stream.shutdown();
+        assertThat(stream.subscriberCount()).isZero();
+    }
+
+    /**
+     * Records what would be written to the client; optionally blocks its first write, or fails after a few.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch firstWrite;
+        private final AtomicInteger writes = new AtomicInteger();
+        private final List<Long> sequences = new CopyOnWriteArrayList<>();
+        private final List<String> ids = new CopyOnWriteArrayList<>();
+        private final List<String> comments = new CopyOnWriteArrayList<>();
+        private volatile int failAfter = Integer.MAX_VALUE;
+
+        private RecordingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        private RecordingEmitter(CountDownLatch firstWrite) {
+            this.firstWrite = firstWrite;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (writes.incrementAndGet() > failAfter) {
+                throw new IOException("Broken pipe");
+            }
+            try {
+                firstWrite.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof CatalogChangeNotification notification) {
+                    sequences.add(notification.sequence());
+                } else if (part.getData() instanceof String text) {
+                    text.lines().forEach(line -> {
+                        if (line.startsWith("id:")) {
+                            ids.add(line.substring(3));
+                        } else if (line.startsWith(":")) {
+                            comments.add(line.substring(1));
+                        }
+                    });
+                }
+            }
+        }
+
+    }
+
+}
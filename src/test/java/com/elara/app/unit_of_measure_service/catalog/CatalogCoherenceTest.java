@@ -0,0 +1,214 @@
+package com.elara.app.unit_of_measure_service.catalog;
+
+import com.elara.app.unit_of_measure_service.cache.CatalogCaches;
+import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.cloud.bus.BusBridge;
+import org.springframework.cloud.bus.PathServiceMatcher;
+import org.springframework.cloud.bus.RemoteApplicationEventListener;
+import org.springframework.cloud.bus.ServiceMatcher;
+import org.springframework.cloud.bus.event.PathDestinationFactory;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.util.AntPathMatcher;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Several application contexts, one per replica, joined by an in-JVM stand-in for the bus: every broadcast is
+ * serialized to JSON and delivered on each replica's own consumer thread, the way the AMQP binder would.
+ */
+@DisplayName("CatalogCoherence")
+class CatalogCoherenceTest {
+
+    private static final int REPLICAS = 3;
+
+    private final ObjectMapper wire = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final List<Replica> replicas = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        wire.registerSubtypes(CatalogChangeRemoteEvent.class);
+        for (int i = 0; i < REPLICAS; i++) {
+            replicas.add(new Replica("unit-of-measure-service:808" + i + ":replica-" + i));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicas.forEach(Replica::close);
+    }
+
+    private static UomResponse kilogram(long version) {
+        return new UomResponse(1L, "Kilogram", null, BigDecimal.ONE, 1L, 1L, 1L, null, null, version);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    @Test
+    @DisplayName("a committed write on one replica should evict the entry on every other replica")
+    void write_evictsOnOtherReplicas() throws Exception {
+        // Given
+        replicas.forEach(replica -> replica.cache(kilogram(0)));
+
+        // When
+        replicas.getFirst().commit(new CatalogChangeEvent("Uom", 1L, CatalogChangeEvent.ChangeType.UPDATED, 1L));
+
+        // Then
+        await(() -> replicas.get(1).cached() == null && replicas.get(2).cached() == null);
+        assertThat(replicas.getFirst().cached()).isNull();
+        assertThat(replicas.get(1).meterRegistry.get(CatalogCoherence.LATENCY_METRIC).timer().count()).isEqualTo(1);
+        assertThat(replicas.getFirst().meterRegistry.get(CatalogCoherence.LATENCY_METRIC).timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("a replica that already reloaded the version written should keep its entry")
+    void write_keepsEntryAlreadyAtWrittenVersion() throws Exception {
+        // Given: replica 1 reloaded the row after the commit, replica 2 still holds the old version
+        replicas.get(1).cache(kilogram(1));
+        replicas.get(2).cache(kilogram(0));
+
+        // When
+        replicas.getFirst().commit(new CatalogChangeEvent("Uom", 1L, CatalogChangeEvent.ChangeType.UPDATED, 1L));
+
+        // Then
+        await(() -> replicas.get(2).cached() == null);
+        await(() -> replicas.get(1).meterRegistry.get(CatalogCoherence.LATENCY_METRIC).timer().count() == 1);
+        assertThat(replicas.get(1).cached()).isEqualTo(kilogram(1));
+    }
+
+    @Test
+    @DisplayName("bulk writes, broadcast without an id, should clear the caches of the other replicas")
+    void bulkWrite_clearsOtherReplicas() throws Exception {
+        // Given
+        replicas.forEach(replica -> replica.cache(kilogram(0)));
+
+        // When
+        replicas.get(2).commit(new CatalogChangeEvent("Uom", null, CatalogChangeEvent.ChangeType.DELETED));
+
+        // Then
+        await(() -> replicas.stream().allMatch(replica -> replica.cached() == null));
+    }
+
+    @Test
+    @DisplayName("1,000 writes from rotating replicas should each be delivered to and evicted on every other replica")
+    void everyWrite_deliveredEverywhere() throws Exception {
+        // Given
+        int writes = 1_000;
+
+        for (int write = 0; write < writes; write++) {
+            long version = write + 1;
+            replicas.forEach(replica -> replica.cache(kilogram(version - 1)));
+            Replica writer = replicas.get(write % REPLICAS);
+
+            // When
+            writer.commit(new CatalogChangeEvent("Uom", 1L, CatalogChangeEvent.ChangeType.UPDATED, version));
+
+            // Then
+            await(() -> replicas.stream().allMatch(replica -> replica.cached() == null));
+        }
+        // Each replica wrote a third of the changes and received the other two thirds
+        for (Replica replica : replicas) {
+            long received = writes - writes / REPLICAS - (replicas.indexOf(replica) < writes % REPLICAS ? 1 : 0);
+            await(() -> replica.meterRegistry.get(CatalogCoherence.LATENCY_METRIC).timer().count() == received);
+        }
+    }
+
+    private final class Replica {
+
+        private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final ServiceMatcher serviceMatcher;
+        private final ExecutorService consumer;
+        private final AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        private final CatalogCaches caches;
+
+        private Replica(String busId) {
+            this.serviceMatcher = new PathServiceMatcher(new AntPathMatcher(":"), busId);
+            this.consumer = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, busId));
+            BusBridge bridge = this::broadcast;
+            context.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance());
+            context.registerBean(MeterRegistry.class, () -> meterRegistry);
+            context.registerBean(ServiceMatcher.class, () -> serviceMatcher);
+            context.registerBean(PathDestinationFactory.class);
+            context.registerBean(RemoteApplicationEventListener.class, () -> new RemoteApplicationEventListener(serviceMatcher, bridge));
+            context.registerBean(CatalogCaches.class);
+            context.registerBean(CatalogCoherence.class);
+            context.refresh();
+            this.caches = context.getBean(CatalogCaches.class);
+        }
+
+        private void cache(UomResponse uom) {
+            caches.uoms().put(uom.id(), uom);
+        }
+
+        private UomResponse cached() {
+            return caches.uoms().peek(1L);
+        }
+
+        /**
+         * What the services publish once the write committed; the writer's own listeners run first, as in production.
+         */
+        private void commit(CatalogChangeEvent event) {
+            context.publishEvent(event);
+        }
+
+        /**
+         * Sends the event to every replica, including this one, as the broker would.
+         */
+        private void broadcast(RemoteApplicationEvent event) {
+            String json;
+            try {
+                json = wire.writeValueAsString(event);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            for (Replica replica : replicas) {
+                replica.consumer.execute(() -> replica.receive(json));
+            }
+        }
+
+        /**
+         * Mirrors the bus consumer: events are published locally when addressed to this replica and sent by another.
+         */
+        private void receive(String json) {
+            try {
+                RemoteApplicationEvent event = wire.readValue(json, RemoteApplicationEvent.class);
+                if (serviceMatcher.isForSelf(event) && !serviceMatcher.isFromSelf(event)) {
+                    context.publishEvent(event);
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void close() {
+            consumer.shutdownNow();
+            context.close();
+        }
+
+    }
+
+}
@@ -0,0 +1,241 @@
+package com.elara.app.unit_of_measure_service.catalog;
+
+import com.elara.app.unit_of_measure_service.alias.UomAliasIndex;
+import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.dto.response.UomStatusResponse;
+import com.elara.app.unit_of_measure_service.mapper.UomMapper;
+import com.elara.app.unit_of_measure_service.mapper.UomStatusMapper;
+import com.elara.app.unit_of_measure_service.model.Uom;
+import com.elara.app.unit_of_measure_service.model.UomStatus;
+import com.elara.app.unit_of_measure_service.repository.UomRepository;
+import com.elara.app.unit_of_measure_service.repository.UomStatusRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogSnapshotHolder")
+class CatalogSnapshotHolderTest {
+
+    // The database name order the snapshot is loaded in
+    private static final Sort BY_NAME = Sort.by("name", "id");
+
+    @Mock
+    private UomRepository uomRepository;
+
+    @Mock
+    private UomStatusRepository uomStatusRepository;
+
+    @Mock
+    private UomMapper uomMapper;
+
+    @Mock
+    private UomStatusMapper uomStatusMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final Uom kilogram = Uom.builder().id(1L).name("Kilogram").conversionFactorToBase(BigDecimal.ONE).build();
+    private final UomStatus active = UomStatus.builder().id(1L).name("Active").isUsable(true).build();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    private CatalogSnapshotHolder holder;
+
+    @AfterEach
+    void tearDown() {
+        if (holder != null) {
+            holder.shutdown();
+        }
+    }
+
+    private CatalogSnapshotHolder holder(boolean enabled) {
+        holder = new CatalogSnapshotHolder(uomRepository, uomStatusRepository, uomMapper, uomStatusMapper, transactionManager, enabled);
+        return holder;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Current before first build, returns null")
+    void current_beforeFirstBuild_returnsNull() {
+        assertThat(holder(true).current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Rebuild, publishes a new snapshot with an incremented version")
+    void rebuild_publishesNewSnapshotWithIncrementedVersion() throws Exception {
+        when(uomRepository.findAll(BY_NAME)).thenReturn(List.of(kilogram));
+        when(uomStatusRepository.findAll(BY_NAME)).thenReturn(List.of(active));
+        when(uomMapper.toResponse(kilogram)).thenReturn(new UomResponse(1L, "Kilogram", null, BigDecimal.ONE, 1L, null, null, null, null, 0L));
+        when(uomStatusMapper.toResponse(active)).thenReturn(new UomStatusResponse(1L, "Active", null, true, 0L));
+        CatalogSnapshotHolder holder = holder(true);
+
+        holder.onApplicationReady();
+        CatalogSnapshot first = holder.current();
+        holder.onCatalogChange(new CatalogChangeEvent("Uom", 1L, CatalogChangeEvent.ChangeType.UPDATED));
+        await(() -> holder.current() != null && holder.current() != first);
+        CatalogSnapshot second = holder.current();
+
+        assertThat(first.getVersion()).isEqualTo(1L);
+        assertThat(second.getVersion()).isEqualTo(2L);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.findUom(1L)).isPresent();
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Changes during a rebuild, share one queued rebuild")
+    void onCatalogChange_duringRebuild_keepsPreviousSnapshotAndCoalesces() throws Exception {
+        CountDownLatch rebuilding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        when(uomRepository.findAll(BY_NAME)).thenAnswer(invocation -> {
+            if (loads.incrementAndGet() == 2) {
+                rebuilding.countDown();
+                assertThat(release.await(10, TimeUnit.SECONDS)).isTrue();
+            }
+            return List.of();
+        });
+        when(uomStatusRepository.findAll(BY_NAME)).thenReturn(List.of());
+        CatalogSnapshotHolder holder = holder(true);
+        holder.onApplicationReady();
+
+        holder.onCatalogChange(new CatalogChangeEvent("Uom", 1L, CatalogChangeEvent.ChangeType.UPDATED));
+        assertThat(rebuilding.await(10, TimeUnit.SECONDS)).isTrue();
+        for (long id = 2; id <= 10; id++) {
+            holder.onCatalogChange(new CatalogChangeEvent("Uom", id, CatalogChangeEvent.ChangeType.UPDATED));
+        }
+        release.countDown();
+        await(() -> holder.current() != null && holder.current().getVersion() == 3);
+
+        assertThat(loads).hasValue(3);
+        assertThat(holder.stats().rebuilds()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("A GET right after a committed POST, reads the database until the background rebuild includes the new unit")
+    void current_afterCommittedCreate_isNullUntilRebuildCatchesUp() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        when(uomRepository.findAll(BY_NAME)).thenAnswer(invocation -> {
+            if (loads.incrementAndGet() == 1) {
+                return List.of();
+            }
+            assertThat(release.await(10, TimeUnit.SECONDS)).isTrue();
+            return List.of(kilogram);
+        });
+        when(uomStatusRepository.findAll(BY_NAME)).thenReturn(List.of());
+        when(uomMapper.toResponse(kilogram)).thenReturn(new UomResponse(1L, "Kilogram", null, BigDecimal.ONE, 1L, null, null, null, null, 0L));
+        CatalogSnapshotHolder holder = holder(true);
+        holder.onApplicationReady();
+        assertThat(holder.current().findUom(1L)).isEmpty();
+
+        // The create commits while the background rebuild is still loading
+        holder.onCatalogChange(new CatalogChangeEvent("Uom", 1L, CatalogChangeEvent.ChangeType.CREATED));
+        CatalogSnapshot afterCommit = holder.current();
+        release.countDown();
+        await(() -> holder.current() != null);
+
+        assertThat(afterCommit).isNull();
+        assertThat(holder.current().findUom(1L)).isPresent();
+        assertThat(holder.stats().version()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("A failed rebuild, keeps reads on the database instead of serving the outdated snapshot")
+    void onCatalogChange_failedRebuild_keepsReadsOnDatabase() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        when(uomRepository.findAll(BY_NAME)).thenAnswer(invocation -> {
+            if (loads.incrementAndGet() == 2) {
+                throw new IllegalStateException("Connection refused");
+            }
+            return List.of();
+        });
+        when(uomStatusRepository.findAll(BY_NAME)).thenReturn(List.of());
+        CatalogSnapshotHolder holder = holder(true);
+        holder.onApplicationReady();
+
+        holder.onCatalogChange(new CatalogChangeEvent("Uom", 1L, CatalogChangeEvent.ChangeType.UPDATED));
+        await(() -> loads.get() == 2);
+        holder.shutdown();
+
+        assertThat(holder.current()).isNull();
+        assertThat(holder.stats().version()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Alias changes, never rebuild the snapshot")
+    void onCatalogChange_aliasEvent_neverRebuilds() {
+        when(uomRepository.findAll(BY_NAME)).thenReturn(List.of());
+        when(uomStatusRepository.findAll(BY_NAME)).thenReturn(List.of());
+        CatalogSnapshotHolder holder = holder(true);
+        holder.onApplicationReady();
+
+        holder.onCatalogChange(new CatalogChangeEvent(UomAliasIndex.ENTITY_NAME, 1L, CatalogChangeEvent.ChangeType.CREATED));
+        holder.shutdown();
+
+        assertThat(holder.stats().rebuilds()).isEqualTo(1);
+        verify(uomRepository, times(1)).findAll(BY_NAME);
+    }
+
+    @Test
+    @DisplayName("Rebuild when disabled, never loads the catalog")
+    void rebuild_whenDisabled_neverLoadsCatalog() {
+        CatalogSnapshotHolder holder = holder(false);
+
+        holder.rebuild();
+
+        assertThat(holder.current()).isNull();
+        assertThat(holder.stats().enabled()).isFalse();
+        verifyNoInteractions(uomRepository, uomStatusRepository);
+    }
+
+    @Test
+    @DisplayName("Stats, report snapshot metadata and read counters")
+    void stats_reportSnapshotMetadataAndReadCounters() {
+        when(uomRepository.findAll(BY_NAME)).thenReturn(List.of());
+        when(uomStatusRepository.findAll(BY_NAME)).thenReturn(List.of());
+        CatalogSnapshotHolder holder = holder(true);
+        holder.rebuild();
+
+        holder.recordSnapshotRead();
+        holder.recordSnapshotRead();
+        holder.recordDatabaseRead();
+        CatalogSnapshotHolder.CatalogSnapshotStats stats = new CatalogSnapshotEndpoint(holder).stats();
+
+        assertThat(stats.version()).isEqualTo(1L);
+        assertThat(stats.builtAt()).isNotNull();
+        assertThat(stats.snapshotReads()).isEqualTo(2L);
+        assertThat(stats.databaseReads()).isEqualTo(1L);
+        assertThat(stats.rebuilds()).isEqualTo(1L);
+    }
+
+}
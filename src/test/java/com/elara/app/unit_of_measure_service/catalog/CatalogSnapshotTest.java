@@ -0,0 +1,278 @@
+package com.elara.app.unit_of_measure_service.catalog;
+
+import com.elara.app.unit_of_measure_service.dto.response.CursorPageResponse;
+import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.dto.response.UomStatusResponse;
+import com.elara.app.unit_of_measure_service.utils.KeysetCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CatalogSnapshot")
+class CatalogSnapshotTest {
+
+    private final UomResponse kilogram = new UomResponse(1L, "Kilogram", "Base unit of mass", new BigDecimal("1.000"), 1L, null, null, null, null, 0L);
+    private final UomResponse gram = new UomResponse(2L, "Gram", null, new BigDecimal("0.001"), 1L, null, null, null, null, 0L);
+    private final UomResponse liter = new UomResponse(3L, "Liter", "Base unit of volume", new BigDecimal("1.000"), 2L, null, null, null, null, 0L);
+    private final UomStatusResponse active = new UomStatusResponse(1L, "Active", "Active status", true, 0L);
+    private final UomStatusResponse inactive = new UomStatusResponse(2L, "Inactive", "Inactive status", false, 0L);
+
+    // Loaded in the order the database sorts by name
+    private final CatalogSnapshot snapshot = new CatalogSnapshot(7L, Instant.EPOCH, List.of(gram, kilogram, liter), List.of(active, inactive));
+
+    private static UomResponse unit(long id, String name) {
+        return new UomResponse(id, name, null, BigDecimal.ONE, 1L, null, null, null, null, 0L);
+    }
+
+    @Nested
+    @DisplayName("Uom reads")
+    class UomReads {
+
+        @Test
+        @DisplayName("findUom with existing and unknown ids, returns present and empty")
+        void findUom_withExistingAndUnknownIds_returnsPresentAndEmpty() {
+            assertThat(snapshot.findUom(2L)).contains(gram);
+            assertThat(snapshot.findUom(99L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("findUoms unsorted, returns records ordered by id with page metadata")
+        void findUoms_unsorted_returnsRecordsOrderedById() {
+            Page<UomResponse> page = snapshot.findUoms(uom -> true, PageRequest.of(1, 2)).orElseThrow();
+
+            assertThat(page.getContent()).containsExactly(liter);
+            assertThat(page.getTotalElements()).isEqualTo(3);
+            assertThat(page.getTotalPages()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("findUoms sorted by name desc, returns records in requested order")
+        void findUoms_sortedByNameDesc_returnsRequestedOrder() {
+            Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "name"));
+
+            assertThat(snapshot.findUoms(uom -> true, pageable).orElseThrow().getContent())
+                .containsExactly(liter, kilogram, gram);
+        }
+
+        @Test
+        @DisplayName("findUoms sorted by description, returns empty so the database collation and null order apply")
+        void findUoms_sortedByDescription_returnsEmpty() {
+            Optional<Page<UomResponse>> page = snapshot.findUoms(uom -> true, PageRequest.of(0, 10, Sort.by("description")));
+
+            assertThat(page).isEmpty();
+        }
+
+        @Test
+        @DisplayName("findUoms with nested sort property, returns empty so callers use the database")
+        void findUoms_withNestedSortProperty_returnsEmpty() {
+            Optional<Page<UomResponse>> page = snapshot.findUoms(uom -> true, PageRequest.of(0, 10, Sort.by("uomStatus.name")));
+
+            assertThat(page).isEmpty();
+        }
+
+        @Test
+        @DisplayName("findUomsByName and findUomsByStatusId, filter case-insensitively and by status")
+        void findUomsByNameAndStatus_filterRecords() {
+            assertThat(snapshot.findUomsByName("GRAM", PageRequest.of(0, 10)).orElseThrow().getContent())
+                .containsExactly(kilogram, gram);
+            assertThat(snapshot.findUomsByStatusId(2L, PageRequest.of(0, 10)).orElseThrow().getContent())
+                .containsExactly(liter);
+        }
+
+        @Test
+        @DisplayName("findUomsByName with terms shorter than a trigram or sharing trigrams out of order, matches substrings only")
+        void findUomsByName_shortOrScrambledTerms_matchesSubstringsOnly() {
+            assertThat(snapshot.findUomsByName("i", PageRequest.of(0, 10)).orElseThrow().getContent())
+                .containsExactly(kilogram, liter);
+            assertThat(snapshot.findUomsByName("gramkilo", PageRequest.of(0, 10)).orElseThrow().getContent())
+                .isEmpty();
+            assertThat(snapshot.findUomsByName("", PageRequest.of(0, 10)).orElseThrow().getTotalElements())
+                .isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("findUomsByNameFuzzy ranks exact, prefix and substring matches before typos and pages the ranking")
+        void findUomsByNameFuzzy_ranksByRelevance() {
+            CatalogSnapshot catalog = new CatalogSnapshot(1L, Instant.EPOCH, List.of(
+                kilogram, gram, liter,
+                new UomResponse(4L, "Grams per liter", null, new BigDecimal("1"), 1L, null, null, null, null, 0L),
+                new UomResponse(5L, "Gran", null, new BigDecimal("0.0000648"), 1L, null, null, null, null, 0L)
+            ), List.of(active));
+
+            Page<UomResponse> first = catalog.findUomsByNameFuzzy("GRAM", PageRequest.of(0, 3, Sort.by("id")));
+            Page<UomResponse> second = catalog.findUomsByNameFuzzy("GRAM", PageRequest.of(1, 3));
+
+            assertThat(first.getContent()).extracting(UomResponse::name).containsExactly("Gram", "Grams per liter", "Kilogram");
+            assertThat(second.getContent()).extracting(UomResponse::name).containsExactly("Gran");
+            assertThat(first.getTotalElements()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("findUomsByNameFuzzy finds transposed and missing chars, but only exact matches for short terms")
+        void findUomsByNameFuzzy_toleratesTyposByTermLength() {
+            assertThat(snapshot.findUomsByNameFuzzy("kilogarm", PageRequest.of(0, 10)).getContent()).containsExactly(kilogram);
+            assertThat(snapshot.findUomsByNameFuzzy("kilgoarm", PageRequest.of(0, 10)).getContent()).containsExactly(kilogram);
+            assertThat(snapshot.findUomsByNameFuzzy("litre", PageRequest.of(0, 10)).getContent()).containsExactly(liter);
+            assertThat(snapshot.findUomsByNameFuzzy("lter", PageRequest.of(0, 10)).getContent()).containsExactly(liter);
+            assertThat(snapshot.findUomsByNameFuzzy("kilogrxxxx", PageRequest.of(0, 10)).getContent()).isEmpty();
+            assertThat(snapshot.findUomsByNameFuzzy("gr", PageRequest.of(0, 10)).getContent()).containsExactly(gram, kilogram);
+            assertThat(CatalogSnapshot.maxEdits("gr")).isZero();
+            assertThat(CatalogSnapshot.maxEdits("gram")).isEqualTo(1);
+            assertThat(CatalogSnapshot.maxEdits("kilogram")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("isUomNameTaken ignores case and handles null")
+        void isUomNameTaken_ignoresCaseAndHandlesNull() {
+            assertThat(snapshot.isUomNameTaken("kiloGRAM")).isTrue();
+            assertThat(snapshot.isUomNameTaken("Meter")).isFalse();
+            assertThat(snapshot.isUomNameTaken(null)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Keyset reads")
+    class KeysetReads {
+
+        @Test
+        @DisplayName("scrollUoms by id, walks all pages without repeating records")
+        void scrollUoms_byId_walksAllPages() {
+            CursorPageResponse<UomResponse> first = snapshot.scrollUoms(uom -> true, KeysetCursor.first(null), 2).orElseThrow();
+            CursorPageResponse<UomResponse> second = snapshot.scrollUoms(uom -> true, KeysetCursor.decode(first.nextCursor()), 2).orElseThrow();
+
+            assertThat(first.content()).containsExactly(kilogram, gram);
+            assertThat(first.hasNext()).isTrue();
+            assertThat(second.content()).containsExactly(liter);
+            assertThat(second.hasNext()).isFalse();
+            assertThat(second.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("scrollUoms by name desc, seeks past the cursor in descending order")
+        void scrollUoms_byNameDesc_seeksPastCursor() {
+            CursorPageResponse<UomResponse> first = snapshot.scrollUoms(uom -> true, KeysetCursor.first("name,desc"), 1).orElseThrow();
+            CursorPageResponse<UomResponse> rest = snapshot.scrollUoms(uom -> true, KeysetCursor.decode(first.nextCursor()), 10).orElseThrow();
+
+            assertThat(first.content()).containsExactly(liter);
+            assertThat(rest.content()).containsExactly(kilogram, gram);
+            assertThat(rest.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("scrollUomsByStatusId and scrollStatusesByName, apply the filter while paging")
+        void scrollWithFilter_skipsNonMatchingRecords() {
+            CursorPageResponse<UomResponse> uoms = snapshot.scrollUomsByStatusId(1L, KeysetCursor.first("name"), 1).orElseThrow();
+            CursorPageResponse<UomStatusResponse> statuses = snapshot.scrollStatusesByName("ACT", KeysetCursor.first("name"), 10).orElseThrow();
+
+            assertThat(uoms.content()).containsExactly(gram);
+            assertThat(uoms.hasNext()).isTrue();
+            assertThat(snapshot.scrollUomsByStatusId(1L, KeysetCursor.decode(uoms.nextCursor()), 1).orElseThrow().content())
+                .containsExactly(kilogram);
+            assertThat(statuses.content()).containsExactly(active, inactive);
+        }
+
+        @Test
+        @DisplayName("scrollUomsByName by name desc, pages through the indexed matches in cursor order")
+        void scrollUomsByName_byNameDesc_pagesThroughMatches() {
+            CursorPageResponse<UomResponse> first = snapshot.scrollUomsByName("GRAM", KeysetCursor.first("name,desc"), 1).orElseThrow();
+            CursorPageResponse<UomResponse> rest = snapshot.scrollUomsByName("GRAM", KeysetCursor.decode(first.nextCursor()), 10).orElseThrow();
+
+            assertThat(first.content()).containsExactly(kilogram);
+            assertThat(first.hasNext()).isTrue();
+            assertThat(rest.content()).containsExactly(gram);
+            assertThat(rest.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("name pages and cursors follow the order the database loaded mixed-case names in")
+        void scrollUoms_mixedCaseNames_followDatabaseOrder() {
+            // Given - a case-insensitive collation, unlike String order which puts "Banana" first
+            UomResponse apple = unit(10L, "apple");
+            UomResponse banana = unit(11L, "Banana");
+            UomResponse cherry = unit(12L, "cherry");
+            CatalogSnapshot caseInsensitive = new CatalogSnapshot(1L, Instant.EPOCH, List.of(apple, banana, cherry), List.of(active));
+            CatalogSnapshot binary = new CatalogSnapshot(1L, Instant.EPOCH, List.of(banana, apple, cherry), List.of(active));
+
+            // When
+            CursorPageResponse<UomResponse> first = caseInsensitive.scrollUoms(uom -> true, KeysetCursor.first("name"), 1).orElseThrow();
+            CursorPageResponse<UomResponse> rest = caseInsensitive.scrollUoms(uom -> true, KeysetCursor.decode(first.nextCursor()), 10)
+                .orElseThrow();
+            CursorPageResponse<UomResponse> descending = caseInsensitive.scrollUomsByName("an", KeysetCursor.first("name,desc"), 10)
+                .orElseThrow();
+
+            // Then
+            assertThat(first.content()).containsExactly(apple);
+            assertThat(rest.content()).containsExactly(banana, cherry);
+            assertThat(descending.content()).containsExactly(banana);
+            assertThat(caseInsensitive.findUoms(uom -> true, PageRequest.of(0, 10, Sort.by("name"))).orElseThrow().getContent())
+                .containsExactly(apple, banana, cherry);
+            assertThat(binary.findUoms(uom -> true, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "name"))).orElseThrow()
+                .getContent()).containsExactly(cherry, apple, banana);
+            assertThat(binary.scrollUoms(uom -> true, KeysetCursor.decode(first.nextCursor()), 10).orElseThrow().content())
+                .containsExactly(cherry);
+        }
+
+        @Test
+        @DisplayName("a name cursor whose row was renamed or deleted, returns empty so the database seeks past its name")
+        void scrollUoms_cursorRowRenamedOrDeleted_returnsEmpty() {
+            KeysetCursor renamed = KeysetCursor.first("name").after("Gramme", gram.id());
+            KeysetCursor deleted = KeysetCursor.first("name").after("Meter", 99L);
+
+            assertThat(snapshot.scrollUoms(uom -> true, renamed, 10)).isEmpty();
+            assertThat(snapshot.scrollUomsByStatusId(1L, deleted, 10)).isEmpty();
+            assertThat(snapshot.scrollUoms(uom -> true, KeysetCursor.first(null).after(null, 99L), 10)).isPresent();
+        }
+    }
+
+    @Nested
+    @DisplayName("UomStatus reads")
+    class UomStatusReads {
+
+        @Test
+        @DisplayName("findStatus and findStatusesByIsUsable, return matching records")
+        void findStatusAndByIsUsable_returnMatchingRecords() {
+            assertThat(snapshot.findStatus(1L)).contains(active);
+            assertThat(snapshot.findStatusesByIsUsable(true, Pageable.unpaged()).orElseThrow().getContent())
+                .containsExactly(active);
+        }
+
+        @Test
+        @DisplayName("findStatusesByName sorted by name, matches partially; an ignore-case sort is left to the database")
+        void findStatusesByName_sortedByName_matchesPartially() {
+            Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "name"));
+            Pageable ignoreCase = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("name").ignoreCase()));
+
+            assertThat(snapshot.findStatusesByName("act", pageable).orElseThrow().getContent())
+                .containsExactly(inactive, active);
+            assertThat(snapshot.findStatusesByName("act", ignoreCase)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("isStatusNameTaken is case-sensitive like existsByName")
+        void isStatusNameTaken_isCaseSensitive() {
+            assertThat(snapshot.isStatusNameTaken("Active")).isTrue();
+            assertThat(snapshot.isStatusNameTaken("active")).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Snapshot exposes version, build time and sizes")
+    void snapshot_exposesMetadata() {
+        assertThat(snapshot.getVersion()).isEqualTo(7L);
+        assertThat(snapshot.getBuiltAt()).isEqualTo(Instant.EPOCH);
+        assertThat(snapshot.uomCount()).isEqualTo(3);
+        assertThat(snapshot.uomStatusCount()).isEqualTo(2);
+    }
+
+}
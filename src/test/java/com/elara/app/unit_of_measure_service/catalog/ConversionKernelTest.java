@@ -0,0 +1,38 @@
+package com.elara.app.unit_of_measure_service.catalog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConversionKernel")
+class ConversionKernelTest {
+
+    @Test
+    @DisplayName("Scale multiplies every value in place")
+    void scale_multipliesInPlace() {
+        double[] values = {0, 1.5, -2, 1e9};
+
+        ConversionKernel.scale(values, 1000);
+
+        assertThat(values).containsExactly(0, 1500, -2000, 1e12);
+    }
+
+    @Test
+    @DisplayName("ScaleLittleEndian decodes, converts and re-encodes little-endian doubles")
+    void scaleLittleEndian_roundTripsLittleEndianDoubles() {
+        ByteBuffer buffer = ByteBuffer.allocate(3 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putDouble(2.5).putDouble(0.001).putDouble(Double.NaN);
+
+        byte[] result = ConversionKernel.scaleLittleEndian(buffer.array(), 1000);
+
+        ByteBuffer converted = ByteBuffer.wrap(result).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(converted.getDouble()).isEqualTo(2500);
+        assertThat(converted.getDouble()).isEqualTo(1);
+        assertThat(converted.getDouble()).isNaN();
+    }
+
+}
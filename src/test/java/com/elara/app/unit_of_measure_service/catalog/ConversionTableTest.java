@@ -0,0 +1,143 @@
+package com.elara.app.unit_of_measure_service.catalog;
+
+import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.dto.response.UomStatusResponse;
+import com.elara.app.unit_of_measure_service.model.Uom;
+import com.elara.app.unit_of_measure_service.model.UomStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConversionTable")
+class ConversionTableTest {
+
+    private final ConversionTable table = new CatalogSnapshot(1L, Instant.EPOCH,
+        List.of(
+            new UomResponse(10L, "Kilogram", null, new BigDecimal("1.000"), 1L, null, null, null, null, 0L),
+            new UomResponse(4L, "Gram", null, new BigDecimal("0.001"), 1L, null, null, null, null, 0L),
+            new UomResponse(7L, "Pound", null, new BigDecimal("0.454"), 2L, null, null, null, null, 0L),
+            new UomResponse(8L, "Orphan", null, new BigDecimal("2.000"), 99L, null, null, null, null, 0L)
+        ),
+        List.of(
+            new UomStatusResponse(1L, "Active", null, true, 0L),
+            new UomStatusResponse(2L, "Retired", null, false, 0L)
+        )).getConversionTable();
+
+    @Test
+    @DisplayName("OrdinalOf assigns dense ordinals in id order and rejects unknown ids")
+    void ordinalOf_assignsDenseOrdinalsInIdOrder() {
+        assertThat(table.size()).isEqualTo(4);
+        assertThat(table.ordinalOf(4L)).isZero();
+        assertThat(table.ordinalOf(7L)).isEqualTo(1);
+        assertThat(table.ordinalOf(10L)).isEqualTo(3);
+        assertThat(table.ordinalOf(5L)).isEqualTo(ConversionTable.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("IsUsable reads the unit's status usability")
+    void isUsable_readsStatusUsability() {
+        assertThat(table.isUsable(table.ordinalOf(10L))).isTrue();
+        assertThat(table.isUsable(table.ordinalOf(7L))).isFalse();
+        assertThat(table.isUsable(table.ordinalOf(8L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("FromEntities orders loaded units by id and reads usability from their status")
+    void fromEntities_buildsTableFromLoadedUnits() {
+        UomStatus active = UomStatus.builder().id(1L).isUsable(true).build();
+        UomStatus retired = UomStatus.builder().id(2L).isUsable(false).build();
+
+        ConversionTable loaded = ConversionTable.fromEntities(List.of(
+            Uom.builder().id(9L).conversionFactorToBase(new BigDecimal("0.454")).uomStatus(retired).build(),
+            Uom.builder().id(3L).conversionFactorToBase(new BigDecimal("1.000")).uomStatus(active).build()
+        ));
+
+        assertThat(loaded.ordinalOf(3L)).isZero();
+        assertThat(loaded.ordinalOf(9L)).isEqualTo(1);
+        assertThat(loaded.isUsable(0)).isTrue();
+        assertThat(loaded.isUsable(1)).isFalse();
+        assertThat(loaded.convert(BigDecimal.ONE, 1, 0)).isEqualByComparingTo("0.454");
+    }
+
+    @Nested
+    @DisplayName("Convert")
+    class Convert {
+
+        private final ConversionTable units = new CatalogSnapshot(1L, Instant.EPOCH,
+            List.of(
+                new UomResponse(1L, "Kilogram", null, new BigDecimal("1"), 1L, null, null, null, null, 0L),
+                new UomResponse(2L, "Milligram", null, new BigDecimal("0.000001"), 1L, null, null, null, null, 0L),
+                new UomResponse(3L, "Third", null, new BigDecimal("3"), 1L, null, null, null, null, 0L),
+                new UomResponse(4L, "Cents", null, new BigDecimal("0.01"), 1L, null, null, 0, RoundingMode.HALF_UP, 0L),
+                new UomResponse(5L, "Floor", null, new BigDecimal("3"), 1L, null, null, 2, RoundingMode.FLOOR, 0L),
+                new UomResponse(6L, "Strict", null, new BigDecimal("3"), 1L, null, null, 0, RoundingMode.UNNECESSARY, 0L),
+                new UomResponse(7L, "Huge", null, new BigDecimal("999999999"), 1L, null, null, null, null, 0L)
+            ),
+            List.of(new UomStatusResponse(1L, "Active", null, true, 0L))).getConversionTable();
+
+        private BigDecimal convert(String quantity, long from, long to) {
+            return units.convert(new BigDecimal(quantity), units.ordinalOf(from), units.ordinalOf(to));
+        }
+
+        @Test
+        @DisplayName("returns exact results for factors below the old three-decimal precision")
+        void convert_withSmallFactors_isExact() {
+            assertThat(convert("2.5", 1, 2)).isEqualByComparingTo("2500000");
+            assertThat(convert("1", 2, 1)).isEqualByComparingTo("0.000001");
+        }
+
+        @Test
+        @DisplayName("approximates unrounded results with no finite decimal expansion")
+        void convert_withNonTerminatingResult_usesDecimal64() {
+            assertThat(convert("1", 1, 3)).isEqualByComparingTo("0.3333333333333333");
+        }
+
+        @Test
+        @DisplayName("rounds to the target unit's scale and mode")
+        void convert_withTargetRounding_roundsResult() {
+            assertThat(convert("0.125", 1, 4)).isEqualByComparingTo("13");
+            assertThat(convert("-0.125", 1, 4)).isEqualByComparingTo("-13");
+            assertThat(convert("1", 1, 5)).isEqualByComparingTo("0.33");
+            assertThat(convert("-1", 1, 5)).isEqualByComparingTo("-0.34");
+            assertThat(convert("1", 1, 5).scale()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("throws when the target unit forbids the rounding the result needs")
+        void convert_withUnnecessaryRounding_throws() {
+            assertThat(convert("3", 1, 6)).isEqualByComparingTo("1");
+            assertThatThrownBy(() -> convert("1", 1, 6)).isInstanceOf(ArithmeticException.class);
+        }
+
+        @Test
+        @DisplayName("falls back to BigDecimal arithmetic when long products overflow")
+        void convert_withLongOverflow_fallsBackToBigDecimal() {
+            BigDecimal quantity = new BigDecimal("123456789012345678.9");
+
+            assertThat(units.convert(quantity, units.ordinalOf(7), units.ordinalOf(2)))
+                .isEqualByComparingTo(quantity.multiply(new BigDecimal("999999999000000")));
+        }
+
+        @Test
+        @DisplayName("toBase multiplies by the unit's factor exactly, ignoring its rounding")
+        void toBase_isExactAndUnrounded() {
+            assertThat(units.toBase(new BigDecimal("2.5"), units.ordinalOf(2))).isEqualByComparingTo("0.0000025");
+            assertThat(units.toBase(new BigDecimal("0.111"), units.ordinalOf(5))).isEqualByComparingTo("0.333");
+            assertThat(units.toBase(new BigDecimal("-4"), units.ordinalOf(1))).isEqualByComparingTo("-4");
+        }
+
+        @Test
+        @DisplayName("factor combines both rationals into a double")
+        void factor_combinesRationals() {
+            assertThat(units.factor(units.ordinalOf(1), units.ordinalOf(2))).isEqualTo(1_000_000d);
+        }
+    }
+}
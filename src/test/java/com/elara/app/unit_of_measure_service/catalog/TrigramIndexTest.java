@@ -0,0 +1,62 @@
+package com.elara.app.unit_of_measure_service.catalog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TrigramIndex")
+class TrigramIndexTest {
+
+    private final TrigramIndex index = new TrigramIndex(List.of("kilogram", "gram", "liter", "milliliter", "kg"));
+
+    @Test
+    @DisplayName("candidates() should return the positions of names holding every trigram, in ascending order")
+    void candidates_returnsPositionsInOrder() {
+        assertThat(index.candidates("gram")).containsExactly(0, 1);
+        assertThat(index.candidates("liter")).containsExactly(2, 3);
+        assertThat(index.candidates("meter")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("candidates() should return null for terms shorter than a trigram")
+    void candidates_shortTerm_returnsNull() {
+        assertThat(index.candidates("kg")).isNull();
+        assertThat(index.candidates("")).isNull();
+    }
+
+    @Test
+    @DisplayName("candidates() should never miss a name containing the term")
+    void candidates_randomNames_superSetOfSubstringMatches() {
+        // Given
+        Random random = new Random(7);
+        List<String> names = IntStream.range(0, 5_000)
+            .mapToObj(i -> randomWord(random, 4 + random.nextInt(12)))
+            .toList();
+        TrigramIndex randomIndex = new TrigramIndex(names);
+
+        for (int query = 0; query < 500; query++) {
+            // When
+            String term = randomWord(random, 3 + random.nextInt(3));
+            int[] candidates = randomIndex.candidates(term);
+
+            // Then
+            List<Integer> expected = IntStream.range(0, names.size()).filter(i -> names.get(i).contains(term)).boxed().toList();
+            assertThat(candidates).as("term %s", term).isSorted();
+            assertThat(IntStream.of(candidates).boxed().toList()).as("term %s", term).containsAll(expected);
+        }
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(6)));
+        }
+        return word.toString();
+    }
+
+}
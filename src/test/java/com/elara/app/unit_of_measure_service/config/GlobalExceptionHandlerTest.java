@@ -416,6 +416,23 @@ class GlobalExceptionHandlerTest {
             assertNotNull(response);
             verify(messageService).getMessage(eq("global.error.database"), eq(extractedDetail));
         }
+
+        @Test
+        @DisplayName("Handle OptimisticLockingFailureException, returns CONFLICT with the concurrent update message")
+        void handleOptimisticLockingFailure_returnsConflict() {
+            String translatedMessage = "The record was modified by another request. Reload it and retry.";
+            when(messageService.getMessage("global.error.concurrent.update")).thenReturn(translatedMessage);
+
+            ResponseEntity<ErrorResponse> response = exceptionHandler.handleOptimisticLockingFailure(request);
+
+            assertNotNull(response);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+            ErrorResponse body = response.getBody();
+            assertNotNull(body);
+            assertThat(body.getCode()).isEqualTo(ErrorCode.RESOURCE_CONFLICT.getCode());
+            assertThat(body.getMessage()).isEqualTo(translatedMessage);
+            assertThat(body.getPath()).isEqualTo(TEST_PATH);
+        }
     }
 
     @Nested
@@ -581,6 +598,16 @@ class GlobalExceptionHandlerTest {
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
         }
 
+        @Test
+        @DisplayName("Error code 1007 maps to PRECONDITION_FAILED")
+        void errorCode1007_mapsToPreconditionFailed() {
+            BaseException exception = new BaseException(ErrorCode.PRECONDITION_FAILED, "Stale ETag");
+            
+            ResponseEntity<ErrorResponse> response = exceptionHandler.handleBaseException(exception, request);
+            
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        }
+
         @Test
         @DisplayName("Error code 1004 maps to NOT_FOUND")
         void errorCode1004_mapsToNotFound() {
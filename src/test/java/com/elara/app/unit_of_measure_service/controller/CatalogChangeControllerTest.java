@@ -0,0 +1,149 @@
+package com.elara.app.unit_of_measure_service.controller;
+
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeEvent;
+import com.elara.app.unit_of_measure_service.config.GlobalExceptionHandler;
+import com.elara.app.unit_of_measure_service.dto.response.CatalogChangeResponse;
+import com.elara.app.unit_of_measure_service.dto.response.CatalogChangesResponse;
+import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.service.interfaces.CatalogChangeService;
+import com.elara.app.unit_of_measure_service.utils.MessageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = CatalogChangeController.class)
+@Import({GlobalExceptionHandler.class, CatalogChangeControllerTest.TestConfig.class})
+@DisplayName("GET /changes and GET /watch - Catalog change feed")
+class CatalogChangeControllerTest {
+
+    @AfterEach
+    void tearDown() {
+        reset(service, messageService);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CatalogChangeService service;
+
+    @Autowired
+    private MessageService messageService;
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        CatalogChangeService catalogChangeService() {
+            return mock(CatalogChangeService.class);
+        }
+        @Bean
+        MessageService messageService() {
+            return mock(MessageService.class);
+        }
+    }
+
+    @Test
+    @DisplayName("should return 200 with the changes and the new high-water mark")
+    void findChanges_shouldReturn200() throws Exception {
+        // Given
+        UomResponse kilogram = new UomResponse(1L, "Kilogram", null, BigDecimal.ONE, 1L, 1L, 1L, null, null, 2L);
+        given(service.findChanges(40L, 500)).willReturn(new CatalogChangesResponse(List.of(
+            new CatalogChangeResponse(42L, "Uom", 7L, CatalogChangeEvent.ChangeType.DELETED, null, null),
+            new CatalogChangeResponse(44L, "Uom", 1L, CatalogChangeEvent.ChangeType.UPDATED, kilogram, null)
+        ), 44L, false));
+
+        // When & Then
+        mockMvc.perform(get("/changes").param("since", "40").param("limit", "500"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes.length()").value(2))
+            .andExpect(jsonPath("$.changes[0].changeType").value("DELETED"))
+            .andExpect(jsonPath("$.changes[0].uom").doesNotExist())
+            .andExpect(jsonPath("$.changes[1].uom.name").value("Kilogram"))
+            .andExpect(jsonPath("$.highWaterMark").value(44))
+            .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @DisplayName("should default to a full sync from sequence 0")
+    void findChanges_shouldDefaultToFullSync() throws Exception {
+        // Given
+        given(service.findChanges(0L, 1000)).willReturn(new CatalogChangesResponse(List.of(), 0L, false));
+
+        // When & Then
+        mockMvc.perform(get("/changes"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes").isEmpty())
+            .andExpect(jsonPath("$.highWaterMark").value(0));
+        verify(service).findChanges(0L, 1000);
+    }
+
+    @Test
+    @DisplayName("should return 400 for a negative sequence or a limit out of range")
+    void findChanges_shouldReturn400WhenParametersInvalid() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/changes").param("since", "-1"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value(1002));
+        mockMvc.perform(get("/changes").param("limit", "1001"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value(1002));
+        verify(service, never()).findChanges(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("watch should open an event stream resuming after Last-Event-ID, which wins over since")
+    void watch_shouldResumeAfterLastEventId() throws Exception {
+        // Given
+        given(service.watch(42L)).willReturn(new SseEmitter());
+
+        // When & Then
+        mockMvc.perform(get("/watch").header("Last-Event-ID", "42").param("since", "7"))
+            .andExpect(status().isOk())
+            .andExpect(request().asyncStarted());
+        verify(service).watch(42L);
+    }
+
+    @Test
+    @DisplayName("watch should start after since on a first connection, and from now on without either")
+    void watch_shouldStartAfterSinceOrNow() throws Exception {
+        // Given
+        given(service.watch(any())).willAnswer(invocation -> new SseEmitter());
+
+        // When & Then
+        mockMvc.perform(get("/watch").param("since", "7"))
+            .andExpect(request().asyncStarted());
+        mockMvc.perform(get("/watch"))
+            .andExpect(request().asyncStarted());
+        verify(service).watch(7L);
+        verify(service).watch(null);
+    }
+
+    @Test
+    @DisplayName("watch should return 400 for a negative sequence")
+    void watch_shouldReturn400WhenSequenceNegative() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/watch").param("since", "-1"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value(1002));
+        verify(service, never()).watch(any());
+    }
+
+}
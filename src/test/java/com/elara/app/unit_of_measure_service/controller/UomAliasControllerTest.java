@@ -0,0 +1,219 @@
+package com.elara.app.unit_of_measure_service.controller;
+
+import com.elara.app.unit_of_measure_service.config.GlobalExceptionHandler;
+import com.elara.app.unit_of_measure_service.dto.request.UomAliasRequest;
+import com.elara.app.unit_of_measure_service.dto.response.UomAliasResponse;
+import com.elara.app.unit_of_measure_service.exceptions.ResourceConflictException;
+import com.elara.app.unit_of_measure_service.exceptions.ResourceNotFoundException;
+import com.elara.app.unit_of_measure_service.model.AliasKind;
+import com.elara.app.unit_of_measure_service.service.interfaces.UomAliasService;
+import com.elara.app.unit_of_measure_service.utils.MessageService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = UomAliasController.class)
+@Import({GlobalExceptionHandler.class, UomAliasControllerTest.TestConfig.class})
+class UomAliasControllerTest {
+
+    @AfterEach
+    void tearDown() {
+        reset(service, messageService);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UomAliasService service;
+
+    @Autowired
+    private MessageService messageService;
+
+    private static final String BASE_URL = "/";
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        UomAliasService uomAliasService() {
+            return mock(UomAliasService.class);
+        }
+        @Bean
+        MessageService messageService() {
+            return mock(MessageService.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /{uomId}/aliases - Create alias")
+    class CreateAliasTests {
+
+        @Test
+        @DisplayName("should return 201 with the created alias")
+        void create_shouldReturn201() throws Exception {
+            // Given
+            UomAliasRequest request = new UomAliasRequest("KGM", AliasKind.UNECE_CODE);
+            given(service.save(1L, request)).willReturn(new UomAliasResponse(10L, "KGM", AliasKind.UNECE_CODE, 1L));
+
+            // When & Then
+            mockMvc.perform(post(BASE_URL + "1/aliases")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(10))
+                .andExpect(jsonPath("$.kind").value("UNECE_CODE"))
+                .andExpect(jsonPath("$.uomId").value(1));
+        }
+
+        @Test
+        @DisplayName("should return 400 when the alias is blank or the kind missing")
+        void create_invalidRequest_returns400() throws Exception {
+            // When & Then
+            mockMvc.perform(post(BASE_URL + "1/aliases")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"alias\":\" \",\"kind\":\"SYMBOL\"}"))
+                .andExpect(status().isBadRequest());
+            mockMvc.perform(post(BASE_URL + "1/aliases")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"alias\":\"kg\"}"))
+                .andExpect(status().isBadRequest());
+            verifyNoInteractions(service);
+        }
+
+        @Test
+        @DisplayName("should return 409 when the alias is taken")
+        void create_takenAlias_returns409() throws Exception {
+            // Given
+            given(service.save(any(), any())).willThrow(new ResourceConflictException("UomAlias already exists"));
+
+            // When & Then
+            mockMvc.perform(post(BASE_URL + "1/aliases")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"alias\":\"kg\",\"kind\":\"SYMBOL\"}"))
+                .andExpect(status().isConflict());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("GET /{uomId}/aliases - Get aliases")
+    class GetAliasesTests {
+
+        @Test
+        @DisplayName("should return the aliases of the unit")
+        void getAllByUomId_shouldReturnAliases() throws Exception {
+            // Given
+            given(service.findAllByUomId(1L)).willReturn(List.of(
+                new UomAliasResponse(10L, "kg", AliasKind.SYMBOL, 1L),
+                new UomAliasResponse(11L, "KGM", AliasKind.UNECE_CODE, 1L)));
+
+            // When & Then
+            mockMvc.perform(get(BASE_URL + "1/aliases"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].alias").value("KGM"));
+        }
+
+        @Test
+        @DisplayName("should return 404 when the unit does not exist")
+        void getAllByUomId_unknownUom_returns404() throws Exception {
+            // Given
+            given(service.findAllByUomId(99L)).willThrow(new ResourceNotFoundException("Uom not found"));
+
+            // When & Then
+            mockMvc.perform(get(BASE_URL + "99/aliases"))
+                .andExpect(status().isNotFound());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("POST /resolve - Resolve raw strings")
+    class ResolveTests {
+
+        @Test
+        @DisplayName("should return the unit id of every resolved string")
+        void resolve_shouldReturnResolvedIds() throws Exception {
+            // Given
+            Map<String, Long> resolved = new LinkedHashMap<>();
+            resolved.put("kg", 1L);
+            resolved.put("g", 2L);
+            given(service.resolve(List.of("kg", "bushel", "g"))).willReturn(resolved);
+
+            // When & Then
+            mockMvc.perform(post(BASE_URL + "resolve")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[\"kg\",\"bushel\",\"g\"]"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"kg\":1,\"g\":2}", true));
+        }
+
+        @Test
+        @DisplayName("should return 400 for an empty or oversized list")
+        void resolve_invalidSize_returns400() throws Exception {
+            // When & Then
+            mockMvc.perform(post(BASE_URL + "resolve")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[]"))
+                .andExpect(status().isBadRequest());
+            mockMvc.perform(post(BASE_URL + "resolve")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Collections.nCopies(10_001, "kg"))))
+                .andExpect(status().isBadRequest());
+            verify(service, never()).resolve(anyList());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("DELETE /aliases/{id} - Delete alias")
+    class DeleteAliasTests {
+
+        @Test
+        @DisplayName("should return 204 when the alias is deleted")
+        void delete_shouldReturn204() throws Exception {
+            // When & Then
+            mockMvc.perform(delete(BASE_URL + "aliases/10"))
+                .andExpect(status().isNoContent());
+            verify(service).deleteById(10L);
+        }
+
+        @Test
+        @DisplayName("should return 404 when the alias does not exist")
+        void delete_unknownAlias_returns404() throws Exception {
+            // Given
+            willThrow(new ResourceNotFoundException("UomAlias not found")).given(service).deleteById(99L);
+
+            // When & Then
+            mockMvc.perform(delete(BASE_URL + "aliases/99"))
+                .andExpect(status().isNotFound());
+        }
+
+    }
+
+}
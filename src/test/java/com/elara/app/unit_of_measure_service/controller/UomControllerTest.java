@@ -1,9 +1,20 @@
 package com.elara.app.unit_of_measure_service.controller;
 
 import com.elara.app.unit_of_measure_service.config.GlobalExceptionHandler;
+import com.elara.app.unit_of_measure_service.dto.request.ConversionRequest;
 import com.elara.app.unit_of_measure_service.dto.request.UomRequest;
+import com.elara.app.unit_of_measure_service.dto.response.BatchConversionResponse;
+import com.elara.app.unit_of_measure_service.dto.response.ConversionItemResponse;
+import com.elara.app.unit_of_measure_service.dto.response.ConversionResponse;
+import com.elara.app.unit_of_measure_service.dto.response.CursorPageResponse;
+import com.elara.app.unit_of_measure_service.dto.response.NameSuggestion;
+import com.elara.app.unit_of_measure_service.dto.response.ParsedQuantityResponse;
+import com.elara.app.unit_of_measure_service.dto.response.QuantityParseResponse;
+import com.elara.app.unit_of_measure_service.dto.response.SliceResponse;
 import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.dto.update.UomBulkUpdate;
 import com.elara.app.unit_of_measure_service.dto.update.UomUpdate;
+import com.elara.app.unit_of_measure_service.exceptions.PreconditionFailedException;
 import com.elara.app.unit_of_measure_service.exceptions.ResourceConflictException;
 import com.elara.app.unit_of_measure_service.exceptions.ResourceNotFoundException;
 import com.elara.app.unit_of_measure_service.service.interfaces.UomService;
@@ -22,12 +33,16 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -81,8 +96,8 @@ class UomControllerTest {
         @DisplayName("should return 201 with created UOM when valid request")
         void create_shouldReturn201WithValidRequest() throws Exception {
             // Given
-            UomRequest request = new UomRequest("Kilogram", "Base unit of mass", new BigDecimal("1.000"), 1L);
-            UomResponse response = new UomResponse(1L, "Kilogram", "Base unit of mass", new BigDecimal("1.000"), null);
+            UomRequest request = new UomRequest("Kilogram", "Base unit of mass", new BigDecimal("1.000"), 1L, null, null);
+            UomResponse response = new UomResponse(1L, "Kilogram", "Base unit of mass", new BigDecimal("1.000"), null, null, null, null, null, 0L);
 
             given(service.save(any(UomRequest.class))).willReturn(response);
 
@@ -102,7 +117,7 @@ class UomControllerTest {
         @DisplayName("should return 400 when name is blank")
         void create_shouldReturn400WhenNameIsBlank() throws Exception {
             // Given
-            UomRequest request = new UomRequest("", "desc", new BigDecimal("1.0"), 1L);
+            UomRequest request = new UomRequest("", "desc", new BigDecimal("1.0"), 1L, null, null);
 
             // When & Then
             mockMvc.perform(post(BASE_URL)
@@ -118,7 +133,7 @@ class UomControllerTest {
         void create_shouldReturn400WhenNameTooLong() throws Exception {
             // Given
             String longName = "a".repeat(51);
-            UomRequest request = new UomRequest(longName, "desc", new BigDecimal("1.0"), 1L);
+            UomRequest request = new UomRequest(longName, "desc", new BigDecimal("1.0"), 1L, null, null);
 
             // When & Then
             mockMvc.perform(post(BASE_URL)
@@ -132,7 +147,7 @@ class UomControllerTest {
         @DisplayName("should return 400 when conversionFactorToBase is null")
         void create_shouldReturn400WhenConversionFactorNull() throws Exception {
             // Given
-            UomRequest request = new UomRequest("Kilogram", "desc", null, 1L);
+            UomRequest request = new UomRequest("Kilogram", "desc", null, 1L, null, null);
 
             // When & Then
             mockMvc.perform(post(BASE_URL)
@@ -146,7 +161,7 @@ class UomControllerTest {
         @DisplayName("should return 400 when conversionFactorToBase is negative")
         void create_shouldReturn400WhenConversionFactorNegative() throws Exception {
             // Given
-            UomRequest request = new UomRequest("Kilogram", "desc", new BigDecimal("-1.0"), 1L);
+            UomRequest request = new UomRequest("Kilogram", "desc", new BigDecimal("-1.0"), 1L, null, null);
 
             // When & Then
             mockMvc.perform(post(BASE_URL)
@@ -160,7 +175,7 @@ class UomControllerTest {
         @DisplayName("should return 400 when conversionFactorToBase is zero")
         void create_shouldReturn400WhenConversionFactorZero() throws Exception {
             // Given
-            UomRequest request = new UomRequest("Kilogram", "desc", new BigDecimal("0"), 1L);
+            UomRequest request = new UomRequest("Kilogram", "desc", new BigDecimal("0"), 1L, null, null);
 
             // When & Then
             mockMvc.perform(post(BASE_URL)
@@ -174,7 +189,7 @@ class UomControllerTest {
         @DisplayName("should return 400 when uomStatusId is null")
         void create_shouldReturn400WhenUomStatusIdNull() throws Exception {
             // Given
-            UomRequest request = new UomRequest("Kilogram", "desc", new BigDecimal("1.0"), null);
+            UomRequest request = new UomRequest("Kilogram", "desc", new BigDecimal("1.0"), null, null, null);
 
             // When & Then
             mockMvc.perform(post(BASE_URL)
@@ -188,7 +203,7 @@ class UomControllerTest {
         @DisplayName("should return 409 when name already exists")
         void create_shouldReturn409WhenNameAlreadyExists() throws Exception {
             // Given
-            UomRequest request = new UomRequest("Kilogram", "desc", new BigDecimal("1.0"), 1L);
+            UomRequest request = new UomRequest("Kilogram", "desc", new BigDecimal("1.0"), 1L, null, null);
             given(service.save(any(UomRequest.class)))
                 .willThrow(new ResourceConflictException("Uom with name 'Kilogram' already exists"));
 
@@ -204,7 +219,7 @@ class UomControllerTest {
         @DisplayName("should return 404 when UomStatus not exists")
         void create_shouldReturn404WhenUomStatusNotExists() throws Exception {
             // Given
-            UomRequest request = new UomRequest("Kilogram", "desc", new BigDecimal("1.0"), 999L);
+            UomRequest request = new UomRequest("Kilogram", "desc", new BigDecimal("1.0"), 999L, null, null);
             given(service.save(any(UomRequest.class)))
                 .willThrow(new ResourceNotFoundException("Uom not found, when: \"id = 999\"."));
 
@@ -226,7 +241,7 @@ class UomControllerTest {
         void findById_shouldReturn200WhenExists() throws Exception {
             // Given
             Long id = 1L;
-            UomResponse response = new UomResponse(1L, "Kilogram", "Base unit", new BigDecimal("1.0"), null);
+            UomResponse response = new UomResponse(1L, "Kilogram", "Base unit", new BigDecimal("1.0"), null, null, null, null, null, 0L);
             given(service.findById(id)).willReturn(response);
 
             // When & Then
@@ -234,7 +249,26 @@ class UomControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(1))
-                .andExpect(jsonPath("$.name").value("Kilogram"));
+                .andExpect(jsonPath("$.name").value("Kilogram"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-0\""));
+        }
+
+        @Test
+        @DisplayName("should return 304 without a body when If-None-Match names the current version")
+        void findById_shouldReturn304WhenETagMatches() throws Exception {
+            // Given
+            Long id = 1L;
+            UomResponse response = new UomResponse(1L, "Kilogram", "Base unit", new BigDecimal("1.0"), null, null, null, null, null, 2L);
+            given(service.findById(id)).willReturn(response);
+
+            // When & Then
+            mockMvc.perform(get(BASE_URL + "{id}", id).header(HttpHeaders.IF_NONE_MATCH, "\"1-2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-2\""))
+                .andExpect(content().string(""));
+            mockMvc.perform(get(BASE_URL + "{id}", id).header(HttpHeaders.IF_NONE_MATCH, "\"1-1\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(2));
         }
 
         @Test
@@ -270,6 +304,62 @@ class UomControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /batch, POST /lookup - Multi-get by ID")
+    class LookupTests {
+
+        private final UomResponse kilogram = new UomResponse(1L, "Kilogram", "Base unit of mass", new BigDecimal("1.000"), 1L, 1L, 1L, null, null, 0L);
+
+        @Test
+        @DisplayName("GET should return 200 with the units found keyed by id")
+        void getAllByIds_shouldReturn200() throws Exception {
+            // Given
+            given(service.findAllByIds(List.of(1L, 99L))).willReturn(Map.of(1L, kilogram));
+
+            // When & Then
+            mockMvc.perform(get(BASE_URL + "batch").param("ids", "1,99"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.1.name").value("Kilogram"))
+                .andExpect(jsonPath("$.99").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("GET should return 400 when an id is not positive")
+        void getAllByIds_shouldReturn400WhenIdNotPositive() throws Exception {
+            // When & Then
+            mockMvc.perform(get(BASE_URL + "batch").param("ids", "1,0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(1002));
+            verifyNoInteractions(service);
+        }
+
+        @Test
+        @DisplayName("POST should return 200 with the units found keyed by id")
+        void lookup_shouldReturn200() throws Exception {
+            // Given
+            given(service.findAllByIds(List.of(1L, 2L))).willReturn(Map.of(1L, kilogram));
+
+            // When & Then
+            mockMvc.perform(post(BASE_URL + "lookup")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[1,2]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.1.id").value(1))
+                .andExpect(jsonPath("$.2").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("POST should return 400 when the id list is empty")
+        void lookup_shouldReturn400WhenEmpty() throws Exception {
+            // When & Then
+            mockMvc.perform(post(BASE_URL + "lookup")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[]"))
+                .andExpect(status().isBadRequest());
+            verifyNoInteractions(service);
+        }
+    }
+
     @Nested
     @DisplayName("GET / - Get All UOMs")
     class GetAllTests {
@@ -278,8 +368,8 @@ class UomControllerTest {
         @DisplayName("should return 200 with paged results")
         void findAll_shouldReturn200WithPagedResults() throws Exception {
             // Given
-            UomResponse response1 = new UomResponse(1L, "Kilogram", "desc1", new BigDecimal("1.0"), null);
-            UomResponse response2 = new UomResponse(2L, "Gram", "desc2", new BigDecimal("0.001"), null);
+            UomResponse response1 = new UomResponse(1L, "Kilogram", "desc1", new BigDecimal("1.0"), null, null, null, null, null, 0L);
+            UomResponse response2 = new UomResponse(2L, "Gram", "desc2", new BigDecimal("0.001"), null, null, null, null, null, 0L);
             Page<UomResponse> page = new PageImpl<>(List.of(response1, response2), PageRequest.of(0, 20), 2);
             
             given(service.findAll(any())).willReturn(page);
@@ -341,6 +431,62 @@ class UomControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /?cursor= - Keyset Pages")
+    class KeysetPageTests {
+
+        @Test
+        @DisplayName("should route cursor requests to keyset paging and return the next cursor")
+        void scrollAll_shouldReturn200WithNextCursor() throws Exception {
+            // Given
+            UomResponse response = new UomResponse(2L, "Gram", "desc", new BigDecimal("0.001"), 1L, null, null, null, null, 0L);
+            given(service.scrollAll("", "name", 1))
+                .willReturn(new CursorPageResponse<>(List.of(response), 1, true, "bmFtZTpBU0M6MjpHcmFt"));
+
+            // When & Then
+            mockMvc.perform(get(BASE_URL)
+                    .param("cursor", "")
+                    .param("sort", "name")
+                    .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("bmFtZTpBU0M6MjpHcmFt"))
+                .andExpect(jsonPath("$.page").doesNotExist());
+
+            verify(service, never()).findAll(any());
+        }
+
+        @Test
+        @DisplayName("should pass search and status filters to keyset paging with the default size")
+        void scrollWithFilters_shouldUseDefaultSize() throws Exception {
+            // Given
+            CursorPageResponse<UomResponse> empty = new CursorPageResponse<>(List.of(), 20, false, null);
+            given(service.scrollAllByName("gram", "abc", null, 20)).willReturn(empty);
+            given(service.scrollAllByUomStatusId(1L, "abc", null, 20)).willReturn(empty);
+
+            // When & Then
+            mockMvc.perform(get(BASE_URL + "search").param("name", "gram").param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false));
+            mockMvc.perform(get(BASE_URL + "filter/status/{statusId}", 1L).param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(20));
+        }
+
+        @Test
+        @DisplayName("should return 400 when size exceeds the keyset maximum")
+        void scrollAll_shouldReturn400WhenSizeTooLarge() throws Exception {
+            // When & Then
+            mockMvc.perform(get(BASE_URL)
+                    .param("cursor", "")
+                    .param("size", "1001"))
+                .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(service);
+        }
+    }
+
     @Nested
     @DisplayName("GET /search - Search by Name")
     class SearchByNameTests {
@@ -349,7 +495,7 @@ class UomControllerTest {
         @DisplayName("should return 200 with matching results")
         void searchByName_shouldReturn200WithResults() throws Exception {
             // Given
-            UomResponse response = new UomResponse(1L, "Kilogram", "desc", new BigDecimal("1.0"), null);
+            UomResponse response = new UomResponse(1L, "Kilogram", "desc", new BigDecimal("1.0"), null, null, null, null, null, 0L);
             Page<UomResponse> page = new PageImpl<>(List.of(response));
             
             given(service.findAllByName(eq("kilo"), any())).willReturn(page);
@@ -362,6 +508,22 @@ class UomControllerTest {
                 .andExpect(jsonPath("$.content", hasSize(1)));
         }
 
+        @Test
+        @DisplayName("should rank by relevance when mode is fuzzy")
+        void searchByName_fuzzyMode_callsFuzzySearch() throws Exception {
+            // Given
+            UomResponse response = new UomResponse(1L, "Kilogram", "desc", new BigDecimal("1.0"), null, null, null, null, null, 0L);
+            given(service.findAllByNameFuzzy(eq("kilogarm"), any())).willReturn(new PageImpl<>(List.of(response)));
+
+            // When & Then
+            mockMvc.perform(get(BASE_URL + "search")
+                    .param("name", "kilogarm")
+                    .param("mode", "fuzzy"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Kilogram"));
+            verify(service, never()).findAllByName(any(), any());
+        }
+
         @Test
         @DisplayName("should return 200 with empty results when no match")
         void searchByName_shouldReturn200WithEmptyResults() throws Exception {
@@ -400,6 +562,43 @@ class UomControllerTest {
             
             verify(service).findAllByName(eq("KILO"), any());
         }
+
+        @Test
+        @DisplayName("should return a slice without totals when count is false")
+        void searchByName_countFalse_returnsSlice() throws Exception {
+            // Given
+            UomResponse response = new UomResponse(1L, "Kilogram", "desc", new BigDecimal("1.0"), null, null, null, null, null, 0L);
+            given(service.findSliceByName(eq("kilo"), any(), eq(false)))
+                .willReturn(new SliceResponse<>(List.of(response), 0, 1, true, null));
+
+            // When & Then
+            mockMvc.perform(get(BASE_URL + "search")
+                    .param("name", "kilo")
+                    .param("count", "false")
+                    .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.approximateTotal").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+            verify(service, never()).findAllByName(any(), any());
+        }
+
+        @Test
+        @DisplayName("should add the approximate total to the slice when requested")
+        void searchByName_countFalseWithApproximateTotal_returnsTotal() throws Exception {
+            // Given
+            given(service.findSliceByName(eq("kilo"), any(), eq(true)))
+                .willReturn(new SliceResponse<>(List.of(), 0, 20, false, 12L));
+
+            // When & Then
+            mockMvc.perform(get(BASE_URL + "search")
+                    .param("name", "kilo")
+                    .param("count", "false")
+                    .param("approximateTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.approximateTotal").value(12));
+        }
     }
 
     @Nested
@@ -411,7 +610,7 @@ class UomControllerTest {
         void filterByStatus_shouldReturn200WithResults() throws Exception {
             // Given
             Long statusId = 1L;
-            UomResponse response = new UomResponse(1L, "Kilogram", "desc", new BigDecimal("1.0"), null);
+            UomResponse response = new UomResponse(1L, "Kilogram", "desc", new BigDecimal("1.0"), null, null, null, null, null, 0L);
             Page<UomResponse> page = new PageImpl<>(List.of(response));
             
             given(service.findAllByUomStatusId(eq(statusId), any())).willReturn(page);
@@ -445,6 +644,139 @@ class UomControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.code").value(1002));
         }
+
+        @Test
+        @DisplayName("should return a slice without totals when count is false")
+        void filterByStatus_countFalse_returnsSlice() throws Exception {
+            // Given
+            UomResponse response = new UomResponse(1L, "Kilogram", "desc", new BigDecimal("1.0"), 1L, null, null, null, null, 0L);
+            given(service.findSliceByUomStatusId(eq(1L), any(), eq(false)))
+                .willReturn(new SliceResponse<>(List.of(response), 0, 20, false, null));
+
+            // When & Then
+            mockMvc.perform(get(BASE_URL + "filter/status/{statusId}", 1L)
+                    .param("count", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext").value(false));
+            verify(service, never()).findAllByUomStatusId(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST|PUT|DELETE /bulk - Bulk Writes")
+    class BulkTests {
+
+        private final UomResponse kilogram = new UomResponse(1L, "Kilogram", "Base unit of mass", new BigDecimal("1.000"), 1L, 1L, 1L, null, null, 0L);
+
+        @Test
+        @DisplayName("POST should return 201 with the created units")
+        void createAll_shouldReturn201() throws Exception {
+            // Given
+            List<UomRequest> requests = List.of(new UomRequest("Kilogram", "Base unit of mass", new BigDecimal("1.000"), 1L, null, null));
+            given(service.saveAll(requests)).willReturn(List.of(kilogram));
+
+            // When & Then
+            mockMvc.perform(post(BASE_URL + "bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].name").value("Kilogram"));
+        }
+
+        @Test
+        @DisplayName("POST should return 400 when a line is invalid")
+        void createAll_shouldReturn400WhenLineInvalid() throws Exception {
+            // Given
+            List<UomRequest> requests = List.of(new UomRequest("", "desc", new BigDecimal("1.000"), 1L, null, null));
+
+            // When & Then
+            mockMvc.perform(post(BASE_URL + "bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isBadRequest());
+            verifyNoInteractions(service);
+        }
+
+        @Test
+        @DisplayName("POST should return 400 when the batch is empty")
+        void createAll_shouldReturn400WhenEmpty() throws Exception {
+            // When & Then
+            mockMvc.perform(post(BASE_URL + "bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[]"))
+                .andExpect(status().isBadRequest());
+            verifyNoInteractions(service);
+        }
+
+        @Test
+        @DisplayName("POST should return 409 when a name is taken")
+        void createAll_shouldReturn409WhenNameTaken() throws Exception {
+            // Given
+            List<UomRequest> requests = List.of(new UomRequest("Kilogram", "Base unit of mass", new BigDecimal("1.000"), 1L, null, null));
+            given(service.saveAll(requests)).willThrow(new ResourceConflictException("Uom already exists"));
+
+            // When & Then
+            mockMvc.perform(post(BASE_URL + "bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isConflict());
+        }
+
+        @Test
+        @DisplayName("PUT should return 200 with the updated units")
+        void updateAll_shouldReturn200() throws Exception {
+            // Given
+            List<UomBulkUpdate> updates = List.of(new UomBulkUpdate(1L, "Kilogram", "Base unit of mass", new BigDecimal("1.000"), null, null));
+            given(service.updateAll(updates)).willReturn(List.of(kilogram));
+
+            // When & Then
+            mockMvc.perform(put(BASE_URL + "bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(updates)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1));
+        }
+
+        @Test
+        @DisplayName("PUT should return 400 when a line has no id")
+        void updateAll_shouldReturn400WhenIdMissing() throws Exception {
+            // Given
+            List<UomBulkUpdate> updates = List.of(new UomBulkUpdate(null, "Kilogram", null, new BigDecimal("1.000"), null, null));
+
+            // When & Then
+            mockMvc.perform(put(BASE_URL + "bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(updates)))
+                .andExpect(status().isBadRequest());
+            verifyNoInteractions(service);
+        }
+
+        @Test
+        @DisplayName("DELETE should return 204")
+        void deleteAll_shouldReturn204() throws Exception {
+            // When & Then
+            mockMvc.perform(delete(BASE_URL + "bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[1, 2]"))
+                .andExpect(status().isNoContent());
+            verify(service).deleteAllById(List.of(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("DELETE should return 404 when an id does not exist")
+        void deleteAll_shouldReturn404WhenIdMissing() throws Exception {
+            // Given
+            doThrow(new ResourceNotFoundException("Uom not found")).when(service).deleteAllById(List.of(1L, 2L));
+
+            // When & Then
+            mockMvc.perform(delete(BASE_URL + "bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[1, 2]"))
+                .andExpect(status().isNotFound());
+        }
     }
 
     @Nested
@@ -456,10 +788,10 @@ class UomControllerTest {
         void update_shouldReturn200WithValidRequest() throws Exception {
             // Given
             Long id = 1L;
-            UomUpdate updateRequest = new UomUpdate("Kilogram Updated", "New description", new BigDecimal("1.500"));
-            UomResponse response = new UomResponse(1L, "Kilogram Updated", "New description", new BigDecimal("1.500"), null);
+            UomUpdate updateRequest = new UomUpdate("Kilogram Updated", "New description", new BigDecimal("1.500"), null, null);
+            UomResponse response = new UomResponse(1L, "Kilogram Updated", "New description", new BigDecimal("1.500"), null, null, null, null, null, 0L);
             
-            given(service.update(eq(id), any(UomUpdate.class))).willReturn(response);
+            given(service.update(eq(id), any(UomUpdate.class), isNull())).willReturn(response);
 
             // When & Then
             mockMvc.perform(put(BASE_URL + "{id}", id)
@@ -471,14 +803,53 @@ class UomControllerTest {
                 .andExpect(jsonPath("$.description").value("New description"));
         }
 
+        @Test
+        @DisplayName("should pass If-Match to the service and return the new ETag")
+        void update_shouldPassIfMatchAndReturnETag() throws Exception {
+            // Given
+            Long id = 1L;
+            UomUpdate updateRequest = new UomUpdate("Kilogram", "desc", new BigDecimal("1.0"), null, null);
+            UomResponse response = new UomResponse(1L, "Kilogram", "desc", new BigDecimal("1.0"), null, null, null, null, null, 1L);
+
+            given(service.update(eq(id), any(UomUpdate.class), eq("\"1-0\""))).willReturn(response);
+
+            // When & Then
+            mockMvc.perform(put(BASE_URL + "{id}", id)
+                    .header(HttpHeaders.IF_MATCH, "\"1-0\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-1\""))
+                .andExpect(jsonPath("$.version").value(1));
+        }
+
+        @Test
+        @DisplayName("should return 412 when If-Match names a stale version")
+        void update_shouldReturn412WhenIfMatchStale() throws Exception {
+            // Given
+            Long id = 1L;
+            UomUpdate updateRequest = new UomUpdate("Kilogram", "desc", new BigDecimal("1.0"), null, null);
+
+            given(service.update(eq(id), any(UomUpdate.class), eq("\"1-0\"")))
+                .willThrow(new PreconditionFailedException("Uom with id 1 is at ETag \"1-1\", not \"1-0\""));
+
+            // When & Then
+            mockMvc.perform(put(BASE_URL + "{id}", id)
+                    .header(HttpHeaders.IF_MATCH, "\"1-0\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.code").value(1007));
+        }
+
         @Test
         @DisplayName("should return 404 when UOM not exists")
         void update_shouldReturn404WhenIdNotExists() throws Exception {
             // Given
             Long id = 999L;
-            UomUpdate updateRequest = new UomUpdate("Name", "desc", new BigDecimal("1.0"));
+            UomUpdate updateRequest = new UomUpdate("Name", "desc", new BigDecimal("1.0"), null, null);
             
-            given(service.update(eq(id), any(UomUpdate.class)))
+            given(service.update(eq(id), any(UomUpdate.class), isNull()))
                 .willThrow(new ResourceNotFoundException("Uom not found, when: \"id = 999\"."));
 
             // When & Then
@@ -494,9 +865,9 @@ class UomControllerTest {
         void update_shouldReturn409WhenNewNameExists() throws Exception {
             // Given
             Long id = 1L;
-            UomUpdate updateRequest = new UomUpdate("Gram", "desc", new BigDecimal("1.0"));
+            UomUpdate updateRequest = new UomUpdate("Gram", "desc", new BigDecimal("1.0"), null, null);
             
-            given(service.update(eq(id), any(UomUpdate.class)))
+            given(service.update(eq(id), any(UomUpdate.class), isNull()))
                 .willThrow(new ResourceConflictException("Name already exists"));
 
             // When & Then
@@ -512,7 +883,7 @@ class UomControllerTest {
         void update_shouldReturn400OnValidationError() throws Exception {
             // Given
             Long id = 1L;
-            UomUpdate updateRequest = new UomUpdate("", "desc", new BigDecimal("-1.0"));
+            UomUpdate updateRequest = new UomUpdate("", "desc", new BigDecimal("-1.0"), null, null);
 
             // When & Then
             mockMvc.perform(put(BASE_URL + "{id}", id)
@@ -574,7 +945,7 @@ class UomControllerTest {
         void changeStatus_validRequest_returns200() throws Exception {
             Long uomId = 1L;
             Long statusId = 2L;
-            UomResponse mockResponse = new UomResponse(uomId, "kg", "kilogram", new BigDecimal("1.0"), statusId);
+            UomResponse mockResponse = new UomResponse(uomId, "kg", "kilogram", new BigDecimal("1.0"), statusId, null, null, null, null, 0L);
 
             when(service.changeStatus(uomId, statusId)).thenReturn(mockResponse);
 
@@ -664,4 +1035,273 @@ class UomControllerTest {
                 .andExpect(jsonPath("$.code").value(1002));
         }
     }
+
+    @Nested
+    @DisplayName("GET /autocomplete - Suggest Names")
+    class AutocompleteTests {
+
+        @Test
+        @DisplayName("should return the suggestions ranked by the service")
+        void autocomplete_shouldReturnSuggestions() throws Exception {
+            // Given
+            given(service.autocomplete("kilo", 2)).willReturn(List.of(
+                new NameSuggestion(1L, "Kilogram", 12L),
+                new NameSuggestion(3L, "Kilometer", 4L)));
+
+            // When & Then
+            mockMvc.perform(get(BASE_URL + "autocomplete")
+                    .param("prefix", "kilo")
+                    .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].name").value("Kilogram"))
+                .andExpect(jsonPath("$[0].uses").value(12))
+                .andExpect(jsonPath("$[1].id").value(3));
+        }
+
+        @Test
+        @DisplayName("should default the limit to 10")
+        void autocomplete_withoutLimit_defaultsToTen() throws Exception {
+            // Given
+            given(service.autocomplete("k", 10)).willReturn(List.of());
+
+            // When & Then
+            mockMvc.perform(get(BASE_URL + "autocomplete")
+                    .param("prefix", "k"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]"));
+        }
+
+        @Test
+        @DisplayName("should return 400 when the prefix is blank or the limit is out of range")
+        void autocomplete_invalidParameters_returns400() throws Exception {
+            // When & Then
+            mockMvc.perform(get(BASE_URL + "autocomplete")
+                    .param("prefix", " "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(1002));
+            mockMvc.perform(get(BASE_URL + "autocomplete")
+                    .param("prefix", "kilo")
+                    .param("limit", "51"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(1002));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /export - Export Catalog")
+    class ExportTests {
+
+        private final UomResponse kilogram = new UomResponse(1L, "Kilogram", "Base unit of mass", new BigDecimal("1.000"), 1L, null, null, null, null, 0L);
+
+        private void givenExportedRows(Long uomStatusId, UomResponse... rows) {
+            given(service.export(eq(uomStatusId), any())).willAnswer(invocation -> {
+                Consumer<UomResponse> sink = invocation.getArgument(1);
+                for (UomResponse row : rows) {
+                    sink.accept(row);
+                }
+                return (long) rows.length;
+            });
+        }
+
+        @Test
+        @DisplayName("should stream NDJSON by default")
+        void export_shouldStreamNdjsonByDefault() throws Exception {
+            // Given
+            givenExportedRows(null, kilogram);
+
+            // When
+            MvcResult result = mockMvc.perform(get(BASE_URL + "export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            // Then
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition", containsString("uom-catalog.ndjson")))
+                .andExpect(content().string(objectMapper.writeValueAsString(kilogram) + "\n"));
+        }
+
+        @Test
+        @DisplayName("should stream CSV filtered by status")
+        void export_shouldStreamCsvFilteredByStatus() throws Exception {
+            // Given
+            givenExportedRows(1L, kilogram);
+
+            // When
+            MvcResult result = mockMvc.perform(get(BASE_URL + "export")
+                    .param("format", "CSV")
+                    .param("uomStatusId", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            // Then
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition", containsString("uom-catalog.csv")))
+                .andExpect(content().string(containsString("id,name,")))
+                .andExpect(content().string(containsString("\n1,Kilogram,Base unit of mass,1.000,1,,,,,0\n")));
+            verify(service).export(eq(1L), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /convert - Convert Quantity")
+    class ConvertTests {
+
+        @Test
+        @DisplayName("should return 200 with converted quantity")
+        void convert_shouldReturn200WithResult() throws Exception {
+            // Given
+            given(service.convert(1L, 2L, new BigDecimal("2.5")))
+                .willReturn(new ConversionResponse(1L, 2L, new BigDecimal("2.5"), new BigDecimal("2500")));
+
+            // When & Then
+            mockMvc.perform(get(BASE_URL + "convert")
+                    .param("from", "1")
+                    .param("to", "2")
+                    .param("quantity", "2.5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fromUomId").value(1))
+                .andExpect(jsonPath("$.toUomId").value(2))
+                .andExpect(jsonPath("$.result").value(2500));
+        }
+
+        @Test
+        @DisplayName("should return 400 when quantity is missing")
+        void convert_shouldReturn400WhenQuantityMissing() throws Exception {
+            // When & Then
+            mockMvc.perform(get(BASE_URL + "convert")
+                    .param("from", "1")
+                    .param("to", "2"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(1002));
+        }
+
+        @Test
+        @DisplayName("should return 404 when a unit does not exist")
+        void convert_shouldReturn404WhenUnitNotFound() throws Exception {
+            // Given
+            given(service.convert(1L, 99L, BigDecimal.ONE))
+                .willThrow(new ResourceNotFoundException("Uom not found"));
+
+            // When & Then
+            mockMvc.perform(get(BASE_URL + "convert")
+                    .param("from", "1")
+                    .param("to", "99")
+                    .param("quantity", "1"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(1004));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /convert/batch - Convert Batch")
+    class ConvertBatchTests {
+
+        @Test
+        @DisplayName("should return 200 with one result per line")
+        void convertBatch_shouldReturn200WithResults() throws Exception {
+            // Given
+            List<ConversionRequest> requests = List.of(
+                new ConversionRequest(1L, 2L, new BigDecimal("2.5")),
+                new ConversionRequest(1L, 99L, BigDecimal.ONE));
+            given(service.convertBatch(anyList())).willReturn(new BatchConversionResponse(2, 1, 1, List.of(
+                new ConversionItemResponse(1L, 2L, new BigDecimal("2.5"), new BigDecimal("2500"), null, null, null),
+                new ConversionItemResponse(1L, 99L, BigDecimal.ONE, null, 1004, "RESOURCE_NOT_FOUND", "Uom not found"))));
+
+            // When & Then
+            mockMvc.perform(post(BASE_URL + "convert/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].result").value(2500))
+                .andExpect(jsonPath("$.results[1].errorCode").value(1004));
+        }
+
+        @Test
+        @DisplayName("should return 400 when the batch is empty")
+        void convertBatch_shouldReturn400WhenEmpty() throws Exception {
+            // When & Then
+            mockMvc.perform(post(BASE_URL + "convert/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[]"))
+                .andExpect(status().isBadRequest());
+
+            verify(service, never()).convertBatch(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /parse - Parse Quantities")
+    class ParseTests {
+
+        @Test
+        @DisplayName("should return 200 with one result per non-blank line")
+        void parse_shouldReturn200WithResults() throws Exception {
+            // Given
+            String text = "1,250.5 g\n3 bushel";
+            given(service.parseQuantities(text)).willReturn(new QuantityParseResponse(2, 1, 1, List.of(
+                new ParsedQuantityResponse(1, "1,250.5 g", new BigDecimal("1250.5"), 2L, new BigDecimal("1.2505"), null, null, null),
+                new ParsedQuantityResponse(2, "3 bushel", new BigDecimal("3"), null, null, 1004, "RESOURCE_NOT_FOUND", "Unknown unit"))));
+
+            // When & Then
+            mockMvc.perform(post(BASE_URL + "parse")
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .content(text))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.results[0].baseQuantity").value(1.2505))
+                .andExpect(jsonPath("$.results[1].line").value(2))
+                .andExpect(jsonPath("$.results[1].errorCode").value(1004));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /convert/binary - Convert Binary")
+    class ConvertBinaryTests {
+
+        @Test
+        @DisplayName("should return 200 with the converted octet stream")
+        void convertBinary_shouldReturn200WithOctetStream() throws Exception {
+            // Given
+            byte[] payload = new byte[16];
+            byte[] converted = new byte[16];
+            converted[0] = 1;
+            given(service.convertBinary(eq(1L), eq(2L), any(byte[].class))).willReturn(converted);
+
+            // When & Then
+            mockMvc.perform(post(BASE_URL + "convert/binary")
+                    .param("from", "1")
+                    .param("to", "2")
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .accept(MediaType.APPLICATION_OCTET_STREAM, MediaType.APPLICATION_JSON)
+                    .content(payload))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(content().bytes(converted));
+        }
+
+        @Test
+        @DisplayName("should return 404 as JSON when a unit does not exist")
+        void convertBinary_shouldReturn404WhenUnitNotFound() throws Exception {
+            // Given
+            given(service.convertBinary(eq(1L), eq(99L), any(byte[].class)))
+                .willThrow(new ResourceNotFoundException("Uom not found"));
+
+            // When & Then
+            mockMvc.perform(post(BASE_URL + "convert/binary")
+                    .param("from", "1")
+                    .param("to", "99")
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .accept(MediaType.APPLICATION_OCTET_STREAM, MediaType.APPLICATION_JSON)
+                    .content(new byte[8]))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(1004));
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.elara.app.unit_of_measure_service.controller;
 
 import com.elara.app.unit_of_measure_service.config.GlobalExceptionHandler;
 import com.elara.app.unit_of_measure_service.dto.request.UomStatusRequest;
+import com.elara.app.unit_of_measure_service.dto.response.SliceResponse;
 import com.elara.app.unit_of_measure_service.dto.response.UomStatusResponse;
 import com.elara.app.unit_of_measure_service.dto.update.UomStatusUpdate;
 import com.elara.app.unit_of_measure_service.exceptions.ResourceConflictException;
@@ -81,7 +82,7 @@ class UomStatusControllerTest {
         @DisplayName("should return 201 with created resource")
         void create_shouldReturn201() throws Exception {
             UomStatusRequest request = new UomStatusRequest("Active", "desc", true);
-            UomStatusResponse response = new UomStatusResponse(1L, "Active", "desc", true);
+            UomStatusResponse response = new UomStatusResponse(1L, "Active", "desc", true, 0L);
 
             given(service.save(any())).willReturn(response);
 
@@ -154,7 +155,7 @@ class UomStatusControllerTest {
         @Test
         @DisplayName("should return 200 with resource")
         void getById_shouldReturn200() throws Exception {
-            UomStatusResponse response = new UomStatusResponse(5L, "Active", "desc", true);
+            UomStatusResponse response = new UomStatusResponse(5L, "Active", "desc", true, 0L);
             given(service.findById(5L)).willReturn(response);
 
             mockMvc.perform(get(BASE_URL + "/{id}", 5))
@@ -183,8 +184,8 @@ class UomStatusControllerTest {
         @DisplayName("should return 200 with paged content")
         void getAll_shouldReturn200() throws Exception {
             List<UomStatusResponse> content = List.of(
-                new UomStatusResponse(1L, "Active", "desc", true),
-                new UomStatusResponse(2L, "Inactive", "desc", false)
+                new UomStatusResponse(1L, "Active", "desc", true, 0L),
+                new UomStatusResponse(2L, "Inactive", "desc", false, 0L)
             );
             Pageable pageable = PageRequest.of(0, 20);
             Page<UomStatusResponse> page = new PageImpl<>(content, pageable, content.size());
@@ -213,7 +214,7 @@ class UomStatusControllerTest {
         @Test
         @DisplayName("should return 200 with results")
         void search_shouldReturn200() throws Exception {
-            List<UomStatusResponse> content = List.of(new UomStatusResponse(1L, "Active", "desc", true));
+            List<UomStatusResponse> content = List.of(new UomStatusResponse(1L, "Active", "desc", true, 0L));
             Page<UomStatusResponse> page = new PageImpl<>(content, PageRequest.of(0, 20), 1);
             given(service.findAllByName(eq("act"), any())).willReturn(page);
 
@@ -234,6 +235,20 @@ class UomStatusControllerTest {
                 .andExpect(jsonPath("$.value").value("INVALID_DATA"))
                 .andExpect(jsonPath("$.message").value("Missing param"));
         }
+
+        @Test
+        @DisplayName("should return a slice without totals when count is false")
+        void search_countFalse_returnsSlice() throws Exception {
+            List<UomStatusResponse> content = List.of(new UomStatusResponse(1L, "Active", "desc", true, 0L));
+            given(service.findSliceByName(eq("act"), any(), eq(false))).willReturn(new SliceResponse<>(content, 0, 20, true, null));
+
+            mockMvc.perform(get(BASE_URL + "/search").param("name", "act").param("count", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Active"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+            verify(service, never()).findAllByName(any(), any());
+        }
     }
 
     @Nested
@@ -242,7 +257,7 @@ class UomStatusControllerTest {
         @Test
         @DisplayName("should return 200 with filtered results")
         void filter_shouldReturn200() throws Exception {
-            List<UomStatusResponse> content = List.of(new UomStatusResponse(1L, "Active", "desc", true));
+            List<UomStatusResponse> content = List.of(new UomStatusResponse(1L, "Active", "desc", true, 0L));
             Page<UomStatusResponse> page = new PageImpl<>(content, PageRequest.of(0, 20), 1);
             given(service.findAllByIsUsable(eq(true), any())).willReturn(page);
 
@@ -262,6 +277,17 @@ class UomStatusControllerTest {
                 .andExpect(jsonPath("$.code").value(1002))
                 .andExpect(jsonPath("$.value").value("INVALID_DATA"));
         }
+
+        @Test
+        @DisplayName("should add the approximate total to the slice when requested")
+        void filter_countFalseWithApproximateTotal_returnsTotal() throws Exception {
+            given(service.findSliceByIsUsable(eq(true), any(), eq(true))).willReturn(new SliceResponse<>(List.of(), 0, 20, false, 4L));
+
+            mockMvc.perform(get(BASE_URL + "/filter").param("isUsable", "true").param("count", "false").param("approximateTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.approximateTotal").value(4));
+        }
     }
 
     @Nested
@@ -296,8 +322,8 @@ class UomStatusControllerTest {
         @DisplayName("should return 200 with updated resource")
         void update_shouldReturn200() throws Exception {
             UomStatusUpdate update = new UomStatusUpdate("New", "d");
-            UomStatusResponse response = new UomStatusResponse(1L, "New", "d", true);
-            given(service.update(eq(1L), any())).willReturn(response);
+            UomStatusResponse response = new UomStatusResponse(1L, "New", "d", true, 0L);
+            given(service.update(eq(1L), any(), isNull())).willReturn(response);
 
             mockMvc.perform(put(BASE_URL + "/{id}", 1)
                     .contentType(MediaType.APPLICATION_JSON)
@@ -311,7 +337,7 @@ class UomStatusControllerTest {
         @DisplayName("should return 404 when not found")
         void update_shouldReturn404() throws Exception {
             UomStatusUpdate update = new UomStatusUpdate("New", "d");
-            given(service.update(eq(9L), any())).willThrow(new ResourceNotFoundException("not found"));
+            given(service.update(eq(9L), any(), isNull())).willThrow(new ResourceNotFoundException("not found"));
 
             mockMvc.perform(put(BASE_URL + "/{id}", 9)
                     .contentType(MediaType.APPLICATION_JSON)
@@ -324,7 +350,7 @@ class UomStatusControllerTest {
         @DisplayName("should return 409 when name conflict")
         void update_shouldReturn409_onConflict() throws Exception {
             UomStatusUpdate update = new UomStatusUpdate("Dup", "d");
-            given(service.update(eq(2L), any())).willThrow(new ResourceConflictException("conflict"));
+            given(service.update(eq(2L), any(), isNull())).willThrow(new ResourceConflictException("conflict"));
 
             mockMvc.perform(put(BASE_URL + "/{id}", 2)
                     .contentType(MediaType.APPLICATION_JSON)
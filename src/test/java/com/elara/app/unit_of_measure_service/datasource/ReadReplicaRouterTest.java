@@ -0,0 +1,300 @@
+package com.elara.app.unit_of_measure_service.datasource;
+
+import com.elara.app.unit_of_measure_service.cache.CatalogCaches;
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeEvent;
+import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every target is a separate in-memory H2 database holding a single row that names it, so each read tells
+ * which target served it.
+ */
+@DisplayName("ReadReplicaRouter")
+class ReadReplicaRouterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final String run = UUID.randomUUID().toString();
+    private final AtomicLong ticker = new AtomicLong();
+    private ReadReplicaRouter router;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @AfterEach
+    void tearDown() {
+        if (router != null) {
+            router.close();
+        }
+    }
+
+    private String url(String target) {
+        return "jdbc:h2:mem:" + target + "-" + run + ";DB_CLOSE_DELAY=-1";
+    }
+
+    private HikariDataSource pool(String name, String url, Duration connectionTimeout) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(url);
+        pool.setMaximumPoolSize(2);
+        pool.setConnectionTimeout(connectionTimeout.toMillis());
+        pool.setInitializationFailTimeout(-1);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+
+    private HikariDataSource target(String name) {
+        HikariDataSource pool = pool(name, url(name), Duration.ofSeconds(5));
+        JdbcTemplate setup = new JdbcTemplate(pool);
+        setup.execute("CREATE TABLE target (name VARCHAR(50))");
+        setup.update("INSERT INTO target VALUES (?)", name);
+        return pool;
+    }
+
+    private void route(HikariDataSource primary, List<HikariDataSource> replicas, Duration ejection) {
+        router = new ReadReplicaRouter(primary, replicas, ejection, Duration.ofSeconds(5), meterRegistry, ticker::get);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(router.primaryDataSource());
+        dataSource.setReadOnlyDataSource(router.replicaDataSource());
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    private String read(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM target", String.class));
+    }
+
+    /**
+     * Runs the given work as if it served an HTTP request carrying the given session token.
+     */
+    private <T> T inRequest(String sessionToken, MockHttpServletResponse response, Supplier<T> work) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (sessionToken != null) {
+            request.addHeader(ReadYourWritesFilter.SESSION_TOKEN_HEADER, sessionToken);
+        }
+        List<T> result = new ArrayList<>();
+        new ReadYourWritesFilter().doFilter(request, response, (req, res) -> result.add(work.get()));
+        return result.getFirst();
+    }
+
+    private static String name(DataSource dataSource, String username, String password) {
+        try (Connection connection = dataSource.getConnection(username, password)) {
+            return new JdbcTemplate(new SingleConnectionDataSource(connection, true))
+                .queryForObject("SELECT name FROM target", String.class);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String queryName() {
+        return jdbcTemplate.queryForObject("SELECT name FROM target", String.class);
+    }
+
+    private CatalogCaches caches() {
+        return new CatalogCaches(meterRegistry, 100, Duration.ofMinutes(10), 100, Duration.ofMinutes(10),
+            100, Duration.ofSeconds(5), 100, Duration.ofMinutes(1));
+    }
+
+    private static UomResponse unit(Long id, String name) {
+        return new UomResponse(id, name, null, BigDecimal.ONE, 1L, 1L, 1L, null, null, 1L);
+    }
+
+    private double routed(String target, String access) {
+        return meterRegistry.get(ReadReplicaRouter.ROUTED_METRIC).tag("target", target).tag("access", access)
+            .functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("read-only transactions of a request should go to the replicas in turn, writes to the primary")
+    void request_readsReplicasRoundRobin_writesPrimary() throws Exception {
+        // Given
+        route(target("primary"), List.of(target("replica-1"), target("replica-2")), Duration.ofSeconds(30));
+
+        // When
+        List<String> reads = inRequest(null, new MockHttpServletResponse(),
+            () -> List.of(read(readOnly), read(readOnly), read(readOnly), read(readOnly)));
+        double writesBefore = routed("primary", "read-write");
+        String write = inRequest(null, new MockHttpServletResponse(), () -> read(readWrite));
+
+        // Then
+        assertThat(reads).containsExactly("replica-1", "replica-2", "replica-1", "replica-2");
+        assertThat(write).isEqualTo("primary");
+        assertThat(routed("replica-1", "read-only")).isEqualTo(2);
+        assertThat(routed("replica-2", "read-only")).isEqualTo(2);
+        assertThat(routed("primary", "read-write")).isEqualTo(writesBefore + 1);
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "replica-2").gauge()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("connections asked for with credentials should be routed as usual, with the pools' own credentials")
+    void credentialedConnection_routedLikeDefault() throws Exception {
+        // Given
+        route(target("primary"), List.of(target("replica")), Duration.ofSeconds(30));
+
+        // When
+        String read = inRequest(null, new MockHttpServletResponse(),
+            () -> name(router.replicaDataSource(), "reporting", "ignored"));
+        String write = inRequest(null, new MockHttpServletResponse(),
+            () -> name(router.primaryDataSource(), "reporting", "ignored"));
+
+        // Then
+        assertThat(read).isEqualTo("replica");
+        assertThat(write).isEqualTo("primary");
+        assertThat(routed("replica", "read-only")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("read-only transactions outside a request should read the primary")
+    void backgroundRead_readsPrimary() {
+        // Given
+        route(target("primary"), List.of(target("replica")), Duration.ofSeconds(30));
+
+        // When
+        String read = read(readOnly);
+
+        // Then
+        assertThat(read).isEqualTo("primary");
+        assertThat(routed("primary", "read-only")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a write should return a session token that keeps the client's reads on the primary until the guard elapses")
+    void write_sessionToken_readsYourWrites() throws Exception {
+        // Given
+        route(target("primary"), List.of(target("replica")), Duration.ofSeconds(30));
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+
+        // When
+        String sameRequest = inRequest(null, writeResponse, () -> {
+            readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE target SET name = name"));
+            return read(readOnly);
+        });
+        String token = writeResponse.getHeader(ReadYourWritesFilter.SESSION_TOKEN_HEADER);
+        String nextRequest = inRequest(token, new MockHttpServletResponse(), () -> read(readOnly));
+        String staleToken = String.valueOf(System.currentTimeMillis() - Duration.ofSeconds(6).toMillis());
+        String afterGuard = inRequest(staleToken, new MockHttpServletResponse(), () -> read(readOnly));
+        String garbled = inRequest("not-a-token", new MockHttpServletResponse(), () -> read(readOnly));
+
+        // Then
+        assertThat(token).isNotNull();
+        assertThat(sameRequest).isEqualTo("primary");
+        assertThat(nextRequest).isEqualTo("primary");
+        assertThat(afterGuard).isEqualTo("replica");
+        assertThat(garbled).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("cache loads of a request should read the primary, so a lagging replica cannot put an old row back")
+    void cacheLoad_laggingReplica_cachesPrimaryRow() throws Exception {
+        // Given: the replica still holds the row as it was before the last write, whose eviction already ran
+        route(target("primary"), List.of(target("replica")), Duration.ofSeconds(30));
+        CatalogCaches caches = caches();
+        caches.uoms().put(1L, unit(1L, "replica"));
+        caches.onCatalogChange(new CatalogChangeEvent("Uom", 1L, CatalogChangeEvent.ChangeType.UPDATED));
+
+        // When
+        Optional<UomResponse> loaded = inRequest(null, new MockHttpServletResponse(),
+            () -> readOnly.execute(status -> caches.findUom(1L, id -> unit(id, queryName()))));
+        String laterRead = inRequest(null, new MockHttpServletResponse(), () -> read(readOnly));
+
+        // Then
+        assertThat(loaded).contains(unit(1L, "primary"));
+        assertThat(caches.uoms().peek(1L)).isEqualTo(unit(1L, "primary"));
+        assertThat(laterRead).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("a load in a transaction already reading a replica should be returned but neither cached nor remembered as missing")
+    void cacheLoad_transactionOnReplica_notCached() throws Exception {
+        // Given
+        route(target("primary"), List.of(target("replica")), Duration.ofSeconds(30));
+        CatalogCaches caches = caches();
+
+        // When
+        List<Optional<UomResponse>> loaded = inRequest(null, new MockHttpServletResponse(), () -> readOnly.execute(status -> {
+            String listed = queryName();
+            return List.of(caches.findUom(1L, id -> unit(id, listed)), caches.findUom(2L, id -> null));
+        }));
+
+        // Then
+        assertThat(loaded.getFirst()).contains(unit(1L, "replica"));
+        assertThat(caches.uoms().peek(1L)).isNull();
+        assertThat(caches.findUom(2L, id -> unit(id, "created since"))).contains(unit(2L, "created since"));
+        assertThat(ReadReplicaRouter.readsReplica()).isFalse();
+    }
+
+    @Test
+    @DisplayName("a replica that cannot hand out connections should be ejected, then tried again once the ejection elapses")
+    void failingReplica_isEjectedThenReinstated() throws Exception {
+        // Given: replica-2 does not exist yet, and IFEXISTS refuses to create it; its pool retries connecting in the
+        // background well within its connection timeout, so it recovers as soon as the database appears
+        HikariDataSource missing = pool("replica-2", url("replica-2") + ";IFEXISTS=TRUE", Duration.ofSeconds(1));
+        route(target("primary"), List.of(target("replica-1"), missing), Duration.ofMillis(300));
+
+        // When
+        List<String> reads = inRequest(null, new MockHttpServletResponse(),
+            () -> List.of(read(readOnly), read(readOnly), read(readOnly)));
+
+        // Then
+        assertThat(reads).containsOnly("replica-1");
+        assertThat(meterRegistry.get(ReadReplicaRouter.EJECTIONS_METRIC).functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ReadReplicaRouter.AVAILABLE_METRIC).gauge().value()).isEqualTo(1);
+
+        // When: the replica comes up, then the ejection elapses
+        target("replica-2");
+        ticker.addAndGet(Duration.ofMillis(299).toNanos());
+        double availableBeforeEjectionElapsed = meterRegistry.get(ReadReplicaRouter.AVAILABLE_METRIC).gauge().value();
+        ticker.addAndGet(Duration.ofMillis(1).toNanos());
+        List<String> later = inRequest(null, new MockHttpServletResponse(),
+            () -> List.of(read(readOnly), read(readOnly)));
+
+        // Then
+        assertThat(availableBeforeEjectionElapsed).isEqualTo(1);
+        assertThat(later).containsExactlyInAnyOrder("replica-1", "replica-2");
+        assertThat(meterRegistry.get(ReadReplicaRouter.AVAILABLE_METRIC).gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("with every replica ejected, reads should fall back to the primary")
+    void allReplicasEjected_readsPrimary() throws Exception {
+        // Given
+        HikariDataSource missing = pool("replica", url("replica") + ";IFEXISTS=TRUE", Duration.ofMillis(250));
+        route(target("primary"), List.of(missing), Duration.ofSeconds(30));
+
+        // When
+        List<String> reads = inRequest(null, new MockHttpServletResponse(), () -> List.of(read(readOnly), read(readOnly)));
+
+        // Then
+        assertThat(reads).containsExactly("primary", "primary");
+        assertThat(meterRegistry.get(ReadReplicaRouter.EJECTIONS_METRIC).functionCounter().count()).isEqualTo(1);
+        assertThat(routed("primary", "read-only")).isEqualTo(2);
+    }
+
+}
@@ -179,6 +179,32 @@ class CustomExceptionsTest {
         }
     }
 
+    @Nested
+    @DisplayName("PreconditionFailedException")
+    class PreconditionFailedExceptionTests {
+
+        @Test
+        @DisplayName("Constructor sets PRECONDITION_FAILED error code and message")
+        void constructor_setsPreconditionFailedErrorCodeAndMessage() {
+            String message = "Uom with id 1 is at ETag \"1-2\", not \"1-1\"";
+
+            PreconditionFailedException exception = new PreconditionFailedException(message);
+
+            assertThat(exception).isNotNull();
+            assertThat(exception.getCode()).isEqualTo(ErrorCode.PRECONDITION_FAILED.getCode());
+            assertThat(exception.getValue()).isEqualTo(ErrorCode.PRECONDITION_FAILED.getValue());
+            assertThat(exception.getMessage()).isEqualTo(message);
+        }
+
+        @Test
+        @DisplayName("Exception extends BaseException")
+        void exceptionExtendsBaseException() {
+            PreconditionFailedException exception = new PreconditionFailedException("Test");
+
+            assertThat(exception).isInstanceOf(BaseException.class);
+        }
+    }
+
     @Nested
     @DisplayName("UnexpectedErrorException")
     class UnexpectedErrorExceptionTests {
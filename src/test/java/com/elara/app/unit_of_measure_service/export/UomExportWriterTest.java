@@ -0,0 +1,144 @@
+package com.elara.app.unit_of_measure_service.export;
+
+import com.elara.app.unit_of_measure_service.catalog.CatalogSnapshotHolder;
+import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.mapper.UomMapperImpl;
+import com.elara.app.unit_of_measure_service.model.Uom;
+import com.elara.app.unit_of_measure_service.model.UomStatus;
+import com.elara.app.unit_of_measure_service.repository.UomRepository;
+import com.elara.app.unit_of_measure_service.service.implementation.UomServiceImp;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UomExportWriter")
+class UomExportWriterTest {
+
+    private static final int MILLION = 1_000_000;
+    private static final String SMALL_HEAP = "-Xmx32m";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UomResponse kilogram = new UomResponse(1L, "Kilogram", "Base unit of mass", new BigDecimal("1.000"), 1L, 1L, 1L, null, null, 0L);
+    private final UomResponse pound = new UomResponse(2L, "Pound, \"avoirdupois\"", null, new BigDecimal("0.453592370"), 1L, 45359237L, 100000000L, 3, RoundingMode.HALF_UP, 0L);
+
+    @Nested
+    @DisplayName("NDJSON")
+    class Ndjson {
+
+        @Test
+        @DisplayName("writes one JSON object per line")
+        void accept_writesOneObjectPerLine() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            UomExportWriter writer = new UomExportWriter(ExportFormat.NDJSON, out, objectMapper);
+
+            writer.accept(kilogram);
+            writer.accept(pound);
+            writer.flush();
+
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(objectMapper.readValue(lines[0], UomResponse.class)).isEqualTo(kilogram);
+            assertThat(objectMapper.readValue(lines[1], UomResponse.class)).isEqualTo(pound);
+        }
+    }
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("writes a header and quotes fields containing separators or quotes")
+        void accept_writesHeaderAndEscapesFields() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            UomExportWriter writer = new UomExportWriter(ExportFormat.CSV, out, objectMapper);
+
+            writer.accept(kilogram);
+            writer.accept(pound);
+            writer.flush();
+
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(UomExportWriter.CSV_HEADER + "\n"
+                + "1,Kilogram,Base unit of mass,1.000,1,1,1,,,0\n"
+                + "2,\"Pound, \"\"avoirdupois\"\"\",,0.453592370,1,45359237,100000000,3,HALF_UP,0\n");
+        }
+
+        @Test
+        @DisplayName("writes only the header when nothing is exported")
+        void flush_withoutRows_writesHeader() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            new UomExportWriter(ExportFormat.CSV, out, objectMapper).flush();
+
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(UomExportWriter.CSV_HEADER + "\n");
+        }
+    }
+
+    @Test
+    @DisplayName("exports a million rows from the database stream in a JVM limited to 32 MB of heap")
+    void export_millionRows_runsInSmallFixedHeap() throws Exception {
+        Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+        Process process = new ProcessBuilder(java.toString(), SMALL_HEAP, "-cp", System.getProperty("java.class.path"),
+            MillionRowExport.class.getName())
+            .redirectErrorStream(true)
+            .start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+
+        assertThat(process.waitFor(2, TimeUnit.MINUTES)).isTrue();
+        assertThat(process.exitValue()).as(output).isZero();
+        assertThat(output).contains("exported=" + MILLION);
+    }
+
+    /**
+     * Runs {@link UomServiceImp#export} over a lazily generated million-row repository stream into a
+     * discarding CSV writer. Holding the rows, or the entities in a persistence context, would not fit
+     * in {@value #SMALL_HEAP}.
+     */
+    static final class MillionRowExport {
+
+        public static void main(String[] args) throws IOException {
+            UomStatus active = UomStatus.builder().id(1L).name("Active").isUsable(true).build();
+            UomRepository repository = stub(UomRepository.class, "streamAllByOrderByIdAsc",
+                Stream.iterate(1L, id -> id + 1).limit(MILLION).map(id -> Uom.builder()
+                    .id(id)
+                    .name("Unit " + id)
+                    .description("Synthetic unit number " + id + " generated for the export memory test")
+                    .conversionFactorToBase(new BigDecimal("0.001"))
+                    .uomStatus(active)
+                    .build()));
+            CatalogSnapshotHolder disabledCatalog = new CatalogSnapshotHolder(null, null, null, null, null, false);
+            UomServiceImp service = new UomServiceImp(repository, new UomMapperImpl(), null, null, disabledCatalog, null,
+                stub(EntityManager.class, "detach", null), null, null, null, null, null, null, null);
+            UomExportWriter writer = new UomExportWriter(ExportFormat.CSV, OutputStream.nullOutputStream(), new ObjectMapper());
+
+            long exported = service.export(null, writer);
+            writer.flush();
+
+            System.out.println("exported=" + exported);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T stub(Class<T> type, String method, Object result) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, invoked, invokedArgs) -> {
+                if (invoked.getName().equals(method)) {
+                    return result;
+                }
+                throw new UnsupportedOperationException(invoked.getName());
+            });
+        }
+    }
+
+}
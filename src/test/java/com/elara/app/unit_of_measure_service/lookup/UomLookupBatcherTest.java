@@ -0,0 +1,210 @@
+package com.elara.app.unit_of_measure_service.lookup;
+
+import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.mapper.UomMapper;
+import com.elara.app.unit_of_measure_service.model.Uom;
+import com.elara.app.unit_of_measure_service.repository.UomRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UomLookupBatcherTest {
+
+    @Mock
+    private UomRepository repository;
+
+    @Mock
+    private UomMapper mapper;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private UomLookupBatcher batcher(Duration window, int maxBatchSize) {
+        return new UomLookupBatcher(repository, mapper, meterRegistry, window, maxBatchSize);
+    }
+
+    private static Uom uom(long id) {
+        return Uom.builder().id(id).name("Unit " + id).build();
+    }
+
+    private static UomResponse response(long id) {
+        return new UomResponse(id, "Unit " + id, "desc", new BigDecimal("1.0"), 1L, null, null, null, null, 0L);
+    }
+
+    private DistributionSummary batchSizes(String source) {
+        return meterRegistry.get(UomLookupBatcher.BATCH_SIZE_METRIC).tag("source", source).summary();
+    }
+
+    private double roundTripsSaved() {
+        return meterRegistry.get(UomLookupBatcher.ROUND_TRIPS_SAVED_METRIC).counter().count();
+    }
+
+    @Nested
+    @DisplayName("Coalesced Reads")
+    class CoalescedReads {
+
+        @Test
+        @DisplayName("find() should serve concurrent reads with one IN query")
+        @SuppressWarnings("unchecked")
+        void find_concurrentReads_shareOneQuery() throws Exception {
+            // Given
+            int callers = 8;
+            // The window is far longer than the test, so the batch only closes once all callers have joined it
+            UomLookupBatcher batcher = batcher(Duration.ofMinutes(1), callers);
+            when(repository.findAllById(any())).thenAnswer(invocation -> {
+                List<Uom> rows = new ArrayList<>();
+                for (Long id : (Collection<Long>) invocation.getArgument(0)) {
+                    if (id != 8L) {
+                        rows.add(uom(id));
+                    }
+                }
+                return rows;
+            });
+            when(mapper.toResponse(any())).thenAnswer(invocation -> response(invocation.<Uom>getArgument(0).getId()));
+
+            // When
+            ExecutorService executor = Executors.newFixedThreadPool(callers);
+            List<Future<Optional<UomResponse>>> results = new ArrayList<>();
+            try {
+                for (long id = 1; id <= callers; id++) {
+                    long requested = id;
+                    results.add(executor.submit(() -> batcher.find(requested)));
+                }
+                for (int i = 0; i < callers - 1; i++) {
+                    assertThat(results.get(i).get()).contains(response(i + 1L));
+                }
+                assertThat(results.get(callers - 1).get()).isEmpty();
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // Then
+            ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+            verify(repository, times(1)).findAllById(ids.capture());
+            assertThat(ids.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+            assertThat(batchSizes("coalesced").count()).isEqualTo(1);
+            assertThat(batchSizes("coalesced").totalAmount()).isEqualTo(callers);
+            assertThat(roundTripsSaved()).isEqualTo(callers - 1);
+        }
+
+        @Test
+        @DisplayName("find() should load a lone read once the window elapses")
+        void find_loneRead_loadsAfterWindow() {
+            // Given
+            UomLookupBatcher batcher = batcher(Duration.ofMillis(1), 200);
+            when(repository.findAllById(Set.of(3L))).thenReturn(List.of(uom(3L)));
+            when(mapper.toResponse(any())).thenReturn(response(3L));
+
+            // When
+            Optional<UomResponse> result = batcher.find(3L);
+
+            // Then
+            assertThat(result).contains(response(3L));
+            assertThat(batchSizes("coalesced").count()).isEqualTo(1);
+            assertThat(roundTripsSaved()).isZero();
+        }
+
+        @Test
+        @DisplayName("find() should query directly when the window is zero")
+        void find_zeroWindow_queriesDirectly() {
+            // Given
+            UomLookupBatcher batcher = batcher(Duration.ZERO, 200);
+            when(repository.findAllById(List.of(5L))).thenReturn(List.of());
+
+            // When
+            Optional<UomResponse> result = batcher.find(5L);
+
+            // Then
+            assertThat(result).isEmpty();
+            verify(repository).findAllById(List.of(5L));
+            verifyNoInteractions(mapper);
+        }
+
+        @Test
+        @DisplayName("find() should rethrow a failed query to every caller of the batch")
+        void find_failedQuery_propagatesToCaller() {
+            // Given
+            UomLookupBatcher batcher = batcher(Duration.ofMillis(1), 200);
+            when(repository.findAllById(any())).thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+            // When & Then
+            assertThatThrownBy(() -> batcher.find(1L))
+                .isInstanceOf(DataAccessResourceFailureException.class)
+                .hasMessage("Connection refused");
+            // The failed batch is closed, so the next read starts a new one
+            assertThatThrownBy(() -> batcher.find(1L))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+            verify(repository, times(2)).findAllById(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Multi-get Reads")
+    class MultiGetReads {
+
+        @Test
+        @DisplayName("findAll() should load every id with one query and record the batch")
+        void findAll_loadsWithOneQuery() {
+            // Given
+            UomLookupBatcher batcher = batcher(Duration.ofMillis(2), 200);
+            List<Long> ids = List.of(1L, 2L, 3L);
+            when(repository.findAllById(ids)).thenReturn(List.of(uom(1L), uom(3L)));
+            when(mapper.toResponse(any())).thenAnswer(invocation -> response(invocation.<Uom>getArgument(0).getId()));
+
+            // When
+            Map<Long, UomResponse> result = batcher.findAll(ids);
+
+            // Then
+            assertThat(result).containsOnlyKeys(1L, 3L);
+            verify(repository, times(1)).findAllById(ids);
+            assertThat(batchSizes("multi-get").totalAmount()).isEqualTo(3);
+            assertThat(batchSizes("coalesced").count()).isZero();
+            assertThat(roundTripsSaved()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("findAll() should not query for an empty id list")
+        void findAll_emptyIds_doesNotQuery() {
+            // Given
+            UomLookupBatcher batcher = batcher(Duration.ofMillis(2), 200);
+
+            // When
+            Map<Long, UomResponse> result = batcher.findAll(List.of());
+
+            // Then
+            assertThat(result).isEmpty();
+            verifyNoInteractions(repository);
+        }
+    }
+
+}
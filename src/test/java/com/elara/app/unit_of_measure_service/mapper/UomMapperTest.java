@@ -3,6 +3,7 @@ package com.elara.app.unit_of_measure_service.mapper;
 import com.elara.app.unit_of_measure_service.dto.request.UomRequest;
 import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
 import com.elara.app.unit_of_measure_service.dto.response.UomStatusResponse;
+import com.elara.app.unit_of_measure_service.dto.update.UomBulkUpdate;
 import com.elara.app.unit_of_measure_service.dto.update.UomUpdate;
 import com.elara.app.unit_of_measure_service.model.Uom;
 import com.elara.app.unit_of_measure_service.model.UomStatus;
@@ -14,6 +15,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -36,7 +38,9 @@ class UomMapperTest {
                     "Kilogram",
                     "Base unit of mass in SI",
                     new BigDecimal("1.000"),
-                    1L
+                    1L,
+                    null,
+                    null
             );
 
             // When
@@ -57,7 +61,9 @@ class UomMapperTest {
                     "Kilogram",
                     null,
                     new BigDecimal("1.000"),
-                    1L
+                    1L,
+                    null,
+                    null
             );
 
             // When
@@ -77,7 +83,9 @@ class UomMapperTest {
                     "Kilogram",
                     "desc",
                     new BigDecimal("1.000"),
-                    1L
+                    1L,
+                    null,
+                    null
             );
 
             // When
@@ -96,7 +104,9 @@ class UomMapperTest {
                     "Kilogram",
                     "desc",
                     new BigDecimal("1.000"),
-                    1L
+                    1L,
+                    null,
+                    null
             );
 
             // When
@@ -125,7 +135,9 @@ class UomMapperTest {
                     "Kilogram",
                     "",
                     new BigDecimal("1.000"),
-                    1L
+                    1L,
+                    null,
+                    null
             );
 
             // When
@@ -169,6 +181,30 @@ class UomMapperTest {
             assertThat(response.name()).isEqualTo("Kilogram");
             assertThat(response.description()).isEqualTo("Base unit of mass");
             assertThat(response.conversionFactorToBase()).isEqualByComparingTo(new BigDecimal("1.000"));
+            assertThat(response.factorNumerator()).isEqualTo(1L);
+            assertThat(response.factorDenominator()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("should map the reduced rational factor and rounding settings")
+        void shouldMapRationalFactorAndRounding() {
+            // Given
+            Uom entity = Uom.builder()
+                    .id(2L)
+                    .name("Milligram")
+                    .conversionFactorToBase(new BigDecimal("0.0000025"))
+                    .roundingScale(3)
+                    .roundingMode(RoundingMode.HALF_UP)
+                    .build();
+
+            // When
+            UomResponse response = mapper.toResponse(entity);
+
+            // Then
+            assertThat(response.factorNumerator()).isEqualTo(1L);
+            assertThat(response.factorDenominator()).isEqualTo(400_000L);
+            assertThat(response.roundingScale()).isEqualTo(3);
+            assertThat(response.roundingMode()).isEqualTo(RoundingMode.HALF_UP);
         }
 
         @Test
@@ -288,7 +324,9 @@ class UomMapperTest {
             UomUpdate updateDto = new UomUpdate(
                     "New Name",
                     "New Description",
-                    new BigDecimal("2.500")
+                    new BigDecimal("2.500"),
+                    null,
+                    null
             );
 
             // When
@@ -314,7 +352,9 @@ class UomMapperTest {
             UomUpdate updateDto = new UomUpdate(
                     "New Name",
                     "New Description",
-                    new BigDecimal("2.000")
+                    new BigDecimal("2.000"),
+                    null,
+                    null
             );
 
             // When
@@ -338,7 +378,9 @@ class UomMapperTest {
             UomUpdate updateDto = new UomUpdate(
                     "New Name",
                     null,
-                    new BigDecimal("2.000")
+                    new BigDecimal("2.000"),
+                    null,
+                    null
             );
 
             // When
@@ -366,7 +408,9 @@ class UomMapperTest {
             UomUpdate updateDto = new UomUpdate(
                     "New Name",
                     "New Description",
-                    new BigDecimal("2.000")
+                    new BigDecimal("2.000"),
+                    null,
+                    null
             );
 
             // When
@@ -415,7 +459,9 @@ class UomMapperTest {
             UomUpdate updateDto = new UomUpdate(
                     "",
                     "desc",
-                    new BigDecimal("1.000")
+                    new BigDecimal("1.000"),
+                    null,
+                    null
             );
 
             // When
@@ -441,7 +487,9 @@ class UomMapperTest {
             UomUpdate updateDto = new UomUpdate(
                     "Updated Name",
                     "Original Description", // Same as before
-                    new BigDecimal("3.500") // Same as before
+                    new BigDecimal("3.500"), // Same as before
+                    null,
+                    null
             );
 
             // When
@@ -455,4 +503,46 @@ class UomMapperTest {
             assertThat(existing.getUomStatus()).isEqualTo(status);
         }
     }
+
+    @Nested
+    @DisplayName("updateEntityFromBulkDto() Tests - Bulk Update Line to Entity Mapping")
+    class UpdateEntityFromBulkTests {
+
+        @Test
+        @DisplayName("should update fields and keep id and status of the entity")
+        void shouldUpdateFieldsAndKeepIdAndStatus() {
+            // Given
+            UomStatus status = UomStatus.builder().id(1L).name("Active").build();
+            Uom existing = Uom.builder()
+                    .id(5L)
+                    .name("Original Name")
+                    .description("Original Description")
+                    .conversionFactorToBase(new BigDecimal("3.500"))
+                    .uomStatus(status)
+                    .build();
+
+            UomBulkUpdate update = new UomBulkUpdate(
+                    99L,
+                    "Updated Name",
+                    "Updated Description",
+                    new BigDecimal("0.25"),
+                    2,
+                    RoundingMode.HALF_UP
+            );
+
+            // When
+            mapper.updateEntityFromBulkDto(existing, update);
+
+            // Then
+            assertThat(existing.getId()).isEqualTo(5L);
+            assertThat(existing.getName()).isEqualTo("Updated Name");
+            assertThat(existing.getDescription()).isEqualTo("Updated Description");
+            assertThat(existing.getConversionFactorToBase()).isEqualByComparingTo(new BigDecimal("0.25"));
+            assertThat(existing.getRationalFactor().numerator()).isEqualTo(1L);
+            assertThat(existing.getRationalFactor().denominator()).isEqualTo(4L);
+            assertThat(existing.getRoundingScale()).isEqualTo(2);
+            assertThat(existing.getRoundingMode()).isEqualTo(RoundingMode.HALF_UP);
+            assertThat(existing.getUomStatus()).isEqualTo(status);
+        }
+    }
 }
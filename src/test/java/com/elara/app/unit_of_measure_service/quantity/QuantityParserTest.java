@@ -0,0 +1,195 @@
+package com.elara.app.unit_of_measure_service.quantity;
+
+import com.elara.app.unit_of_measure_service.alias.AliasTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QuantityParser")
+class QuantityParserTest {
+
+    private static final AliasTable UNITS = AliasTable.build(List.of(
+        new AliasTable.Entry("Kilogram", 1),
+        new AliasTable.Entry("kg", 1),
+        new AliasTable.Entry("Liter", 2),
+        new AliasTable.Entry("fl oz", 3)
+    ));
+
+    private final ParsedQuantity parsed = new ParsedQuantity();
+
+    private ParsedQuantity.Status parse(String text) {
+        return QuantityParser.parse(text, 0, text.length(), UNITS, parsed);
+    }
+
+    @Nested
+    @DisplayName("Numbers")
+    class Numbers {
+
+        @Test
+        @DisplayName("should read integers, decimals and signs")
+        void parse_plainNumbers() {
+            // When & Then
+            assertThat(parse("12.5 kg")).isEqualTo(ParsedQuantity.Status.PARSED);
+            assertThat(parsed.quantity()).isEqualByComparingTo("12.5");
+            assertThat(parsed.getUomId()).isEqualTo(1);
+
+            assertThat(parse("-3 Liter")).isEqualTo(ParsedQuantity.Status.PARSED);
+            assertThat(parsed.quantity()).isEqualByComparingTo("-3");
+
+            assertThat(parse("+.25 liter")).isEqualTo(ParsedQuantity.Status.PARSED);
+            assertThat(parsed.quantity()).isEqualTo(new BigDecimal("0.25"));
+
+            assertThat(parse("7. kg")).isEqualTo(ParsedQuantity.Status.PARSED);
+            assertThat(parsed.quantity()).isEqualByComparingTo("7");
+        }
+
+        @Test
+        @DisplayName("should accept thousands separators grouping the integer digits by three")
+        void parse_thousandsSeparators() {
+            // When & Then
+            assertThat(parse("1,250.5 KG")).isEqualTo(ParsedQuantity.Status.PARSED);
+            assertThat(parsed.quantity()).isEqualTo(new BigDecimal("1250.5"));
+
+            assertThat(parse("12,345,678 kg")).isEqualTo(ParsedQuantity.Status.PARSED);
+            assertThat(parsed.quantity()).isEqualByComparingTo("12345678");
+        }
+
+        @Test
+        @DisplayName("should reject misplaced separators instead of guessing")
+        void parse_misplacedSeparators_invalidNumber() {
+            // When & Then
+            assertThat(parse("12,5 kg")).isEqualTo(ParsedQuantity.Status.INVALID_NUMBER);
+            assertThat(parse("1,2345 kg")).isEqualTo(ParsedQuantity.Status.INVALID_NUMBER);
+            assertThat(parse("1234,567 kg")).isEqualTo(ParsedQuantity.Status.INVALID_NUMBER);
+            assertThat(parse(",250 kg")).isEqualTo(ParsedQuantity.Status.INVALID_NUMBER);
+            assertThat(parse("1,25.5 kg")).isEqualTo(ParsedQuantity.Status.INVALID_NUMBER);
+            assertThat(parse("- kg")).isEqualTo(ParsedQuantity.Status.INVALID_NUMBER);
+            assertThat(parse("kg")).isEqualTo(ParsedQuantity.Status.INVALID_NUMBER);
+            assertThat(parse(".")).isEqualTo(ParsedQuantity.Status.INVALID_NUMBER);
+        }
+
+        @Test
+        @DisplayName("should reject numbers whose digits do not fit in a long")
+        void parse_overflow_invalidNumber() {
+            // When & Then
+            assertThat(parse("9223372036854775807 kg")).isEqualTo(ParsedQuantity.Status.PARSED);
+            assertThat(parsed.quantity()).isEqualByComparingTo(String.valueOf(Long.MAX_VALUE));
+            assertThat(parse("9223372036854775808 kg")).isEqualTo(ParsedQuantity.Status.INVALID_NUMBER);
+            assertThat(parse("0.00000000000000000001 kg")).isEqualTo(ParsedQuantity.Status.PARSED);
+            assertThat(parse("99999999999999999999 kg")).isEqualTo(ParsedQuantity.Status.INVALID_NUMBER);
+        }
+    }
+
+    @Nested
+    @DisplayName("Units")
+    class Units {
+
+        @Test
+        @DisplayName("should resolve units glued to the number, with blanks inside or around them")
+        void parse_unitLayout() {
+            // When & Then
+            assertThat(parse("12kg")).isEqualTo(ParsedQuantity.Status.PARSED);
+            assertThat(parsed.getUomId()).isEqualTo(1);
+            assertThat(parse("  2 FL OZ \t")).isEqualTo(ParsedQuantity.Status.PARSED);
+            assertThat(parsed.getUomId()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("should report missing and unknown units with the bounds of the unit")
+        void parse_missingOrUnknownUnit() {
+            // When & Then
+            assertThat(parse("12.5  ")).isEqualTo(ParsedQuantity.Status.MISSING_UNIT);
+            assertThat(parsed.quantity()).isEqualByComparingTo("12.5");
+
+            String line = "3 bushel ";
+            assertThat(parse(line)).isEqualTo(ParsedQuantity.Status.UNKNOWN_UNIT);
+            assertThat(line.substring(parsed.getUnitFrom(), parsed.getUnitTo())).isEqualTo("bushel");
+            assertThat(parsed.getUomId()).isEqualTo(AliasTable.NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("should report blank lines and only read the given range")
+        void parse_blankAndRange() {
+            // Given
+            String text = "1 kg\n \n2 Liter";
+
+            // When & Then
+            assertThat(QuantityParser.parse(text, 5, 6, UNITS, parsed)).isEqualTo(ParsedQuantity.Status.BLANK);
+            assertThat(QuantityParser.parse(text, 0, 4, UNITS, parsed)).isEqualTo(ParsedQuantity.Status.PARSED);
+            assertThat(parsed.getUomId()).isEqualTo(1);
+            assertThat(QuantityParser.parse(text, 7, text.length(), UNITS, parsed)).isEqualTo(ParsedQuantity.Status.PARSED);
+            assertThat(parsed.getUomId()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Reuse")
+    class Reuse {
+
+        @Test
+        @DisplayName("a result reused across lines should match a fresh parse of each line")
+        void parse_reusedResult_matchesFreshParse() {
+            // Given
+            String[] lines = {"12.5 kg", "1,250.5 KILOGRAM", "3 liter", "-0.75 fl oz", "8 bushel"};
+
+            // When & Then
+            for (String line : lines) {
+                ParsedQuantity fresh = new ParsedQuantity();
+                QuantityParser.parse(line, 0, line.length(), UNITS, fresh);
+                assertThat(parse(line)).isEqualTo(fresh.getStatus());
+                assertThat(parsed.getUnscaled()).isEqualTo(fresh.getUnscaled());
+                assertThat(parsed.getScale()).isEqualTo(fresh.getScale());
+                assertThat(parsed.getUomId()).isEqualTo(fresh.getUomId());
+            }
+            assertThat(parse("1,250.5 KILOGRAM")).isEqualTo(ParsedQuantity.Status.PARSED);
+            assertThat(parsed.quantity()).isEqualByComparingTo("1250.5");
+            assertThat(parsed.getUomId()).isEqualTo(1);
+            assertThat(parse("8 bushel")).isEqualTo(ParsedQuantity.Status.UNKNOWN_UNIT);
+        }
+    }
+
+    @Nested
+    @DisplayName("Allocation")
+    class Allocation {
+
+        private static final int LINES = 1_000_000;
+        // Loose on purpose, yet one boxed Long, substring or BigDecimal per line already takes 16 bytes or more
+        private static final double MAX_BYTES_PER_LINE = 16;
+
+        @Test
+        @DisplayName("parsing into a reused result should allocate under 16 bytes per line once warmed up")
+        void parse_warmedUp_allocatesNearlyNothing() {
+            // Given
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            String[] lines = {"12.5 kg", "1,250.5 KILOGRAM", "3 liter", "-0.75 fl oz", "8 bushel"};
+            long threadId = Thread.currentThread().getId();
+            long checksum = parseAll(lines);
+
+            // When
+            long before = threads.getThreadAllocatedBytes(threadId);
+            checksum += parseAll(lines);
+            long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+            // Then
+            assertThat(checksum).isNotZero();
+            assertThat((double) allocated / LINES).isLessThan(MAX_BYTES_PER_LINE);
+        }
+
+        private long parseAll(String[] lines) {
+            long checksum = 0;
+            for (int i = 0; i < LINES; i++) {
+                String line = lines[i % lines.length];
+                QuantityParser.parse(line, 0, line.length(), UNITS, parsed);
+                checksum += parsed.getUnscaled() + parsed.getUomId();
+            }
+            return checksum;
+        }
+    }
+
+}
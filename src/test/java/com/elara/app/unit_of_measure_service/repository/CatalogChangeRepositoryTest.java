@@ -0,0 +1,152 @@
+package com.elara.app.unit_of_measure_service.repository;
+
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeEvent;
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeLog;
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeStream;
+import com.elara.app.unit_of_measure_service.dto.response.CatalogChangeResponse;
+import com.elara.app.unit_of_measure_service.dto.response.CatalogChangesResponse;
+import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.mapper.UomMapperImpl;
+import com.elara.app.unit_of_measure_service.mapper.UomStatusMapperImpl;
+import com.elara.app.unit_of_measure_service.model.CatalogChange;
+import com.elara.app.unit_of_measure_service.model.CatalogSequence;
+import com.elara.app.unit_of_measure_service.model.Uom;
+import com.elara.app.unit_of_measure_service.model.UomStatus;
+import com.elara.app.unit_of_measure_service.service.implementation.CatalogChangeServiceImp;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({CatalogChangeLog.class, CatalogChangeStream.class, SimpleMeterRegistry.class, CatalogChangeServiceImp.class, UomMapperImpl.class, UomStatusMapperImpl.class})
+class CatalogChangeRepositoryTest {
+
+    private static final int UNITS = 100;
+    private static final int CHANGES = 100_000;
+    private static final int CHUNK = 1_000;
+
+    @Autowired
+    private CatalogChangeRepository repository;
+
+    @Autowired
+    private CatalogChangeLog changeLog;
+
+    @Autowired
+    private CatalogChangeServiceImp service;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final List<Uom> units = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        UomStatus active = UomStatus.builder().name("Active").isUsable(true).build();
+        entityManager.persist(active);
+        for (int i = 0; i < UNITS; i++) {
+            Uom uom = Uom.builder().name("Unit " + i).conversionFactorToBase(BigDecimal.ONE).uomStatus(active).build();
+            entityManager.persist(uom);
+            units.add(uom);
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("record() should assign consecutive sequences and advance the high-water mark")
+    void record_shouldAssignConsecutiveSequences() {
+        // When
+        long first = changeLog.record("Uom", units.get(0).getId(), CatalogChangeEvent.ChangeType.CREATED);
+        long last = changeLog.record("Uom", List.of(units.get(1).getId(), units.get(2).getId()), CatalogChangeEvent.ChangeType.UPDATED);
+        entityManager.flush();
+
+        // Then
+        assertThat(first).isEqualTo(1L);
+        assertThat(last).isEqualTo(3L);
+        assertThat(repository.findAllBySequenceGreaterThanOrderBySequenceAsc(1L, Limit.of(10)))
+            .extracting(CatalogChange::getSequence, CatalogChange::getEntityId)
+            .containsExactly(
+                tuple(2L, units.get(1).getId()),
+                tuple(3L, units.get(2).getId()));
+        assertThat(entityManager.find(CatalogSequence.class, CatalogSequence.SINGLETON_ID).getHighWaterMark()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("after 100K changes, a replica should catch up page by page and then stay current with one small poll")
+    void findChanges_with100kChanges_replicaCatchesUpAndTails() {
+        // Given: 100K updates spread over the units, then one delete
+        for (int recorded = 0; recorded < CHANGES; recorded += CHUNK) {
+            List<Long> ids = new ArrayList<>(CHUNK);
+            for (int i = recorded; i < recorded + CHUNK; i++) {
+                ids.add(units.get(i % UNITS).getId());
+            }
+            changeLog.record("Uom", ids, CatalogChangeEvent.ChangeType.UPDATED);
+            entityManager.flush();
+            entityManager.clear();
+        }
+        Uom removed = units.get(UNITS - 1);
+        entityManager.remove(entityManager.find(Uom.class, removed.getId()));
+        long deleted = changeLog.record("Uom", removed.getId(), CatalogChangeEvent.ChangeType.DELETED);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When: a new consumer syncs from scratch
+        Map<Long, UomResponse> replica = new HashMap<>();
+        long since = 0;
+        int polls = 0;
+        CatalogChangesResponse page;
+        do {
+            page = service.findChanges(since, 1_000);
+            polls++;
+            for (CatalogChangeResponse change : page.changes()) {
+                if (change.changeType() == CatalogChangeEvent.ChangeType.DELETED) {
+                    replica.remove(change.entityId());
+                } else {
+                    replica.put(change.entityId(), change.uom());
+                }
+            }
+            since = page.highWaterMark();
+        } while (page.hasMore());
+
+        // Then: every change was read once, each page held at most one entry per unit
+        assertThat(deleted).isEqualTo(CHANGES + 1L);
+        assertThat(since).isEqualTo(deleted);
+        assertThat(polls).isEqualTo(CHANGES / 1_000 + 1);
+        assertThat(replica).hasSize(UNITS - 1).doesNotContainKey(removed.getId());
+        assertThat(replica.get(units.get(0).getId()).name()).isEqualTo("Unit 0");
+
+        // When: two more writes, then the consumer polls again
+        long updated = changeLog.record("Uom", units.get(0).getId(), CatalogChangeEvent.ChangeType.UPDATED);
+        changeLog.record("Uom", units.get(0).getId(), CatalogChangeEvent.ChangeType.STATUS_CHANGED);
+        CatalogChangesResponse tail = service.findChanges(since, 1_000);
+        CatalogChangesResponse idle = service.findChanges(tail.highWaterMark(), 1_000);
+
+        // Then: the delta is a single entry, and an idle poll returns nothing
+        assertThat(tail.changes()).singleElement().satisfies(change -> {
+            assertThat(change.sequence()).isEqualTo(updated + 1);
+            assertThat(change.entityId()).isEqualTo(units.get(0).getId());
+            assertThat(change.changeType()).isEqualTo(CatalogChangeEvent.ChangeType.STATUS_CHANGED);
+        });
+        assertThat(tail.highWaterMark()).isEqualTo(updated + 1);
+        assertThat(idle.changes()).isEmpty();
+        assertThat(idle.highWaterMark()).isEqualTo(tail.highWaterMark());
+        assertThat(idle.hasMore()).isFalse();
+    }
+
+}
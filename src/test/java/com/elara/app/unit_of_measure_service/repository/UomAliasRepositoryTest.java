@@ -0,0 +1,94 @@
+package com.elara.app.unit_of_measure_service.repository;
+
+import com.elara.app.unit_of_measure_service.dto.response.UomAliasResponse;
+import com.elara.app.unit_of_measure_service.model.AliasKind;
+import com.elara.app.unit_of_measure_service.model.Uom;
+import com.elara.app.unit_of_measure_service.model.UomAlias;
+import com.elara.app.unit_of_measure_service.model.UomStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class UomAliasRepositoryTest {
+
+    @Autowired
+    private UomAliasRepository repository;
+
+    @Autowired
+    private UomRepository uomRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Uom kilogram;
+    private Uom gram;
+
+    @BeforeEach
+    void setUp() {
+        UomStatus active = UomStatus.builder().name("Active").isUsable(true).build();
+        entityManager.persist(active);
+        kilogram = Uom.builder().name("Kilogram").conversionFactorToBase(BigDecimal.ONE).uomStatus(active).build();
+        gram = Uom.builder().name("Gram").conversionFactorToBase(new BigDecimal("0.001")).uomStatus(active).build();
+        entityManager.persist(kilogram);
+        entityManager.persist(gram);
+        entityManager.persist(UomAlias.builder().alias("kg").kind(AliasKind.SYMBOL).uom(kilogram).build());
+        entityManager.persist(UomAlias.builder().alias("KGM").kind(AliasKind.UNECE_CODE).uom(kilogram).build());
+        entityManager.persist(UomAlias.builder().alias("g").kind(AliasKind.SYMBOL).uom(gram).build());
+        entityManager.flush();
+    }
+
+    @Test
+    void shouldFindAliasesOfUnitInCreationOrder() {
+        // When
+        List<UomAlias> result = repository.findAllByUomIdOrderByIdAsc(kilogram.getId());
+
+        // Then
+        assertThat(result).extracting(UomAlias::getAlias).containsExactly("kg", "KGM");
+    }
+
+    @Test
+    void shouldCheckAliasExistenceIgnoringCase() {
+        // When & Then
+        assertThat(repository.existsByAliasIgnoreCase("kgm")).isTrue();
+        assertThat(repository.existsByAliasIgnoreCase("lb")).isFalse();
+    }
+
+    @Test
+    void shouldStreamEveryAliasWithItsUnitId() {
+        // When
+        List<UomAliasResponse> result;
+        try (Stream<UomAliasResponse> aliases = repository.streamAll()) {
+            result = aliases.toList();
+        }
+
+        // Then
+        assertThat(result).extracting(UomAliasResponse::alias, UomAliasResponse::uomId)
+            .containsExactlyInAnyOrder(
+                tuple("kg", kilogram.getId()),
+                tuple("KGM", kilogram.getId()),
+                tuple("g", gram.getId()));
+    }
+
+    @Test
+    void shouldDeleteAliasesWithTheirUnit() {
+        // When
+        uomRepository.deleteAllByIdInBatch(List.of(kilogram.getId()));
+        entityManager.clear();
+
+        // Then
+        assertThat(repository.findAll()).extracting(UomAlias::getAlias).containsExactly("g");
+    }
+
+}
@@ -1,7 +1,15 @@
 package com.elara.app.unit_of_measure_service.repository;
 
+import com.elara.app.unit_of_measure_service.dto.response.NameSuggestion;
+import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.mapper.UomMapper;
+import com.elara.app.unit_of_measure_service.mapper.UomMapperImpl;
 import com.elara.app.unit_of_measure_service.model.Uom;
 import com.elara.app.unit_of_measure_service.model.UomStatus;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -9,21 +17,35 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
 @ActiveProfiles("test")
+@Import(UomMapperImpl.class)
 class UomRepositoryTest {
 
     @Autowired
     private UomRepository repository;
 
+    @Autowired
+    private UomMapper mapper;
+
     @Autowired
     private TestEntityManager entityManager;
 
@@ -390,6 +412,350 @@ class UomRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Keyset Scrolling Tests")
+    class KeysetScrollTests {
+
+        @Test
+        @DisplayName("should seek past the last row by (name, id) without repeating or skipping rows")
+        void shouldSeekByNameAndId() {
+            // Given
+            Uom gram = createAndPersistUom("Gram", "Small unit", new BigDecimal("0.001"), activeStatus);
+            Uom kilogram = createAndPersistUom("Kilogram", "Base unit", new BigDecimal("1.000"), activeStatus);
+            Uom ton = createAndPersistUom("Ton", "Large unit", new BigDecimal("1000"), activeStatus);
+            Sort sort = Sort.by("name").and(Sort.by("id"));
+
+            // When
+            Window<Uom> first = repository.findAllBy(ScrollPosition.keyset(), sort, Limit.of(2));
+            Window<Uom> second = repository.findAllBy(
+                    ScrollPosition.forward(Map.of("name", kilogram.getName(), "id", kilogram.getId())), sort, Limit.of(2));
+
+            // Then
+            assertThat(first.getContent()).containsExactly(gram, kilogram);
+            assertThat(first.hasNext()).isTrue();
+            assertThat(second.getContent()).containsExactly(ton);
+            assertThat(second.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should apply the filter of the derived query")
+        void shouldApplyFilter() {
+            // Given
+            createAndPersistUom("Kilogram", "Base unit", new BigDecimal("1.000"), activeStatus);
+            Uom retired = createAndPersistUom("Pound", "Retired unit", new BigDecimal("0.453592"), inactiveStatus);
+
+            // When
+            Window<Uom> result = repository.findAllByUomStatusId(inactiveStatus.getId(), ScrollPosition.keyset(),
+                    Sort.by("id"), Limit.of(10));
+
+            // Then
+            assertThat(result.getContent()).containsExactly(retired);
+            assertThat(result.hasNext()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Write Tests")
+    class BulkWriteTests {
+
+        @Test
+        @DisplayName("should find names taken ignoring case with one query")
+        void shouldFindTakenNamesIgnoringCase() {
+            // Given
+            Uom kilogram = createAndPersistUom("Kilogram", "Base unit", new BigDecimal("1.000"), activeStatus);
+            createAndPersistUom("Gram", "Small unit", new BigDecimal("0.001"), activeStatus);
+
+            // When
+            List<Uom> result = repository.findAllByLowerCaseNameIn(List.of("kilogram", "ton"));
+
+            // Then
+            assertThat(result).containsExactly(kilogram);
+        }
+
+        @Test
+        @DisplayName("should return only the ids that exist")
+        void shouldFindExistingIds() {
+            // Given
+            Uom kilogram = createAndPersistUom("Kilogram", "Base unit", new BigDecimal("1.000"), activeStatus);
+
+            // When
+            List<Long> result = repository.findExistingIds(List.of(kilogram.getId(), kilogram.getId() + 1000));
+
+            // Then
+            assertThat(result).containsExactly(kilogram.getId());
+        }
+
+        @Test
+        @DisplayName("should assign sequence ids to a batch and delete it with one statement")
+        void shouldSaveAndDeleteBatch() {
+            // Given
+            List<Uom> batch = Stream.iterate(1, i -> i + 1).limit(Uom.ID_ALLOCATION_SIZE + 1)
+                    .map(i -> Uom.builder().name("Unit " + i).conversionFactorToBase(BigDecimal.ONE).uomStatus(activeStatus).build())
+                    .toList();
+
+            // When
+            List<Uom> saved = repository.saveAll(batch);
+            entityManager.flush();
+            List<Long> ids = saved.stream().map(Uom::getId).toList();
+
+            // Then
+            assertThat(ids).doesNotContainNull().doesNotHaveDuplicates();
+            assertThat(repository.count()).isEqualTo(Uom.ID_ALLOCATION_SIZE + 1);
+
+            // When
+            repository.deleteAllByIdInBatch(ids);
+            entityManager.clear();
+
+            // Then
+            assertThat(repository.count()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Export Stream Tests")
+    class ExportStreamTests {
+
+        @Test
+        @DisplayName("should stream all UOMs in id order")
+        void shouldStreamAllInIdOrder() {
+            // Given
+            Uom ton = createAndPersistUom("Ton", "Large unit", new BigDecimal("1000"), activeStatus);
+            Uom gram = createAndPersistUom("Gram", "Small unit", new BigDecimal("0.001"), inactiveStatus);
+
+            // When
+            List<Uom> result;
+            try (Stream<Uom> rows = repository.streamAllByOrderByIdAsc()) {
+                result = rows.toList();
+            }
+
+            // Then
+            assertThat(result).containsExactly(ton, gram);
+        }
+
+        @Test
+        @DisplayName("should stream only UOMs with the given status")
+        void shouldStreamByStatus() {
+            // Given
+            createAndPersistUom("Kilogram", "Base unit", new BigDecimal("1.000"), activeStatus);
+            Uom retired = createAndPersistUom("Pound", "Retired unit", new BigDecimal("0.453592"), inactiveStatus);
+
+            // When
+            List<Uom> result;
+            try (Stream<Uom> rows = repository.streamAllByUomStatusIdOrderByIdAsc(inactiveStatus.getId())) {
+                result = rows.toList();
+            }
+
+            // Then
+            assertThat(result).containsExactly(retired);
+        }
+
+        @Test
+        @DisplayName("should stream the id and name of every UOM for the autocomplete index")
+        void shouldStreamAllSuggestions() {
+            // Given
+            Uom kilogram = createAndPersistUom("Kilogram", "Base unit", new BigDecimal("1.000"), activeStatus);
+            Uom pound = createAndPersistUom("Pound", "Retired unit", new BigDecimal("0.453592"), inactiveStatus);
+
+            // When
+            List<NameSuggestion> result;
+            try (Stream<NameSuggestion> rows = repository.streamAllSuggestions()) {
+                result = rows.toList();
+            }
+
+            // Then
+            assertThat(result).containsExactlyInAnyOrder(
+                new NameSuggestion(kilogram.getId(), "Kilogram", 0L),
+                new NameSuggestion(pound.getId(), "Pound", 0L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Response Projection Tests")
+    class ResponseProjectionTests {
+
+        private static final int PAGE_SIZE = 1_000;
+
+        @Test
+        @DisplayName("should build the same responses as the entities mapped by UomMapper")
+        void shouldMatchMappedEntities() {
+            // Given
+            Uom kilogram = createAndPersistUom("Kilogram", "Base unit", new BigDecimal("1.000"), activeStatus);
+            kilogram.setRoundingScale(3);
+            kilogram.setRoundingMode(RoundingMode.HALF_UP);
+            createAndPersistUom("Pound", "Retired unit", new BigDecimal("0.453592"), inactiveStatus);
+            entityManager.flush();
+            entityManager.clear();
+            PageRequest pageable = PageRequest.of(0, 10, Sort.by("name"));
+            List<UomResponse> mapped = repository.findAll(pageable).map(mapper::toResponse).getContent();
+            entityManager.clear();
+
+            // When
+            Page<UomResponse> result = repository.findAllResponses(pageable);
+
+            // Then
+            assertThat(result.getContent()).isEqualTo(mapped);
+            assertThat(result.getContent()).extracting(UomResponse::name).containsExactly("Kilogram", "Pound");
+            assertThat(result.getTotalElements()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should match names like the derived query, with LIKE wildcards taken literally")
+        void shouldMatchNamesWithWildcardsEscaped() {
+            // Given
+            createAndPersistUom("Percent_Solid", "Literal underscore", new BigDecimal("0.01"), activeStatus);
+            createAndPersistUom("PercentXSolid", "Would match an unescaped underscore", new BigDecimal("0.01"), activeStatus);
+            createAndPersistUom("Kilogram", "Base unit", new BigDecimal("1.000"), activeStatus);
+
+            // When
+            Page<UomResponse> underscore = repository.findAllResponsesByNameContainingIgnoreCase("t_s", PageRequest.of(0, 10));
+            Page<UomResponse> caseInsensitive = repository.findAllResponsesByNameContainingIgnoreCase("KILO", PageRequest.of(0, 10));
+
+            // Then
+            assertThat(underscore.getContent()).extracting(UomResponse::name).containsExactly("Percent_Solid");
+            assertThat(underscore.getTotalElements()).isEqualTo(1);
+            assertThat(caseInsensitive.getContent()).extracting(UomResponse::name).containsExactly("Kilogram");
+        }
+
+        @Test
+        @DisplayName("should filter by status and page with a separate count")
+        void shouldFilterByStatusAndPage() {
+            // Given
+            for (int i = 1; i <= 7; i++) {
+                createAndPersistUom("Active " + i, "Active unit", BigDecimal.ONE, activeStatus);
+            }
+            createAndPersistUom("Retired", "Inactive unit", BigDecimal.ONE, inactiveStatus);
+
+            // When
+            Page<UomResponse> second = repository.findAllResponsesByUomStatusId(activeStatus.getId(),
+                PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "name")));
+
+            // Then
+            assertThat(second.getContent()).extracting(UomResponse::name).containsExactly("Active 2", "Active 1");
+            assertThat(second.getContent()).extracting(UomResponse::uomStatusId).containsOnly(activeStatus.getId());
+            assertThat(second.getTotalElements()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("a 1,000-row page should hold the same responses as loading and mapping entities")
+        void projection_largePage_matchesEntityPath() {
+            // Given: the read-only session of the service transactions
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                entityManager.persist(Uom.builder().name("Unit " + i).description("Projected unit")
+                    .conversionFactorToBase(new BigDecimal("0.001")).uomStatus(activeStatus).build());
+            }
+            entityManager.flush();
+            entityManager.clear();
+            entityManager.getEntityManager().unwrap(Session.class).setDefaultReadOnly(true);
+            PageRequest pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+
+            // When
+            List<UomResponse> projection = repository.findAllResponses(pageable).getContent();
+            entityManager.clear();
+            List<UomResponse> entities = repository.findAll(pageable).map(mapper::toResponse).getContent();
+
+            // Then
+            assertThat(projection).hasSize(PAGE_SIZE).isEqualTo(entities);
+        }
+    }
+
+    @Nested
+    @DisplayName("Count-free Slice Tests")
+    class SliceTests {
+
+        private Statistics statistics;
+
+        @BeforeEach
+        void enableStatistics() {
+            for (int i = 1; i <= 5; i++) {
+                createAndPersistUom("Gram " + i, "Gram multiple", BigDecimal.ONE, i <= 3 ? activeStatus : inactiveStatus);
+            }
+            entityManager.clear();
+            statistics = entityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+        }
+
+        @AfterEach
+        void disableStatistics() {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        @Test
+        @DisplayName("a full page by name should take half the statements as a slice")
+        void sliceByName_halvesStatements() {
+            // Given
+            PageRequest pageable = PageRequest.of(0, 2, Sort.by("name"));
+
+            // When
+            Page<UomResponse> page = repository.findAllResponsesByNameContainingIgnoreCase("gram", pageable);
+            long pageStatements = statistics.getPrepareStatementCount();
+            statistics.clear();
+            Slice<UomResponse> slice = repository.findResponseSliceByNameContainingIgnoreCase("gram", pageable);
+            long sliceStatements = statistics.getPrepareStatementCount();
+
+            // Then
+            assertThat(pageStatements).isEqualTo(2);
+            assertThat(sliceStatements).isEqualTo(1);
+            assertThat(slice.getContent()).isEqualTo(page.getContent());
+            assertThat(slice.hasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("a full page by status should take half the statements as a slice")
+        void sliceByStatus_halvesStatements() {
+            // Given
+            PageRequest pageable = PageRequest.of(0, 2, Sort.by("name"));
+
+            // When
+            Page<UomResponse> page = repository.findAllResponsesByUomStatusId(activeStatus.getId(), pageable);
+            long pageStatements = statistics.getPrepareStatementCount();
+            statistics.clear();
+            Slice<UomResponse> slice = repository.findResponseSliceByUomStatusId(activeStatus.getId(), pageable);
+            long sliceStatements = statistics.getPrepareStatementCount();
+
+            // Then
+            assertThat(pageStatements).isEqualTo(2);
+            assertThat(sliceStatements).isEqualTo(1);
+            assertThat(slice.getContent()).isEqualTo(page.getContent());
+            assertThat(slice.hasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("the last slice should have no next, and the counts should match the page totals")
+        void lastSlice_hasNoNext() {
+            // When
+            Slice<UomResponse> last = repository.findResponseSliceByNameContainingIgnoreCase("gram", PageRequest.of(2, 2, Sort.by("name")));
+
+            // Then
+            assertThat(last.getContent()).extracting(UomResponse::name).containsExactly("Gram 5");
+            assertThat(last.hasNext()).isFalse();
+            assertThat(repository.countByNameContainingIgnoreCase("GRAM")).isEqualTo(5);
+            assertThat(repository.countByUomStatusId(activeStatus.getId())).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Optimistic lock version Tests")
+    class VersionTests {
+
+        @Test
+        @DisplayName("should start at version 0 and increment on every flushed update")
+        void shouldIncrementVersionOnUpdate() {
+            // Given
+            Uom uom = createAndPersistUom("Kilogram", "Base unit", new BigDecimal("1.000"), activeStatus);
+            assertThat(uom.getVersion()).isZero();
+
+            // When
+            uom.setDescription("Updated");
+            repository.flush();
+
+            // Then
+            assertThat(uom.getVersion()).isEqualTo(1L);
+            entityManager.clear();
+            assertThat(repository.findById(uom.getId())).get().extracting(Uom::getVersion).isEqualTo(1L);
+        }
+    }
+
     // Helper method
     private Uom createAndPersistUom(String name, String description, BigDecimal conversionFactor, UomStatus status) {
         Uom uom = Uom.builder()
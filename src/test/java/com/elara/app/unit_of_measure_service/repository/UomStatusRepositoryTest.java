@@ -1,5 +1,6 @@
 package com.elara.app.unit_of_measure_service.repository;
 
+import com.elara.app.unit_of_measure_service.dto.response.UomStatusResponse;
 import com.elara.app.unit_of_measure_service.model.UomStatus;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -7,11 +8,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Optional;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -87,6 +91,45 @@ class UomStatusRepositoryTest {
         assertThat(page.getTotalElements(), is(0L));
     }
 
+    @Test
+    @DisplayName("Should project responses by name, escaping LIKE wildcards")
+    void shouldProjectResponsesByName() {
+        UomStatus active = uomStatusRepository.save(UomStatus.builder().name("Active_Use").description("In use").isUsable(true).build());
+        uomStatusRepository.save(UomStatus.builder().name("ActiveXUse").isUsable(true).build());
+        uomStatusRepository.save(UomStatus.builder().name("Archived").isUsable(false).build());
+        Page<UomStatusResponse> page = uomStatusRepository.findAllResponsesByNameContainingIgnoreCase("E_U", PageRequest.of(0, 10));
+        assertThat(page.getTotalElements(), is(1L));
+        assertThat(page.getContent(), contains(new UomStatusResponse(active.getId(), "Active_Use", "In use", true, active.getVersion())));
+    }
+
+    @Test
+    @DisplayName("Should project responses by isUsable, sorted by name")
+    void shouldProjectResponsesByIsUsable() {
+        uomStatusRepository.save(UomStatus.builder().name("Deprecated").isUsable(false).build());
+        uomStatusRepository.save(UomStatus.builder().name("Active").isUsable(true).build());
+        uomStatusRepository.save(UomStatus.builder().name("Archived").isUsable(false).build());
+        Page<UomStatusResponse> page = uomStatusRepository.findAllResponsesByIsUsable(Boolean.FALSE, PageRequest.of(0, 10, Sort.by("name")));
+        assertThat(page.getTotalElements(), is(2L));
+        assertThat(page.map(UomStatusResponse::name).getContent(), contains("Archived", "Deprecated"));
+    }
+
+    @Test
+    @DisplayName("Should read slices by isUsable without a count, telling whether another page follows")
+    void shouldSliceByIsUsable() {
+        uomStatusRepository.save(UomStatus.builder().name("Active").isUsable(true).build());
+        uomStatusRepository.save(UomStatus.builder().name("Approved").isUsable(true).build());
+        uomStatusRepository.save(UomStatus.builder().name("Archived").isUsable(true).build());
+        uomStatusRepository.save(UomStatus.builder().name("Deprecated").isUsable(false).build());
+        Slice<UomStatusResponse> first = uomStatusRepository.findResponseSliceByIsUsable(Boolean.TRUE, PageRequest.of(0, 2, Sort.by("name")));
+        Slice<UomStatusResponse> last = uomStatusRepository.findResponseSliceByIsUsable(Boolean.TRUE, PageRequest.of(1, 2, Sort.by("name")));
+        assertThat(first.map(UomStatusResponse::name).getContent(), contains("Active", "Approved"));
+        assertTrue(first.hasNext());
+        assertThat(last.map(UomStatusResponse::name).getContent(), contains("Archived"));
+        assertFalse(last.hasNext());
+        assertThat(uomStatusRepository.countByIsUsable(Boolean.TRUE), is(3L));
+        assertThat(uomStatusRepository.countByNameContainingIgnoreCase("AR"), is(1L));
+    }
+
     @Test
     @DisplayName("Should update existing status by id")
     void shouldUpdateExistingStatusById() {
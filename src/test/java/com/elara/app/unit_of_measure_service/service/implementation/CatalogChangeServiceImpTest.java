@@ -0,0 +1,127 @@
+package com.elara.app.unit_of_measure_service.service.implementation;
+
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeEvent;
+import com.elara.app.unit_of_measure_service.dto.response.CatalogChangeResponse;
+import com.elara.app.unit_of_measure_service.dto.response.CatalogChangesResponse;
+import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.dto.response.UomStatusResponse;
+import com.elara.app.unit_of_measure_service.mapper.UomMapper;
+import com.elara.app.unit_of_measure_service.mapper.UomStatusMapper;
+import com.elara.app.unit_of_measure_service.model.CatalogChange;
+import com.elara.app.unit_of_measure_service.model.Uom;
+import com.elara.app.unit_of_measure_service.model.UomStatus;
+import com.elara.app.unit_of_measure_service.repository.CatalogChangeRepository;
+import com.elara.app.unit_of_measure_service.repository.UomRepository;
+import com.elara.app.unit_of_measure_service.repository.UomStatusRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogChangeServiceImp")
+class CatalogChangeServiceImpTest {
+
+    @Mock
+    private CatalogChangeRepository repository;
+
+    @Mock
+    private UomRepository uomRepository;
+
+    @Mock
+    private UomStatusRepository uomStatusRepository;
+
+    @Mock
+    private UomMapper uomMapper;
+
+    @Mock
+    private UomStatusMapper uomStatusMapper;
+
+    @InjectMocks
+    private CatalogChangeServiceImp service;
+
+    private static CatalogChange change(long sequence, String entityName, long entityId, CatalogChangeEvent.ChangeType changeType) {
+        return new CatalogChange(sequence, entityName, entityId, changeType);
+    }
+
+    @Test
+    @DisplayName("findChanges() should keep the latest change of each record, with its current state")
+    void findChanges_shouldCompactToLatestChangePerRecord() {
+        // Given
+        Uom kilogram = Uom.builder().id(1L).name("Kilogram").build();
+        UomStatus inactive = UomStatus.builder().id(2L).name("Inactive").build();
+        UomResponse kilogramResponse = new UomResponse(1L, "Kilogram", null, BigDecimal.ONE, 2L, 1L, 1L, null, null, 2L);
+        UomStatusResponse inactiveResponse = new UomStatusResponse(2L, "Inactive", null, false, 1L);
+        when(repository.findAllBySequenceGreaterThanOrderBySequenceAsc(10L, Limit.of(101))).thenReturn(List.of(
+            change(11, "Uom", 1, CatalogChangeEvent.ChangeType.CREATED),
+            change(12, "UomStatus", 2, CatalogChangeEvent.ChangeType.STATUS_CHANGED),
+            change(13, "Uom", 7, CatalogChangeEvent.ChangeType.UPDATED),
+            change(14, "Uom", 1, CatalogChangeEvent.ChangeType.UPDATED),
+            change(15, "Uom", 7, CatalogChangeEvent.ChangeType.DELETED)
+        ));
+        when(uomRepository.findAllByIdIn(Set.of(1L))).thenReturn(List.of(kilogram));
+        when(uomStatusRepository.findAllById(Set.of(2L))).thenReturn(List.of(inactive));
+        when(uomMapper.toResponse(kilogram)).thenReturn(kilogramResponse);
+        when(uomStatusMapper.toResponse(inactive)).thenReturn(inactiveResponse);
+
+        // When
+        CatalogChangesResponse result = service.findChanges(10L, 100);
+
+        // Then
+        assertThat(result.changes()).containsExactly(
+            new CatalogChangeResponse(12L, "UomStatus", 2L, CatalogChangeEvent.ChangeType.STATUS_CHANGED, null, inactiveResponse),
+            new CatalogChangeResponse(14L, "Uom", 1L, CatalogChangeEvent.ChangeType.UPDATED, kilogramResponse, null),
+            new CatalogChangeResponse(15L, "Uom", 7L, CatalogChangeEvent.ChangeType.DELETED, null, null)
+        );
+        assertThat(result.highWaterMark()).isEqualTo(15L);
+        assertThat(result.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("findChanges() should return a tombstone for a record deleted after the returned change")
+    void findChanges_shouldReturnTombstoneForRecordDeletedSince() {
+        // Given
+        when(repository.findAllBySequenceGreaterThanOrderBySequenceAsc(0L, Limit.of(2))).thenReturn(List.of(
+            change(1, "Uom", 3, CatalogChangeEvent.ChangeType.CREATED),
+            change(2, "Uom", 4, CatalogChangeEvent.ChangeType.CREATED)
+        ));
+        when(uomRepository.findAllByIdIn(Set.of(3L))).thenReturn(List.of());
+
+        // When
+        CatalogChangesResponse result = service.findChanges(0L, 1);
+
+        // Then
+        assertThat(result.changes()).containsExactly(
+            new CatalogChangeResponse(1L, "Uom", 3L, CatalogChangeEvent.ChangeType.DELETED, null, null));
+        assertThat(result.highWaterMark()).isEqualTo(1L);
+        assertThat(result.hasMore()).isTrue();
+        verifyNoInteractions(uomStatusRepository);
+    }
+
+    @Test
+    @DisplayName("findChanges() with nothing new should return no changes and the same high-water mark")
+    void findChanges_withNothingNew_returnsSameHighWaterMark() {
+        // Given
+        when(repository.findAllBySequenceGreaterThanOrderBySequenceAsc(42L, Limit.of(1001))).thenReturn(List.of());
+
+        // When
+        CatalogChangesResponse result = service.findChanges(42L, 1000);
+
+        // Then
+        assertThat(result).isEqualTo(new CatalogChangesResponse(List.of(), 42L, false));
+        verify(uomRepository, never()).findAllByIdIn(any());
+        verifyNoInteractions(uomStatusRepository, uomMapper, uomStatusMapper);
+    }
+
+}
@@ -0,0 +1,216 @@
+package com.elara.app.unit_of_measure_service.service.implementation;
+
+import com.elara.app.unit_of_measure_service.alias.AliasTable;
+import com.elara.app.unit_of_measure_service.alias.UomAliasIndex;
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeEvent;
+import com.elara.app.unit_of_measure_service.dto.request.UomAliasRequest;
+import com.elara.app.unit_of_measure_service.dto.response.UomAliasResponse;
+import com.elara.app.unit_of_measure_service.exceptions.ResourceConflictException;
+import com.elara.app.unit_of_measure_service.exceptions.ResourceNotFoundException;
+import com.elara.app.unit_of_measure_service.mapper.UomAliasMapper;
+import com.elara.app.unit_of_measure_service.model.AliasKind;
+import com.elara.app.unit_of_measure_service.model.Uom;
+import com.elara.app.unit_of_measure_service.model.UomAlias;
+import com.elara.app.unit_of_measure_service.repository.UomAliasRepository;
+import com.elara.app.unit_of_measure_service.repository.UomRepository;
+import com.elara.app.unit_of_measure_service.utils.MessageService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UomAliasServiceImp")
+class UomAliasServiceImpTest {
+
+    @Mock
+    private UomAliasRepository repository;
+
+    @Mock
+    private UomRepository uomRepository;
+
+    @Mock
+    private UomAliasMapper mapper;
+
+    @Mock
+    private MessageService messageService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UomAliasIndex index;
+
+    @InjectMocks
+    private UomAliasServiceImp service;
+
+    @Nested
+    @DisplayName("save()")
+    class SaveTests {
+
+        private final Uom kilogram = Uom.builder().id(1L).name("Kilogram").build();
+
+        @Test
+        @DisplayName("should save the stripped alias for the unit and publish a change event")
+        void save_shouldSaveAlias() {
+            // Given
+            UomAliasRequest request = new UomAliasRequest(" KGM ", AliasKind.UNECE_CODE);
+            UomAlias entity = UomAlias.builder().alias(" KGM ").kind(AliasKind.UNECE_CODE).build();
+            UomAlias saved = UomAlias.builder().id(10L).alias("KGM").kind(AliasKind.UNECE_CODE).uom(kilogram).build();
+            UomAliasResponse response = new UomAliasResponse(10L, "KGM", AliasKind.UNECE_CODE, 1L);
+            when(uomRepository.findById(1L)).thenReturn(Optional.of(kilogram));
+            when(repository.existsByAliasIgnoreCase("KGM")).thenReturn(false);
+            when(uomRepository.existsByNameIgnoreCase("KGM")).thenReturn(false);
+            when(mapper.toEntity(request)).thenReturn(entity);
+            when(repository.save(entity)).thenReturn(saved);
+            when(mapper.toResponse(saved)).thenReturn(response);
+
+            // When
+            UomAliasResponse result = service.save(1L, request);
+
+            // Then
+            assertThat(result).isEqualTo(response);
+            assertThat(entity.getAlias()).isEqualTo("KGM");
+            assertThat(entity.getUom()).isSameAs(kilogram);
+            ArgumentCaptor<CatalogChangeEvent> event = ArgumentCaptor.forClass(CatalogChangeEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue()).isEqualTo(new CatalogChangeEvent("UomAlias", 10L, CatalogChangeEvent.ChangeType.CREATED));
+        }
+
+        @Test
+        @DisplayName("should throw ResourceConflictException when the alias is another alias or a unit name")
+        void save_takenAlias_shouldThrowConflict() {
+            // Given
+            when(uomRepository.findById(1L)).thenReturn(Optional.of(kilogram));
+            when(repository.existsByAliasIgnoreCase("kg")).thenReturn(true);
+            when(repository.existsByAliasIgnoreCase("Gram")).thenReturn(false);
+            when(uomRepository.existsByNameIgnoreCase("Gram")).thenReturn(true);
+            when(messageService.getMessage(eq("crud.already.exists"), eq("UomAlias"), eq("alias"), any())).thenReturn("UomAlias already exists");
+
+            // When & Then
+            assertThatThrownBy(() -> service.save(1L, new UomAliasRequest("kg", AliasKind.SYMBOL)))
+                .isInstanceOf(ResourceConflictException.class);
+            assertThatThrownBy(() -> service.save(1L, new UomAliasRequest("Gram", AliasKind.SYNONYM)))
+                .isInstanceOf(ResourceConflictException.class);
+            verify(repository, never()).save(any());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("should throw ResourceNotFoundException when the unit does not exist")
+        void save_unknownUom_shouldThrowNotFound() {
+            // Given
+            when(uomRepository.findById(99L)).thenReturn(Optional.empty());
+            when(messageService.getMessage("crud.not.found", "Uom", "id", 99L)).thenReturn("Uom not found");
+
+            // When & Then
+            assertThatThrownBy(() -> service.save(99L, new UomAliasRequest("kg", AliasKind.SYMBOL)))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Uom not found");
+            verify(repository, never()).save(any());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("deleteById()")
+    class DeleteTests {
+
+        @Test
+        @DisplayName("should delete the alias and publish a change event")
+        void deleteById_shouldDelete() {
+            // Given
+            when(repository.existsById(10L)).thenReturn(true);
+
+            // When
+            service.deleteById(10L);
+
+            // Then
+            verify(repository).deleteById(10L);
+            verify(eventPublisher).publishEvent(new CatalogChangeEvent("UomAlias", 10L, CatalogChangeEvent.ChangeType.DELETED));
+        }
+
+        @Test
+        @DisplayName("should throw ResourceNotFoundException when the alias does not exist")
+        void deleteById_unknownAlias_shouldThrowNotFound() {
+            // Given
+            when(repository.existsById(99L)).thenReturn(false);
+            when(messageService.getMessage("crud.not.found", "UomAlias", "id", 99L)).thenReturn("UomAlias not found");
+
+            // When & Then
+            assertThatThrownBy(() -> service.deleteById(99L)).isInstanceOf(ResourceNotFoundException.class);
+            verify(repository, never()).deleteById(any());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("findAllByUomId()")
+    class FindAllByUomIdTests {
+
+        @Test
+        @DisplayName("should return the aliases of the unit")
+        void findAllByUomId_shouldReturnAliases() {
+            // Given
+            UomAlias alias = UomAlias.builder().id(10L).alias("kg").kind(AliasKind.SYMBOL).build();
+            UomAliasResponse response = new UomAliasResponse(10L, "kg", AliasKind.SYMBOL, 1L);
+            when(uomRepository.existsById(1L)).thenReturn(true);
+            when(repository.findAllByUomIdOrderByIdAsc(1L)).thenReturn(List.of(alias));
+            when(mapper.toResponse(alias)).thenReturn(response);
+
+            // When & Then
+            assertThat(service.findAllByUomId(1L)).containsExactly(response);
+        }
+
+        @Test
+        @DisplayName("should throw ResourceNotFoundException when the unit does not exist")
+        void findAllByUomId_unknownUom_shouldThrowNotFound() {
+            // Given
+            when(uomRepository.existsById(99L)).thenReturn(false);
+
+            // When & Then
+            assertThatThrownBy(() -> service.findAllByUomId(99L)).isInstanceOf(ResourceNotFoundException.class);
+            verifyNoInteractions(repository);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("resolve()")
+    class ResolveTests {
+
+        @Test
+        @DisplayName("should map each resolved string to its unit in request order, once, without the database")
+        void resolve_shouldMapResolvedStrings() {
+            // Given
+            when(index.table()).thenReturn(AliasTable.build(List.of(
+                new AliasTable.Entry("Kilogram", 1L), new AliasTable.Entry("Gram", 2L),
+                new AliasTable.Entry("kg", 1L), new AliasTable.Entry("KGM", 1L))));
+
+            // When
+            Map<String, Long> result = service.resolve(Arrays.asList("kg", "bushel", "Gram", "kg", "KGM"));
+
+            // Then
+            assertThat(result).containsExactly(Map.entry("kg", 1L), Map.entry("Gram", 2L), Map.entry("KGM", 1L));
+            verify(index, times(1)).table();
+            verifyNoInteractions(repository, uomRepository);
+        }
+
+    }
+
+}
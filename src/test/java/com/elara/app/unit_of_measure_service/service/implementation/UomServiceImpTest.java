@@ -1,16 +1,42 @@
 package com.elara.app.unit_of_measure_service.service.implementation;
 
+import com.elara.app.unit_of_measure_service.alias.AliasTable;
+import com.elara.app.unit_of_measure_service.alias.UomAliasIndex;
+import com.elara.app.unit_of_measure_service.autocomplete.AutocompleteIndex;
+import com.elara.app.unit_of_measure_service.cache.CatalogCaches;
+import com.elara.app.unit_of_measure_service.cache.CatalogNameIndex;
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeEvent;
+import com.elara.app.unit_of_measure_service.catalog.CatalogSnapshot;
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeLog;
+import com.elara.app.unit_of_measure_service.catalog.CatalogSnapshotHolder;
+import com.elara.app.unit_of_measure_service.dto.request.ConversionRequest;
 import com.elara.app.unit_of_measure_service.dto.request.UomRequest;
+import com.elara.app.unit_of_measure_service.dto.response.BatchConversionResponse;
+import com.elara.app.unit_of_measure_service.dto.response.ConversionResponse;
+import com.elara.app.unit_of_measure_service.dto.response.CursorPageResponse;
+import com.elara.app.unit_of_measure_service.dto.response.NameSuggestion;
+import com.elara.app.unit_of_measure_service.dto.response.QuantityParseResponse;
+import com.elara.app.unit_of_measure_service.dto.response.SliceResponse;
 import com.elara.app.unit_of_measure_service.dto.response.UomResponse;
+import com.elara.app.unit_of_measure_service.dto.response.UomStatusResponse;
+import com.elara.app.unit_of_measure_service.dto.update.UomBulkUpdate;
 import com.elara.app.unit_of_measure_service.dto.update.UomUpdate;
+import com.elara.app.unit_of_measure_service.exceptions.InvalidDataException;
+import com.elara.app.unit_of_measure_service.exceptions.PreconditionFailedException;
 import com.elara.app.unit_of_measure_service.exceptions.ResourceConflictException;
 import com.elara.app.unit_of_measure_service.exceptions.ResourceNotFoundException;
+import com.elara.app.unit_of_measure_service.lookup.UomLookupBatcher;
 import com.elara.app.unit_of_measure_service.mapper.UomMapper;
 import com.elara.app.unit_of_measure_service.model.Uom;
 import com.elara.app.unit_of_measure_service.model.UomStatus;
 import com.elara.app.unit_of_measure_service.repository.UomRepository;
 import com.elara.app.unit_of_measure_service.service.interfaces.UomStatusService;
+import com.elara.app.unit_of_measure_service.utils.KeysetCursor;
 import com.elara.app.unit_of_measure_service.utils.MessageService;
+import com.elara.app.unit_of_measure_service.utils.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -19,15 +45,36 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -49,6 +96,38 @@ class UomServiceImpTest {
     @Mock
     private UomStatusService statusService;
 
+    @Mock
+    private CatalogSnapshotHolder catalog;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private UomLookupBatcher lookupBatcher;
+
+    @Mock
+    private AutocompleteIndex autocomplete;
+
+    @Mock
+    private CatalogChangeLog changeLog;
+
+    @Mock
+    private UomAliasIndex aliases;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(meterRegistry);
+
+    @Spy
+    private CatalogCaches caches = new CatalogCaches(meterRegistry, 100, Duration.ofMinutes(10), 100, Duration.ofMinutes(10), 100, Duration.ofSeconds(5), 100, Duration.ofMinutes(1));
+
+    @Spy
+    private CatalogNameIndex nameIndex = new CatalogNameIndex(null, null, null, meterRegistry, false, true, 0.01);
+
     @Spy
     @InjectMocks
     private UomServiceImp service;
@@ -61,11 +140,11 @@ class UomServiceImpTest {
         @DisplayName("save() should create and return UomResponse when valid request")
         void save_shouldCreateAndReturnResponse() {
             // Given
-            UomRequest request = new UomRequest("Kilogram", "Base unit of mass", new BigDecimal("1.000"), 1L);
+            UomRequest request = new UomRequest("Kilogram", "Base unit of mass", new BigDecimal("1.000"), 1L, null, null);
             UomStatus status = UomStatus.builder().id(1L).name("Active").build();
             Uom entity = Uom.builder().name("Kilogram").description("Base unit of mass").conversionFactorToBase(new BigDecimal("1.000")).build();
             Uom saved = Uom.builder().id(1L).name("Kilogram").description("Base unit of mass").conversionFactorToBase(new BigDecimal("1.000")).uomStatus(status).build();
-            UomResponse response = new UomResponse(1L, "Kilogram", "Base unit of mass", new BigDecimal("1.000"), null);
+            UomResponse response = new UomResponse(1L, "Kilogram", "Base unit of mass", new BigDecimal("1.000"), null, null, null, null, null, 0L);
 
             doReturn(false).when(service).isNameTaken("Kilogram");
             when(mapper.toEntity(request)).thenReturn(entity);
@@ -81,13 +160,15 @@ class UomServiceImpTest {
             verify(repository).save(entity);
             verify(statusService).findEntityById(1L);
             verify(mapper).toResponse(saved);
+            verify(changeLog).record("Uom", 1L, CatalogChangeEvent.ChangeType.CREATED);
+            verify(eventPublisher).publishEvent(new CatalogChangeEvent("Uom", 1L, CatalogChangeEvent.ChangeType.CREATED));
         }
 
         @Test
         @DisplayName("save() should throw ResourceConflictException when name already exists")
         void save_shouldThrowResourceConflictWhenNameTaken() {
             // Given
-            UomRequest request = new UomRequest("Kilogram", "desc", new BigDecimal("1.000"), 1L);
+            UomRequest request = new UomRequest("Kilogram", "desc", new BigDecimal("1.000"), 1L, null, null);
             doReturn(true).when(service).isNameTaken("Kilogram");
             when(messageService.getMessage("crud.already.exists", "Uom", "name", "Kilogram"))
                     .thenReturn("Uom with name 'Kilogram' already exists");
@@ -104,7 +185,7 @@ class UomServiceImpTest {
         @DisplayName("save() should throw ResourceNotFoundException when UomStatus not exists")
         void save_shouldThrowNotFoundWhenStatusNotExists() {
             // Given
-            UomRequest request = new UomRequest("Kilogram", "desc", new BigDecimal("1.000"), 999L);
+            UomRequest request = new UomRequest("Kilogram", "desc", new BigDecimal("1.000"), 999L, null, null);
             Uom entity = Uom.builder().name("Kilogram").build();
             
             doReturn(false).when(service).isNameTaken("Kilogram");
@@ -122,11 +203,11 @@ class UomServiceImpTest {
         @DisplayName("save() should set UomStatus relationship correctly")
         void save_shouldSetStatusRelationship() {
             // Given
-            UomRequest request = new UomRequest("Gram", "desc", new BigDecimal("0.001"), 1L);
+            UomRequest request = new UomRequest("Gram", "desc", new BigDecimal("0.001"), 1L, null, null);
             UomStatus status = UomStatus.builder().id(1L).name("Active").build();
             Uom entity = Uom.builder().name("Gram").build();
             Uom saved = Uom.builder().id(1L).name("Gram").uomStatus(status).build();
-            UomResponse response = new UomResponse(1L, "Gram", "desc", new BigDecimal("0.001"), null);
+            UomResponse response = new UomResponse(1L, "Gram", "desc", new BigDecimal("0.001"), null, null, null, null, null, 0L);
 
             doReturn(false).when(service).isNameTaken("Gram");
             when(mapper.toEntity(request)).thenReturn(entity);
@@ -160,10 +241,10 @@ class UomServiceImpTest {
         void update_shouldUpdateAndReturnResponse() {
             // Given
             Long id = 1L;
-            UomUpdate updateRequest = new UomUpdate("Kilogram Updated", "New description", new BigDecimal("1.500"));
+            UomUpdate updateRequest = new UomUpdate("Kilogram Updated", "New description", new BigDecimal("1.500"), null, null);
             UomStatus status = UomStatus.builder().id(1L).name("Active").build();
             Uom existing = Uom.builder().id(1L).name("Kilogram").description("Old").conversionFactorToBase(new BigDecimal("1.000")).uomStatus(status).build();
-            UomResponse response = new UomResponse(1L, "Kilogram Updated", "New description", new BigDecimal("1.500"), null);
+            UomResponse response = new UomResponse(1L, "Kilogram Updated", "New description", new BigDecimal("1.500"), null, null, null, null, null, 0L);
 
             when(repository.findById(id)).thenReturn(Optional.of(existing));
             doReturn(false).when(service).isNameTaken("Kilogram Updated");
@@ -171,7 +252,7 @@ class UomServiceImpTest {
             when(mapper.toResponse(existing)).thenReturn(response);
 
             // When
-            UomResponse result = service.update(id, updateRequest);
+            UomResponse result = service.update(id, updateRequest, null);
 
             // Then
             assertThat(result).isEqualTo(response);
@@ -185,14 +266,14 @@ class UomServiceImpTest {
         void update_shouldThrowNotFoundWhenIdNotExists() {
             // Given
             Long id = 999L;
-            UomUpdate updateRequest = new UomUpdate("Name", "desc", new BigDecimal("1.0"));
+            UomUpdate updateRequest = new UomUpdate("Name", "desc", new BigDecimal("1.0"), null, null);
             
             when(repository.findById(id)).thenReturn(Optional.empty());
             when(messageService.getMessage("crud.not.found", "Uom", "id", id))
                     .thenReturn("Uom not found");
 
             // When & Then
-            assertThatThrownBy(() -> service.update(id, updateRequest))
+            assertThatThrownBy(() -> service.update(id, updateRequest, null))
                     .isInstanceOf(ResourceNotFoundException.class);
             
             verify(mapper, never()).updateEntityFromDto(any(), any());
@@ -203,7 +284,7 @@ class UomServiceImpTest {
         void update_shouldThrowConflictWhenNewNameExists() {
             // Given
             Long id = 1L;
-            UomUpdate updateRequest = new UomUpdate("Gram", "desc", new BigDecimal("1.0"));
+            UomUpdate updateRequest = new UomUpdate("Gram", "desc", new BigDecimal("1.0"), null, null);
             UomStatus status = UomStatus.builder().id(1L).build();
             Uom existing = Uom.builder().id(1L).name("Kilogram").uomStatus(status).build();
 
@@ -213,7 +294,7 @@ class UomServiceImpTest {
                     .thenReturn("Name already exists");
 
             // When & Then
-            assertThatThrownBy(() -> service.update(id, updateRequest))
+            assertThatThrownBy(() -> service.update(id, updateRequest, null))
                     .isInstanceOf(ResourceConflictException.class);
             
             verify(mapper, never()).updateEntityFromDto(any(), any());
@@ -224,17 +305,17 @@ class UomServiceImpTest {
         void update_shouldAllowSameNameForExistingRecord() {
             // Given
             Long id = 1L;
-            UomUpdate updateRequest = new UomUpdate("Kilogram", "Updated description", new BigDecimal("1.0"));
+            UomUpdate updateRequest = new UomUpdate("Kilogram", "Updated description", new BigDecimal("1.0"), null, null);
             UomStatus status = UomStatus.builder().id(1L).build();
             Uom existing = Uom.builder().id(1L).name("Kilogram").uomStatus(status).build();
-            UomResponse response = new UomResponse(1L, "Kilogram", "Updated description", new BigDecimal("1.0"), null);
+            UomResponse response = new UomResponse(1L, "Kilogram", "Updated description", new BigDecimal("1.0"), null, null, null, null, null, 0L);
 
             when(repository.findById(id)).thenReturn(Optional.of(existing));
             doNothing().when(mapper).updateEntityFromDto(existing, updateRequest);
             when(mapper.toResponse(existing)).thenReturn(response);
 
             // When
-            UomResponse result = service.update(id, updateRequest);
+            UomResponse result = service.update(id, updateRequest, null);
 
             // Then
             assertThat(result).isNotNull();
@@ -247,10 +328,10 @@ class UomServiceImpTest {
         void update_shouldPreserveUomStatus() {
             // Given
             Long id = 1L;
-            UomUpdate updateRequest = new UomUpdate("Updated", "desc", new BigDecimal("1.0"));
+            UomUpdate updateRequest = new UomUpdate("Updated", "desc", new BigDecimal("1.0"), null, null);
             UomStatus originalStatus = UomStatus.builder().id(1L).name("Active").build();
             Uom existing = Uom.builder().id(1L).name("Original").uomStatus(originalStatus).build();
-            UomResponse response = new UomResponse(1L, "Updated", "desc", new BigDecimal("1.0"), null);
+            UomResponse response = new UomResponse(1L, "Updated", "desc", new BigDecimal("1.0"), null, null, null, null, null, 0L);
 
             when(repository.findById(id)).thenReturn(Optional.of(existing));
             doReturn(false).when(service).isNameTaken("Updated");
@@ -258,12 +339,221 @@ class UomServiceImpTest {
             when(mapper.toResponse(existing)).thenReturn(response);
 
             // When
-            service.update(id, updateRequest);
+            service.update(id, updateRequest, null);
 
             // Then
             verify(repository).findById(id);
             assertThat(existing.getUomStatus()).isEqualTo(originalStatus);
         }
+
+        @Test
+        @DisplayName("update() should apply the change when If-Match names the current version")
+        void update_withCurrentIfMatch_updates() {
+            // Given
+            Long id = 1L;
+            UomUpdate updateRequest = new UomUpdate("Kilogram", "desc", new BigDecimal("1.0"), null, null);
+            Uom existing = Uom.builder().id(1L).name("Kilogram").version(2L).build();
+            UomResponse response = new UomResponse(1L, "Kilogram", "desc", new BigDecimal("1.0"), null, null, null, null, null, 3L);
+
+            when(repository.findById(id)).thenReturn(Optional.of(existing));
+            when(mapper.toResponse(existing)).thenReturn(response);
+
+            // When
+            UomResponse result = service.update(id, updateRequest, "\"1-2\"");
+
+            // Then
+            assertThat(result).isEqualTo(response);
+            verify(mapper).updateEntityFromDto(existing, updateRequest);
+            verify(repository).flush();
+        }
+
+        @Test
+        @DisplayName("update() should throw PreconditionFailedException when If-Match names a stale version")
+        void update_withStaleIfMatch_throwsPreconditionFailed() {
+            // Given
+            Long id = 1L;
+            UomUpdate updateRequest = new UomUpdate("Kilogram", "desc", new BigDecimal("1.0"), null, null);
+            Uom existing = Uom.builder().id(1L).name("Kilogram").version(2L).build();
+
+            when(repository.findById(id)).thenReturn(Optional.of(existing));
+            when(messageService.getMessage("crud.version.mismatch", "Uom", id, "\"1-2\"", "\"1-1\""))
+                    .thenReturn("Uom with id 1 is at ETag \"1-2\", not \"1-1\"");
+
+            // When & Then
+            assertThatThrownBy(() -> service.update(id, updateRequest, "\"1-1\""))
+                    .isInstanceOf(PreconditionFailedException.class)
+                    .hasMessageContaining("\"1-2\"");
+
+            verify(mapper, never()).updateEntityFromDto(any(), any());
+            verify(repository, never()).flush();
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Operations")
+    class BulkOperations {
+
+        private final UomStatus active = UomStatus.builder().id(1L).name("Active").build();
+
+        @Test
+        @DisplayName("saveAll() should check names and statuses once for the batch and publish one event")
+        void saveAll_shouldCreateBatchWithSetBasedChecks() {
+            // Given
+            UomRequest kilogramRequest = new UomRequest("Kilogram", "Base unit of mass", new BigDecimal("1.000"), 1L, null, null);
+            UomRequest gramRequest = new UomRequest("Gram", "desc", new BigDecimal("0.001"), 1L, null, null);
+            Uom kilogram = Uom.builder().id(1L).name("Kilogram").conversionFactorToBase(new BigDecimal("1.000")).build();
+            Uom gram = Uom.builder().id(2L).name("Gram").conversionFactorToBase(new BigDecimal("0.001")).build();
+            UomResponse kilogramResponse = new UomResponse(1L, "Kilogram", "Base unit of mass", new BigDecimal("1.000"), 1L, 1L, 1L, null, null, 0L);
+            UomResponse gramResponse = new UomResponse(2L, "Gram", "desc", new BigDecimal("0.001"), 1L, 1L, 1000L, null, null, 0L);
+
+            when(repository.findAllByLowerCaseNameIn(Set.of("kilogram", "gram"))).thenReturn(List.of());
+            when(statusService.findEntitiesByIds(Set.of(1L))).thenReturn(Map.of(1L, active));
+            when(mapper.toEntity(kilogramRequest)).thenReturn(kilogram);
+            when(mapper.toEntity(gramRequest)).thenReturn(gram);
+            when(repository.saveAll(List.of(kilogram, gram))).thenReturn(List.of(kilogram, gram));
+            when(mapper.toResponse(kilogram)).thenReturn(kilogramResponse);
+            when(mapper.toResponse(gram)).thenReturn(gramResponse);
+
+            // When
+            List<UomResponse> result = service.saveAll(List.of(kilogramRequest, gramRequest));
+
+            // Then
+            assertThat(result).containsExactly(kilogramResponse, gramResponse);
+            assertThat(kilogram.getUomStatus()).isSameAs(active);
+            assertThat(gram.getUomStatus()).isSameAs(active);
+            verify(changeLog).record("Uom", List.of(1L, 2L), CatalogChangeEvent.ChangeType.CREATED);
+            verify(eventPublisher).publishEvent(new CatalogChangeEvent("Uom", null, CatalogChangeEvent.ChangeType.CREATED));
+            verify(statusService, never()).findEntityById(any());
+            verify(repository, never()).existsByNameIgnoreCase(any());
+        }
+
+        @Test
+        @DisplayName("saveAll() should throw ResourceConflictException when a name is repeated ignoring case")
+        void saveAll_shouldThrowConflictWhenNameRepeatedInBatch() {
+            // Given
+            UomRequest first = new UomRequest("Gram", "desc", new BigDecimal("0.001"), 1L, null, null);
+            UomRequest second = new UomRequest("GRAM", "desc", new BigDecimal("0.001"), 1L, null, null);
+            when(messageService.getMessage("crud.already.exists", "Uom", "name", "GRAM")).thenReturn("Uom already exists");
+
+            // When & Then
+            assertThatThrownBy(() -> service.saveAll(List.of(first, second)))
+                    .isInstanceOf(ResourceConflictException.class)
+                    .hasMessage("Uom already exists");
+            verifyNoInteractions(repository, eventPublisher);
+        }
+
+        @Test
+        @DisplayName("saveAll() should throw ResourceConflictException when a name is already taken")
+        void saveAll_shouldThrowConflictWhenNameTaken() {
+            // Given
+            UomRequest request = new UomRequest("gram", "desc", new BigDecimal("0.001"), 1L, null, null);
+            when(repository.findAllByLowerCaseNameIn(Set.of("gram"))).thenReturn(List.of(Uom.builder().id(9L).name("Gram").build()));
+            when(messageService.getMessage("crud.already.exists", "Uom", "name", "Gram")).thenReturn("Uom already exists");
+
+            // When & Then
+            assertThatThrownBy(() -> service.saveAll(List.of(request)))
+                    .isInstanceOf(ResourceConflictException.class);
+            verify(repository, never()).saveAll(any());
+            verifyNoInteractions(statusService, eventPublisher);
+        }
+
+        @Test
+        @DisplayName("updateAll() should load the batch in one query, keep statuses and allow unchanged names")
+        void updateAll_shouldUpdateBatch() {
+            // Given
+            Uom gram = Uom.builder().id(2L).name("Gram").conversionFactorToBase(new BigDecimal("0.001")).uomStatus(active).build();
+            UomBulkUpdate update = new UomBulkUpdate(2L, "Gram", "updated", new BigDecimal("0.001"), 3, RoundingMode.HALF_UP);
+            UomResponse response = new UomResponse(2L, "Gram", "updated", new BigDecimal("0.001"), 1L, 1L, 1000L, 3, RoundingMode.HALF_UP, 0L);
+            when(repository.findAllById(Set.of(2L))).thenReturn(List.of(gram));
+            when(repository.findAllByLowerCaseNameIn(Set.of("gram"))).thenReturn(List.of(gram));
+            when(mapper.toResponse(gram)).thenReturn(response);
+
+            // When
+            List<UomResponse> result = service.updateAll(List.of(update));
+
+            // Then
+            assertThat(result).containsExactly(response);
+            assertThat(gram.getUomStatus()).isSameAs(active);
+            verify(mapper).updateEntityFromBulkDto(gram, update);
+            verify(changeLog).record("Uom", Set.of(2L), CatalogChangeEvent.ChangeType.UPDATED);
+            verify(eventPublisher).publishEvent(new CatalogChangeEvent("Uom", null, CatalogChangeEvent.ChangeType.UPDATED));
+        }
+
+        @Test
+        @DisplayName("updateAll() should throw ResourceConflictException when a new name belongs to another unit")
+        void updateAll_shouldThrowConflictWhenNameHeldByAnotherUnit() {
+            // Given
+            Uom gram = Uom.builder().id(2L).name("Gram").uomStatus(active).build();
+            Uom kilogram = Uom.builder().id(1L).name("Kilogram").uomStatus(active).build();
+            when(repository.findAllById(Set.of(2L))).thenReturn(List.of(gram));
+            when(repository.findAllByLowerCaseNameIn(Set.of("kilogram"))).thenReturn(List.of(kilogram));
+            when(messageService.getMessage("crud.already.exists", "Uom", "name", "Kilogram")).thenReturn("Uom already exists");
+
+            // When & Then
+            assertThatThrownBy(() -> service.updateAll(List.of(new UomBulkUpdate(2L, "kilogram", null, BigDecimal.ONE, null, null))))
+                    .isInstanceOf(ResourceConflictException.class);
+            verify(mapper, never()).updateEntityFromBulkDto(any(), any());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("updateAll() should throw ResourceNotFoundException when a unit does not exist")
+        void updateAll_shouldThrowNotFoundWhenUnitMissing() {
+            // Given
+            when(repository.findAllById(Set.of(2L))).thenReturn(List.of());
+            when(messageService.getMessage("crud.not.found", "Uom", "id", 2L)).thenReturn("Uom not found");
+
+            // When & Then
+            assertThatThrownBy(() -> service.updateAll(List.of(new UomBulkUpdate(2L, "Gram", null, BigDecimal.ONE, null, null))))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage("Uom not found");
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("updateAll() should throw InvalidDataException when an id is repeated")
+        void updateAll_shouldThrowInvalidDataWhenIdRepeated() {
+            // Given
+            when(messageService.getMessage("uom.bulk.duplicate.id", "Uom", 2L)).thenReturn("Repeated id");
+
+            // When & Then
+            assertThatThrownBy(() -> service.updateAll(List.of(
+                    new UomBulkUpdate(2L, "Gram", null, BigDecimal.ONE, null, null),
+                    new UomBulkUpdate(2L, "Grams", null, BigDecimal.ONE, null, null))))
+                    .isInstanceOf(InvalidDataException.class)
+                    .hasMessage("Repeated id");
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("deleteAllById() should delete the distinct ids with one statement")
+        void deleteAllById_shouldDeleteInBatch() {
+            // Given
+            when(repository.findExistingIds(Set.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+
+            // When
+            service.deleteAllById(List.of(1L, 2L, 1L));
+
+            // Then
+            verify(repository).deleteAllByIdInBatch(Set.of(1L, 2L));
+            verify(repository, never()).deleteById(any());
+            verify(changeLog).record("Uom", Set.of(1L, 2L), CatalogChangeEvent.ChangeType.DELETED);
+            verify(eventPublisher).publishEvent(new CatalogChangeEvent("Uom", null, CatalogChangeEvent.ChangeType.DELETED));
+        }
+
+        @Test
+        @DisplayName("deleteAllById() should delete nothing when an id does not exist")
+        void deleteAllById_shouldThrowNotFoundWhenIdMissing() {
+            // Given
+            when(repository.findExistingIds(Set.of(1L, 2L))).thenReturn(List.of(1L));
+            when(messageService.getMessage("crud.not.found", "Uom", "id", 2L)).thenReturn("Uom not found");
+
+            // When & Then
+            assertThatThrownBy(() -> service.deleteAllById(List.of(1L, 2L)))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            verify(repository, never()).deleteAllByIdInBatch(any());
+            verifyNoInteractions(eventPublisher);
+        }
     }
 
     @Nested
@@ -284,6 +574,8 @@ class UomServiceImpTest {
             // Then
             verify(repository).existsById(id);
             verify(repository).deleteById(id);
+            verify(changeLog).record("Uom", id, CatalogChangeEvent.ChangeType.DELETED);
+            verify(eventPublisher).publishEvent(new CatalogChangeEvent("Uom", id, CatalogChangeEvent.ChangeType.DELETED));
         }
 
         @Test
@@ -300,6 +592,7 @@ class UomServiceImpTest {
                     .isInstanceOf(ResourceNotFoundException.class);
             
             verify(repository, never()).deleteById(any());
+            verifyNoInteractions(eventPublisher);
         }
     }
 
@@ -312,19 +605,18 @@ class UomServiceImpTest {
         void findById_shouldReturnResponseWhenExists() {
             // Given
             Long id = 1L;
-            Uom entity = Uom.builder().id(1L).name("Kilogram").build();
-            UomResponse response = new UomResponse(1L, "Kilogram", "desc", new BigDecimal("1.0"), null);
+            UomResponse response = new UomResponse(1L, "Kilogram", "desc", new BigDecimal("1.0"), null, null, null, null, null, 0L);
 
-            when(repository.findById(id)).thenReturn(Optional.of(entity));
-            when(mapper.toResponse(entity)).thenReturn(response);
+            when(lookupBatcher.find(id)).thenReturn(Optional.of(response));
 
             // When
             UomResponse result = service.findById(id);
 
             // Then
             assertThat(result).isEqualTo(response);
-            verify(repository).findById(id);
-            verify(mapper).toResponse(entity);
+            verify(lookupBatcher).find(id);
+            verify(catalog).recordDatabaseRead();
+            verify(autocomplete).recordUomUse(id);
         }
 
         @Test
@@ -332,7 +624,7 @@ class UomServiceImpTest {
         void findById_shouldThrowNotFoundWhenIdNotExists() {
             // Given
             Long id = 999L;
-            when(repository.findById(id)).thenReturn(Optional.empty());
+            when(lookupBatcher.find(id)).thenReturn(Optional.empty());
             when(messageService.getMessage("crud.not.found", "Uom", "id", id))
                     .thenReturn("Uom not found");
 
@@ -340,6 +632,63 @@ class UomServiceImpTest {
             assertThatThrownBy(() -> service.findById(id))
                     .isInstanceOf(ResourceNotFoundException.class);
         }
+
+        @Test
+        @DisplayName("findById() should serve repeated reads from the cache until the unit is deleted")
+        void findById_repeatedReads_servedFromCacheUntilInvalidated() {
+            // Given
+            Long id = 1L;
+            UomResponse response = new UomResponse(1L, "Kilogram", "desc", new BigDecimal("1.0"), null, null, null, null, null, 0L);
+            when(lookupBatcher.find(id)).thenReturn(Optional.of(response));
+            when(repository.existsById(id)).thenReturn(true);
+
+            // When
+            service.findById(id);
+            service.findById(id);
+            service.deleteById(id);
+            service.findById(id);
+
+            // Then
+            verify(lookupBatcher, times(2)).find(id);
+            assertThat(caches.uoms().hitCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("findById() should remember a missing id until a unit is created with it")
+        void findById_missingId_cachedUntilCreated() {
+            // Given
+            Long id = 999L;
+            when(lookupBatcher.find(id)).thenReturn(Optional.empty());
+            when(messageService.getMessage("crud.not.found", "Uom", "id", id)).thenReturn("Uom not found");
+
+            // When
+            assertThatThrownBy(() -> service.findById(id)).isInstanceOf(ResourceNotFoundException.class);
+            assertThatThrownBy(() -> service.findById(id)).isInstanceOf(ResourceNotFoundException.class);
+            caches.onCatalogChange(new CatalogChangeEvent("Uom", id, CatalogChangeEvent.ChangeType.CREATED));
+            assertThatThrownBy(() -> service.findById(id)).isInstanceOf(ResourceNotFoundException.class);
+
+            // Then
+            verify(lookupBatcher, times(2)).find(id);
+            assertThat(caches.findUom(id, key -> null)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("findAllByIds() should load distinct ids with one lookup and keep request order")
+        void findAllByIds_shouldLoadDistinctIdsInRequestOrder() {
+            // Given
+            UomResponse kilogram = new UomResponse(1L, "Kilogram", "desc", new BigDecimal("1.0"), null, null, null, null, null, 0L);
+            UomResponse gram = new UomResponse(2L, "Gram", "desc", new BigDecimal("0.001"), null, null, null, null, null, 0L);
+            when(lookupBatcher.findAll(Set.of(2L, 1L, 99L))).thenReturn(Map.of(1L, kilogram, 2L, gram));
+
+            // When
+            Map<Long, UomResponse> result = service.findAllByIds(List.of(2L, 99L, 1L, 2L));
+
+            // Then
+            assertThat(result).containsExactly(Map.entry(2L, gram), Map.entry(1L, kilogram));
+            verify(lookupBatcher).findAll(Set.of(2L, 1L, 99L));
+            verify(catalog).recordDatabaseRead();
+            verifyNoInteractions(repository);
+        }
     }
 
     @Nested
@@ -351,24 +700,61 @@ class UomServiceImpTest {
         void findAll_shouldReturnPagedResults() {
             // Given
             Pageable pageable = PageRequest.of(0, 10);
-            Uom entity1 = Uom.builder().id(1L).name("Kilogram").build();
-            Uom entity2 = Uom.builder().id(2L).name("Gram").build();
-            Page<Uom> entityPage = new PageImpl<>(List.of(entity1, entity2), pageable, 2);
-            UomResponse response1 = new UomResponse(1L, "Kilogram", "desc1", new BigDecimal("1.0"), null);
-            UomResponse response2 = new UomResponse(2L, "Gram", "desc2", new BigDecimal("0.001"), null);
+            UomResponse response1 = new UomResponse(1L, "Kilogram", "desc1", new BigDecimal("1.0"), null, null, null, null, null, 0L);
+            UomResponse response2 = new UomResponse(2L, "Gram", "desc2", new BigDecimal("0.001"), null, null, null, null, null, 0L);
+            Page<UomResponse> responsePage = new PageImpl<>(List.of(response1, response2), pageable, 2);
 
-            when(repository.findAll(pageable)).thenReturn(entityPage);
-            when(mapper.toResponse(entity1)).thenReturn(response1);
-            when(mapper.toResponse(entity2)).thenReturn(response2);
+            when(repository.findAllResponses(pageable)).thenReturn(responsePage);
 
             // When
             Page<UomResponse> result = service.findAll(pageable);
 
             // Then
             assertThat(result).isNotNull();
-            assertThat(result.getContent()).hasSize(2);
+            assertThat(result.getContent()).containsExactly(response1, response2);
             assertThat(result.getTotalElements()).isEqualTo(2);
-            verify(repository).findAll(pageable);
+            verify(repository).findAllResponses(pageable);
+            verifyNoInteractions(mapper);
+        }
+
+        @Test
+        @DisplayName("findAllByName() should run one query for identical concurrent searches")
+        void findAllByName_concurrentIdenticalSearches_runOneQuery() throws Exception {
+            // Given
+            int callers = 32;
+            Pageable pageable = PageRequest.of(0, 10);
+            UomResponse response = new UomResponse(1L, "Kilogram", "desc", new BigDecimal("1.0"), null, null, null, null, null, 0L);
+            CountDownLatch release = new CountDownLatch(1);
+            when(repository.findAllResponsesByNameContainingIgnoreCase("kilo", pageable)).thenAnswer(invocation -> {
+                release.await();
+                return new PageImpl<>(List.of(response), pageable, 1);
+            });
+
+            // When
+            ExecutorService executor = Executors.newFixedThreadPool(callers);
+            List<Future<Page<UomResponse>>> results = new ArrayList<>();
+            try {
+                for (int i = 0; i < callers; i++) {
+                    results.add(executor.submit(() -> service.findAllByName("kilo", pageable)));
+                }
+                // Holds the query until every other caller is waiting on it
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (meterRegistry.find("uom.singleflight.calls").tag("outcome", "coalesced").counters().stream()
+                    .mapToDouble(Counter::count).sum() < callers - 1) {
+                    assertThat(System.nanoTime()).isLessThan(deadline);
+                    TimeUnit.MILLISECONDS.sleep(1);
+                }
+                release.countDown();
+                for (Future<Page<UomResponse>> result : results) {
+                    assertThat(result.get(10, TimeUnit.SECONDS).getContent()).containsExactly(response);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // Then
+            verify(repository, times(1)).findAllResponsesByNameContainingIgnoreCase("kilo", pageable);
+            verify(catalog, times(callers)).recordDatabaseRead();
         }
 
         @Test
@@ -376,9 +762,9 @@ class UomServiceImpTest {
         void findAll_shouldReturnEmptyPageWhenNoData() {
             // Given
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Uom> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
+            Page<UomResponse> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-            when(repository.findAll(pageable)).thenReturn(emptyPage);
+            when(repository.findAllResponses(pageable)).thenReturn(emptyPage);
 
             // When
             Page<UomResponse> result = service.findAll(pageable);
@@ -395,20 +781,18 @@ class UomServiceImpTest {
             // Given
             String name = "kilo";
             Pageable pageable = PageRequest.of(0, 10);
-            Uom entity = Uom.builder().id(1L).name("Kilogram").build();
-            Page<Uom> entityPage = new PageImpl<>(List.of(entity), pageable, 1);
-            UomResponse response = new UomResponse(1L, "Kilogram", "desc", new BigDecimal("1.0"), null);
+            UomResponse response = new UomResponse(1L, "Kilogram", "desc", new BigDecimal("1.0"), null, null, null, null, null, 0L);
+            Page<UomResponse> responsePage = new PageImpl<>(List.of(response), pageable, 1);
 
-            when(repository.findAllByNameContainingIgnoreCase(name, pageable)).thenReturn(entityPage);
-            when(mapper.toResponse(entity)).thenReturn(response);
+            when(repository.findAllResponsesByNameContainingIgnoreCase(name, pageable)).thenReturn(responsePage);
 
             // When
             Page<UomResponse> result = service.findAllByName(name, pageable);
 
             // Then
             assertThat(result).isNotNull();
-            assertThat(result.getContent()).hasSize(1);
-            verify(repository).findAllByNameContainingIgnoreCase(name, pageable);
+            assertThat(result.getContent()).containsExactly(response);
+            verify(repository).findAllResponsesByNameContainingIgnoreCase(name, pageable);
         }
 
         @Test
@@ -417,15 +801,15 @@ class UomServiceImpTest {
             // Given
             String name = "KILO";
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Uom> entityPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
+            Page<UomResponse> responsePage = new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-            when(repository.findAllByNameContainingIgnoreCase(name, pageable)).thenReturn(entityPage);
+            when(repository.findAllResponsesByNameContainingIgnoreCase(name, pageable)).thenReturn(responsePage);
 
             // When
             service.findAllByName(name, pageable);
 
             // Then
-            verify(repository).findAllByNameContainingIgnoreCase(name, pageable);
+            verify(repository).findAllResponsesByNameContainingIgnoreCase(name, pageable);
         }
 
         @Test
@@ -434,20 +818,18 @@ class UomServiceImpTest {
             // Given
             Long statusId = 1L;
             Pageable pageable = PageRequest.of(0, 10);
-            Uom entity = Uom.builder().id(1L).name("Kilogram").build();
-            Page<Uom> entityPage = new PageImpl<>(List.of(entity), pageable, 1);
-            UomResponse response = new UomResponse(1L, "Kilogram", "desc", new BigDecimal("1.0"), null);
+            UomResponse response = new UomResponse(1L, "Kilogram", "desc", new BigDecimal("1.0"), statusId, null, null, null, null, 0L);
+            Page<UomResponse> responsePage = new PageImpl<>(List.of(response), pageable, 1);
 
-            when(repository.findAllByUomStatusId(statusId, pageable)).thenReturn(entityPage);
-            when(mapper.toResponse(entity)).thenReturn(response);
+            when(repository.findAllResponsesByUomStatusId(statusId, pageable)).thenReturn(responsePage);
 
             // When
             Page<UomResponse> result = service.findAllByUomStatusId(statusId, pageable);
 
             // Then
             assertThat(result).isNotNull();
-            assertThat(result.getContent()).hasSize(1);
-            verify(repository).findAllByUomStatusId(statusId, pageable);
+            assertThat(result.getContent()).containsExactly(response);
+            verify(repository).findAllResponsesByUomStatusId(statusId, pageable);
         }
 
         @Test
@@ -456,9 +838,9 @@ class UomServiceImpTest {
             // Given
             Long statusId = 999L;
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Uom> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
+            Page<UomResponse> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-            when(repository.findAllByUomStatusId(statusId, pageable)).thenReturn(emptyPage);
+            when(repository.findAllResponsesByUomStatusId(statusId, pageable)).thenReturn(emptyPage);
 
             // When
             Page<UomResponse> result = service.findAllByUomStatusId(statusId, pageable);
@@ -467,12 +849,84 @@ class UomServiceImpTest {
             assertThat(result).isNotNull();
             assertThat(result.getContent()).isEmpty();
         }
+
+        @Test
+        @DisplayName("findSliceByName() should read a slice without counting")
+        void findSliceByName_shouldNotCount() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 1);
+            UomResponse response = new UomResponse(1L, "Kilogram", "desc", new BigDecimal("1.0"), null, null, null, null, null, 0L);
+            when(repository.findResponseSliceByNameContainingIgnoreCase("kilo", pageable))
+                .thenReturn(new SliceImpl<>(List.of(response), pageable, true));
+
+            // When
+            SliceResponse<UomResponse> result = service.findSliceByName("kilo", pageable, false);
+
+            // Then
+            assertThat(result).isEqualTo(new SliceResponse<>(List.of(response), 0, 1, true, null));
+            verify(repository, never()).countByNameContainingIgnoreCase(any());
+            verify(repository, never()).findAllResponsesByNameContainingIgnoreCase(any(), any());
+        }
+
+        @Test
+        @DisplayName("findSliceByName() should count the approximate total once per name until the next write")
+        void findSliceByName_shouldCacheApproximateTotalUntilWrite() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 10);
+            when(repository.findResponseSliceByNameContainingIgnoreCase(any(), any()))
+                .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+            when(repository.countByNameContainingIgnoreCase(any())).thenReturn(42L, 43L);
+
+            // When
+            SliceResponse<UomResponse> first = service.findSliceByName("kilo", pageable, true);
+            SliceResponse<UomResponse> otherCase = service.findSliceByName("KILO", pageable, true);
+            caches.onCatalogChange(new CatalogChangeEvent("Uom", 7L, CatalogChangeEvent.ChangeType.CREATED));
+            SliceResponse<UomResponse> afterWrite = service.findSliceByName("kilo", pageable, true);
+
+            // Then
+            assertThat(first.approximateTotal()).isEqualTo(42L);
+            assertThat(otherCase.approximateTotal()).isEqualTo(42L);
+            assertThat(afterWrite.approximateTotal()).isEqualTo(43L);
+            verify(repository, times(2)).countByNameContainingIgnoreCase(any());
+        }
+
+        @Test
+        @DisplayName("findSliceByUomStatusId() should report the last slice")
+        void findSliceByUomStatusId_shouldReportLastSlice() {
+            // Given
+            Pageable pageable = PageRequest.of(2, 10);
+            UomResponse response = new UomResponse(21L, "Gram", "desc", new BigDecimal("0.001"), 1L, null, null, null, null, 0L);
+            when(repository.findResponseSliceByUomStatusId(1L, pageable)).thenReturn(new SliceImpl<>(List.of(response), pageable, false));
+            when(repository.countByUomStatusId(1L)).thenReturn(21L);
+
+            // When
+            SliceResponse<UomResponse> result = service.findSliceByUomStatusId(1L, pageable, true);
+
+            // Then
+            assertThat(result).isEqualTo(new SliceResponse<>(List.of(response), 2, 10, false, 21L));
+            verify(repository, never()).findAllResponsesByUomStatusId(any(), any());
+        }
     }
 
     @Nested
     @DisplayName("Business Logic Operations")
     class BusinessLogicOperations {
 
+        @Test
+        @DisplayName("autocomplete() should return the suggestions of the index without reaching the repository")
+        void autocomplete_returnsIndexSuggestions() {
+            // Given
+            List<NameSuggestion> suggestions = List.of(new NameSuggestion(1L, "Kilogram", 12L), new NameSuggestion(3L, "Kilometer", 4L));
+            when(autocomplete.suggestUoms("kilo", 10)).thenReturn(suggestions);
+
+            // When
+            List<NameSuggestion> result = service.autocomplete("kilo", 10);
+
+            // Then
+            assertThat(result).isEqualTo(suggestions);
+            verifyNoInteractions(repository);
+        }
+
         @Test
         @DisplayName("isNameTaken() should return true when name exists")
         void isNameTaken_shouldReturnTrueWhenExists() {
@@ -517,6 +971,25 @@ class UomServiceImpTest {
             verify(repository).existsByNameIgnoreCase(name);
         }
 
+        @Test
+        @DisplayName("isNameTaken() should not query names the name filter never saw")
+        void isNameTaken_withNameFilter_skipsDatabaseForUnknownNames() {
+            // Given
+            nameIndex.uomNames().rebuild(Stream.of("Kilogram"), 1);
+            when(repository.existsByNameIgnoreCase("KILOGRAM")).thenReturn(true);
+
+            // When
+            boolean unknown = service.isNameTaken("Liter");
+            boolean known = service.isNameTaken("KILOGRAM");
+
+            // Then
+            assertThat(unknown).isFalse();
+            assertThat(known).isTrue();
+            verify(repository).existsByNameIgnoreCase("KILOGRAM");
+            verifyNoMoreInteractions(repository);
+            assertThat(nameIndex.uomNames().negativeCount()).isEqualTo(1);
+        }
+
         @Test
         @DisplayName("changeStatus() should update status when both exist")
         void changeStatus_shouldUpdateStatusWhenBothExist() {
@@ -574,4 +1047,590 @@ class UomServiceImpTest {
                     .isInstanceOf(ResourceNotFoundException.class);
         }
     }
+
+    @Nested
+    @DisplayName("Catalog Snapshot Reads")
+    class CatalogSnapshotReads {
+
+        private final UomResponse kilogram = new UomResponse(1L, "Kilogram", "Base unit of mass", new BigDecimal("1.000"), 1L, null, null, null, null, 0L);
+        private final UomResponse gram = new UomResponse(2L, "Gram", "desc", new BigDecimal("0.001"), 2L, null, null, null, null, 0L);
+        private final CatalogSnapshot snapshot = new CatalogSnapshot(1L, Instant.now(), List.of(kilogram, gram), List.of());
+
+        @Test
+        @DisplayName("findById() should be served by the snapshot without touching the repository")
+        void findById_withSnapshot_doesNotHitRepository() {
+            // Given
+            when(catalog.current()).thenReturn(snapshot);
+
+            // When
+            UomResponse result = service.findById(2L);
+
+            // Then
+            assertThat(result).isEqualTo(gram);
+            verify(catalog).recordSnapshotRead();
+            verifyNoInteractions(repository, mapper);
+        }
+
+        @Test
+        @DisplayName("findById() should throw ResourceNotFoundException when the snapshot has no such id")
+        void findById_withSnapshotAndUnknownId_throwsNotFound() {
+            // Given
+            when(catalog.current()).thenReturn(snapshot);
+            when(messageService.getMessage("crud.not.found", "Uom", "id", 99L)).thenReturn("Uom not found");
+
+            // When & Then
+            assertThatThrownBy(() -> service.findById(99L))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("findAllByIds() should be served by the snapshot and omit unknown ids")
+        void findAllByIds_withSnapshot_omitsUnknownIds() {
+            // Given
+            when(catalog.current()).thenReturn(snapshot);
+
+            // When
+            Map<Long, UomResponse> result = service.findAllByIds(List.of(2L, 99L, 1L));
+
+            // Then
+            assertThat(result).containsExactly(Map.entry(2L, gram), Map.entry(1L, kilogram));
+            verify(catalog).recordSnapshotRead();
+            verifyNoInteractions(repository, lookupBatcher);
+        }
+
+        @Test
+        @DisplayName("findAllByName() and findAllByUomStatusId() should filter the snapshot")
+        void findAllByNameAndStatus_withSnapshot_filterInMemory() {
+            // Given
+            when(catalog.current()).thenReturn(snapshot);
+            Pageable pageable = PageRequest.of(0, 10);
+
+            // When
+            Page<UomResponse> byName = service.findAllByName("GRAM", pageable);
+            Page<UomResponse> byStatus = service.findAllByUomStatusId(1L, pageable);
+
+            // Then
+            assertThat(byName.getContent()).containsExactly(kilogram, gram);
+            assertThat(byStatus.getContent()).containsExactly(kilogram);
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("findAllByNameFuzzy() should rank the snapshot's matches by relevance and tolerate typos")
+        void findAllByNameFuzzy_withSnapshot_ranksInMemory() {
+            // Given
+            when(catalog.current()).thenReturn(snapshot);
+            Pageable pageable = PageRequest.of(0, 10);
+
+            // When
+            Page<UomResponse> exactFirst = service.findAllByNameFuzzy("GRAM", pageable);
+            Page<UomResponse> typo = service.findAllByNameFuzzy("kilogarm", pageable);
+
+            // Then
+            assertThat(exactFirst.getContent()).containsExactly(gram, kilogram);
+            assertThat(typo.getContent()).containsExactly(kilogram);
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("findAllByNameFuzzy() should fall back to the substring search without the snapshot")
+        void findAllByNameFuzzy_withoutSnapshot_fallsBackToSubstringSearch() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 10);
+            when(repository.findAllResponsesByNameContainingIgnoreCase("gram", pageable)).thenReturn(Page.empty(pageable));
+
+            // When
+            Page<UomResponse> result = service.findAllByNameFuzzy("gram", pageable);
+
+            // Then
+            assertThat(result.getContent()).isEmpty();
+            verify(repository).findAllResponsesByNameContainingIgnoreCase("gram", pageable);
+        }
+
+        @Test
+        @DisplayName("findAll() should fall back to the repository when the sort is not held by the snapshot")
+        void findAll_withUnsupportedSort_fallsBackToRepository() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 10, Sort.by("uomStatus.name"));
+            when(catalog.current()).thenReturn(snapshot);
+            when(repository.findAllResponses(pageable)).thenReturn(new PageImpl<>(Collections.emptyList(), pageable, 0));
+
+            // When
+            service.findAll(pageable);
+
+            // Then
+            verify(repository).findAllResponses(pageable);
+            verify(catalog).recordDatabaseRead();
+        }
+
+        @Test
+        @DisplayName("isNameTaken() should answer from the snapshot ignoring case")
+        void isNameTaken_withSnapshot_ignoresCase() {
+            // Given
+            when(catalog.current()).thenReturn(snapshot);
+
+            // When & Then
+            assertThat(service.isNameTaken("KILOGRAM")).isTrue();
+            assertThat(service.isNameTaken("Liter")).isFalse();
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("findSliceByName() should take the exact total from the snapshot")
+        void findSliceByName_withSnapshot_usesExactTotal() {
+            // Given
+            when(catalog.current()).thenReturn(snapshot);
+
+            // When
+            SliceResponse<UomResponse> result = service.findSliceByName("gram", PageRequest.of(0, 1, Sort.by("id")), true);
+
+            // Then
+            assertThat(result).isEqualTo(new SliceResponse<>(List.of(kilogram), 0, 1, true, 2L));
+            verify(catalog).recordSnapshotRead();
+            verifyNoInteractions(repository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Keyset Reads")
+    class KeysetReads {
+
+        private final UomResponse kilogram = new UomResponse(1L, "Kilogram", "Base unit of mass", new BigDecimal("1.000"), 1L, null, null, null, null, 0L);
+        private final UomResponse gram = new UomResponse(2L, "Gram", "desc", new BigDecimal("0.001"), 1L, null, null, null, null, 0L);
+
+        @Test
+        @DisplayName("scrollAll() should page the snapshot by name and return the next cursor")
+        void scrollAll_withSnapshot_pagesInMemory() {
+            // Given
+            when(catalog.current()).thenReturn(new CatalogSnapshot(1L, Instant.now(), List.of(gram, kilogram), List.of()));
+
+            // When
+            CursorPageResponse<UomResponse> first = service.scrollAll("", "name", 1);
+            CursorPageResponse<UomResponse> second = service.scrollAll(first.nextCursor(), null, 1);
+
+            // Then
+            assertThat(first.content()).containsExactly(gram);
+            assertThat(first.hasNext()).isTrue();
+            assertThat(second.content()).containsExactly(kilogram);
+            assertThat(second.hasNext()).isFalse();
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("scrollAll() should run the seek query when the row of a name cursor is no longer in the snapshot")
+        void scrollAll_cursorRowNotInSnapshot_runsSeekQuery() {
+            // Given
+            Uom kilogramEntity = Uom.builder().id(1L).name("Kilogram").build();
+            KeysetCursor cursor = KeysetCursor.first("name").after("Centigram", 7L);
+            when(catalog.current()).thenReturn(new CatalogSnapshot(1L, Instant.now(), List.of(gram, kilogram), List.of()));
+            when(repository.findAllBy(cursor.scrollPosition(), cursor.sort(), Limit.of(1)))
+                    .thenReturn(Window.from(List.of(kilogramEntity), ScrollPosition::offset, false));
+            when(mapper.toResponse(kilogramEntity)).thenReturn(kilogram);
+
+            // When
+            CursorPageResponse<UomResponse> result = service.scrollAll(cursor.encode(), null, 1);
+
+            // Then
+            assertThat(result.content()).containsExactly(kilogram);
+            assertThat(result.hasNext()).isFalse();
+            verify(catalog).recordDatabaseRead();
+            verify(catalog, never()).recordSnapshotRead();
+        }
+
+        @Test
+        @DisplayName("scrollAllByUomStatusId() should run the seek query when the snapshot is disabled")
+        void scrollAllByUomStatusId_withoutSnapshot_runsSeekQuery() {
+            // Given
+            Uom gramEntity = Uom.builder().id(2L).name("Gram").build();
+            KeysetCursor cursor = KeysetCursor.first("name").after("Centigram", 7L);
+            when(catalog.current()).thenReturn(null);
+            when(repository.findAllByUomStatusId(1L, cursor.scrollPosition(), cursor.sort(), Limit.of(1)))
+                    .thenReturn(Window.from(List.of(gramEntity), ScrollPosition::offset, true));
+            when(mapper.toResponse(gramEntity)).thenReturn(gram);
+
+            // When
+            CursorPageResponse<UomResponse> result = service.scrollAllByUomStatusId(1L, cursor.encode(), null, 1);
+
+            // Then
+            assertThat(result.content()).containsExactly(gram);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(KeysetCursor.decode(result.nextCursor())).isEqualTo(cursor.after("Gram", 2L));
+            verify(catalog).recordDatabaseRead();
+        }
+
+        @Test
+        @DisplayName("scrollAllByName() should throw InvalidDataException for a malformed cursor")
+        void scrollAllByName_withMalformedCursor_throwsInvalidData() {
+            // Given
+            when(messageService.getMessage(eq("pagination.cursor.invalid"), any())).thenReturn("Invalid pagination cursor");
+
+            // When & Then
+            assertThatThrownBy(() -> service.scrollAllByName("gram", "###", null, 10))
+                    .isInstanceOf(InvalidDataException.class)
+                    .hasMessage("Invalid pagination cursor");
+            verifyNoInteractions(repository, catalog);
+        }
+    }
+
+    @Nested
+    @DisplayName("Export Operations")
+    class ExportOperations {
+
+        private final UomResponse kilogram = new UomResponse(1L, "Kilogram", "Base unit of mass", new BigDecimal("1.000"), 1L, null, null, null, null, 0L);
+        private final UomResponse gram = new UomResponse(2L, "Gram", "desc", new BigDecimal("0.001"), 2L, null, null, null, null, 0L);
+
+        @Test
+        @DisplayName("export() should stream the filtered snapshot without touching the database")
+        void export_withSnapshot_streamsFilteredSnapshot() {
+            // Given
+            List<UomResponse> exported = new ArrayList<>();
+            when(catalog.current()).thenReturn(new CatalogSnapshot(1L, Instant.now(), List.of(kilogram, gram), List.of()));
+
+            // When
+            long count = service.export(2L, exported::add);
+
+            // Then
+            assertThat(count).isEqualTo(1);
+            assertThat(exported).containsExactly(gram);
+            verify(catalog).recordSnapshotRead();
+            verifyNoInteractions(repository, entityManager);
+        }
+
+        @Test
+        @DisplayName("export() should stream, detach and close the database cursor when the snapshot is disabled")
+        void export_withoutSnapshot_streamsAndDetachesEntities() {
+            // Given
+            Uom kilogramEntity = Uom.builder().id(1L).name("Kilogram").build();
+            Uom gramEntity = Uom.builder().id(2L).name("Gram").build();
+            AtomicBoolean closed = new AtomicBoolean();
+            List<UomResponse> exported = new ArrayList<>();
+            when(catalog.current()).thenReturn(null);
+            when(repository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(kilogramEntity, gramEntity).onClose(() -> closed.set(true)));
+            when(mapper.toResponse(kilogramEntity)).thenReturn(kilogram);
+            when(mapper.toResponse(gramEntity)).thenReturn(gram);
+
+            // When
+            long count = service.export(null, exported::add);
+
+            // Then
+            assertThat(count).isEqualTo(2);
+            assertThat(exported).containsExactly(kilogram, gram);
+            assertThat(closed).isTrue();
+            verify(entityManager).detach(kilogramEntity);
+            verify(entityManager).detach(gramEntity);
+            verify(catalog).recordDatabaseRead();
+        }
+    }
+
+    @Nested
+    @DisplayName("Conversion Operations")
+    class ConversionOperations {
+
+        private final UomStatusResponse active = new UomStatusResponse(1L, "Active", null, true, 0L);
+        private final UomStatusResponse retired = new UomStatusResponse(2L, "Retired", null, false, 0L);
+        private final CatalogSnapshot snapshot = new CatalogSnapshot(1L, Instant.now(),
+                List.of(
+                        new UomResponse(1L, "Kilogram", null, new BigDecimal("1.000"), 1L, null, null, null, null, 0L),
+                        new UomResponse(2L, "Gram", null, new BigDecimal("0.001"), 1L, null, null, null, null, 0L),
+                        new UomResponse(3L, "Pound", null, new BigDecimal("0.454"), 2L, null, null, null, null, 0L)
+                ),
+                List.of(active, retired));
+
+        @Test
+        @DisplayName("convert() should resolve factors from the snapshot without touching the repository")
+        void convert_withSnapshot_usesConversionTable() {
+            // Given
+            when(catalog.current()).thenReturn(snapshot);
+
+            // When
+            ConversionResponse result = service.convert(1L, 2L, new BigDecimal("2.5"));
+
+            // Then
+            assertThat(result.result()).isEqualByComparingTo("2500");
+            assertThat(result.quantity()).isEqualByComparingTo("2.5");
+            verifyNoInteractions(repository);
+            verify(autocomplete).recordUomUse(1L);
+            verify(autocomplete).recordUomUse(2L);
+        }
+
+        @Test
+        @DisplayName("convert() should keep precision for non-terminating divisions")
+        void convert_withNonTerminatingDivision_roundsToDecimal64() {
+            // Given
+            CatalogSnapshot thirds = new CatalogSnapshot(1L, Instant.now(),
+                    List.of(new UomResponse(1L, "One", null, new BigDecimal("1"), 1L, null, null, null, null, 0L),
+                            new UomResponse(2L, "Three", null, new BigDecimal("3"), 1L, null, null, null, null, 0L)),
+                    List.of(active));
+            when(catalog.current()).thenReturn(thirds);
+
+            // When
+            ConversionResponse result = service.convert(1L, 2L, BigDecimal.ONE);
+
+            // Then
+            assertThat(result.result()).isEqualByComparingTo("0.3333333333333333");
+        }
+
+        @Test
+        @DisplayName("convert() should throw ResourceNotFoundException for unknown units")
+        void convert_withUnknownUnit_throwsNotFound() {
+            // Given
+            when(catalog.current()).thenReturn(snapshot);
+            when(messageService.getMessage("crud.not.found", "Uom", "id", 99L)).thenReturn("Uom not found");
+
+            // When & Then
+            assertThatThrownBy(() -> service.convert(1L, 99L, BigDecimal.ONE))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage("Uom not found");
+        }
+
+        @Test
+        @DisplayName("convert() should throw InvalidDataException when the target unit forbids the needed rounding")
+        void convert_withForbiddenRounding_throwsInvalidData() {
+            // Given
+            CatalogSnapshot strict = new CatalogSnapshot(1L, Instant.now(),
+                    List.of(new UomResponse(1L, "One", null, new BigDecimal("1"), 1L, null, null, null, null, 0L),
+                            new UomResponse(2L, "Three", null, new BigDecimal("3"), 1L, null, null, 0, RoundingMode.UNNECESSARY, 0L)),
+                    List.of(active));
+            when(catalog.current()).thenReturn(strict);
+            when(messageService.getMessage("uom.conversion.rounding.necessary", 2L)).thenReturn("Rounding necessary");
+
+            // When & Then
+            assertThatThrownBy(() -> service.convert(1L, 2L, BigDecimal.ONE))
+                    .isInstanceOf(InvalidDataException.class)
+                    .hasMessage("Rounding necessary");
+        }
+
+        @Test
+        @DisplayName("convert() should throw InvalidDataException when a unit status is not usable")
+        void convert_withUnusableUnit_throwsInvalidData() {
+            // Given
+            when(catalog.current()).thenReturn(snapshot);
+            when(messageService.getMessage("uom.conversion.not.usable", 3L)).thenReturn("Not usable");
+
+            // When & Then
+            assertThatThrownBy(() -> service.convert(3L, 1L, BigDecimal.ONE))
+                    .isInstanceOf(InvalidDataException.class);
+        }
+
+        @Test
+        @DisplayName("convert() should load both units from the repository when no snapshot is available")
+        void convert_withoutSnapshot_loadsUnitsFromRepository() {
+            // Given
+            UomStatus usable = UomStatus.builder().id(1L).isUsable(true).build();
+            Uom kilogram = Uom.builder().id(1L).conversionFactorToBase(new BigDecimal("1.000")).uomStatus(usable).build();
+            Uom gram = Uom.builder().id(2L).conversionFactorToBase(new BigDecimal("0.001")).uomStatus(usable).build();
+            when(repository.findAllByIdIn(List.of(2L, 1L))).thenReturn(List.of(kilogram, gram));
+
+            // When
+            ConversionResponse result = service.convert(2L, 1L, new BigDecimal("500"));
+
+            // Then
+            assertThat(result.result()).isEqualByComparingTo("0.5");
+            verify(repository, times(1)).findAllByIdIn(any());
+            verify(catalog).recordDatabaseRead();
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Conversion Operations")
+    class BatchConversionOperations {
+
+        private final CatalogSnapshot snapshot = new CatalogSnapshot(1L, Instant.now(),
+                List.of(
+                        new UomResponse(1L, "Kilogram", null, new BigDecimal("1.000"), 1L, null, null, null, null, 0L),
+                        new UomResponse(2L, "Gram", null, new BigDecimal("0.001"), 1L, null, null, null, null, 0L),
+                        new UomResponse(3L, "Pound", null, new BigDecimal("0.454"), 2L, null, null, null, null, 0L)
+                ),
+                List.of(new UomStatusResponse(1L, "Active", null, true, 0L), new UomStatusResponse(2L, "Retired", null, false, 0L)));
+
+        @Test
+        @DisplayName("convertBatch() should convert lines in order and report failed lines without failing the batch")
+        void convertBatch_withMixedLines_reportsPerLineErrors() {
+            // Given
+            when(catalog.current()).thenReturn(snapshot);
+            when(messageService.getMessage("crud.not.found", "Uom", "id", 99L)).thenReturn("Uom not found");
+            when(messageService.getMessage("uom.conversion.not.usable", 3L)).thenReturn("Not usable");
+            List<ConversionRequest> requests = List.of(
+                    new ConversionRequest(1L, 2L, new BigDecimal("2.5")),
+                    new ConversionRequest(1L, 99L, BigDecimal.ONE),
+                    new ConversionRequest(3L, 1L, BigDecimal.ONE),
+                    new ConversionRequest(2L, 1L, new BigDecimal("500"))
+            );
+
+            // When
+            BatchConversionResponse result = service.convertBatch(requests);
+
+            // Then
+            assertThat(result.total()).isEqualTo(4);
+            assertThat(result.converted()).isEqualTo(2);
+            assertThat(result.failed()).isEqualTo(2);
+            assertThat(result.results().get(0).result()).isEqualByComparingTo("2500");
+            assertThat(result.results().get(1).errorCode()).isEqualTo(1004);
+            assertThat(result.results().get(1).errorMessage()).isEqualTo("Uom not found");
+            assertThat(result.results().get(2).errorCode()).isEqualTo(1002);
+            assertThat(result.results().get(2).errorMessage()).isEqualTo("Not usable");
+            assertThat(result.results().get(3).result()).isEqualByComparingTo("0.5");
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("convertBatch() should keep request order when converting in parallel")
+        void convertBatch_withLargeBatch_keepsRequestOrder() {
+            // Given
+            when(catalog.current()).thenReturn(snapshot);
+            List<ConversionRequest> requests = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                requests.add(new ConversionRequest(1L, 2L, BigDecimal.valueOf(i)));
+            }
+
+            // When
+            BatchConversionResponse result = service.convertBatch(requests);
+
+            // Then
+            assertThat(result.converted()).isEqualTo(10_000);
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(result.results().get(i).result()).isEqualByComparingTo(BigDecimal.valueOf(i * 1000L));
+            }
+        }
+
+        @Test
+        @DisplayName("convertBatch() should load all referenced units with one query when no snapshot is available")
+        void convertBatch_withoutSnapshot_loadsUnitsOnce() {
+            // Given
+            UomStatus usable = UomStatus.builder().id(1L).isUsable(true).build();
+            Uom kilogram = Uom.builder().id(1L).conversionFactorToBase(new BigDecimal("1.000")).uomStatus(usable).build();
+            Uom gram = Uom.builder().id(2L).conversionFactorToBase(new BigDecimal("0.001")).uomStatus(usable).build();
+            when(repository.findAllByIdIn(any())).thenReturn(List.of(kilogram, gram));
+
+            // When
+            BatchConversionResponse result = service.convertBatch(List.of(
+                    new ConversionRequest(1L, 2L, BigDecimal.ONE),
+                    new ConversionRequest(2L, 1L, BigDecimal.TEN)
+            ));
+
+            // Then
+            assertThat(result.converted()).isEqualTo(2);
+            assertThat(result.results().get(1).result()).isEqualByComparingTo("0.01");
+            verify(repository, times(1)).findAllByIdIn(any());
+            verify(catalog).recordDatabaseRead();
+        }
+    }
+
+    @Nested
+    @DisplayName("Binary Conversion Operations")
+    class BinaryConversionOperations {
+
+        private final CatalogSnapshot snapshot = new CatalogSnapshot(1L, Instant.now(),
+                List.of(
+                        new UomResponse(1L, "Kilogram", null, new BigDecimal("1.000"), 1L, null, null, null, null, 0L),
+                        new UomResponse(2L, "Gram", null, new BigDecimal("0.001"), 1L, null, null, null, null, 0L)
+                ),
+                List.of(new UomStatusResponse(1L, "Active", null, true, 0L)));
+
+        @Test
+        @DisplayName("convertBinary() should scale little-endian doubles by the combined factor")
+        void convertBinary_withSnapshot_scalesPayload() {
+            // Given
+            when(catalog.current()).thenReturn(snapshot);
+            byte[] payload = ByteBuffer.allocate(2 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                    .putDouble(2.5).putDouble(0.75).array();
+
+            // When
+            byte[] result = service.convertBinary(1L, 2L, payload);
+
+            // Then
+            ByteBuffer converted = ByteBuffer.wrap(result).order(ByteOrder.LITTLE_ENDIAN);
+            assertThat(converted.getDouble()).isEqualTo(2500.0);
+            assertThat(converted.getDouble()).isEqualTo(750.0);
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("convertBinary() should reject payloads that are not a whole number of doubles")
+        void convertBinary_withTruncatedPayload_throwsInvalidData() {
+            // Given
+            when(messageService.getMessage("uom.conversion.binary.invalid.length", 7, Double.BYTES)).thenReturn("Invalid length");
+
+            // When & Then
+            assertThatThrownBy(() -> service.convertBinary(1L, 2L, new byte[7]))
+                    .isInstanceOf(InvalidDataException.class)
+                    .hasMessage("Invalid length");
+            verifyNoInteractions(catalog);
+        }
+    }
+
+    @Nested
+    @DisplayName("Quantity Parsing Operations")
+    class QuantityParsingOperations {
+
+        private final CatalogSnapshot snapshot = new CatalogSnapshot(1L, Instant.now(),
+                List.of(
+                        new UomResponse(1L, "Kilogram", null, new BigDecimal("1.000"), 1L, null, null, null, null, 0L),
+                        new UomResponse(2L, "Gram", null, new BigDecimal("0.001"), 1L, null, null, null, null, 0L),
+                        new UomResponse(3L, "Pound", null, new BigDecimal("0.454"), 2L, null, null, null, null, 0L)
+                ),
+                List.of(new UomStatusResponse(1L, "Active", null, true, 0L), new UomStatusResponse(2L, "Retired", null, false, 0L)));
+
+        private final AliasTable units = AliasTable.build(List.of(
+                new AliasTable.Entry("Kilogram", 1L),
+                new AliasTable.Entry("Gram", 2L),
+                new AliasTable.Entry("Pound", 3L),
+                new AliasTable.Entry("kg", 1L),
+                new AliasTable.Entry("Ton", 9L)
+        ));
+
+        @Test
+        @DisplayName("parseQuantities() should convert each line to its base unit and report failed lines without failing the request")
+        void parseQuantities_withMixedLines_reportsPerLineErrors() {
+            // Given
+            when(aliases.table()).thenReturn(units);
+            when(catalog.current()).thenReturn(snapshot);
+            when(messageService.getMessage("uom.parse.invalid.number", "12,5 kg")).thenReturn("Invalid number");
+            when(messageService.getMessage("uom.parse.unknown.unit", "bushel")).thenReturn("Unknown unit");
+            when(messageService.getMessage("uom.conversion.not.usable", 3L)).thenReturn("Not usable");
+            when(messageService.getMessage("crud.not.found", "Uom", "id", 9L)).thenReturn("Uom not found");
+            String text = "1,250.5 KG\r\n\n  500gram \n12,5 kg\n3 bushel\n2 pound\n1 ton";
+
+            // When
+            QuantityParseResponse result = service.parseQuantities(text);
+
+            // Then
+            assertThat(result.total()).isEqualTo(6);
+            assertThat(result.parsed()).isEqualTo(2);
+            assertThat(result.failed()).isEqualTo(4);
+            assertThat(result.results().get(0).line()).isEqualTo(1);
+            assertThat(result.results().get(0).input()).isEqualTo("1,250.5 KG");
+            assertThat(result.results().get(0).uomId()).isEqualTo(1L);
+            assertThat(result.results().get(0).baseQuantity()).isEqualByComparingTo("1250.5");
+            assertThat(result.results().get(1).line()).isEqualTo(3);
+            assertThat(result.results().get(1).baseQuantity()).isEqualByComparingTo("0.5");
+            assertThat(result.results().get(2).errorCode()).isEqualTo(1002);
+            assertThat(result.results().get(2).errorMessage()).isEqualTo("Invalid number");
+            assertThat(result.results().get(3).errorCode()).isEqualTo(1004);
+            assertThat(result.results().get(3).errorMessage()).isEqualTo("Unknown unit");
+            assertThat(result.results().get(4).quantity()).isEqualByComparingTo("2");
+            assertThat(result.results().get(4).errorMessage()).isEqualTo("Not usable");
+            assertThat(result.results().get(5).errorMessage()).isEqualTo("Uom not found");
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("parseQuantities() should load the resolved units with one query when no snapshot is available")
+        void parseQuantities_withoutSnapshot_loadsUnitsOnce() {
+            // Given
+            UomStatus usable = UomStatus.builder().id(1L).isUsable(true).build();
+            Uom gram = Uom.builder().id(2L).conversionFactorToBase(new BigDecimal("0.001")).uomStatus(usable).build();
+            when(aliases.table()).thenReturn(units);
+            when(repository.findAllByIdIn(any())).thenReturn(List.of(gram));
+
+            // When
+            QuantityParseResponse result = service.parseQuantities("250 gram\n-4 GRAM");
+
+            // Then
+            assertThat(result.parsed()).isEqualTo(2);
+            assertThat(result.results().get(1).baseQuantity()).isEqualByComparingTo("-0.004");
+            verify(repository, times(1)).findAllByIdIn(any());
+        }
+    }
 }
@@ -1,14 +1,29 @@
 package com.elara.app.unit_of_measure_service.service.implementation;
 
+import com.elara.app.unit_of_measure_service.autocomplete.AutocompleteIndex;
+import com.elara.app.unit_of_measure_service.cache.CatalogCaches;
+import com.elara.app.unit_of_measure_service.cache.CatalogNameIndex;
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeEvent;
+import com.elara.app.unit_of_measure_service.catalog.CatalogSnapshot;
+import com.elara.app.unit_of_measure_service.catalog.CatalogChangeLog;
+import com.elara.app.unit_of_measure_service.catalog.CatalogSnapshotHolder;
 import com.elara.app.unit_of_measure_service.dto.request.UomStatusRequest;
+import com.elara.app.unit_of_measure_service.dto.response.CursorPageResponse;
+import com.elara.app.unit_of_measure_service.dto.response.NameSuggestion;
+import com.elara.app.unit_of_measure_service.dto.response.SliceResponse;
 import com.elara.app.unit_of_measure_service.dto.response.UomStatusResponse;
 import com.elara.app.unit_of_measure_service.dto.update.UomStatusUpdate;
+import com.elara.app.unit_of_measure_service.exceptions.InvalidDataException;
+import com.elara.app.unit_of_measure_service.exceptions.PreconditionFailedException;
 import com.elara.app.unit_of_measure_service.exceptions.ResourceConflictException;
 import com.elara.app.unit_of_measure_service.exceptions.ResourceNotFoundException;
 import com.elara.app.unit_of_measure_service.mapper.UomStatusMapper;
 import com.elara.app.unit_of_measure_service.model.UomStatus;
 import com.elara.app.unit_of_measure_service.repository.UomStatusRepository;
+import com.elara.app.unit_of_measure_service.utils.KeysetCursor;
 import com.elara.app.unit_of_measure_service.utils.MessageService;
+import com.elara.app.unit_of_measure_service.utils.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,15 +32,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -45,12 +71,35 @@ class UomStatusServiceImpTest {
     @Mock
     private MessageService messageService;
 
+    @Mock
+    private CatalogSnapshotHolder catalog;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AutocompleteIndex autocomplete;
+
+    @Mock
+    private CatalogChangeLog changeLog;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(meterRegistry);
+
+    @Spy
+    private CatalogCaches caches = new CatalogCaches(meterRegistry, 100, Duration.ofMinutes(10), 100, Duration.ofMinutes(10), 100, Duration.ofSeconds(5), 100, Duration.ofMinutes(1));
+
+    @Spy
+    private CatalogNameIndex nameIndex = new CatalogNameIndex(null, null, null, meterRegistry, false, true, 0.01);
+
     @InjectMocks
     private UomStatusServiceImp service;
 
     @AfterEach
     void tearDown() {
-        reset(repository, mapper, messageService);
+        reset(repository, mapper, messageService, catalog, eventPublisher);
     }
 
     @Nested
@@ -72,7 +121,7 @@ class UomStatusServiceImpTest {
                 .description("Active status for measurements")
                 .isUsable(true)
                 .build();
-            UomStatusResponse expectedResponse = new UomStatusResponse(1L, "Active", "Active status for measurements", true);
+            UomStatusResponse expectedResponse = new UomStatusResponse(1L, "Active", "Active status for measurements", true, 0L);
 
             when(repository.existsByName("Active")).thenReturn(false);
             when(mapper.toEntity(request)).thenReturn(entity);
@@ -123,7 +172,7 @@ class UomStatusServiceImpTest {
             UomStatusRequest request = new UomStatusRequest("Inactive", "Inactive status", false);
             UomStatus entity = UomStatus.builder().name("Inactive").description("Inactive status").isUsable(false).build();
             UomStatus savedEntity = UomStatus.builder().id(2L).name("Inactive").description("Inactive status").isUsable(false).build();
-            UomStatusResponse response = new UomStatusResponse(2L, "Inactive", "Inactive status", false);
+            UomStatusResponse response = new UomStatusResponse(2L, "Inactive", "Inactive status", false, 0L);
 
             when(repository.existsByName("Inactive")).thenReturn(false);
             when(mapper.toEntity(request)).thenReturn(entity);
@@ -152,7 +201,7 @@ class UomStatusServiceImpTest {
                 .description("Original description")
                 .isUsable(true)
                 .build();
-            UomStatusResponse expectedResponse = new UomStatusResponse(id, "Updated Name", "Updated description", true);
+            UomStatusResponse expectedResponse = new UomStatusResponse(id, "Updated Name", "Updated description", true, 0L);
 
             when(repository.findById(id)).thenReturn(Optional.of(existingEntity));
             when(repository.existsByName("Updated Name")).thenReturn(false);
@@ -163,7 +212,7 @@ class UomStatusServiceImpTest {
             }).when(mapper).updateEntityFromDto(existingEntity, updateRequest);
             when(mapper.toResponse(existingEntity)).thenReturn(expectedResponse);
 
-            UomStatusResponse result = service.update(id, updateRequest);
+            UomStatusResponse result = service.update(id, updateRequest, null);
 
             assertThat(result).isNotNull();
             assertThat(result.id()).isEqualTo(id);
@@ -173,10 +222,32 @@ class UomStatusServiceImpTest {
             verify(repository).findById(id);
             verify(repository).existsByName("Updated Name");
             verify(mapper).updateEntityFromDto(existingEntity, updateRequest);
+            verify(repository).flush();
             verify(mapper).toResponse(existingEntity);
             verifyNoMoreInteractions(repository, mapper);
         }
 
+        @Test
+        @DisplayName("Update with stale If-Match, throws PreconditionFailedException without changing the entity")
+        void update_withStaleIfMatch_throwsPreconditionFailedException() {
+            Long id = 1L;
+            UomStatusUpdate updateRequest = new UomStatusUpdate("Updated Name", "Updated description");
+            UomStatus existingEntity = UomStatus.builder().id(id).name("Original Name").version(4L).build();
+            String errorMessage = "UomStatus with id 1 is at ETag \"1-4\", not \"1-3\"";
+
+            when(repository.findById(id)).thenReturn(Optional.of(existingEntity));
+            when(messageService.getMessage(eq("crud.version.mismatch"), eq("UomStatus"), eq(id), eq("\"1-4\""), eq("\"1-3\"")))
+                .thenReturn(errorMessage);
+
+            assertThatThrownBy(() -> service.update(id, updateRequest, "\"1-3\""))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessage(errorMessage);
+
+            verify(repository).findById(id);
+            verify(mapper, never()).updateEntityFromDto(any(), any());
+            verify(repository, never()).flush();
+        }
+
         @Test
         @DisplayName("Update with non-existent id, throws ResourceNotFoundException")
         void update_withNonExistentId_throwsResourceNotFoundException() {
@@ -190,7 +261,7 @@ class UomStatusServiceImpTest {
             when(messageService.getMessage(eq("crud.update.error"), eq("UomStatus")))
                 .thenReturn("Error updating UomStatus");
 
-            assertThatThrownBy(() -> service.update(id, updateRequest))
+            assertThatThrownBy(() -> service.update(id, updateRequest, null))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining(errorMessage);
 
@@ -219,7 +290,7 @@ class UomStatusServiceImpTest {
             when(messageService.getMessage(eq("crud.update.error"), eq("UomStatus")))
                 .thenReturn("Error updating UomStatus");
 
-            assertThatThrownBy(() -> service.update(id, updateRequest))
+            assertThatThrownBy(() -> service.update(id, updateRequest, null))
                 .isInstanceOf(ResourceConflictException.class)
                 .hasMessageContaining(errorMessage);
 
@@ -239,7 +310,7 @@ class UomStatusServiceImpTest {
                 .description("Old description")
                 .isUsable(true)
                 .build();
-            UomStatusResponse expectedResponse = new UomStatusResponse(id, "Same Name", "New description", true);
+            UomStatusResponse expectedResponse = new UomStatusResponse(id, "Same Name", "New description", true, 0L);
 
             when(repository.findById(id)).thenReturn(Optional.of(existingEntity));
             doAnswer(invocation -> {
@@ -248,7 +319,7 @@ class UomStatusServiceImpTest {
             }).when(mapper).updateEntityFromDto(existingEntity, updateRequest);
             when(mapper.toResponse(existingEntity)).thenReturn(expectedResponse);
 
-            UomStatusResponse result = service.update(id, updateRequest);
+            UomStatusResponse result = service.update(id, updateRequest, null);
 
             assertThat(result).isNotNull();
             assertThat(result.description()).isEqualTo("New description");
@@ -269,14 +340,14 @@ class UomStatusServiceImpTest {
                 .description("Old description")
                 .isUsable(false)
                 .build();
-            UomStatusResponse expectedResponse = new UomStatusResponse(id, "New Name", "New description", false);
+            UomStatusResponse expectedResponse = new UomStatusResponse(id, "New Name", "New description", false, 0L);
 
             when(repository.findById(id)).thenReturn(Optional.of(existingEntity));
             when(repository.existsByName("New Name")).thenReturn(false);
             doNothing().when(mapper).updateEntityFromDto(existingEntity, updateRequest);
             when(mapper.toResponse(existingEntity)).thenReturn(expectedResponse);
 
-            UomStatusResponse result = service.update(id, updateRequest);
+            UomStatusResponse result = service.update(id, updateRequest, null);
 
             assertThat(result.id()).isEqualTo(id);
         }
@@ -355,7 +426,7 @@ class UomStatusServiceImpTest {
                 .description("Active status")
                 .isUsable(true)
                 .build();
-            UomStatusResponse expectedResponse = new UomStatusResponse(id, "Active", "Active status", true);
+            UomStatusResponse expectedResponse = new UomStatusResponse(id, "Active", "Active status", true, 0L);
 
             when(repository.findById(id)).thenReturn(Optional.of(entity));
             when(mapper.toResponse(entity)).thenReturn(expectedResponse);
@@ -370,6 +441,7 @@ class UomStatusServiceImpTest {
             
             verify(repository).findById(id);
             verify(mapper).toResponse(entity);
+            verify(autocomplete).recordStatusUse(id);
             verifyNoMoreInteractions(repository, mapper);
             verifyNoInteractions(messageService);
         }
@@ -403,20 +475,65 @@ class UomStatusServiceImpTest {
                 .description("Active status")
                 .isUsable(true)
                 .build();
+            UomStatusResponse response = new UomStatusResponse(id, "Active", "Active status", true, 0L);
 
             when(repository.findById(id)).thenReturn(Optional.of(entity));
+            when(mapper.toResponse(entity)).thenReturn(response);
+            when(repository.getReferenceById(id)).thenReturn(entity);
 
             UomStatus result = service.findEntityById(id);
 
-            assertThat(result).isNotNull();
-            assertThat(result.getId()).isEqualTo(id);
-            assertThat(result.getName()).isEqualTo("Active");
-            assertThat(result.getDescription()).isEqualTo("Active status");
-            assertThat(result.getIsUsable()).isTrue();
-            
+            assertThat(result).isSameAs(entity);
             verify(repository).findById(id);
+            verify(repository).getReferenceById(id);
             verifyNoMoreInteractions(repository);
-            verifyNoInteractions(mapper);
+        }
+
+        @Test
+        @DisplayName("FindEntityById called again, checks existence from the cache without querying")
+        void findEntityById_calledTwice_queriesOnce() {
+            Long id = 1L;
+            UomStatus entity = UomStatus.builder().id(id).name("Active").isUsable(true).build();
+
+            when(repository.findById(id)).thenReturn(Optional.of(entity));
+            when(mapper.toResponse(entity)).thenReturn(new UomStatusResponse(id, "Active", null, true, 0L));
+            when(repository.getReferenceById(id)).thenReturn(entity);
+
+            service.findEntityById(id);
+            service.findEntityById(id);
+
+            verify(repository, times(1)).findById(id);
+            assertThat(caches.statuses().hitCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("ChangeStatus after a cached read, invalidates the cached status")
+        void changeStatus_afterCachedRead_invalidatesEntry() {
+            Long id = 1L;
+            UomStatus entity = UomStatus.builder().id(id).name("Active").isUsable(true).build();
+
+            when(repository.findById(id)).thenReturn(Optional.of(entity));
+            when(mapper.toResponse(entity)).thenReturn(new UomStatusResponse(id, "Active", null, true, 0L));
+            service.findById(id);
+            assertThat(caches.statuses().getIfPresent(id)).isNotNull();
+
+            service.changeStatus(id, false);
+
+            assertThat(caches.statuses().getIfPresent(id)).isNull();
+        }
+
+        @Test
+        @DisplayName("FindEntityById with a missing id called again, answers from the negative cache")
+        void findEntityById_missingIdCalledTwice_queriesOnce() {
+            Long id = 99L;
+
+            when(repository.findById(id)).thenReturn(Optional.empty());
+            when(messageService.getMessage("crud.not.found", "UomStatus", "id", id)).thenReturn("UomStatus not found");
+
+            assertThatThrownBy(() -> service.findEntityById(id)).isInstanceOf(ResourceNotFoundException.class);
+            assertThatThrownBy(() -> service.findEntityById(id)).isInstanceOf(ResourceNotFoundException.class);
+
+            verify(repository, times(1)).findById(id);
         }
 
         @Test
@@ -436,6 +553,36 @@ class UomStatusServiceImpTest {
             verify(repository).findById(id);
             verify(messageService).getMessage(eq("crud.not.found"), eq("UomStatus"), eq("id"), eq(id));
         }
+
+        @Test
+        @DisplayName("FindEntitiesByIds with existing ids, returns entities keyed by id from one query")
+        void findEntitiesByIds_withExistingIds_returnsEntitiesById() {
+            UomStatus active = UomStatus.builder().id(1L).name("Active").isUsable(true).build();
+            UomStatus inactive = UomStatus.builder().id(2L).name("Inactive").isUsable(false).build();
+
+            when(repository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(active, inactive));
+
+            Map<Long, UomStatus> result = service.findEntitiesByIds(Set.of(1L, 2L));
+
+            assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(1L, active, 2L, inactive));
+            verify(repository).findAllById(Set.of(1L, 2L));
+            verifyNoMoreInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("FindEntitiesByIds with a non-existent id, throws ResourceNotFoundException")
+        void findEntitiesByIds_withNonExistentId_throwsResourceNotFoundException() {
+            UomStatus active = UomStatus.builder().id(1L).name("Active").isUsable(true).build();
+            String errorMessage = "UomStatus with id '999' not found";
+
+            when(repository.findAllById(List.of(1L, 999L))).thenReturn(List.of(active));
+            when(messageService.getMessage(eq("crud.not.found"), eq("UomStatus"), eq("id"), eq(999L)))
+                .thenReturn(errorMessage);
+
+            assertThatThrownBy(() -> service.findEntitiesByIds(List.of(1L, 999L)))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining(errorMessage);
+        }
     }
 
     @Nested
@@ -446,19 +593,12 @@ class UomStatusServiceImpTest {
         @DisplayName("FindAll with pageable, returns page of responses")
         void findAll_withPageable_returnsPageOfResponses() {
             Pageable pageable = PageRequest.of(0, 10);
-            UomStatus entity1 = UomStatus.builder().id(1L).name("Active").description("Active status").isUsable(true).build();
-            UomStatus entity2 = UomStatus.builder().id(2L).name("Inactive").description("Inactive status").isUsable(false).build();
-            List<UomStatus> entities = List.of(entity1, entity2);
-            Page<UomStatus> entityPage = new PageImpl<>(entities, pageable, entities.size());
-            
-            UomStatusResponse response1 = new UomStatusResponse(1L, "Active", "Active status", true);
-            UomStatusResponse response2 = new UomStatusResponse(2L, "Inactive", "Inactive status", false);
+            UomStatusResponse response1 = new UomStatusResponse(1L, "Active", "Active status", true, 0L);
+            UomStatusResponse response2 = new UomStatusResponse(2L, "Inactive", "Inactive status", false, 0L);
             List<UomStatusResponse> responses = List.of(response1, response2);
             Page<UomStatusResponse> responsePage = new PageImpl<>(responses, pageable, responses.size());
 
-            when(repository.findAll(pageable)).thenReturn(entityPage);
-            when(mapper.toResponse(entity1)).thenReturn(response1);
-            when(mapper.toResponse(entity2)).thenReturn(response2);
+            when(repository.findAllResponses(pageable)).thenReturn(responsePage);
 
             Page<UomStatusResponse> result = service.findAll(pageable);
 
@@ -468,16 +608,17 @@ class UomStatusServiceImpTest {
             assertThat(result.getContent().get(0).name()).isEqualTo("Active");
             assertThat(result.getContent().get(1).name()).isEqualTo("Inactive");
             
-            verify(repository).findAll(pageable);
+            verify(repository).findAllResponses(pageable);
+            verifyNoInteractions(mapper);
         }
 
         @Test
         @DisplayName("FindAll with empty result, returns empty page")
         void findAll_withEmptyResult_returnsEmptyPage() {
             Pageable pageable = PageRequest.of(0, 10);
-            Page<UomStatus> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
+            Page<UomStatusResponse> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-            when(repository.findAll(pageable)).thenReturn(emptyPage);
+            when(repository.findAllResponses(pageable)).thenReturn(emptyPage);
 
             Page<UomStatusResponse> result = service.findAll(pageable);
 
@@ -485,7 +626,7 @@ class UomStatusServiceImpTest {
             assertThat(result.getContent()).isEmpty();
             assertThat(result.getTotalElements()).isZero();
             
-            verify(repository).findAll(pageable);
+            verify(repository).findAllResponses(pageable);
         }
 
         @Test
@@ -493,12 +634,10 @@ class UomStatusServiceImpTest {
         void findAllByName_withMatchingName_returnsFilteredPage() {
             String searchName = "act";
             Pageable pageable = PageRequest.of(0, 10);
-            UomStatus entity = UomStatus.builder().id(1L).name("Active").description("Active status").isUsable(true).build();
-            Page<UomStatus> entityPage = new PageImpl<>(List.of(entity), pageable, 1);
-            UomStatusResponse response = new UomStatusResponse(1L, "Active", "Active status", true);
+            UomStatusResponse response = new UomStatusResponse(1L, "Active", "Active status", true, 0L);
+            Page<UomStatusResponse> responsePage = new PageImpl<>(List.of(response), pageable, 1);
 
-            when(repository.findAllByNameContainingIgnoreCase(searchName, pageable)).thenReturn(entityPage);
-            when(mapper.toResponse(entity)).thenReturn(response);
+            when(repository.findAllResponsesByNameContainingIgnoreCase(searchName, pageable)).thenReturn(responsePage);
 
             Page<UomStatusResponse> result = service.findAllByName(searchName, pageable);
 
@@ -506,7 +645,7 @@ class UomStatusServiceImpTest {
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getContent().getFirst().name()).containsIgnoringCase(searchName);
             
-            verify(repository).findAllByNameContainingIgnoreCase(searchName, pageable);
+            verify(repository).findAllResponsesByNameContainingIgnoreCase(searchName, pageable);
         }
 
         @Test
@@ -514,26 +653,24 @@ class UomStatusServiceImpTest {
         void findAllByName_caseInsensitiveSearchWorksCorrectly() {
             String searchName = "ACT";
             Pageable pageable = PageRequest.of(0, 10);
-            Page<UomStatus> entityPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
+            Page<UomStatusResponse> responsePage = new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-            when(repository.findAllByNameContainingIgnoreCase(searchName, pageable)).thenReturn(entityPage);
+            when(repository.findAllResponsesByNameContainingIgnoreCase(searchName, pageable)).thenReturn(responsePage);
 
             Page<UomStatusResponse> result = service.findAllByName(searchName, pageable);
 
             assertThat(result).isNotNull();
-            verify(repository).findAllByNameContainingIgnoreCase(searchName, pageable);
+            verify(repository).findAllResponsesByNameContainingIgnoreCase(searchName, pageable);
         }
 
         @Test
         @DisplayName("FindAllByIsUsable with true, returns only usable statuses")
         void findAllByIsUsable_withTrue_returnsOnlyUsableStatuses() {
             Pageable pageable = PageRequest.of(0, 10);
-            UomStatus entity = UomStatus.builder().id(1L).name("Active").description("Active status").isUsable(true).build();
-            Page<UomStatus> entityPage = new PageImpl<>(List.of(entity), pageable, 1);
-            UomStatusResponse response = new UomStatusResponse(1L, "Active", "Active status", true);
+            UomStatusResponse response = new UomStatusResponse(1L, "Active", "Active status", true, 0L);
+            Page<UomStatusResponse> responsePage = new PageImpl<>(List.of(response), pageable, 1);
 
-            when(repository.findAllByIsUsable(true, pageable)).thenReturn(entityPage);
-            when(mapper.toResponse(entity)).thenReturn(response);
+            when(repository.findAllResponsesByIsUsable(true, pageable)).thenReturn(responsePage);
 
             Page<UomStatusResponse> result = service.findAllByIsUsable(true, pageable);
 
@@ -541,19 +678,17 @@ class UomStatusServiceImpTest {
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getContent().getFirst().isUsable()).isTrue();
             
-            verify(repository).findAllByIsUsable(true, pageable);
+            verify(repository).findAllResponsesByIsUsable(true, pageable);
         }
 
         @Test
         @DisplayName("FindAllByIsUsable with false, returns only unusable statuses")
         void findAllByIsUsable_withFalse_returnsOnlyUnusableStatuses() {
             Pageable pageable = PageRequest.of(0, 10);
-            UomStatus entity = UomStatus.builder().id(2L).name("Deprecated").description("Deprecated status").isUsable(false).build();
-            Page<UomStatus> entityPage = new PageImpl<>(List.of(entity), pageable, 1);
-            UomStatusResponse response = new UomStatusResponse(2L, "Deprecated", "Deprecated status", false);
+            UomStatusResponse response = new UomStatusResponse(2L, "Deprecated", "Deprecated status", false, 0L);
+            Page<UomStatusResponse> responsePage = new PageImpl<>(List.of(response), pageable, 1);
 
-            when(repository.findAllByIsUsable(false, pageable)).thenReturn(entityPage);
-            when(mapper.toResponse(entity)).thenReturn(response);
+            when(repository.findAllResponsesByIsUsable(false, pageable)).thenReturn(responsePage);
 
             Page<UomStatusResponse> result = service.findAllByIsUsable(false, pageable);
 
@@ -561,16 +696,16 @@ class UomStatusServiceImpTest {
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getContent().getFirst().isUsable()).isFalse();
             
-            verify(repository).findAllByIsUsable(false, pageable);
+            verify(repository).findAllResponsesByIsUsable(false, pageable);
         }
 
         @Test
         @DisplayName("FindAllByIsUsable respects pagination")
         void findAllByIsUsable_respectsPagination() {
             Pageable pageable = PageRequest.of(1, 5);
-            Page<UomStatus> entityPage = new PageImpl<>(Collections.emptyList(), pageable, 10);
+            Page<UomStatusResponse> responsePage = new PageImpl<>(Collections.emptyList(), pageable, 10);
 
-            when(repository.findAllByIsUsable(true, pageable)).thenReturn(entityPage);
+            when(repository.findAllResponsesByIsUsable(true, pageable)).thenReturn(responsePage);
 
             Page<UomStatusResponse> result = service.findAllByIsUsable(true, pageable);
 
@@ -578,7 +713,42 @@ class UomStatusServiceImpTest {
             assertThat(result.getNumber()).isEqualTo(1);
             assertThat(result.getSize()).isEqualTo(5);
             
-            verify(repository).findAllByIsUsable(true, pageable);
+            verify(repository).findAllResponsesByIsUsable(true, pageable);
+        }
+
+        @Test
+        @DisplayName("FindSliceByName reads a slice without counting")
+        void findSliceByName_withoutTotal_doesNotCount() {
+            Pageable pageable = PageRequest.of(0, 1);
+            UomStatusResponse response = new UomStatusResponse(1L, "Active", "Active status", true, 0L);
+
+            when(repository.findResponseSliceByNameContainingIgnoreCase("act", pageable))
+                .thenReturn(new SliceImpl<>(List.of(response), pageable, true));
+
+            SliceResponse<UomStatusResponse> result = service.findSliceByName("act", pageable, false);
+
+            assertThat(result).isEqualTo(new SliceResponse<>(List.of(response), 0, 1, true, null));
+            verify(repository, never()).countByNameContainingIgnoreCase(any());
+            verify(repository, never()).findAllResponsesByNameContainingIgnoreCase(any(), any());
+        }
+
+        @Test
+        @DisplayName("FindSliceByIsUsable caches the approximate total until the next write")
+        void findSliceByIsUsable_withTotal_cachesUntilWrite() {
+            Pageable pageable = PageRequest.of(0, 10);
+
+            when(repository.findResponseSliceByIsUsable(true, pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+            when(repository.countByIsUsable(true)).thenReturn(3L, 4L);
+
+            SliceResponse<UomStatusResponse> first = service.findSliceByIsUsable(true, pageable, true);
+            SliceResponse<UomStatusResponse> cached = service.findSliceByIsUsable(true, pageable, true);
+            caches.onCatalogChange(new CatalogChangeEvent("UomStatus", 9L, CatalogChangeEvent.ChangeType.UPDATED));
+            SliceResponse<UomStatusResponse> afterWrite = service.findSliceByIsUsable(true, pageable, true);
+
+            assertThat(first.approximateTotal()).isEqualTo(3L);
+            assertThat(cached.approximateTotal()).isEqualTo(3L);
+            assertThat(afterWrite.approximateTotal()).isEqualTo(4L);
+            verify(repository, times(2)).countByIsUsable(true);
         }
     }
 
@@ -628,6 +798,51 @@ class UomStatusServiceImpTest {
             verify(repository).existsByName(name);
             verify(repository).existsByName("active");
         }
+
+        @Test
+        @DisplayName("IsNameTaken with a built name filter, only queries names that might be taken")
+        void isNameTaken_withNameFilter_skipsDatabaseForUnknownNames() {
+            nameIndex.statusNames().rebuild(Stream.of("Active"), 1);
+
+            when(repository.existsByName("Active")).thenReturn(true);
+
+            assertThat(service.isNameTaken("Active")).isTrue();
+            assertThat(service.isNameTaken("Archived")).isFalse();
+
+            verify(repository).existsByName("Active");
+            verifyNoMoreInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("Save adds the new name to the name filter before committing")
+        void save_withNameFilter_addsName() {
+            nameIndex.statusNames().rebuild(Stream.empty(), 0);
+            UomStatusRequest request = new UomStatusRequest("Archived", "Archived status", false);
+            UomStatus entity = UomStatus.builder().name("Archived").isUsable(false).build();
+
+            when(mapper.toEntity(request)).thenReturn(entity);
+            when(repository.save(entity)).thenReturn(entity);
+            service.save(request);
+
+            assertThat(nameIndex.statusNames().mightContain("Archived")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Autocomplete")
+    class AutocompleteTests {
+
+        @Test
+        @DisplayName("Autocomplete with prefix, returns the suggestions of the index without reaching the repository")
+        void autocomplete_withPrefix_returnsIndexSuggestions() {
+            List<NameSuggestion> suggestions = List.of(new NameSuggestion(1L, "Active", 7L), new NameSuggestion(4L, "Archived", 0L));
+            when(autocomplete.suggestStatuses("a", 5)).thenReturn(suggestions);
+
+            List<NameSuggestion> result = service.autocomplete("a", 5);
+
+            assertThat(result).isEqualTo(suggestions);
+            verifyNoInteractions(repository);
+        }
     }
 
     @Nested
@@ -757,23 +972,21 @@ class UomStatusServiceImpTest {
         }
 
         @Test
-        @DisplayName("Multiple findAll operations use mapper consistently")
-        void multipleFindAllOperations_useMapperConsistently() {
+        @DisplayName("Multiple findAll operations read projections without the mapper")
+        void multipleFindAllOperations_readProjectionsWithoutMapper() {
             Pageable pageable = PageRequest.of(0, 10);
-            UomStatus entity = UomStatus.builder().id(1L).name("Test").description("desc").isUsable(true).build();
-            UomStatusResponse response = new UomStatusResponse(1L, "Test", "desc", true);
-            Page<UomStatus> entityPage = new PageImpl<>(List.of(entity), pageable, 1);
+            UomStatusResponse response = new UomStatusResponse(1L, "Test", "desc", true, 0L);
+            Page<UomStatusResponse> responsePage = new PageImpl<>(List.of(response), pageable, 1);
 
-            when(repository.findAll(pageable)).thenReturn(entityPage);
-            when(repository.findAllByNameContainingIgnoreCase("Test", pageable)).thenReturn(entityPage);
-            when(repository.findAllByIsUsable(true, pageable)).thenReturn(entityPage);
-            when(mapper.toResponse(entity)).thenReturn(response);
+            when(repository.findAllResponses(pageable)).thenReturn(responsePage);
+            when(repository.findAllResponsesByNameContainingIgnoreCase("Test", pageable)).thenReturn(responsePage);
+            when(repository.findAllResponsesByIsUsable(true, pageable)).thenReturn(responsePage);
 
-            service.findAll(pageable);
-            service.findAllByName("Test", pageable);
-            service.findAllByIsUsable(true, pageable);
+            assertThat(service.findAll(pageable).getContent()).containsExactly(response);
+            assertThat(service.findAllByName("Test", pageable).getContent()).containsExactly(response);
+            assertThat(service.findAllByIsUsable(true, pageable).getContent()).containsExactly(response);
 
-            verify(mapper, times(3)).toResponse(entity);
+            verifyNoInteractions(mapper);
         }
 
         @Test
@@ -788,11 +1001,100 @@ class UomStatusServiceImpTest {
             when(messageService.getMessage(eq("crud.update.error"), eq("UomStatus")))
                 .thenReturn("Update error");
 
-            assertThatThrownBy(() -> service.update(id, updateRequest))
+            assertThatThrownBy(() -> service.update(id, updateRequest, null))
                 .isInstanceOf(ResourceNotFoundException.class);
 
             verify(messageService, times(2)).getMessage(eq("crud.update.error"), eq("UomStatus"));
         }
     }
 
+    @Nested
+    @DisplayName("Catalog Snapshot Operations")
+    class CatalogSnapshotTests {
+
+        private final UomStatusResponse active = new UomStatusResponse(1L, "Active", "Active status", true, 0L);
+        private final UomStatusResponse inactive = new UomStatusResponse(2L, "Inactive", "Inactive status", false, 0L);
+        private final CatalogSnapshot snapshot = new CatalogSnapshot(1L, Instant.now(), List.of(), List.of(active, inactive));
+
+        @Test
+        @DisplayName("FindById with snapshot, returns response without repository access")
+        void findById_withSnapshot_returnsResponseWithoutRepository() {
+            when(catalog.current()).thenReturn(snapshot);
+
+            UomStatusResponse result = service.findById(1L);
+
+            assertThat(result).isEqualTo(active);
+            verify(catalog).recordSnapshotRead();
+            verifyNoInteractions(repository, mapper);
+        }
+
+        @Test
+        @DisplayName("FindAllByIsUsable and isNameTaken with snapshot, answer in memory")
+        void findAllByIsUsableAndIsNameTaken_withSnapshot_answerInMemory() {
+            when(catalog.current()).thenReturn(snapshot);
+
+            Page<UomStatusResponse> result = service.findAllByIsUsable(false, PageRequest.of(0, 10));
+
+            assertThat(result.getContent()).containsExactly(inactive);
+            assertThat(service.isNameTaken("Active")).isTrue();
+            assertThat(service.isNameTaken("active")).isFalse();
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("ScrollAllByIsUsable with snapshot, pages in memory in descending id order")
+        void scrollAllByIsUsable_withSnapshot_pagesInMemory() {
+            UomStatusResponse retired = new UomStatusResponse(3L, "Retired", "Retired status", false, 0L);
+            when(catalog.current()).thenReturn(new CatalogSnapshot(1L, Instant.now(), List.of(), List.of(active, inactive, retired)));
+
+            CursorPageResponse<UomStatusResponse> first = service.scrollAllByIsUsable(false, "", "id,desc", 1);
+            CursorPageResponse<UomStatusResponse> second = service.scrollAllByIsUsable(false, first.nextCursor(), null, 1);
+
+            assertThat(first.content()).containsExactly(retired);
+            assertThat(second.content()).containsExactly(inactive);
+            assertThat(second.hasNext()).isFalse();
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("ScrollAll without snapshot, runs the seek query and maps the window")
+        void scrollAll_withoutSnapshot_runsSeekQuery() {
+            UomStatus entity = UomStatus.builder().id(1L).name("Active").isUsable(true).build();
+            KeysetCursor cursor = KeysetCursor.first(null);
+            when(catalog.current()).thenReturn(null);
+            when(repository.findAllBy(cursor.scrollPosition(), cursor.sort(), Limit.of(20)))
+                .thenReturn(Window.from(List.of(entity), ScrollPosition::offset, false));
+            when(mapper.toResponse(entity)).thenReturn(active);
+
+            CursorPageResponse<UomStatusResponse> result = service.scrollAll(null, null, 20);
+
+            assertThat(result.content()).containsExactly(active);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+            verify(catalog).recordDatabaseRead();
+        }
+
+        @Test
+        @DisplayName("ScrollAllByName with unsupported sort, throws InvalidDataException")
+        void scrollAllByName_withUnsupportedSort_throwsInvalidDataException() {
+            when(messageService.getMessage(eq("pagination.cursor.invalid"), any())).thenReturn("Invalid pagination cursor or sort");
+
+            assertThatThrownBy(() -> service.scrollAllByName("act", null, "description", 20))
+                .isInstanceOf(InvalidDataException.class);
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("ChangeStatus with existing id, publishes a catalog change event")
+        void changeStatus_withExistingId_publishesCatalogChangeEvent() {
+            UomStatus existing = UomStatus.builder().id(1L).name("Active").isUsable(true).build();
+            when(repository.findById(1L)).thenReturn(Optional.of(existing));
+
+            service.changeStatus(1L, false);
+
+            verify(changeLog).record("UomStatus", 1L, CatalogChangeEvent.ChangeType.STATUS_CHANGED);
+            verify(eventPublisher).publishEvent(new CatalogChangeEvent("UomStatus", 1L, CatalogChangeEvent.ChangeType.STATUS_CHANGED));
+        }
+    }
+
 }
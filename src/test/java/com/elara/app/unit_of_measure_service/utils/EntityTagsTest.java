@@ -0,0 +1,37 @@
+package com.elara.app.unit_of_measure_service.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EntityTags")
+class EntityTagsTest {
+
+    @Test
+    @DisplayName("of() should quote the id and the version")
+    void of_quotesIdAndVersion() {
+        // When & Then
+        assertThat(EntityTags.of(12L, 3L)).isEqualTo("\"12-3\"");
+    }
+
+    @Test
+    @DisplayName("matches() should accept an absent header, a wildcard and a list naming the current tag")
+    void matches_absentWildcardOrListed() {
+        // When & Then
+        assertThat(EntityTags.matches(null, 12L, 3L)).isTrue();
+        assertThat(EntityTags.matches("*", 12L, 3L)).isTrue();
+        assertThat(EntityTags.matches("\"12-3\"", 12L, 3L)).isTrue();
+        assertThat(EntityTags.matches("\"12-2\", \"12-3\"", 12L, 3L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("matches() should reject stale tags, tags of other rows and weak tags")
+    void matches_staleOtherOrWeak() {
+        // When & Then
+        assertThat(EntityTags.matches("\"12-2\"", 12L, 3L)).isFalse();
+        assertThat(EntityTags.matches("\"13-3\"", 12L, 3L)).isFalse();
+        assertThat(EntityTags.matches("W/\"12-3\"", 12L, 3L)).isFalse();
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.elara.app.unit_of_measure_service.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("KeysetCursor")
+class KeysetCursorTest {
+
+    private record Row(long id, String name) {
+    }
+
+    @Nested
+    @DisplayName("Parsing")
+    class Parsing {
+
+        @Test
+        @DisplayName("first with blank sort, defaults to id ascending")
+        void first_withBlankSort_defaultsToIdAscending() {
+            KeysetCursor cursor = KeysetCursor.first(" ");
+
+            assertThat(cursor.property()).isEqualTo("id");
+            assertThat(cursor.direction()).isEqualTo(Sort.Direction.ASC);
+            assertThat(cursor.sort()).isEqualTo(Sort.by("id"));
+            assertThat(cursor.scrollPosition().isInitial()).isTrue();
+        }
+
+        @Test
+        @DisplayName("first with name desc, sorts by name then id descending")
+        void first_withNameDesc_sortsByNameThenId() {
+            KeysetCursor cursor = KeysetCursor.first("name,desc");
+
+            assertThat(cursor.sort()).isEqualTo(Sort.by(Sort.Direction.DESC, "name", "id"));
+        }
+
+        @Test
+        @DisplayName("first with unsupported property, throws IllegalArgumentException")
+        void first_withUnsupportedProperty_throws() {
+            assertThatThrownBy(() -> KeysetCursor.first("description"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("description");
+        }
+
+        @Test
+        @DisplayName("decode with tampered token, throws IllegalArgumentException")
+        void decode_withTamperedToken_throws() {
+            String missingName = Base64.getUrlEncoder().encodeToString("name:ASC:3".getBytes());
+            String badId = Base64.getUrlEncoder().encodeToString("id:ASC:three".getBytes());
+
+            assertThatThrownBy(() -> KeysetCursor.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> KeysetCursor.decode(missingName)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> KeysetCursor.decode(badId)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("encode and decode, round trip names containing the separator")
+    void encodeDecode_roundTripsNamesWithSeparator() {
+        KeysetCursor cursor = KeysetCursor.first("name").after("Meter: SI", 12L);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(KeysetCursor.of(cursor.encode(), "id")).isEqualTo(cursor);
+        assertThat(((KeysetScrollPosition) decoded.scrollPosition()).getKeys())
+            .containsExactly(entry("name", "Meter: SI"), entry("id", 12L));
+    }
+
+    @Test
+    @DisplayName("precedes, breaks name ties by id and honours the direction")
+    void precedes_breaksTiesByIdAndHonoursDirection() {
+        KeysetCursor ascending = KeysetCursor.first("name").after("Gram", 5L);
+        KeysetCursor descending = KeysetCursor.first("name,desc").after("Gram", 5L);
+
+        assertThat(ascending.precedes(new Row(6L, "Gram"), Row::name, Row::id)).isTrue();
+        assertThat(ascending.precedes(new Row(4L, "Gram"), Row::name, Row::id)).isFalse();
+        assertThat(ascending.precedes(new Row(1L, "Liter"), Row::name, Row::id)).isTrue();
+        assertThat(descending.precedes(new Row(4L, "Gram"), Row::name, Row::id)).isTrue();
+        assertThat(descending.precedes(new Row(1L, "Liter"), Row::name, Row::id)).isFalse();
+    }
+
+}
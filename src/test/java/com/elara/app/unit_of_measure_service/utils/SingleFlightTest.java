@@ -0,0 +1,170 @@
+package com.elara.app.unit_of_measure_service.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight")
+class SingleFlightTest {
+
+    private static final String OPERATION = "Uom-service-findAllByName";
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(meterRegistry);
+    }
+
+    private double calls(String outcome) {
+        var counter = meterRegistry.find(SingleFlight.CALLS_METRIC).tag("operation", OPERATION).tag("outcome", outcome).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    /**
+     * Blocks until {@code expected} callers are waiting on an in-flight call, so the loaders can be released
+     * only once every caller had the chance to coalesce.
+     */
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (calls(SingleFlight.COALESCED) < expected) {
+            assertThat(System.nanoTime()).as("callers joining the in-flight call").isLessThan(deadline);
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch release) {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Nested
+    @DisplayName("Under contention")
+    class UnderContention {
+
+        @Test
+        @DisplayName("execute() should run the loader once per key and share its result")
+        void execute_identicalConcurrentCalls_runLoaderOncePerKey() throws Exception {
+            // Given
+            int keys = 4;
+            int callersPerKey = 50;
+            CountDownLatch release = new CountDownLatch(1);
+            ConcurrentHashMap<String, AtomicInteger> executions = new ConcurrentHashMap<>();
+            ExecutorService executor = Executors.newFixedThreadPool(keys * callersPerKey);
+            List<Future<String>> results = new ArrayList<>();
+
+            // When
+            try {
+                for (int caller = 0; caller < callersPerKey; caller++) {
+                    for (int key = 0; key < keys; key++) {
+                        String name = "name-" + key;
+                        results.add(executor.submit(() -> singleFlight.execute(OPERATION, () -> {
+                            executions.computeIfAbsent(name, ignored -> new AtomicInteger()).incrementAndGet();
+                            await(release);
+                            return "result of " + name;
+                        }, name, 0)));
+                    }
+                }
+                awaitCoalesced(keys * (callersPerKey - 1));
+                release.countDown();
+                for (int i = 0; i < results.size(); i++) {
+                    assertThat(results.get(i).get(10, TimeUnit.SECONDS)).isEqualTo("result of name-" + i % keys);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // Then
+            assertThat(executions).hasSize(keys);
+            assertThat(executions.values()).allSatisfy(count -> assertThat(count).hasValue(1));
+            assertThat(calls(SingleFlight.EXECUTED)).isEqualTo(keys);
+            assertThat(calls(SingleFlight.COALESCED)).isEqualTo(keys * (callersPerKey - 1));
+        }
+
+        @Test
+        @DisplayName("execute() should rethrow the loader's exception to every waiting caller")
+        void execute_failingLoader_propagatesToEveryCaller() throws Exception {
+            // Given
+            int callers = 10;
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(callers);
+            List<Future<String>> results = new ArrayList<>();
+
+            // When
+            try {
+                for (int i = 0; i < callers; i++) {
+                    results.add(executor.submit(() -> singleFlight.<String>execute(OPERATION, () -> {
+                        await(release);
+                        throw new IllegalStateException("Connection refused");
+                    }, "kilo")));
+                }
+                awaitCoalesced(callers - 1);
+                release.countDown();
+
+                // Then
+                for (Future<String> result : results) {
+                    assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS))
+                        .hasCauseInstanceOf(IllegalStateException.class)
+                        .hasRootCauseMessage("Connection refused");
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertThat(calls(SingleFlight.EXECUTED)).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Without contention")
+    class WithoutContention {
+
+        @Test
+        @DisplayName("execute() should not cache: sequential calls run the loader each time")
+        void execute_sequentialCalls_runLoaderEachTime() {
+            // Given
+            AtomicInteger executions = new AtomicInteger();
+
+            // When
+            singleFlight.execute(OPERATION, executions::incrementAndGet, "kilo");
+            int second = singleFlight.execute(OPERATION, executions::incrementAndGet, "kilo");
+
+            // Then
+            assertThat(second).isEqualTo(2);
+            assertThat(calls(SingleFlight.EXECUTED)).isEqualTo(2);
+            assertThat(calls(SingleFlight.COALESCED)).isZero();
+        }
+
+        @Test
+        @DisplayName("execute() should accept null arguments and release the key after a failure")
+        void execute_failureWithNullArgument_releasesKey() {
+            // When & Then
+            assertThatThrownBy(() -> singleFlight.execute(OPERATION, () -> {
+                throw new IllegalStateException("boom");
+            }, (Object) null)).isInstanceOf(IllegalStateException.class);
+            assertThat(singleFlight.<String>execute(OPERATION, () -> "ok", (Object) null)).isEqualTo("ok");
+        }
+    }
+
+}